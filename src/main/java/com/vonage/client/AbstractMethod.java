@@ -16,16 +16,23 @@
 package com.vonage.client;
 
 import com.vonage.client.auth.*;
+import com.vonage.client.common.SingleFlight;
 import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -118,38 +125,152 @@ public abstract class AbstractMethod<REQ, RES> implements RestEndpoint<REQ, RES>
             LOGGER.log(LOG_LEVEL, "--- REQUEST BODY ---\n" + request);
         }
 
-        try (final CloseableHttpResponse response = httpWrapper.getHttpClient().execute(httpRequest)) {
+        HttpConfig config = httpWrapper.getHttpConfig();
+        if (config != null && config.isSingleFlightGets() &&
+                isSingleFlightEligible(request) && "GET".equals(httpRequest.getMethod())) {
+            List<Object> key = Arrays.asList(httpRequest.getMethod(), httpRequest.getURI().toString(), getAuthMethod());
+            SharedResponse shared;
+            do {
+                shared = httpWrapper.getReadFlights().execute(key,
+                        () -> send(request, httpRequest, SharedResponse::buffer),
+                        flight -> join(flight, httpRequest)
+                );
+            }
+            while (shared == null);
             try {
-                if (shouldLog()) {
-                    LOGGER.log(LOG_LEVEL, "Response " + response.getStatusLine());
-                    Header[] headers = response.getAllHeaders();
-                    if (headers != null && headers.length > 0) {
-                        StringBuilder headersStr = new StringBuilder("--- RESPONSE HEADERS ---");
-                        for (Header header : headers) {
-                            headersStr.append('\n').append(header.getName()).append(": ").append(header.getValue());
-                        }
-                        LOGGER.log(LOG_LEVEL, headersStr.toString());
-                    }
-                }
+                return shared.resolve(this::handleResponse);
+            }
+            catch (IOException iox) {
+                LOGGER.log(Level.WARNING, "Failed to parse response", iox);
+                throw new VonageResponseParseException(iox);
+            }
+        }
+        return send(request, httpRequest, this::handleResponse);
+    }
+
+    /**
+     * Whether identical concurrent GET requests to this endpoint may share a single HTTP exchange
+     * when {@link HttpConfig#isSingleFlightGets()} is enabled.
+     *
+     * @param request The request object.
+     *
+     * @return {@code true} if the endpoint's responses can be shared between callers.
+     */
+    boolean isSingleFlightEligible(REQ request) {
+        return false;
+    }
 
-                final RES responseBody = parseResponse(response);
-                if (responseBody != null && shouldLog()) {
-                    LOGGER.log(LOG_LEVEL, "--- RESPONSE BODY ---\n" + responseBody);
+    /**
+     * Waits for an identical request sent by another caller, within this caller's own deadline.
+     *
+     * @param flight The request in progress.
+     * @param httpRequest This caller's request.
+     *
+     * @return The shared response, or {@code null} if the other caller's request was cancelled or ran out
+     * of time, in which case this caller should send the request itself.
+     */
+    private SharedResponse join(CompletableFuture<SharedResponse> flight, HttpUriRequest httpRequest) {
+        try (RequestContext.Attempt attempt = RequestContext.begin(httpWrapper.getHttpConfig(), httpRequest)) {
+            if (attempt != null) {
+                attempt.await(flight);
+            }
+        }
+        try {
+            return SingleFlight.await(flight);
+        }
+        catch (RequestContext.Interruption ex) {
+            return null;
+        }
+    }
+
+    private <T> T send(REQ request, HttpUriRequest httpRequest, ResponseHandler<T> handler) {
+        HttpConfig config = httpWrapper.getHttpConfig();
+        HedgingPolicy hedging = config != null ? config.getHedgingPolicy() : null;
+        if (hedging != null && hedging.isEligible(httpRequest)) {
+            return hedging.execute(httpRequest, () -> createFullHttpRequest(request), hedge -> exchange(hedge, handler));
+        }
+        return exchange(httpRequest, handler);
+    }
+
+    private RES handleResponse(HttpResponse response) throws IOException {
+        if (shouldLog()) {
+            LOGGER.log(LOG_LEVEL, "Response " + response.getStatusLine());
+            Header[] headers = response.getAllHeaders();
+            if (headers != null && headers.length > 0) {
+                StringBuilder headersStr = new StringBuilder("--- RESPONSE HEADERS ---");
+                for (Header header : headers) {
+                    headersStr.append('\n').append(header.getName()).append(": ").append(header.getValue());
                 }
+                LOGGER.log(LOG_LEVEL, headersStr.toString());
+            }
+        }
+
+        final RES responseBody = parseResponse(response);
+        if (responseBody != null && shouldLog()) {
+            LOGGER.log(LOG_LEVEL, "--- RESPONSE BODY ---\n" + responseBody);
+        }
 
-                return postProcessParsedResponse(responseBody);
+        return postProcessParsedResponse(responseBody);
+    }
+
+    private <T> T exchange(HttpUriRequest httpRequest, ResponseHandler<T> handler) {
+        final ConnectionPool pool = httpWrapper.getConnectionPool(httpRequest);
+        final RequestContext.Attempt attempt = RequestContext.begin(httpWrapper.getHttpConfig(), httpRequest);
+        try (RequestContext.Attempt ignored = attempt;
+             RequestScheduler.Permit permit = acquirePermit(httpRequest, attempt);
+             ConnectionPool.Admission admission = pool != null ? pool.admit() : null;
+             final CloseableHttpResponse response = (pool != null ? pool.getHttpClient() : httpWrapper.getHttpClient())
+                     .execute(applyDeadline(httpRequest, pool, attempt))) {
+            try {
+                return handler.handleResponse(response);
             }
             catch (IOException iox) {
                 LOGGER.log(Level.WARNING, "Failed to parse response", iox);
+                throwIfInterrupted(attempt, iox);
                 throw new VonageResponseParseException(iox);
             }
         }
         catch (IOException iox) {
             LOGGER.log(Level.WARNING, "Failed to execute HTTP request", iox);
+            throwIfInterrupted(attempt, iox);
             throw new VonageMethodFailedException("Something went wrong while executing the HTTP request.", iox);
         }
     }
 
+    private static void throwIfInterrupted(RequestContext.Attempt attempt, IOException iox) {
+        VonageMethodFailedException failure = attempt != null ? attempt.failure(iox) : null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private RequestScheduler.Permit acquirePermit(HttpUriRequest httpRequest, RequestContext.Attempt attempt) {
+        HttpConfig config = httpWrapper.getHttpConfig();
+        RequestScheduler scheduler = config != null ? config.getRequestScheduler() : null;
+        if (scheduler == null) {
+            return null;
+        }
+        RequestScheduler.Permit permit = attempt != null ?
+                scheduler.acquire(httpRequest, attempt.remainingNanos(), attempt.aborted()) :
+                scheduler.acquire(httpRequest, -1, null);
+        if (permit == null) {
+            throw attempt.failure(null);
+        }
+        return permit;
+    }
+
+    private HttpUriRequest applyDeadline(HttpUriRequest httpRequest, ConnectionPool pool,
+                                         RequestContext.Attempt attempt) {
+        if (attempt == null) {
+            return httpRequest;
+        }
+        RequestConfig base = httpRequest instanceof Configurable ? ((Configurable) httpRequest).getConfig() : null;
+        if (base == null) {
+            base = pool != null ? pool.getRequestConfig() : httpWrapper.getClientRequestConfig();
+        }
+        return attempt.applyTo(base);
+    }
+
     /**
      * Apply an appropriate authentication method (specified by {@link #getAcceptableAuthMethods()}) to the
      * provided {@link RequestBuilder}, and return the result.
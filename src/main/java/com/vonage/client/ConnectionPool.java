@@ -0,0 +1,199 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A dedicated HTTP client and connection pool created from a {@link ConnectionPoolConfig}.
+ * Instances are managed by {@link HttpWrapper}.
+ *
+ * @since 8.17.0
+ */
+public final class ConnectionPool {
+	private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+	private final ConnectionPoolConfig config;
+	private final PoolingHttpClientConnectionManager connectionManager;
+	private final CloseableHttpClient httpClient;
+	private final RequestConfig requestConfig;
+	private final Semaphore admissions;
+	private final AtomicLong rejected = new AtomicLong();
+	private int active;
+	private boolean retired;
+
+	ConnectionPool(ConnectionPoolConfig config, HttpWrapper wrapper) {
+		this.config = config;
+		int defaultTimeout = wrapper.getHttpConfig().getTimeoutMillis();
+		connectionManager = wrapper.createConnectionManager(config.getMaxConnections());
+		requestConfig = HttpWrapper.createRequestConfig(
+				orDefault(config.getConnectTimeoutMillis(), defaultTimeout),
+				orDefault(config.getLeaseTimeoutMillis(), defaultTimeout),
+				orDefault(config.getSocketTimeoutMillis(), defaultTimeout)
+		);
+		httpClient = wrapper.createHttpClient(connectionManager, requestConfig);
+		int maxQueued = config.getMaxQueued();
+		admissions = maxQueued < 0 ? null : new Semaphore(config.getMaxConnections() + maxQueued);
+	}
+
+	private static int orDefault(Integer value, int defaultValue) {
+		return value != null ? value : defaultValue;
+	}
+
+	/**
+	 * Reserves a place in the pool for a request, which must be closed once the response has been consumed.
+	 *
+	 * @return The admission.
+	 *
+	 * @throws VonageMethodFailedException If the pool's queue limit has been reached.
+	 */
+	Admission admit() throws VonageMethodFailedException {
+		if (admissions != null && !admissions.tryAcquire()) {
+			rejected.incrementAndGet();
+			throw new VonageMethodFailedException(
+					"Connection pool '" + config.getName() + "' is at capacity.", null
+			);
+		}
+		synchronized (this) {
+			active++;
+		}
+		return new Admission();
+	}
+
+	/**
+	 * The settings this pool was created from.
+	 *
+	 * @return The pool configuration.
+	 */
+	public ConnectionPoolConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Gets the HTTP client which sends requests through this pool.
+	 *
+	 * @return The Apache HTTP client instance.
+	 */
+	public CloseableHttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	RequestConfig getRequestConfig() {
+		return requestConfig;
+	}
+
+	private PoolStats stats() {
+		return connectionManager.getTotalStats();
+	}
+
+	/**
+	 * Number of connections currently in use.
+	 *
+	 * @return The leased connection count.
+	 */
+	public int getLeasedCount() {
+		return stats().getLeased();
+	}
+
+	/**
+	 * Number of idle connections kept alive for reuse.
+	 *
+	 * @return The available connection count.
+	 */
+	public int getAvailableCount() {
+		return stats().getAvailable();
+	}
+
+	/**
+	 * Number of requests waiting for a connection to be leased.
+	 *
+	 * @return The pending request count.
+	 */
+	public int getPendingCount() {
+		return stats().getPending();
+	}
+
+	/**
+	 * Number of requests which failed immediately because the queue limit had been reached.
+	 *
+	 * @return The rejected request count.
+	 */
+	public long getRejectedCount() {
+		return rejected.get();
+	}
+
+	/**
+	 * Closes the pool's HTTP client and its connections once the requests currently admitted have completed.
+	 * Called when the pool is replaced by a new configuration.
+	 */
+	void close() {
+		synchronized (this) {
+			retired = true;
+			if (active > 0) {
+				return;
+			}
+		}
+		closeClient();
+	}
+
+	private void closeClient() {
+		try {
+			httpClient.close();
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.FINE, "Failed to close connection pool '" + config.getName() + "'.", ex);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPool{name=" + config.getName() + ", " + stats() + ", rejected=" + rejected + '}';
+	}
+
+	/**
+	 * A place reserved in the pool for a single request.
+	 */
+	final class Admission implements AutoCloseable {
+		private boolean released;
+
+		private Admission() {}
+
+		@Override
+		public synchronized void close() {
+			if (!released) {
+				released = true;
+				if (admissions != null) {
+					admissions.release();
+				}
+				boolean drained;
+				synchronized (ConnectionPool.this) {
+					drained = --active == 0 && retired;
+				}
+				if (drained) {
+					closeClient();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import java.util.*;
+
+/**
+ * Settings for a dedicated connection pool, which isolates a family of APIs from the rest of the SDK's
+ * traffic. Requests whose URI path starts with one of the pool's {@linkplain Builder#pathPrefix(String)
+ * prefixes} are sent through it instead of the shared pool, so that a slow or saturated API cannot
+ * exhaust the connections needed by others.
+ * <p>
+ * Pools are registered using {@link HttpConfig.Builder#connectionPool(ConnectionPoolConfig)}. Timeouts
+ * which are not set are inherited from {@link HttpConfig#getTimeoutMillis()}.
+ *
+ * @since 8.17.0
+ */
+public final class ConnectionPoolConfig {
+	private final String name;
+	private final List<String> pathPrefixes;
+	private final int maxConnections, maxQueued;
+	private final Integer connectTimeoutMillis, socketTimeoutMillis, leaseTimeoutMillis;
+
+	private ConnectionPoolConfig(Builder builder) {
+		name = Objects.requireNonNull(builder.name, "Pool name is required.");
+		if (builder.pathPrefixes.isEmpty()) {
+			throw new IllegalArgumentException("At least one path prefix is required.");
+		}
+		pathPrefixes = Collections.unmodifiableList(new ArrayList<>(builder.pathPrefixes));
+		if ((maxConnections = builder.maxConnections) < 1) {
+			throw new IllegalArgumentException("Maximum connections must be positive.");
+		}
+		if ((maxQueued = builder.maxQueued) < -1) {
+			throw new IllegalArgumentException("Maximum queued requests cannot be negative.");
+		}
+		connectTimeoutMillis = validateTimeout(builder.connectTimeoutMillis);
+		socketTimeoutMillis = validateTimeout(builder.socketTimeoutMillis);
+		leaseTimeoutMillis = validateTimeout(builder.leaseTimeoutMillis);
+	}
+
+	private static Integer validateTimeout(Integer timeout) {
+		if (timeout != null && timeout < 1) {
+			throw new IllegalArgumentException("Timeout must be positive.");
+		}
+		return timeout;
+	}
+
+	/**
+	 * Unique name of the pool, used to identify it in metrics and errors.
+	 *
+	 * @return The pool name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * URI path prefixes of the requests which use this pool.
+	 *
+	 * @return The path prefixes, in the order they were added.
+	 */
+	public List<String> getPathPrefixes() {
+		return pathPrefixes;
+	}
+
+	/**
+	 * Maximum number of connections the pool will open.
+	 *
+	 * @return The pool size.
+	 */
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * Maximum number of requests which may wait for a connection once all are leased.
+	 *
+	 * @return The queue limit, or -1 if unbounded.
+	 */
+	public int getMaxQueued() {
+		return maxQueued;
+	}
+
+	/**
+	 * Time allowed to establish a connection.
+	 *
+	 * @return The connect timeout in milliseconds, or {@code null} if inherited.
+	 */
+	public Integer getConnectTimeoutMillis() {
+		return connectTimeoutMillis;
+	}
+
+	/**
+	 * Maximum period of inactivity whilst waiting for response data.
+	 *
+	 * @return The socket timeout in milliseconds, or {@code null} if inherited.
+	 */
+	public Integer getSocketTimeoutMillis() {
+		return socketTimeoutMillis;
+	}
+
+	/**
+	 * Time allowed to wait for a connection from the pool.
+	 *
+	 * @return The connection lease timeout in milliseconds, or {@code null} if inherited.
+	 */
+	public Integer getLeaseTimeoutMillis() {
+		return leaseTimeoutMillis;
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param name Unique name of the pool.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(String name) {
+		return new Builder(name);
+	}
+
+	/**
+	 * Builder for configuring the pool.
+	 */
+	public static final class Builder {
+		private final String name;
+		private final Set<String> pathPrefixes = new LinkedHashSet<>();
+		private int maxConnections = 20, maxQueued = -1;
+		private Integer connectTimeoutMillis, socketTimeoutMillis, leaseTimeoutMillis;
+
+		private Builder(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * (REQUIRED)
+		 * Routes requests whose URI path starts with the given prefix through this pool, for example
+		 * {@code /v1/messages}. This can be called multiple times to group related APIs. When prefixes
+		 * of several pools match, the longest one wins.
+		 *
+		 * @param pathPrefix The path prefix.
+		 *
+		 * @return This builder.
+		 */
+		public Builder pathPrefix(String pathPrefix) {
+			pathPrefixes.add(Objects.requireNonNull(pathPrefix, "Path prefix is required."));
+			return this;
+		}
+
+		/**
+		 * Maximum number of connections the pool will open. The default is 20.
+		 *
+		 * @param maxConnections The pool size, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		/**
+		 * Maximum number of requests which may wait for a connection once all are leased. Requests beyond
+		 * this limit fail immediately with {@link VonageMethodFailedException} rather than queueing. By default,
+		 * the queue is unbounded and waiting is limited only by the lease timeout.
+		 *
+		 * @param maxQueued The queue limit, which cannot be negative.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxQueued(int maxQueued) {
+			if (maxQueued < 0) {
+				throw new IllegalArgumentException("Maximum queued requests cannot be negative.");
+			}
+			this.maxQueued = maxQueued;
+			return this;
+		}
+
+		/**
+		 * Time allowed to establish a connection.
+		 *
+		 * @param connectTimeoutMillis The timeout in milliseconds.
+		 *
+		 * @return This builder.
+		 */
+		public Builder connectTimeoutMillis(int connectTimeoutMillis) {
+			this.connectTimeoutMillis = connectTimeoutMillis;
+			return this;
+		}
+
+		/**
+		 * Maximum period of inactivity whilst waiting for response data.
+		 *
+		 * @param socketTimeoutMillis The timeout in milliseconds.
+		 *
+		 * @return This builder.
+		 */
+		public Builder socketTimeoutMillis(int socketTimeoutMillis) {
+			this.socketTimeoutMillis = socketTimeoutMillis;
+			return this;
+		}
+
+		/**
+		 * Time allowed to wait for a connection from the pool when all are leased.
+		 *
+		 * @param leaseTimeoutMillis The timeout in milliseconds.
+		 *
+		 * @return This builder.
+		 */
+		public Builder leaseTimeoutMillis(int leaseTimeoutMillis) {
+			this.leaseTimeoutMillis = leaseTimeoutMillis;
+			return this;
+		}
+
+		/**
+		 * Builds the pool configuration.
+		 *
+		 * @return A new ConnectionPoolConfig with this builder's properties.
+		 */
+		public ConnectionPoolConfig build() {
+			return new ConnectionPoolConfig(this);
+		}
+	}
+}
@@ -164,6 +164,13 @@ public class DynamicEndpoint<T, R> extends AbstractMethod<T, R> {
 		}
 	}
 
+	@Override
+	boolean isSingleFlightEligible(T requestBody) {
+		// Responses which update the request object in place cannot be shared
+		return requestMethod == HttpMethod.GET &&
+				!(requestBody instanceof Jsonable && responseType.isAssignableFrom(requestBody.getClass()));
+	}
+
 	@Override
 	protected final Set<Class<? extends AuthMethod>> getAcceptableAuthMethods() {
 		return authMethods;
@@ -0,0 +1,514 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reduces tail latency of idempotent reads by sending a second, identical request when the first has not
+ * completed within a delay derived from recently observed latencies. Whichever response arrives first is
+ * used and the other request is aborted. Since the first request still holds its connection, the hedged
+ * request is always sent on a different one.
+ * <p>
+ * Hedging only applies to {@code GET} and {@code HEAD} requests whose URI path starts with one of the
+ * policy's {@linkplain Builder#pathPrefix(String) prefixes}, each of which tracks its own latency distribution.
+ * The additional load is bounded by a {@linkplain Builder#budget(double) budget}, expressed as a fraction of
+ * eligible requests. To enable hedging, set the policy using {@link HttpConfig.Builder#hedgingPolicy(HedgingPolicy)}:
+ * <pre>
+ * HedgingPolicy hedging = HedgingPolicy.builder()
+ *         .pathPrefix("/v2/applications")
+ *         .pathPrefix("/v1/calls")
+ *         .pathPrefix("/v2/verify/templates")
+ *         .percentile(0.95)
+ *         .budget(0.05)
+ *         .build();
+ * </pre>
+ * The policy starts its own threads, which are stopped by {@link #close()}. Once closed, requests are no
+ * longer hedged.
+ *
+ * @since 8.17.0
+ */
+public final class HedgingPolicy implements AutoCloseable {
+	static final int MIN_SAMPLES = 20, MAX_BURST = 10;
+
+	private final Map<String, LatencyTracker> trackers;
+	private final double percentile, budget;
+	private final long initialDelayNanos, minDelayNanos, maxDelayNanos;
+	private final ScheduledExecutorService timer;
+	private final Executor executor;
+	private final ExecutorService ownedExecutor;
+	private final AtomicLong eligible = new AtomicLong(), hedged = new AtomicLong(),
+			wins = new AtomicLong(), suppressed = new AtomicLong();
+	private double tokens = MAX_BURST;
+	private volatile boolean closed;
+
+	private HedgingPolicy(Builder builder) {
+		if (builder.pathPrefixes.isEmpty()) {
+			throw new IllegalArgumentException("At least one path prefix is required.");
+		}
+		if ((percentile = builder.percentile) <= 0 || percentile >= 1) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 1 (exclusive).");
+		}
+		if ((budget = builder.budget) <= 0 || budget > 1) {
+			throw new IllegalArgumentException("Budget must be greater than 0 and at most 1.");
+		}
+		if (builder.sampleWindow < MIN_SAMPLES) {
+			throw new IllegalArgumentException("Sample window must be at least " + MIN_SAMPLES + '.');
+		}
+		minDelayNanos = builder.minDelay.toNanos();
+		maxDelayNanos = builder.maxDelay.toNanos();
+		initialDelayNanos = builder.initialDelay.toNanos();
+		if (minDelayNanos < 0 || maxDelayNanos < minDelayNanos) {
+			throw new IllegalArgumentException("Delay bounds must be non-negative, with minimum not exceeding maximum.");
+		}
+		if (initialDelayNanos < minDelayNanos || initialDelayNanos > maxDelayNanos) {
+			throw new IllegalArgumentException("Initial delay must be within the minimum and maximum.");
+		}
+		Map<String, LatencyTracker> trackers = new LinkedHashMap<>();
+		for (String prefix : builder.pathPrefixes) {
+			trackers.put(prefix, new LatencyTracker(builder.sampleWindow));
+		}
+		this.trackers = Collections.unmodifiableMap(trackers);
+		timer = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "vonage-hedge-timer"));
+		if (builder.executor != null) {
+			executor = builder.executor;
+			ownedExecutor = null;
+		}
+		else {
+			executor = ownedExecutor = Executors.newCachedThreadPool(runnable -> daemon(runnable, "vonage-hedge"));
+		}
+	}
+
+	private static Thread daemon(Runnable runnable, String name) {
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	/**
+	 * Whether the request may be hedged under this policy.
+	 *
+	 * @param request The HTTP request.
+	 *
+	 * @return {@code true} if the request is an idempotent read matching one of the path prefixes.
+	 */
+	boolean isEligible(HttpUriRequest request) {
+		String method = request.getMethod();
+		return ("GET".equals(method) || "HEAD".equals(method)) &&
+				HttpConfig.matchPathPrefix(trackers, request.getURI().getPath()) != null;
+	}
+
+	/**
+	 * Sends the request, hedging it with a second request if it is slow to complete.
+	 *
+	 * @param primary The initial request.
+	 * @param hedgeRequest Creates an identical request to be sent as the hedge.
+	 * @param sender Sends a request and parses the response.
+	 *
+	 * @return The first successful response.
+	 *
+	 * @param <T> The parsed response type.
+	 */
+	<T> T execute(HttpUriRequest primary, Supplier<HttpUriRequest> hedgeRequest, Function<HttpUriRequest, T> sender) {
+		if (closed) {
+			return sender.apply(primary);
+		}
+		LatencyTracker tracker = HttpConfig.matchPathPrefix(trackers, primary.getURI().getPath());
+		eligible.incrementAndGet();
+		synchronized (this) {
+			tokens = Math.min(MAX_BURST, tokens + budget);
+		}
+		Hedge<T> hedge = new Hedge<>(primary, hedgeRequest, sender);
+		hedge.schedule(tracker.delayNanos());
+		long start = System.nanoTime();
+		T result;
+		try {
+			result = sender.apply(primary);
+		}
+		catch (RuntimeException ex) {
+			if (hedge.hasWon()) {
+				// The primary's latency is at least the time taken for the hedge to win
+				tracker.record(System.nanoTime() - start);
+				return hedge.result;
+			}
+			hedge.cancel();
+			throw ex;
+		}
+		if (hedge.cancel()) {
+			tracker.record(System.nanoTime() - start);
+		}
+		return result;
+	}
+
+	private synchronized boolean withdrawToken() {
+		if (tokens < 1) {
+			return false;
+		}
+		tokens--;
+		return true;
+	}
+
+	/**
+	 * Stops the policy's timer and, unless an {@linkplain Builder#executor(Executor) executor} was supplied,
+	 * the threads which send hedged requests. Subsequent requests are sent without hedging.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		timer.shutdownNow();
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Number of requests which were eligible for hedging.
+	 *
+	 * @return The eligible request count.
+	 */
+	public long getEligibleCount() {
+		return eligible.get();
+	}
+
+	/**
+	 * Number of hedged requests sent.
+	 *
+	 * @return The hedge count.
+	 */
+	public long getHedgedCount() {
+		return hedged.get();
+	}
+
+	/**
+	 * Number of hedged requests which completed before the request they were hedging.
+	 *
+	 * @return The number of times the hedge won.
+	 */
+	public long getHedgeWinCount() {
+		return wins.get();
+	}
+
+	/**
+	 * Number of hedges which were not sent because the budget had been exhausted.
+	 *
+	 * @return The suppressed hedge count.
+	 */
+	public long getBudgetExhaustedCount() {
+		return suppressed.get();
+	}
+
+	/**
+	 * Current delay after which requests matching the given prefix are hedged.
+	 *
+	 * @param pathPrefix One of the policy's path prefixes.
+	 *
+	 * @return The hedge delay.
+	 *
+	 * @throws IllegalArgumentException If the prefix is not part of this policy.
+	 */
+	public Duration getHedgeDelay(String pathPrefix) {
+		LatencyTracker tracker = trackers.get(pathPrefix);
+		if (tracker == null) {
+			throw new IllegalArgumentException("Unknown path prefix '" + pathPrefix + "'.");
+		}
+		return Duration.ofNanos(tracker.delayNanos());
+	}
+
+	/**
+	 * Path prefixes of the endpoints which are hedged.
+	 *
+	 * @return The path prefixes, in the order they were added.
+	 */
+	public Set<String> getPathPrefixes() {
+		return trackers.keySet();
+	}
+
+	/**
+	 * Sliding window of response times from which the hedge delay is derived.
+	 */
+	private final class LatencyTracker {
+		private final long[] samples;
+		private int count, next, sinceUpdate;
+		private long delayNanos = initialDelayNanos;
+
+		LatencyTracker(int window) {
+			samples = new long[window];
+		}
+
+		synchronized void record(long nanos) {
+			samples[next] = nanos;
+			next = (next + 1) % samples.length;
+			count = Math.min(count + 1, samples.length);
+			if (count >= MIN_SAMPLES && (count == MIN_SAMPLES || ++sinceUpdate >= MIN_SAMPLES)) {
+				long[] sorted = Arrays.copyOf(samples, count);
+				Arrays.sort(sorted);
+				long observed = sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)];
+				delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, observed));
+				sinceUpdate = 0;
+			}
+		}
+
+		synchronized long delayNanos() {
+			return delayNanos;
+		}
+	}
+
+	/**
+	 * Races a hedged request against the primary one.
+	 */
+	private final class Hedge<T> {
+		private final HttpUriRequest primary;
+		private final Supplier<HttpUriRequest> requestFactory;
+		private final Function<HttpUriRequest, T> sender;
+		private final Supplier<T> call;
+		private Future<?> timeout;
+		private HttpUriRequest request;
+		private boolean won, done;
+		T result;
+
+		Hedge(HttpUriRequest primary, Supplier<HttpUriRequest> requestFactory, Function<HttpUriRequest, T> sender) {
+			this.primary = primary;
+			this.requestFactory = requestFactory;
+			this.sender = sender;
+			call = RequestContext.propagate(RequestScheduler.propagate(this::send));
+		}
+
+		private T send() {
+			HttpUriRequest hedgeRequest = requestFactory.get();
+			synchronized (this) {
+				if (done) {
+					throw new IllegalStateException("Hedge cancelled.");
+				}
+				request = hedgeRequest;
+			}
+			return sender.apply(hedgeRequest);
+		}
+
+		synchronized void schedule(long delayNanos) {
+			try {
+				timeout = timer.schedule(this::start, delayNanos, TimeUnit.NANOSECONDS);
+			}
+			catch (RejectedExecutionException ex) {
+				done = true;
+			}
+		}
+
+		private synchronized void start() {
+			if (done) {
+				return;
+			}
+			if (!withdrawToken()) {
+				suppressed.incrementAndGet();
+				done = true;
+				return;
+			}
+			try {
+				executor.execute(this::run);
+			}
+			catch (RejectedExecutionException ex) {
+				done = true;
+				return;
+			}
+			hedged.incrementAndGet();
+		}
+
+		private void run() {
+			try {
+				T response = call.get();
+				synchronized (this) {
+					if (done) {
+						return;
+					}
+					result = response;
+					won = done = true;
+				}
+				wins.incrementAndGet();
+				primary.abort();
+			}
+			catch (RuntimeException ex) {
+				synchronized (this) {
+					done = true;
+				}
+			}
+		}
+
+		synchronized boolean hasWon() {
+			return won;
+		}
+
+		/**
+		 * Stops the hedge if it has not already completed successfully.
+		 *
+		 * @return {@code false} if the hedge had already won, {@code true} otherwise.
+		 */
+		synchronized boolean cancel() {
+			if (won) {
+				return false;
+			}
+			if (!done) {
+				done = true;
+				if (timeout != null) {
+					timeout.cancel(false);
+				}
+				if (request != null) {
+					request.abort();
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for configuring the policy.
+	 */
+	public static final class Builder {
+		private final Set<String> pathPrefixes = new LinkedHashSet<>();
+		private double percentile = 0.95, budget = 0.1;
+		private Duration initialDelay = Duration.ofMillis(100), minDelay = Duration.ofMillis(5),
+				maxDelay = Duration.ofSeconds(2);
+		private int sampleWindow = 1000;
+		private Executor executor;
+
+		private Builder() {}
+
+		/**
+		 * (REQUIRED)
+		 * Enables hedging for idempotent requests whose URI path starts with the given prefix, for example
+		 * {@code /v2/applications}. This can be called multiple times. Latencies are tracked separately for
+		 * each prefix, and when several match a request, the longest one is used.
+		 *
+		 * @param pathPrefix The path prefix.
+		 *
+		 * @return This builder.
+		 */
+		public Builder pathPrefix(String pathPrefix) {
+			pathPrefixes.add(Objects.requireNonNull(pathPrefix, "Path prefix is required."));
+			return this;
+		}
+
+		/**
+		 * Percentile of recent response times after which to send the hedge. The default is 0.95, meaning
+		 * that around 5% of requests are hedged when latencies are stable.
+		 *
+		 * @param percentile The percentile, between 0 and 1 (exclusive).
+		 *
+		 * @return This builder.
+		 */
+		public Builder percentile(double percentile) {
+			this.percentile = percentile;
+			return this;
+		}
+
+		/**
+		 * Maximum number of hedges as a fraction of eligible requests. For example, the default of 0.1 permits
+		 * at most one hedge per ten requests on average, with short bursts of up to 10 hedges.
+		 *
+		 * @param budget The fraction of extra requests, greater than 0 and at most 1.
+		 *
+		 * @return This builder.
+		 */
+		public Builder budget(double budget) {
+			this.budget = budget;
+			return this;
+		}
+
+		/**
+		 * Hedge delay to use until enough response times have been observed. The default is 100 milliseconds.
+		 *
+		 * @param initialDelay The initial delay.
+		 *
+		 * @return This builder.
+		 */
+		public Builder initialDelay(Duration initialDelay) {
+			this.initialDelay = Objects.requireNonNull(initialDelay, "Initial delay is required.");
+			return this;
+		}
+
+		/**
+		 * Lower bound of the hedge delay. The default is 5 milliseconds.
+		 *
+		 * @param minDelay The minimum delay.
+		 *
+		 * @return This builder.
+		 */
+		public Builder minDelay(Duration minDelay) {
+			this.minDelay = Objects.requireNonNull(minDelay, "Minimum delay is required.");
+			return this;
+		}
+
+		/**
+		 * Upper bound of the hedge delay. The default is 2 seconds.
+		 *
+		 * @param maxDelay The maximum delay.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxDelay(Duration maxDelay) {
+			this.maxDelay = Objects.requireNonNull(maxDelay, "Maximum delay is required.");
+			return this;
+		}
+
+		/**
+		 * Number of recent response times per path prefix from which the percentile is computed.
+		 * The default is 1000.
+		 *
+		 * @param sampleWindow The window size, which must be at least 20.
+		 *
+		 * @return This builder.
+		 */
+		public Builder sampleWindow(int sampleWindow) {
+			this.sampleWindow = sampleWindow;
+			return this;
+		}
+
+		/**
+		 * Executor to send hedged requests on. By default, a cached pool of daemon threads is used, which
+		 * is shut down when the policy is {@linkplain HedgingPolicy#close() closed}. A supplied executor is not.
+		 *
+		 * @param executor The executor.
+		 *
+		 * @return This builder.
+		 */
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Builds the policy.
+		 *
+		 * @return A new HedgingPolicy with this builder's properties.
+		 */
+		public HedgingPolicy build() {
+			return new HedgingPolicy(this);
+		}
+	}
+}
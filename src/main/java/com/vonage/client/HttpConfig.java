@@ -16,7 +16,7 @@
 package com.vonage.client;
 
 import java.net.URI;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Function;
 
 public class HttpConfig {
@@ -26,16 +26,35 @@ public class HttpConfig {
             DEFAULT_API_EU_BASE_URI = "https://api-eu.vonage.com",
             DEFAULT_VIDEO_BASE_URI = "https://video.api.vonage.com";
 
-    private final int timeoutMillis;
+    private final int timeoutMillis, maxConnections;
+    private final boolean singleFlightGets;
     private final String customUserAgent, apiBaseUri, restBaseUri, apiEuBaseUri, videoBaseUri;
     private final Function<ApiRegion, String> regionalUriGetter;
     private final URI proxy;
+    private final RequestScheduler requestScheduler;
+    private final HedgingPolicy hedgingPolicy;
+    private final List<ConnectionPoolConfig> connectionPools;
+    private final Map<String, Integer> endpointTimeouts;
 
     private HttpConfig(Builder builder) {
         if ((timeoutMillis = builder.timeoutMillis) < 10) {
             throw new IllegalArgumentException("Timeout must be greater than 10ms.");
         }
+        if ((maxConnections = builder.maxConnections) < 1) {
+            throw new IllegalArgumentException("Maximum connections must be positive.");
+        }
+        Set<String> poolNames = new HashSet<>();
+        for (ConnectionPoolConfig pool : builder.connectionPools) {
+            if (!poolNames.add(pool.getName())) {
+                throw new IllegalArgumentException("Duplicate connection pool '" + pool.getName() + "'.");
+            }
+        }
+        connectionPools = Collections.unmodifiableList(new ArrayList<>(builder.connectionPools));
+        endpointTimeouts = Collections.unmodifiableMap(new LinkedHashMap<>(builder.endpointTimeouts));
         proxy = builder.proxy;
+        requestScheduler = builder.requestScheduler;
+        singleFlightGets = builder.singleFlightGets;
+        hedgingPolicy = builder.hedgingPolicy;
         apiBaseUri = builder.apiBaseUri;
         restBaseUri = builder.restBaseUri;
         videoBaseUri = builder.videoBaseUri;
@@ -54,6 +73,69 @@ public class HttpConfig {
         return timeoutMillis;
     }
 
+    /**
+     * Gets the size of the shared connection pool, which is used by requests that are not
+     * routed to one of the {@linkplain #getConnectionPools() dedicated pools}.
+     *
+     * @return The maximum number of connections in the shared pool.
+     * @since 8.17.0
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Gets the dedicated connection pools which isolate API families from each other.
+     *
+     * @return The connection pool settings, in the order they were added.
+     * @since 8.17.0
+     */
+    public List<ConnectionPoolConfig> getConnectionPools() {
+        return connectionPools;
+    }
+
+    /**
+     * Gets the default time budgets for endpoints, which apply to requests made outside a {@link RequestContext}.
+     *
+     * @return The total timeout in milliseconds for each endpoint path prefix.
+     * @since 8.17.0
+     */
+    public Map<String, Integer> getEndpointTimeouts() {
+        return endpointTimeouts;
+    }
+
+    /**
+     * Looks up the default time budget for a request.
+     *
+     * @param path The request URI's path.
+     * @return The timeout in milliseconds for the longest matching prefix, or {@code null} if none match.
+     */
+    Integer getEndpointTimeoutMillis(String path) {
+        return matchPathPrefix(endpointTimeouts, path);
+    }
+
+    /**
+     * Finds the value whose key is the longest prefix of the given path.
+     *
+     * @param routes The values keyed by path prefix.
+     * @param path The request URI's path, which may be {@code null}.
+     * @return The matching value, or {@code null} if no prefix matches.
+     */
+    static <T> T matchPathPrefix(Map<String, ? extends T> routes, String path) {
+        T match = null;
+        int matchLength = -1;
+        if (path != null) {
+            for (Map.Entry<String, ? extends T> route : routes.entrySet()) {
+                String prefix = route.getKey();
+                if (prefix.length() > matchLength && path.startsWith(prefix)) {
+                    match = route.getValue();
+                    matchLength = prefix.length();
+                }
+            }
+        }
+        return match;
+    }
+
     public String getApiBaseUri() {
         return apiBaseUri;
     }
@@ -101,6 +183,36 @@ public class HttpConfig {
         return proxy;
     }
 
+    /**
+     * Returns the scheduler which admits requests to the HTTP client, if set.
+     *
+     * @return The request scheduler, or {@code null} if requests are sent without admission control.
+     * @since 8.17.0
+     */
+    public RequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * Returns the policy for hedging slow idempotent requests, if set.
+     *
+     * @return The hedging policy, or {@code null} if requests are not hedged.
+     * @since 8.17.0
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Whether identical concurrent GET requests share a single HTTP exchange.
+     *
+     * @return {@code true} if single-flight deduplication of GET requests is enabled.
+     * @since 8.17.0
+     */
+    public boolean isSingleFlightGets() {
+        return singleFlightGets;
+    }
+
     @Deprecated
     public boolean isDefaultApiBaseUri() {
         return DEFAULT_API_BASE_URI.equals(apiBaseUri);
@@ -167,8 +279,13 @@ public class HttpConfig {
      * Builder for configuring the base URI and timeout of the client.
      */
     public static class Builder {
-        private int timeoutMillis = 60_000;
+        private int timeoutMillis = 60_000, maxConnections = 200;
+        private final List<ConnectionPoolConfig> connectionPools = new ArrayList<>();
+        private final Map<String, Integer> endpointTimeouts = new LinkedHashMap<>();
         private URI proxy;
+        private RequestScheduler requestScheduler;
+        private HedgingPolicy hedgingPolicy;
+        private boolean singleFlightGets;
         private Function<ApiRegion, String> regionalUriGetter = region -> "https://"+region+".vonage.com";
         private String customUserAgent,
                 apiBaseUri = DEFAULT_API_BASE_URI,
@@ -234,6 +351,98 @@ public class HttpConfig {
             return this;
         }
 
+        /**
+         * Sets the default time budget for requests whose URI path starts with the given prefix. Unlike
+         * {@link #timeoutMillis(int)}, which applies to each stage of a request separately, this bounds the
+         * total time spent waiting for a connection, connecting and reading the response, after which the
+         * request is aborted. When several prefixes match, the longest one wins. Calls made within a
+         * {@link RequestContext} use its deadline instead.
+         *
+         * @param pathPrefix The endpoint path prefix, for example {@code /v2/verify}.
+         * @param timeoutMillis The total timeout in milliseconds, which must be positive.
+         * @return This builder.
+         * @since 8.17.0
+         */
+        public Builder endpointTimeoutMillis(String pathPrefix, int timeoutMillis) {
+            if (timeoutMillis < 1) {
+                throw new IllegalArgumentException("Endpoint timeout must be positive.");
+            }
+            endpointTimeouts.put(Objects.requireNonNull(pathPrefix, "Path prefix is required."), timeoutMillis);
+            return this;
+        }
+
+        /**
+         * Sets the size of the shared connection pool. By default, this is 200.
+         *
+         * @param maxConnections The maximum number of connections, which must be positive.
+         * @return This builder.
+         * @since 8.17.0
+         */
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Adds a dedicated connection pool, with its own size, timeouts and queue limit, for requests matching
+         * its path prefixes. This acts as a bulkhead, preventing one family of APIs from starving the others
+         * of connections. Requests which do not match any pool use the shared pool.
+         *
+         * @param connectionPool The pool settings. Each pool must have a unique name.
+         * @return This builder.
+         * @since 8.17.0
+         */
+        public Builder connectionPool(ConnectionPoolConfig connectionPool) {
+            connectionPools.add(Objects.requireNonNull(connectionPool, "Connection pool is required."));
+            return this;
+        }
+
+        /**
+         * Sets the scheduler to admit requests through. This allows traffic to be separated into prioritised
+         * lanes, so that latency-sensitive requests are not held up by bulk workloads. By default, requests
+         * are sent as soon as a connection is available.
+         *
+         * @param requestScheduler The request scheduler to use.
+         * @return This builder.
+         * @since 8.17.0
+         */
+        public Builder requestScheduler(RequestScheduler requestScheduler) {
+            this.requestScheduler = requestScheduler;
+            return this;
+        }
+
+        /**
+         * Sets the policy for hedging idempotent reads. When a matching request is slower than usual, an
+         * identical request is sent on another connection and the first response to arrive is used.
+         * By default, requests are not hedged.
+         *
+         * @param hedgingPolicy The hedging policy to use.
+         * @return This builder.
+         * @since 8.17.0
+         */
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Enables deduplication of identical GET requests which are in progress at the same time. While a
+         * request is in flight, other callers requesting the same URI with the same credentials wait for its
+         * response instead of sending their own. Each caller receives its own copy of the parsed response,
+         * unless the response is immutable (e.g. a string), so results are safe to modify. Callers only wait
+         * as long as their own {@link RequestContext} allows, and if the request they are waiting for is
+         * cancelled or runs out of time, one of them sends it again. Completed responses are not cached.
+         * By default, this is disabled.
+         *
+         * @param singleFlightGets {@code true} to share responses between concurrent identical GET requests.
+         * @return This builder.
+         * @since 8.17.0
+         */
+        public Builder singleFlightGets(boolean singleFlightGets) {
+            this.singleFlightGets = singleFlightGets;
+            return this;
+        }
+
         /**
          * Replaces the URI used in "api" endpoints.
          *
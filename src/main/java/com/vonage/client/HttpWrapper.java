@@ -19,9 +19,12 @@ import com.vonage.client.auth.ApiKeyAuthMethod;
 import com.vonage.client.auth.AuthCollection;
 import com.vonage.client.auth.AuthMethod;
 import com.vonage.client.auth.JWTAuthMethod;
+import com.vonage.client.common.SingleFlight;
 import org.apache.http.HttpHost;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.config.ConnectionConfig;
 import org.apache.http.config.SocketConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -29,7 +32,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Internal class that holds available authentication methods and a shared HttpClient.
@@ -44,6 +47,9 @@ public class HttpWrapper {
     private AuthCollection authCollection;
     private CloseableHttpClient httpClient;
     private HttpConfig httpConfig;
+    private volatile ConnectionPools connectionPools;
+    private boolean customHttpClient;
+    private final SingleFlight<List<Object>, SharedResponse> readFlights = new SingleFlight<>();
 
     public HttpWrapper(HttpConfig httpConfig, AuthCollection authCollection) {
         this.authCollection = authCollection;
@@ -74,6 +80,72 @@ public class HttpWrapper {
         return httpClient;
     }
 
+    /**
+     * Gets the dedicated connection pool which the given request should be sent through.
+     *
+     * @param request The HTTP request.
+     *
+     * @return The connection pool with the longest path prefix matching the request URI, or {@code null}
+     * if the request should use the {@linkplain #getHttpClient() shared client}.
+     * @since 8.17.0
+     */
+    public ConnectionPool getConnectionPool(HttpUriRequest request) {
+        if (customHttpClient || httpConfig.getConnectionPools().isEmpty()) {
+            return null;
+        }
+        return HttpConfig.matchPathPrefix(connectionPools().routes, request.getURI().getPath());
+    }
+
+    /**
+     * Gets the dedicated connection pools defined in {@link HttpConfig#getConnectionPools()}.
+     * The pools are created when this method is first called.
+     *
+     * @return The connection pools keyed by name.
+     * @since 8.17.0
+     */
+    public Map<String, ConnectionPool> getConnectionPools() {
+        return connectionPools().byName;
+    }
+
+    private ConnectionPools connectionPools() {
+        ConnectionPools pools = connectionPools;
+        if (pools == null) {
+            synchronized (this) {
+                if ((pools = connectionPools) == null) {
+                    connectionPools = pools = new ConnectionPools(httpConfig.getConnectionPools());
+                }
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * The connection pools created from the current configuration, published together with their routes.
+     */
+    private final class ConnectionPools {
+        final Map<String, ConnectionPool> byName, routes;
+
+        ConnectionPools(Collection<ConnectionPoolConfig> configs) {
+            Map<String, ConnectionPool> pools = new LinkedHashMap<>(), routesByPrefix = new HashMap<>();
+            for (ConnectionPoolConfig config : configs) {
+                ConnectionPool pool = new ConnectionPool(config, HttpWrapper.this);
+                pools.put(config.getName(), pool);
+                config.getPathPrefixes().forEach(prefix -> routesByPrefix.putIfAbsent(prefix, pool));
+            }
+            byName = Collections.unmodifiableMap(pools);
+            routes = routesByPrefix;
+        }
+    }
+
+    /**
+     * Gets the GET requests currently in progress, keyed by method, URI and auth method.
+     *
+     * @return The single-flight group shared by all endpoints using this wrapper.
+     */
+    SingleFlight<List<Object>, SharedResponse> getReadFlights() {
+        return readFlights;
+    }
+
     /**
      * Returns the application ID if it was set when creating the client.
      *
@@ -107,11 +179,17 @@ public class HttpWrapper {
     @Deprecated
     public void setHttpClient(HttpClient httpClient) {
         this.httpClient = (CloseableHttpClient) httpClient;
+        customHttpClient = httpClient != null;
     }
 
     @Deprecated
-    public void setHttpConfig(HttpConfig httpConfig) {
+    public synchronized void setHttpConfig(HttpConfig httpConfig) {
         this.httpConfig = httpConfig;
+        ConnectionPools previous = connectionPools;
+        connectionPools = null;
+        if (previous != null) {
+            previous.byName.values().forEach(ConnectionPool::close);
+        }
     }
 
     /**
@@ -129,21 +207,55 @@ public class HttpWrapper {
     }
 
     protected CloseableHttpClient createHttpClient() {
+        return createHttpClient(createConnectionManager(httpConfig.getMaxConnections()), getDefaultRequestConfig());
+    }
+
+    /**
+     * Gets the timeouts applied by the shared client.
+     *
+     * @return The request configuration for requests which do not use a dedicated connection pool.
+     */
+    RequestConfig getDefaultRequestConfig() {
+        int timeout = httpConfig.getTimeoutMillis();
+        return createRequestConfig(timeout, timeout, timeout);
+    }
+
+    /**
+     * Gets the request configuration which the {@linkplain #getHttpClient() shared client} applies by default.
+     *
+     * @return The default request configuration, or {@code null} if a custom client was supplied which
+     * does not expose its own.
+     */
+    RequestConfig getClientRequestConfig() {
+        if (!customHttpClient) {
+            return getDefaultRequestConfig();
+        }
+        return httpClient instanceof Configurable ? ((Configurable) httpClient).getConfig() : null;
+    }
+
+    static RequestConfig createRequestConfig(int connectTimeout, int leaseTimeout, int socketTimeout) {
+        // Need to work out a good value for the following:
+        // threadSafeClientConnManager.setValidateAfterInactivity();
+        return RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(leaseTimeout)
+                .setSocketTimeout(socketTimeout)
+                .build();
+    }
+
+    PoolingHttpClientConnectionManager createConnectionManager(int maxConnections) {
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setDefaultMaxPerRoute(200);
-        connectionManager.setMaxTotal(200);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setMaxTotal(maxConnections);
         connectionManager.setDefaultConnectionConfig(
             ConnectionConfig.custom().setCharset(StandardCharsets.UTF_8).build()
         );
         connectionManager.setDefaultSocketConfig(SocketConfig.custom().setTcpNoDelay(true).build());
+        return connectionManager;
+    }
 
-        // Need to work out a good value for the following:
-        // threadSafeClientConnManager.setValidateAfterInactivity();
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectTimeout(httpConfig.getTimeoutMillis())
-                .setConnectionRequestTimeout(httpConfig.getTimeoutMillis())
-                .setSocketTimeout(httpConfig.getTimeoutMillis())
-                .build();
+    CloseableHttpClient createHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                         RequestConfig requestConfig) {
 
         HttpClientBuilder clientBuilder = HttpClientBuilder.create()
                 .setConnectionManager(connectionManager)
@@ -0,0 +1,398 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Carries a deadline and cancellation signal for SDK calls. Every HTTP request made on the current thread
+ * within {@link #call(Supplier)} shares the context's time budget: the time spent waiting for a
+ * {@linkplain RequestScheduler scheduler} permit, leasing and establishing a connection and reading the
+ * response all count towards it, as does any retry of the call within the same context. Once the deadline
+ * passes or {@link #cancel()} is invoked, requests in flight are aborted and subsequent ones fail immediately
+ * with {@link VonageMethodFailedException}.
+ * <pre>
+ * RequestContext context = RequestContext.withTimeout(Duration.ofSeconds(3));
+ * VerificationResponse response = context.call(() -&gt; verify2Client.sendVerification(request));
+ * </pre>
+ * A context may be cancelled from any thread, and can be reused across threads by invoking
+ * {@code call} on each of them. When calls are nested, the earliest deadline of all enclosing contexts
+ * applies and cancelling any of them aborts the request. Requests made outside a context are subject to the
+ * endpoint defaults set by {@link HttpConfig.Builder#endpointTimeoutMillis(String, int)}, if any.
+ *
+ * @since 8.17.0
+ */
+public final class RequestContext {
+	private static final ThreadLocal<Deque<RequestContext>> CURRENT = ThreadLocal.withInitial(ArrayDeque::new);
+	private static ScheduledExecutorService timer;
+
+	private final long deadlineNanos;
+	private final boolean hasDeadline;
+	private final Set<Attempt> attempts = ConcurrentHashMap.newKeySet();
+	private volatile boolean cancelled;
+
+	private RequestContext(Duration timeout) {
+		hasDeadline = timeout != null;
+		deadlineNanos = hasDeadline ? System.nanoTime() + saturatedNanos(timeout) : 0;
+	}
+
+	private static long saturatedNanos(Duration duration) {
+		try {
+			return duration.toNanos();
+		}
+		catch (ArithmeticException ex) {
+			return duration.isNegative() ? Long.MIN_VALUE / 2 : Long.MAX_VALUE / 2;
+		}
+	}
+
+	/**
+	 * Creates a context whose deadline is the given duration from now.
+	 *
+	 * @param timeout The total time allowed for calls made within the context.
+	 *
+	 * @return A new RequestContext.
+	 */
+	public static RequestContext withTimeout(Duration timeout) {
+		return new RequestContext(Objects.requireNonNull(timeout, "Timeout is required."));
+	}
+
+	/**
+	 * Creates a context which expires at the given instant.
+	 *
+	 * @param deadline The time by which calls made within the context must complete.
+	 *
+	 * @return A new RequestContext.
+	 */
+	public static RequestContext withDeadline(Instant deadline) {
+		return withTimeout(Duration.between(Instant.now(), Objects.requireNonNull(deadline, "Deadline is required.")));
+	}
+
+	/**
+	 * Creates a context which has no deadline but can be {@linkplain #cancel() cancelled}.
+	 *
+	 * @return A new RequestContext.
+	 */
+	public static RequestContext cancellable() {
+		return new RequestContext(null);
+	}
+
+	/**
+	 * Gets the innermost context of the call in progress on the current thread.
+	 *
+	 * @return The current context, or {@code null} if not called within one.
+	 */
+	public static RequestContext current() {
+		return CURRENT.get().peek();
+	}
+
+	/**
+	 * Makes a call with this context applied to all requests sent from the current thread.
+	 *
+	 * @param call The call to make, for example {@code () -> client.getMessagesClient().sendMessage(message)}.
+	 *
+	 * @return The call's return value.
+	 *
+	 * @param <T> The call's return type.
+	 */
+	public <T> T call(Supplier<T> call) {
+		Deque<RequestContext> stack = CURRENT.get();
+		stack.push(this);
+		try {
+			return call.get();
+		}
+		finally {
+			stack.pop();
+			if (stack.isEmpty()) {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Makes a call with this context applied to all requests sent from the current thread.
+	 *
+	 * @param call The call to make.
+	 *
+	 * @see #call(Supplier)
+	 */
+	public void run(Runnable call) {
+		call(() -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Aborts all requests in flight within this context and causes any further requests to fail.
+	 */
+	public void cancel() {
+		cancelled = true;
+		attempts.forEach(Attempt::abort);
+	}
+
+	/**
+	 * Whether {@link #cancel()} has been invoked.
+	 *
+	 * @return {@code true} if the context has been cancelled.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Whether the context's deadline has passed.
+	 *
+	 * @return {@code true} if the deadline has passed, {@code false} if it has not or there is no deadline.
+	 */
+	public boolean isExpired() {
+		return hasDeadline && System.nanoTime() - deadlineNanos >= 0;
+	}
+
+	/**
+	 * Time remaining until the deadline.
+	 *
+	 * @return The remaining budget (zero if expired), or {@code null} if there is no deadline.
+	 */
+	public Duration getRemaining() {
+		return hasDeadline ? Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())) : null;
+	}
+
+	/**
+	 * Captures the contexts of the current thread so that they apply to the call when run on another thread.
+	 *
+	 * @param call The call to wrap.
+	 *
+	 * @return A call which runs within the current thread's contexts.
+	 *
+	 * @param <T> The call's return type.
+	 */
+	static <T> Supplier<T> propagate(Supplier<T> call) {
+		Deque<RequestContext> stack = CURRENT.get();
+		if (stack.isEmpty()) {
+			CURRENT.remove();
+			return call;
+		}
+		Supplier<T> wrapped = call;
+		for (RequestContext context : new ArrayList<>(stack)) {
+			Supplier<T> inner = wrapped;
+			wrapped = () -> context.call(inner);
+		}
+		return wrapped;
+	}
+
+	/**
+	 * Starts tracking an HTTP request against the contexts which apply to it.
+	 *
+	 * @param config The HTTP configuration, used to look up the endpoint's default timeout.
+	 * @param request The request to be sent.
+	 *
+	 * @return The attempt, or {@code null} if no deadline or cancellation applies to the request.
+	 *
+	 * @throws VonageMethodFailedException If the budget has already been exhausted or the call was cancelled.
+	 */
+	static Attempt begin(HttpConfig config, HttpUriRequest request) throws VonageMethodFailedException {
+		Collection<RequestContext> contexts = CURRENT.get();
+		if (contexts.isEmpty()) {
+			CURRENT.remove();
+			Integer endpointTimeout = config != null ? config.getEndpointTimeoutMillis(request.getURI().getPath()) : null;
+			if (endpointTimeout == null) {
+				return null;
+			}
+			contexts = Collections.singletonList(withTimeout(Duration.ofMillis(endpointTimeout)));
+		}
+		return new Attempt(request, new ArrayList<>(contexts));
+	}
+
+	private static synchronized ScheduledExecutorService timer() {
+		if (timer == null) {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "vonage-request-deadline");
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.setRemoveOnCancelPolicy(true);
+			timer = executor;
+		}
+		return timer;
+	}
+
+	/**
+	 * A single HTTP request sent within one or more contexts.
+	 */
+	static final class Attempt implements AutoCloseable {
+		private final HttpUriRequest request;
+		private final List<RequestContext> contexts;
+		private final long deadlineNanos;
+		private final boolean hasDeadline;
+		private final CompletableFuture<Void> aborted = new CompletableFuture<>();
+		private ScheduledFuture<?> abortTask;
+
+		private Attempt(HttpUriRequest request, List<RequestContext> contexts) {
+			this.request = request;
+			this.contexts = contexts;
+			long deadline = Long.MAX_VALUE;
+			boolean anyDeadline = false;
+			for (RequestContext context : contexts) {
+				if (context.hasDeadline && (!anyDeadline || context.deadlineNanos - deadline < 0)) {
+					deadline = context.deadlineNanos;
+					anyDeadline = true;
+				}
+			}
+			deadlineNanos = deadline;
+			hasDeadline = anyDeadline;
+			contexts.forEach(context -> context.attempts.add(this));
+			VonageMethodFailedException failure = failure(null);
+			if (failure != null) {
+				close();
+				throw failure;
+			}
+		}
+
+		/**
+		 * Time left for this request.
+		 *
+		 * @return The remaining budget in nanoseconds, or -1 if unbounded.
+		 */
+		long remainingNanos() {
+			return hasDeadline ? Math.max(0, deadlineNanos - System.nanoTime()) : -1;
+		}
+
+		/**
+		 * Caps the request's connection lease, connect and socket timeouts to the remaining budget and
+		 * schedules the request to be aborted when the deadline passes.
+		 *
+		 * @param base The configuration the request would otherwise be sent with. If {@code null}, the
+		 *             request's configuration is left as is and the deadline is enforced by aborting it.
+		 *
+		 * @return The request.
+		 */
+		HttpUriRequest applyTo(RequestConfig base) {
+			long remaining = remainingNanos();
+			if (remaining < 0) {
+				return request;
+			}
+			if (base != null && request instanceof HttpRequestBase) {
+				int millis = (int) Math.min(Integer.MAX_VALUE, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+				((HttpRequestBase) request).setConfig(RequestConfig.copy(base)
+						.setConnectionRequestTimeout(cap(base.getConnectionRequestTimeout(), millis))
+						.setConnectTimeout(cap(base.getConnectTimeout(), millis))
+						.setSocketTimeout(cap(base.getSocketTimeout(), millis))
+						.build()
+				);
+			}
+			synchronized (this) {
+				abortTask = timer().schedule(this::abort, remaining, TimeUnit.NANOSECONDS);
+			}
+			return request;
+		}
+
+		private static int cap(int timeout, int millis) {
+			return timeout > 0 ? Math.min(timeout, millis) : millis;
+		}
+
+		void abort() {
+			request.abort();
+			aborted.complete(null);
+		}
+
+		/**
+		 * Signal which completes when the request is aborted, so that callers waiting on its behalf can stop.
+		 *
+		 * @return The abort signal.
+		 */
+		CompletionStage<Void> aborted() {
+			return aborted;
+		}
+
+		/**
+		 * Waits for a call made on another thread, such as an identical request whose response will be shared,
+		 * for no longer than this request's remaining budget.
+		 *
+		 * @param call The call in progress.
+		 *
+		 * @throws VonageMethodFailedException If the call was cancelled or ran out of time before {@code call}
+		 * completed.
+		 */
+		void await(CompletableFuture<?> call) throws VonageMethodFailedException {
+			CompletableFuture<Object> either = CompletableFuture.anyOf(call, aborted);
+			long remaining = remainingNanos();
+			try {
+				if (remaining < 0) {
+					either.get();
+				}
+				else {
+					either.get(remaining, TimeUnit.NANOSECONDS);
+				}
+			}
+			catch (ExecutionException | TimeoutException ex) {
+				// The outcome is determined below
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new VonageMethodFailedException("Interrupted whilst waiting for response.", ex);
+			}
+			VonageMethodFailedException failure = failure(null);
+			if (failure != null && !call.isDone()) {
+				throw failure;
+			}
+		}
+
+		/**
+		 * Determines whether the request failed because it was cancelled or ran out of time.
+		 *
+		 * @param cause The underlying exception, if any.
+		 *
+		 * @return The exception to throw, or {@code null} if the request is still within its budget.
+		 */
+		VonageMethodFailedException failure(Throwable cause) {
+			for (RequestContext context : contexts) {
+				if (context.cancelled) {
+					return new Interruption("Request was cancelled.", cause);
+				}
+			}
+			if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+				return new Interruption("Request deadline exceeded.", cause);
+			}
+			return null;
+		}
+
+		@Override
+		public synchronized void close() {
+			if (abortTask != null) {
+				abortTask.cancel(false);
+			}
+			contexts.forEach(context -> context.attempts.remove(this));
+		}
+	}
+
+	/**
+	 * The failure of a request which was cancelled or ran out of time, as opposed to one which failed in
+	 * its own right. Such failures only apply to the contexts of the request, so are never shared with
+	 * other callers.
+	 */
+	static final class Interruption extends VonageMethodFailedException {
+		Interruption(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+}
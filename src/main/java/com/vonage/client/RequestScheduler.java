@@ -0,0 +1,705 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for outbound requests, which separates traffic into prioritised lanes. Each request
+ * must obtain one of a fixed number of permits before it is sent; when none are available, waiting
+ * requests are admitted using weighted fair queueing, so that each lane receives a share of permits
+ * proportional to its weight, regardless of how deep the other lanes' queues are.
+ * <p>
+ * A lane may additionally be capped to a maximum number of concurrent requests. Capping bulk lanes below
+ * the total leaves permits free for latency-sensitive traffic, so that for example one-time passcodes
+ * are never queued behind a large batch of outbound messages:
+ * <pre>
+ * RequestScheduler scheduler = RequestScheduler.builder()
+ *         .maxConcurrency(200)
+ *         .lane("otp", 8)
+ *         .lane("bulk", 1, 150)
+ *         .route("/v2/verify", "otp")
+ *         .route("/verify", "otp")
+ *         .route("/v1/messages", "bulk")
+ *         .route("/sms", "bulk")
+ *         .build();
+ * </pre>
+ * Requests are assigned to a lane by the longest matching path prefix {@linkplain Builder#route(String, String)
+ * route}, falling back to the {@linkplain Builder#defaultLane(String) default lane}. Individual calls can be
+ * reassigned using {@link #callInLane(String, Supplier)}.
+ * <p>
+ * To apply the scheduler to all requests made by the SDK, set it using
+ * {@link HttpConfig.Builder#requestScheduler(RequestScheduler)}.
+ *
+ * @since 8.17.0
+ */
+public final class RequestScheduler {
+	/**
+	 * Name of the lane which is used when no other default has been specified.
+	 */
+	public static final String DEFAULT_LANE = "default";
+
+	private static final ThreadLocal<String> CALL_LANE = new ThreadLocal<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<String, Lane> lanes;
+	private final Map<String, Lane> routes;
+	private final Lane defaultLane;
+	private final int maxConcurrency;
+	private final LongSupplier clock;
+	private int inFlight;
+	private double virtualTime;
+
+	private RequestScheduler(Builder builder) {
+		if ((maxConcurrency = builder.maxConcurrency) < 1) {
+			throw new IllegalArgumentException("Maximum concurrency must be positive.");
+		}
+		clock = builder.clock;
+		Map<String, Lane> lanes = new LinkedHashMap<>();
+		builder.lanes.forEach((name, config) -> lanes.put(name, new Lane(name, config[0], Math.min(config[1], maxConcurrency))));
+		if (DEFAULT_LANE.equals(builder.defaultLane) && !lanes.containsKey(DEFAULT_LANE)) {
+			lanes.put(DEFAULT_LANE, new Lane(DEFAULT_LANE, 1, maxConcurrency));
+		}
+		if ((defaultLane = lanes.get(builder.defaultLane)) == null) {
+			throw new IllegalArgumentException("Unknown default lane '" + builder.defaultLane + "'.");
+		}
+		Map<String, Lane> routes = new LinkedHashMap<>();
+		builder.routes.forEach((prefix, name) -> {
+			Lane lane = lanes.get(name);
+			if (lane == null) {
+				throw new IllegalArgumentException("Route '" + prefix + "' refers to unknown lane '" + name + "'.");
+			}
+			routes.put(prefix, lane);
+		});
+		this.lanes = Collections.unmodifiableMap(lanes);
+		this.routes = Collections.unmodifiableMap(routes);
+	}
+
+	/**
+	 * Runs the given call with its requests assigned to the specified lane, overriding any routes.
+	 * This applies to all requests made on the current thread for the duration of the call. If the
+	 * lane is not defined by the scheduler which handles a request, the routes are used as normal.
+	 *
+	 * @param lane Name of the lane to use.
+	 * @param call The call to make, for example {@code () -> client.getVerify2Client().sendVerification(request)}.
+	 *
+	 * @return The call's return value.
+	 *
+	 * @param <T> The call's return type.
+	 */
+	public static <T> T callInLane(String lane, Supplier<T> call) {
+		Objects.requireNonNull(lane, "Lane is required.");
+		String previous = CALL_LANE.get();
+		CALL_LANE.set(lane);
+		try {
+			return call.get();
+		}
+		finally {
+			if (previous != null) {
+				CALL_LANE.set(previous);
+			}
+			else {
+				CALL_LANE.remove();
+			}
+		}
+	}
+
+	/**
+	 * Runs the given call with its requests assigned to the specified lane, overriding any routes.
+	 *
+	 * @param lane Name of the lane to use.
+	 * @param call The call to make.
+	 *
+	 * @see #callInLane(String, Supplier)
+	 */
+	public static void runInLane(String lane, Runnable call) {
+		callInLane(lane, () -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Captures the lane override of the current thread so that it applies to the call when run on another thread.
+	 *
+	 * @param call The call to wrap.
+	 *
+	 * @return A call which runs in the current thread's lane.
+	 *
+	 * @param <T> The call's return type.
+	 */
+	static <T> Supplier<T> propagate(Supplier<T> call) {
+		String lane = CALL_LANE.get();
+		return lane != null ? () -> callInLane(lane, call) : call;
+	}
+
+	/**
+	 * Determines which lane a request should be admitted through.
+	 *
+	 * @param path The request URI's path.
+	 *
+	 * @return Name of the lane.
+	 */
+	public String resolveLane(String path) {
+		return resolve(path).name;
+	}
+
+	private Lane resolve(String path) {
+		String override = CALL_LANE.get();
+		if (override != null && lanes.containsKey(override)) {
+			return lanes.get(override);
+		}
+		Lane match = HttpConfig.matchPathPrefix(routes, path);
+		return match != null ? match : defaultLane;
+	}
+
+	private Lane lane(String name) {
+		Lane lane = lanes.get(Objects.requireNonNull(name, "Lane is required."));
+		if (lane == null) {
+			throw new IllegalArgumentException("Unknown lane '" + name + "'.");
+		}
+		return lane;
+	}
+
+	/**
+	 * Waits until a permit is available in the given lane.
+	 *
+	 * @param lane Name of the lane.
+	 *
+	 * @return The permit, which must be closed when the request has completed.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted whilst waiting.
+	 * @throws IllegalArgumentException If the lane is not defined.
+	 */
+	public Permit acquire(String lane) throws InterruptedException {
+		return acquire(lane(lane), -1, null);
+	}
+
+	/**
+	 * Waits up to the specified duration for a permit in the given lane.
+	 *
+	 * @param lane Name of the lane.
+	 * @param timeout Maximum time to wait.
+	 * @param unit Unit of the timeout.
+	 *
+	 * @return The permit, which must be closed when the request has completed,
+	 * or {@code null} if one could not be obtained in time.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted whilst waiting.
+	 * @throws IllegalArgumentException If the lane is not defined.
+	 */
+	public Permit tryAcquire(String lane, long timeout, TimeUnit unit) throws InterruptedException {
+		return acquire(lane(lane), Math.max(0, unit.toNanos(timeout)), null);
+	}
+
+	/**
+	 * Obtains a permit for the request on behalf of {@link AbstractMethod#execute(Object)}.
+	 *
+	 * @param request The request to be sent.
+	 * @param timeoutNanos Maximum time to wait, or a negative value to wait indefinitely.
+	 * @param abandonSignal Completes when the caller stops waiting, for example because it was cancelled.
+	 *
+	 * @return The permit, or {@code null} if the timeout elapsed or the wait was abandoned.
+	 */
+	Permit acquire(HttpUriRequest request, long timeoutNanos, CompletionStage<?> abandonSignal) {
+		try {
+			return acquire(resolve(request.getURI().getPath()), timeoutNanos, abandonSignal);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new VonageClientException("Interrupted whilst waiting for a request permit.", ex);
+		}
+	}
+
+	private Permit acquire(Lane lane, long timeoutNanos, CompletionStage<?> abandonSignal) throws InterruptedException {
+		lock.lockInterruptibly();
+		Waiter waiter = null;
+		try {
+			waiter = new Waiter(lane);
+			lane.queue.add(waiter);
+			dispatch();
+			if (abandonSignal != null && !waiter.granted) {
+				Waiter queued = waiter;
+				abandonSignal.whenComplete((result, ex) -> queued.wake());
+			}
+			long remaining = timeoutNanos;
+			while (!waiter.granted) {
+				if (waiter.abandoned) {
+					abandon(waiter);
+					return null;
+				}
+				if (timeoutNanos < 0) {
+					waiter.condition.await();
+				}
+				else if (remaining > 0) {
+					remaining = waiter.condition.awaitNanos(remaining);
+				}
+				else {
+					abandon(waiter);
+					return null;
+				}
+			}
+			return new Permit(lane);
+		}
+		catch (InterruptedException ex) {
+			if (waiter.granted) {
+				release(lane);
+			}
+			else {
+				abandon(waiter);
+			}
+			throw ex;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void abandon(Waiter waiter) {
+		waiter.lane.queue.remove(waiter);
+		waiter.lane.abandoned++;
+	}
+
+	private void release(Lane lane) {
+		inFlight--;
+		lane.inFlight--;
+		lane.completed++;
+		dispatch();
+	}
+
+	/**
+	 * Grants free permits to the waiters with the earliest virtual finish time among lanes which are
+	 * below their concurrency cap. Ties are won by the lane that was defined first.
+	 */
+	private void dispatch() {
+		while (inFlight < maxConcurrency) {
+			Waiter next = null;
+			for (Lane lane : lanes.values()) {
+				Waiter head = lane.queue.peek();
+				if (head != null && lane.inFlight < lane.maxConcurrency &&
+						(next == null || head.finish < next.finish)) {
+					next = head;
+				}
+			}
+			if (next == null) {
+				return;
+			}
+			Lane lane = next.lane;
+			lane.queue.poll();
+			virtualTime = Math.max(virtualTime, next.start);
+			inFlight++;
+			lane.inFlight++;
+			lane.granted++;
+			long waited = clock.getAsLong() - next.enqueued;
+			lane.totalWaitNanos += waited;
+			lane.maxWaitNanos = Math.max(lane.maxWaitNanos, waited);
+			next.granted = true;
+			next.condition.signal();
+		}
+	}
+
+	/**
+	 * Total number of permits shared by all lanes.
+	 *
+	 * @return The maximum number of concurrent requests.
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	/**
+	 * Number of permits currently held across all lanes.
+	 *
+	 * @return The number of requests in flight.
+	 */
+	public int getInFlightCount() {
+		lock.lock();
+		try {
+			return inFlight;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the queue depth and throughput of every lane.
+	 *
+	 * @return The metrics for each lane keyed by name, in the order they were defined.
+	 */
+	public Map<String, LaneMetrics> getMetrics() {
+		lock.lock();
+		try {
+			Map<String, LaneMetrics> metrics = new LinkedHashMap<>();
+			lanes.forEach((name, lane) -> metrics.put(name, new LaneMetrics(lane)));
+			return Collections.unmodifiableMap(metrics);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the queue depth and throughput of the given lane.
+	 *
+	 * @param lane Name of the lane.
+	 *
+	 * @return The lane's metrics.
+	 *
+	 * @throws IllegalArgumentException If the lane is not defined.
+	 */
+	public LaneMetrics getMetrics(String lane) {
+		Lane target = lane(lane);
+		lock.lock();
+		try {
+			return new LaneMetrics(target);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static final class Lane {
+		final String name;
+		final int weight, maxConcurrency;
+		final Deque<Waiter> queue = new ArrayDeque<>();
+		int inFlight;
+		long granted, completed, abandoned, totalWaitNanos, maxWaitNanos;
+		double lastFinish;
+
+		Lane(String name, int weight, int maxConcurrency) {
+			this.name = name;
+			this.weight = weight;
+			this.maxConcurrency = maxConcurrency;
+		}
+	}
+
+	private final class Waiter {
+		final Lane lane;
+		final Condition condition = lock.newCondition();
+		final long enqueued = clock.getAsLong();
+		final double start, finish;
+		boolean granted, abandoned;
+
+		Waiter(Lane lane) {
+			this.lane = lane;
+			start = Math.max(virtualTime, lane.lastFinish);
+			finish = lane.lastFinish = start + 1.0 / lane.weight;
+		}
+
+		/**
+		 * Stops the caller waiting, unless it has already been granted a permit.
+		 */
+		void wake() {
+			lock.lock();
+			try {
+				abandoned = true;
+				condition.signal();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Represents the right to send one request. Closing the permit returns it to the scheduler.
+	 */
+	public final class Permit implements AutoCloseable {
+		private final Lane lane;
+		private boolean released;
+
+		private Permit(Lane lane) {
+			this.lane = lane;
+		}
+
+		/**
+		 * Name of the lane this permit was granted in.
+		 *
+		 * @return The lane name.
+		 */
+		public String getLane() {
+			return lane.name;
+		}
+
+		/**
+		 * Releases the permit. Subsequent invocations have no effect.
+		 */
+		@Override
+		public void close() {
+			lock.lock();
+			try {
+				if (!released) {
+					released = true;
+					release(lane);
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Point-in-time statistics for a lane.
+	 */
+	public static final class LaneMetrics {
+		private final String name;
+		private final int weight, maxConcurrency, queueDepth, inFlight;
+		private final long granted, completed, abandoned;
+		private final Duration totalWait, maxWait;
+
+		private LaneMetrics(Lane lane) {
+			name = lane.name;
+			weight = lane.weight;
+			maxConcurrency = lane.maxConcurrency;
+			queueDepth = lane.queue.size();
+			inFlight = lane.inFlight;
+			granted = lane.granted;
+			completed = lane.completed;
+			abandoned = lane.abandoned;
+			totalWait = Duration.ofNanos(lane.totalWaitNanos);
+			maxWait = Duration.ofNanos(lane.maxWaitNanos);
+		}
+
+		/**
+		 * Name of the lane.
+		 *
+		 * @return The lane name.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Relative share of permits given to the lane when there is contention.
+		 *
+		 * @return The lane weight.
+		 */
+		public int getWeight() {
+			return weight;
+		}
+
+		/**
+		 * Maximum number of permits the lane can hold at once.
+		 *
+		 * @return The lane's concurrency cap.
+		 */
+		public int getMaxConcurrency() {
+			return maxConcurrency;
+		}
+
+		/**
+		 * Number of requests waiting for a permit.
+		 *
+		 * @return The current queue depth.
+		 */
+		public int getQueueDepth() {
+			return queueDepth;
+		}
+
+		/**
+		 * Number of permits currently held.
+		 *
+		 * @return The number of requests in flight.
+		 */
+		public int getInFlightCount() {
+			return inFlight;
+		}
+
+		/**
+		 * Total number of permits granted.
+		 *
+		 * @return The number of requests admitted.
+		 */
+		public long getGrantedCount() {
+			return granted;
+		}
+
+		/**
+		 * Total number of permits released.
+		 *
+		 * @return The number of requests completed.
+		 */
+		public long getCompletedCount() {
+			return completed;
+		}
+
+		/**
+		 * Number of requests which stopped waiting before being granted a permit,
+		 * due to a timeout or interruption.
+		 *
+		 * @return The number of abandoned requests.
+		 */
+		public long getAbandonedCount() {
+			return abandoned;
+		}
+
+		/**
+		 * Cumulative time spent waiting for permits by all granted requests.
+		 *
+		 * @return The total queueing delay.
+		 */
+		public Duration getTotalWait() {
+			return totalWait;
+		}
+
+		/**
+		 * Longest time any granted request spent waiting for a permit.
+		 *
+		 * @return The maximum queueing delay.
+		 */
+		public Duration getMaxWait() {
+			return maxWait;
+		}
+
+		/**
+		 * Mean time spent waiting for a permit by granted requests.
+		 *
+		 * @return The average queueing delay.
+		 */
+		public Duration getAverageWait() {
+			return granted > 0 ? totalWait.dividedBy(granted) : Duration.ZERO;
+		}
+
+		@Override
+		public String toString() {
+			return "LaneMetrics{name=" + name + ", queueDepth=" + queueDepth + ", inFlight=" + inFlight +
+					", granted=" + granted + ", completed=" + completed + ", abandoned=" + abandoned +
+					", maxWait=" + maxWait + '}';
+		}
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for defining the lanes and routes.
+	 */
+	public static final class Builder {
+		private final Map<String, int[]> lanes = new LinkedHashMap<>();
+		private final Map<String, String> routes = new LinkedHashMap<>();
+		private String defaultLane = DEFAULT_LANE;
+		private int maxConcurrency = 200;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder() {}
+
+		/**
+		 * Total number of requests which may be in flight across all lanes. The default is 200,
+		 * which matches the size of the SDK's connection pool.
+		 *
+		 * @param maxConcurrency The number of permits, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxConcurrency(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+			return this;
+		}
+
+		/**
+		 * Defines a lane which may use any number of permits up to the total.
+		 *
+		 * @param name Unique name of the lane.
+		 * @param weight The lane's relative share of permits under contention, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder lane(String name, int weight) {
+			return lane(name, weight, Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Defines a lane with a cap on its concurrent requests.
+		 *
+		 * @param name Unique name of the lane.
+		 * @param weight The lane's relative share of permits under contention, which must be positive.
+		 * @param maxConcurrency Maximum number of permits the lane may hold at once, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder lane(String name, int weight, int maxConcurrency) {
+			Objects.requireNonNull(name, "Lane name is required.");
+			if (weight < 1) {
+				throw new IllegalArgumentException("Lane weight must be positive.");
+			}
+			if (maxConcurrency < 1) {
+				throw new IllegalArgumentException("Lane concurrency must be positive.");
+			}
+			lanes.put(name, new int[]{weight, maxConcurrency});
+			return this;
+		}
+
+		/**
+		 * Assigns requests whose URI path starts with the given prefix to a lane. When several routes
+		 * match, the longest prefix wins.
+		 *
+		 * @param pathPrefix The path prefix, for example {@code /v2/verify}.
+		 * @param lane Name of the lane, which must be defined before building.
+		 *
+		 * @return This builder.
+		 */
+		public Builder route(String pathPrefix, String lane) {
+			routes.put(
+					Objects.requireNonNull(pathPrefix, "Path prefix is required."),
+					Objects.requireNonNull(lane, "Lane is required.")
+			);
+			return this;
+		}
+
+		/**
+		 * Lane for requests which do not match any route. By default, this is {@linkplain #DEFAULT_LANE},
+		 * which is created with a weight of 1 if not explicitly defined.
+		 *
+		 * @param lane Name of the lane.
+		 *
+		 * @return This builder.
+		 */
+		public Builder defaultLane(String lane) {
+			this.defaultLane = Objects.requireNonNull(lane, "Lane is required.");
+			return this;
+		}
+
+		Builder clock(LongSupplier clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Builds the scheduler.
+		 *
+		 * @return A new RequestScheduler with this builder's properties.
+		 */
+		public RequestScheduler build() {
+			return new RequestScheduler(this);
+		}
+	}
+}
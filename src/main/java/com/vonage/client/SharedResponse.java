@@ -0,0 +1,130 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * A fully buffered HTTP response which can be consumed by several callers, used to share the outcome of
+ * identical concurrent GET requests. Each caller parses its own copy of the response, unless the first
+ * caller's result is immutable, in which case that instance is shared.
+ *
+ * @since 8.17.0
+ */
+final class SharedResponse {
+	private final StatusLine statusLine;
+	private final Header[] headers;
+	private final Header contentType, contentEncoding;
+	private final byte[] body;
+	private volatile boolean resolved, shared;
+	private volatile Object parsed;
+
+	private SharedResponse(HttpResponse response) throws IOException {
+		statusLine = response.getStatusLine();
+		headers = response.getAllHeaders();
+		HttpEntity entity = response.getEntity();
+		if (entity != null) {
+			contentType = entity.getContentType();
+			contentEncoding = entity.getContentEncoding();
+			body = EntityUtils.toByteArray(entity);
+		}
+		else {
+			contentType = contentEncoding = null;
+			body = null;
+		}
+	}
+
+	/**
+	 * Reads the response into memory.
+	 *
+	 * @param response The response, whose entity will be consumed.
+	 *
+	 * @return The buffered response.
+	 *
+	 * @throws IOException If the response body could not be read.
+	 */
+	static SharedResponse buffer(HttpResponse response) throws IOException {
+		return new SharedResponse(response);
+	}
+
+	/**
+	 * Creates an independent view of the response which can be read without affecting other callers.
+	 *
+	 * @return A new HttpResponse with the same status, headers and body.
+	 */
+	HttpResponse copy() {
+		BasicHttpResponse response = new BasicHttpResponse(statusLine);
+		response.setHeaders(headers);
+		if (body != null) {
+			ByteArrayEntity entity = new ByteArrayEntity(body);
+			entity.setContentType(contentType);
+			entity.setContentEncoding(contentEncoding);
+			response.setEntity(entity);
+		}
+		return response;
+	}
+
+	/**
+	 * Parses the response for a caller.
+	 *
+	 * @param parser The endpoint's response handler.
+	 *
+	 * @return The shared result if it is immutable, otherwise a newly parsed copy.
+	 *
+	 * @throws IOException If the response could not be parsed.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T resolve(ResponseHandler<T> parser) throws IOException {
+		if (!resolved) {
+			synchronized (this) {
+				if (!resolved) {
+					try {
+						T result = parser.handleResponse(copy());
+						if (isImmutable(result)) {
+							parsed = result;
+							shared = true;
+						}
+						return result;
+					}
+					finally {
+						// Callers parse their own copy unless the first result was shareable
+						resolved = true;
+					}
+				}
+			}
+		}
+		return shared ? (T) parsed : parser.handleResponse(copy());
+	}
+
+	static boolean isImmutable(Object value) {
+		return value == null || value instanceof String || value instanceof Boolean || value instanceof Character ||
+				value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte ||
+				value instanceof Double || value instanceof Float || value instanceof BigInteger ||
+				value instanceof BigDecimal || value instanceof Enum || value instanceof URI || value instanceof UUID;
+	}
+}
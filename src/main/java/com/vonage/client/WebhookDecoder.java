@@ -0,0 +1,434 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.vonage.client.messages.Channel;
+import com.vonage.client.messages.InboundMessage;
+import com.vonage.client.messages.MessageStatus;
+import com.vonage.client.sms.MessageEvent;
+import com.vonage.client.voice.EventWebhook;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Decodes JSON webhook payloads from the Messages, Voice and SMS APIs and dispatches them to typed handlers.
+ * This is intended for high-throughput webhook endpoints: readers are built once and shared, and the payload
+ * type is detected from its top-level field names during a single pass over the input, which is buffered as
+ * tokens so that it is not parsed twice.
+ * <p>
+ * The supported payload types are {@link MessageStatus}, {@link InboundMessage} (which can be dispatched by
+ * {@link Channel}), {@link EventWebhook} and {@link MessageEvent} (inbound SMS sent as JSON). Anything else is
+ * passed to the unrecognised handler as a tree. Instances are immutable and thread-safe.
+ *
+ * @since 8.17.0
+ */
+public final class WebhookDecoder {
+	private static final ObjectMapper MAPPER = Jsonable.createDefaultObjectMapper();
+	private static final JsonFactory FACTORY = MAPPER.getFactory();
+	private static final Map<PayloadType, Binder<?>> BINDERS = new EnumMap<>(PayloadType.class);
+
+	static {
+		BINDERS.put(PayloadType.MESSAGE_STATUS, new Binder<>(MessageStatus.class));
+		BINDERS.put(PayloadType.INBOUND_MESSAGE, new Binder<>(InboundMessage.class));
+		BINDERS.put(PayloadType.VOICE_EVENT, new Binder<>(EventWebhook.class));
+		BINDERS.put(PayloadType.INBOUND_SMS, new Binder<>(MessageEvent.class));
+	}
+
+	private static final int
+			MESSAGE_UUID = 1, STATUS = 1 << 1, CONVERSATION_UUID = 1 << 2, MSISDN = 1 << 3, MESSAGE_ID = 1 << 4;
+
+	/**
+	 * The kinds of payload recognised by the decoder.
+	 */
+	public enum PayloadType {
+		/**
+		 * Messages API status callback, decoded as {@link MessageStatus}.
+		 */
+		MESSAGE_STATUS,
+
+		/**
+		 * Messages API inbound message, decoded as {@link InboundMessage}.
+		 */
+		INBOUND_MESSAGE,
+
+		/**
+		 * Voice API call event, decoded as {@link EventWebhook}. This includes status events as well as
+		 * input, recording and transfer callbacks, which are identified by their conversation UUID.
+		 */
+		VOICE_EVENT,
+
+		/**
+		 * SMS API inbound message, decoded as {@link MessageEvent}.
+		 */
+		INBOUND_SMS,
+
+		/**
+		 * Any other JSON object, decoded as a {@link JsonNode}.
+		 */
+		UNRECOGNISED
+	}
+
+	/**
+	 * Holds the shared reader and cached no-args constructor for a payload class. The payload classes
+	 * declare string-delegating creators, so values are bound by updating a new instance.
+	 */
+	private static final class Binder<T> {
+		final ObjectReader reader;
+		final Constructor<T> constructor;
+
+		Binder(Class<T> type) {
+			reader = MAPPER.readerFor(type);
+			try {
+				constructor = type.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			}
+			catch (NoSuchMethodException ex) {
+				throw new VonageUnexpectedException(ex);
+			}
+		}
+
+		T bind(JsonParser parser) throws IOException {
+			try {
+				return reader.withValueToUpdate(constructor.newInstance()).readValue(parser);
+			}
+			catch (ReflectiveOperationException ex) {
+				throw new VonageUnexpectedException(ex);
+			}
+		}
+	}
+
+	private final Consumer<? super MessageStatus> messageStatusHandler;
+	private final Consumer<? super InboundMessage> inboundMessageHandler;
+	private final Map<Channel, Consumer<? super InboundMessage>> channelHandlers;
+	private final Consumer<? super EventWebhook> voiceEventHandler;
+	private final Consumer<? super MessageEvent> inboundSmsHandler;
+	private final Consumer<? super JsonNode> unrecognisedHandler;
+
+	private WebhookDecoder(Builder builder) {
+		messageStatusHandler = builder.messageStatusHandler;
+		inboundMessageHandler = builder.inboundMessageHandler;
+		channelHandlers = new EnumMap<>(builder.channelHandlers);
+		voiceEventHandler = builder.voiceEventHandler;
+		inboundSmsHandler = builder.inboundSmsHandler;
+		unrecognisedHandler = builder.unrecognisedHandler;
+	}
+
+	static PayloadType detect(int fields) {
+		if ((fields & MESSAGE_UUID) != 0) {
+			return (fields & STATUS) != 0 ? PayloadType.MESSAGE_STATUS : PayloadType.INBOUND_MESSAGE;
+		}
+		if ((fields & CONVERSATION_UUID) != 0) {
+			return PayloadType.VOICE_EVENT;
+		}
+		if ((fields & (MSISDN | MESSAGE_ID | STATUS)) == (MSISDN | MESSAGE_ID)) {
+			return PayloadType.INBOUND_SMS;
+		}
+		return PayloadType.UNRECOGNISED;
+	}
+
+	private static int field(String name) {
+		switch (name) {
+			case "message_uuid": return MESSAGE_UUID;
+			case "status": return STATUS;
+			case "conversation_uuid": case "conversation_uuid_from": case "conversation_uuid_to":
+				return CONVERSATION_UUID;
+			case "msisdn": return MSISDN;
+			case "messageId": return MESSAGE_ID;
+			default: return 0;
+		}
+	}
+
+	private static Object decode(JsonParser parser) {
+		try (JsonParser input = parser; TokenBuffer buffer = new TokenBuffer(input)) {
+			if (input.nextToken() != JsonToken.START_OBJECT) {
+				throw new VonageResponseParseException("Webhook payload must be a JSON object.");
+			}
+			buffer.writeStartObject();
+			int fields = 0;
+			while (input.nextToken() == JsonToken.FIELD_NAME) {
+				String name = input.currentName();
+				fields |= field(name);
+				buffer.writeFieldName(name);
+				input.nextToken();
+				buffer.copyCurrentStructure(input);
+			}
+			buffer.writeEndObject();
+
+			PayloadType type = detect(fields);
+			try (JsonParser buffered = buffer.asParser(MAPPER)) {
+				if (type == PayloadType.UNRECOGNISED) {
+					return MAPPER.readTree(buffered);
+				}
+				return BINDERS.get(type).bind(buffered);
+			}
+		}
+		catch (IOException ex) {
+			throw new VonageResponseParseException("Failed to decode webhook payload.", ex);
+		}
+	}
+
+	/**
+	 * Decodes a webhook payload without dispatching it.
+	 *
+	 * @param payload The UTF-8 encoded JSON request body.
+	 *
+	 * @return The decoded payload: one of {@link MessageStatus}, {@link InboundMessage}, {@link EventWebhook},
+	 * {@link MessageEvent}, or {@link JsonNode} if unrecognised.
+	 *
+	 * @throws VonageResponseParseException If the payload is not a valid JSON object.
+	 */
+	public static Object decode(byte[] payload) {
+		try {
+			return decode(FACTORY.createParser(Objects.requireNonNull(payload, "Payload is required.")));
+		}
+		catch (IOException ex) {
+			throw new VonageResponseParseException("Failed to decode webhook payload.", ex);
+		}
+	}
+
+	/**
+	 * Decodes a webhook payload without dispatching it. The stream is read to the end of the
+	 * JSON object but is not closed.
+	 *
+	 * @param payload The JSON request body.
+	 *
+	 * @return The decoded payload, as per {@link #decode(byte[])}.
+	 *
+	 * @throws VonageResponseParseException If the payload is not a valid JSON object.
+	 */
+	public static Object decode(InputStream payload) {
+		try {
+			JsonParser parser = FACTORY.createParser(Objects.requireNonNull(payload, "Payload is required."));
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			return decode(parser);
+		}
+		catch (IOException ex) {
+			throw new VonageResponseParseException("Failed to decode webhook payload.", ex);
+		}
+	}
+
+	/**
+	 * Decodes a webhook payload without dispatching it. The buffer's position is not modified.
+	 *
+	 * @param payload The UTF-8 encoded JSON request body, between the buffer's position and limit.
+	 *
+	 * @return The decoded payload, as per {@link #decode(byte[])}.
+	 *
+	 * @throws VonageResponseParseException If the payload is not a valid JSON object.
+	 */
+	public static Object decode(ByteBuffer payload) {
+		Objects.requireNonNull(payload, "Payload is required.");
+		try {
+			if (payload.hasArray()) {
+				return decode(FACTORY.createParser(
+						payload.array(), payload.arrayOffset() + payload.position(), payload.remaining()
+				));
+			}
+			return decode(FACTORY.createParser(new ByteBufferBackedInputStream(payload.duplicate())));
+		}
+		catch (IOException ex) {
+			throw new VonageResponseParseException("Failed to decode webhook payload.", ex);
+		}
+	}
+
+	/**
+	 * Decodes the payload and invokes the matching handler, if one has been registered.
+	 *
+	 * @param payload The UTF-8 encoded JSON request body.
+	 *
+	 * @return The detected payload type.
+	 *
+	 * @throws VonageResponseParseException If the payload is not a valid JSON object.
+	 */
+	public PayloadType dispatch(byte[] payload) {
+		return dispatchDecoded(decode(payload));
+	}
+
+	/**
+	 * Decodes the payload and invokes the matching handler, if one has been registered.
+	 *
+	 * @param payload The JSON request body. The stream is not closed.
+	 *
+	 * @return The detected payload type.
+	 *
+	 * @throws VonageResponseParseException If the payload is not a valid JSON object.
+	 */
+	public PayloadType dispatch(InputStream payload) {
+		return dispatchDecoded(decode(payload));
+	}
+
+	/**
+	 * Decodes the payload and invokes the matching handler, if one has been registered.
+	 *
+	 * @param payload The UTF-8 encoded JSON request body, between the buffer's position and limit.
+	 *
+	 * @return The detected payload type.
+	 *
+	 * @throws VonageResponseParseException If the payload is not a valid JSON object.
+	 */
+	public PayloadType dispatch(ByteBuffer payload) {
+		return dispatchDecoded(decode(payload));
+	}
+
+	private static <T> void accept(Consumer<? super T> handler, T value) {
+		if (handler != null) {
+			handler.accept(value);
+		}
+	}
+
+	private PayloadType dispatchDecoded(Object decoded) {
+		if (decoded instanceof MessageStatus) {
+			accept(messageStatusHandler, (MessageStatus) decoded);
+			return PayloadType.MESSAGE_STATUS;
+		}
+		if (decoded instanceof InboundMessage) {
+			InboundMessage inbound = (InboundMessage) decoded;
+			Consumer<? super InboundMessage> handler = inbound.getChannel() != null ?
+					channelHandlers.get(inbound.getChannel()) : null;
+			accept(handler != null ? handler : inboundMessageHandler, inbound);
+			return PayloadType.INBOUND_MESSAGE;
+		}
+		if (decoded instanceof EventWebhook) {
+			accept(voiceEventHandler, (EventWebhook) decoded);
+			return PayloadType.VOICE_EVENT;
+		}
+		if (decoded instanceof MessageEvent) {
+			accept(inboundSmsHandler, (MessageEvent) decoded);
+			return PayloadType.INBOUND_SMS;
+		}
+		accept(unrecognisedHandler, (JsonNode) decoded);
+		return PayloadType.UNRECOGNISED;
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for registering handlers. Payloads without a registered handler are decoded and ignored.
+	 */
+	public static final class Builder {
+		private Consumer<? super MessageStatus> messageStatusHandler;
+		private Consumer<? super InboundMessage> inboundMessageHandler;
+		private final Map<Channel, Consumer<? super InboundMessage>> channelHandlers = new EnumMap<>(Channel.class);
+		private Consumer<? super EventWebhook> voiceEventHandler;
+		private Consumer<? super MessageEvent> inboundSmsHandler;
+		private Consumer<? super JsonNode> unrecognisedHandler;
+
+		private Builder() {}
+
+		/**
+		 * Handler for Messages API status callbacks.
+		 *
+		 * @param handler The message status handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onMessageStatus(Consumer<? super MessageStatus> handler) {
+			messageStatusHandler = handler;
+			return this;
+		}
+
+		/**
+		 * Handler for Messages API inbound messages on channels without a channel-specific handler.
+		 *
+		 * @param handler The inbound message handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onInboundMessage(Consumer<? super InboundMessage> handler) {
+			inboundMessageHandler = handler;
+			return this;
+		}
+
+		/**
+		 * Handler for Messages API inbound messages on a specific channel.
+		 *
+		 * @param channel The channel to handle.
+		 * @param handler The inbound message handler for the channel.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onInboundMessage(Channel channel, Consumer<? super InboundMessage> handler) {
+			channelHandlers.put(Objects.requireNonNull(channel, "Channel is required."), handler);
+			return this;
+		}
+
+		/**
+		 * Handler for Voice API call events.
+		 *
+		 * @param handler The event handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onVoiceEvent(Consumer<? super EventWebhook> handler) {
+			voiceEventHandler = handler;
+			return this;
+		}
+
+		/**
+		 * Handler for inbound SMS API messages sent as JSON.
+		 *
+		 * @param handler The inbound SMS handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onInboundSms(Consumer<? super MessageEvent> handler) {
+			inboundSmsHandler = handler;
+			return this;
+		}
+
+		/**
+		 * Handler for JSON objects which do not match any of the supported payload types.
+		 *
+		 * @param handler The fallback handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder onUnrecognised(Consumer<? super JsonNode> handler) {
+			unrecognisedHandler = handler;
+			return this;
+		}
+
+		/**
+		 * Builds the decoder.
+		 *
+		 * @return A new WebhookDecoder with this builder's handlers.
+		 */
+		public WebhookDecoder build() {
+			return new WebhookDecoder(this);
+		}
+	}
+}
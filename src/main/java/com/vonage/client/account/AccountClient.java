@@ -19,6 +19,7 @@ import com.vonage.client.*;
 import com.vonage.client.auth.SignatureAuthMethod;
 import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
 import com.vonage.client.common.HttpMethod;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -128,6 +129,23 @@ public class AccountClient {
         return fullPricing.execute(Objects.requireNonNull(service, "Service type is required.")).countries;
     }
 
+    /**
+     * Creates an in-memory cache of pricing data for the given service types, which is loaded immediately
+     * and refreshed in the background. Use {@link PricingCache#builder(AccountClient)} for more options.
+     *
+     * @param refreshInterval How often to reload the pricing data, or {@code null} to disable refresh.
+     * @param serviceTypes The service types to load pricing for.
+     *
+     * @return A new pricing cache, which should be closed when no longer required.
+     *
+     * @throws AccountResponseException If the initial pricing data could not be retrieved.
+     *
+     * @since 8.17.0
+     */
+    public PricingCache createPricingCache(Duration refreshInterval, ServiceType... serviceTypes) {
+        return PricingCache.builder(this).serviceTypes(serviceTypes).refreshInterval(refreshInterval).build();
+    }
+
     /**
      * Retrieve the voice pricing for a specified country.
      *
@@ -0,0 +1,211 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.account;
+
+import com.vonage.client.common.E164;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable longest-prefix-match index of country pricing by dialing prefix, for pricing destination
+ * numbers offline. Nodes are stored in flat primitive arrays with one slot per decimal digit, so a lookup
+ * walks at most 15 array entries (the maximum length of an E.164 number) without allocating.
+ * <p>
+ * Where more than one country shares a dialing prefix (for example, "1" for Canada and the United States),
+ * the entry with the highest default price is used, so estimates are conservative.
+ * Instances are safe for concurrent use.
+ *
+ * @since 8.17.0
+ */
+public final class PrefixPriceTrie {
+    private static final int RADIX = 10, NONE = -1;
+
+    private final int[] children, values;
+    private final PricingResponse[] entries;
+    private final List<Map<String, BigDecimal>> networkPrices;
+
+    private PrefixPriceTrie(int[] children, int[] values, List<PricingResponse> entries) {
+        this.children = children;
+        this.values = values;
+        this.entries = entries.toArray(new PricingResponse[0]);
+        networkPrices = entries.stream().map(entry -> {
+            Map<String, BigDecimal> prices = new HashMap<>();
+            if (entry.getNetworks() != null) {
+                for (Network network : entry.getNetworks()) {
+                    if (network != null && network.getCode() != null && network.getPrice() != null) {
+                        prices.put(network.getCode(), network.getPrice());
+                    }
+                }
+            }
+            return prices;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Builds an index from the given country pricing, as returned by
+     * {@link AccountClient#listPriceAllCountries(ServiceType)}. Entries without a numeric dialing prefix are ignored.
+     *
+     * @param countries The country pricing data.
+     *
+     * @return A new trie.
+     */
+    public static PrefixPriceTrie build(Collection<PricingResponse> countries) {
+        Map<String, PricingResponse> byPrefix = new LinkedHashMap<>();
+        for (PricingResponse country : Objects.requireNonNull(countries, "Countries are required.")) {
+            String prefix = country != null ? country.getDialingPrefix() : null;
+            if (prefix == null || prefix.isEmpty() || !prefix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                continue;
+            }
+            byPrefix.merge(prefix, country, (existing, candidate) ->
+                    compare(candidate.getDefaultPrice(), existing.getDefaultPrice()) > 0 ? candidate : existing
+            );
+        }
+
+        int capacity = 1 + byPrefix.keySet().stream().mapToInt(String::length).sum();
+        int[] children = new int[capacity * RADIX], values = new int[capacity];
+        Arrays.fill(children, NONE);
+        Arrays.fill(values, NONE);
+        List<PricingResponse> entries = new ArrayList<>(byPrefix.size());
+        int nodes = 1;
+
+        for (Map.Entry<String, PricingResponse> mapping : byPrefix.entrySet()) {
+            String prefix = mapping.getKey();
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                int slot = node * RADIX + (prefix.charAt(i) - '0');
+                if (children[slot] == NONE) {
+                    children[slot] = nodes++;
+                }
+                node = children[slot];
+            }
+            values[node] = entries.size();
+            entries.add(mapping.getValue());
+        }
+        return new PrefixPriceTrie(
+                Arrays.copyOf(children, nodes * RADIX), Arrays.copyOf(values, nodes), entries
+        );
+    }
+
+    private static int compare(BigDecimal a, BigDecimal b) {
+        if (a == null) return b == null ? 0 : -1;
+        return b == null ? 1 : a.compareTo(b);
+    }
+
+    private int find(CharSequence number) {
+        int node = 0, match = NONE, start = number.length() > 0 && number.charAt(0) == '+' ? 1 : 0;
+        for (int i = start; i < number.length(); i++) {
+            int digit = number.charAt(i) - '0';
+            if (digit < 0 || digit >= RADIX || (node = children[node * RADIX + digit]) == NONE) {
+                break;
+            }
+            if (values[node] != NONE) {
+                match = values[node];
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Finds the country whose dialing prefix is the longest match for the number.
+     *
+     * @param number The destination number in E.164 format. A leading {@code +} is permitted.
+     *
+     * @return The matching country pricing, or {@code null} if no prefix matches.
+     */
+    public PricingResponse lookup(CharSequence number) {
+        int match = find(Objects.requireNonNull(number, "Number is required."));
+        return match != NONE ? entries[match] : null;
+    }
+
+    /**
+     * Prices a destination number using the default price of the matching country.
+     *
+     * @param number The destination number in E.164 format. A leading {@code +} is permitted.
+     *
+     * @return The price, or {@code null} if the destination is not priced.
+     */
+    public BigDecimal getPrice(CharSequence number) {
+        return getPrice(number, null);
+    }
+
+    /**
+     * Prices a destination number on a specific network. If the network is not priced within the
+     * matching country, the country's default price is used.
+     *
+     * @param number The destination number in E.164 format. A leading {@code +} is permitted.
+     * @param networkCode (OPTIONAL) The destination network code, which is the concatenated MCC and MNC.
+     *
+     * @return The price, or {@code null} if the destination is not priced.
+     */
+    public BigDecimal getPrice(CharSequence number, String networkCode) {
+        int match = find(Objects.requireNonNull(number, "Number is required."));
+        if (match == NONE) {
+            return null;
+        }
+        BigDecimal networkPrice = networkCode != null ? networkPrices.get(match).get(networkCode) : null;
+        return networkPrice != null ? networkPrice : entries[match].getDefaultPrice();
+    }
+
+    /**
+     * Prices a destination number using the default price of the matching country.
+     *
+     * @param number The destination number.
+     *
+     * @return The price, or {@code null} if the destination is not priced.
+     */
+    public BigDecimal getPrice(E164 number) {
+        return getPrice(Objects.requireNonNull(number, "Number is required.").toString());
+    }
+
+    /**
+     * Prices each of the numbers in parallel.
+     *
+     * @param numbers The destination numbers.
+     *
+     * @return The prices, in the same order as the input. Entries are {@code null} for unpriced destinations.
+     */
+    public List<BigDecimal> getPrices(List<E164> numbers) {
+        Objects.requireNonNull(numbers, "Numbers are required.");
+        BigDecimal[] prices = new BigDecimal[numbers.size()];
+        IntStream.range(0, prices.length).parallel().forEach(i -> prices[i] = getPrice(numbers.get(i)));
+        return Collections.unmodifiableList(Arrays.asList(prices));
+    }
+
+    /**
+     * Estimates the total cost of sending to all the numbers, pricing them in parallel.
+     * Unpriced destinations do not contribute to the total.
+     *
+     * @param numbers The destination numbers.
+     *
+     * @return The sum of the prices.
+     */
+    public BigDecimal estimateTotal(Collection<E164> numbers) {
+        return Objects.requireNonNull(numbers, "Numbers are required.").parallelStream()
+                .map(this::getPrice).filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Number of distinct dialing prefixes in this index.
+     *
+     * @return The number of priced prefixes.
+     */
+    public int size() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.account;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory snapshot of outbound pricing for one or more service types, loaded using
+ * {@link AccountClient#listPriceAllCountries(ServiceType)} and periodically refreshed in the background.
+ * Lookups never make network calls: they are served from an immutable snapshot which is atomically
+ * replaced on each refresh, so readers are never blocked. If a refresh fails for a service type,
+ * the previous data for that type is retained.
+ * <p>
+ * Instances should be closed when no longer needed to stop the background refresh.
+ *
+ * @since 8.17.0
+ */
+public final class PricingCache implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(PricingCache.class.getName());
+
+    private final AccountClient client;
+    private final Set<ServiceType> serviceTypes;
+    private final ScheduledExecutorService ownedScheduler;
+    private final ScheduledFuture<?> refreshTask;
+    private volatile Map<ServiceType, Snapshot> snapshots = Collections.emptyMap();
+    private volatile Instant lastRefreshed;
+    private volatile RuntimeException lastRefreshFailure;
+
+    static final class Snapshot {
+        final List<PricingResponse> countries;
+        final Map<String, PricingResponse> byCountry;
+        final Map<String, Network> byNetwork;
+        final PrefixPriceTrie prefixes;
+
+        Snapshot(List<PricingResponse> countries) {
+            List<PricingResponse> all = new ArrayList<>(countries.size());
+            Map<String, PricingResponse> byCountry = new HashMap<>(countries.size() * 2);
+            Map<String, Network> byNetwork = new HashMap<>(countries.size() * 8);
+            for (PricingResponse pricing : countries) {
+                String countryCode = pricing != null && pricing.getCountry() != null ?
+                        pricing.getCountry().getCode() : null;
+                if (countryCode == null) continue;
+                all.add(pricing);
+                byCountry.put(countryCode.toUpperCase(Locale.ROOT), pricing);
+                if (pricing.getNetworks() != null) {
+                    for (Network network : pricing.getNetworks()) {
+                        if (network != null && network.getCode() != null) {
+                            byNetwork.put(network.getCode(), network);
+                        }
+                    }
+                }
+            }
+            this.countries = Collections.unmodifiableList(all);
+            this.byCountry = byCountry;
+            this.byNetwork = byNetwork;
+            prefixes = PrefixPriceTrie.build(all);
+        }
+    }
+
+    private PricingCache(Builder builder) {
+        client = Objects.requireNonNull(builder.client, "Account client is required.");
+        if (builder.serviceTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one service type is required.");
+        }
+        serviceTypes = Collections.unmodifiableSet(EnumSet.copyOf(builder.serviceTypes));
+        Duration interval = builder.refreshInterval;
+        if (interval != null && (interval.isNegative() || interval.isZero())) {
+            throw new IllegalArgumentException("Refresh interval must be positive.");
+        }
+
+        refresh();
+        if (lastRefreshFailure != null) {
+            throw lastRefreshFailure;
+        }
+
+        if (interval != null) {
+            ScheduledExecutorService scheduler = builder.scheduler;
+            if (scheduler == null) {
+                scheduler = ownedScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "vonage-pricing-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            else {
+                ownedScheduler = null;
+            }
+            long nanos = interval.toNanos();
+            refreshTask = scheduler.scheduleWithFixedDelay(this::refreshQuietly, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+        else {
+            ownedScheduler = null;
+            refreshTask = null;
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            if (!refresh()) {
+                LOGGER.log(Level.WARNING, "Failed to refresh pricing, retaining previous data.", lastRefreshFailure);
+            }
+        }
+        catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Failed to refresh pricing.", ex);
+        }
+    }
+
+    /**
+     * Reloads pricing for all configured service types and atomically publishes the result. This is
+     * called automatically on the refresh schedule, but can also be invoked manually. Service types
+     * which fail to load keep their previous data; the failure is available from {@link #getLastRefreshFailure()}.
+     *
+     * @return {@code true} if all service types were refreshed successfully, {@code false} otherwise.
+     */
+    public synchronized boolean refresh() {
+        Map<ServiceType, Snapshot> updated = new EnumMap<>(ServiceType.class);
+        updated.putAll(snapshots);
+        RuntimeException failure = null;
+        for (ServiceType type : serviceTypes) {
+            try {
+                List<PricingResponse> countries = client.listPriceAllCountries(type);
+                updated.put(type, new Snapshot(countries != null ? countries : Collections.emptyList()));
+            }
+            catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+                else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        snapshots = Collections.unmodifiableMap(updated);
+        lastRefreshFailure = failure;
+        if (failure == null) {
+            lastRefreshed = Instant.now();
+            return true;
+        }
+        return false;
+    }
+
+    private Snapshot snapshot(ServiceType type) {
+        Snapshot snapshot = snapshots.get(Objects.requireNonNull(type, "Service type is required."));
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Service type '" + type + "' is not cached.");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Retrieves the cached pricing for a country.
+     *
+     * @param type The service type.
+     * @param countryCode The two-character country code (case-insensitive).
+     *
+     * @return The country's pricing and networks, or {@code null} if the country is not priced.
+     *
+     * @throws IllegalArgumentException If the service type is not cached by this instance.
+     */
+    public PricingResponse getCountryPricing(ServiceType type, String countryCode) {
+        Snapshot snapshot = snapshot(type);
+        return countryCode != null ? snapshot.byCountry.get(countryCode.toUpperCase(Locale.ROOT)) : null;
+    }
+
+    /**
+     * Retrieves the cached pricing for a network.
+     *
+     * @param type The service type.
+     * @param networkCode The network code, which is the concatenated MCC and MNC.
+     *
+     * @return The network's pricing, or {@code null} if the network is not priced.
+     *
+     * @throws IllegalArgumentException If the service type is not cached by this instance.
+     */
+    public Network getNetworkPricing(ServiceType type, String networkCode) {
+        Snapshot snapshot = snapshot(type);
+        return networkCode != null ? snapshot.byNetwork.get(networkCode) : null;
+    }
+
+    /**
+     * Estimates the price of a single outbound message or call. If a network is specified and priced,
+     * its price is used; otherwise the country's default price is returned.
+     *
+     * @param type The service type.
+     * @param countryCode The two-character country code (case-insensitive).
+     * @param networkCode (OPTIONAL) The destination network code.
+     *
+     * @return The price, or {@code null} if neither the network nor the country is priced.
+     *
+     * @throws IllegalArgumentException If the service type is not cached by this instance.
+     */
+    public BigDecimal getPrice(ServiceType type, String countryCode, String networkCode) {
+        Network network = getNetworkPricing(type, networkCode);
+        if (network != null && network.getPrice() != null) {
+            return network.getPrice();
+        }
+        PricingResponse country = getCountryPricing(type, countryCode);
+        return country != null ? country.getDefaultPrice() : null;
+    }
+
+    /**
+     * Retrieves all cached country pricing for the service type.
+     *
+     * @param type The service type.
+     *
+     * @return The immutable list of country pricing from the most recent successful load.
+     *
+     * @throws IllegalArgumentException If the service type is not cached by this instance.
+     */
+    public List<PricingResponse> getAllCountries(ServiceType type) {
+        return snapshot(type).countries;
+    }
+
+    /**
+     * Retrieves the dialing prefix index for the service type, for pricing destination numbers.
+     * A new index is built on each refresh, so callers should not retain it for long periods.
+     *
+     * @param type The service type.
+     *
+     * @return The prefix index from the most recent successful load.
+     *
+     * @throws IllegalArgumentException If the service type is not cached by this instance.
+     */
+    public PrefixPriceTrie getPrefixTrie(ServiceType type) {
+        return snapshot(type).prefixes;
+    }
+
+    /**
+     * The service types cached by this instance.
+     *
+     * @return The immutable set of service types.
+     */
+    public Set<ServiceType> getServiceTypes() {
+        return serviceTypes;
+    }
+
+    /**
+     * Time at which all service types were last refreshed successfully.
+     *
+     * @return The last successful refresh time.
+     */
+    public Instant getLastRefreshed() {
+        return lastRefreshed;
+    }
+
+    /**
+     * The failure from the most recent refresh, if any.
+     *
+     * @return The exception, or {@code null} if the last refresh was successful.
+     */
+    public RuntimeException getLastRefreshFailure() {
+        return lastRefreshFailure;
+    }
+
+    /**
+     * Stops the background refresh. Cached data remains available for lookups.
+     */
+    @Override
+    public void close() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+        }
+        if (ownedScheduler != null) {
+            ownedScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Entrypoint for constructing an instance of this class.
+     *
+     * @param client The Account client to load pricing with.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(AccountClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Builder for configuring the cache.
+     */
+    public static final class Builder {
+        private final AccountClient client;
+        private final Set<ServiceType> serviceTypes = EnumSet.noneOf(ServiceType.class);
+        private Duration refreshInterval = Duration.ofHours(6);
+        private ScheduledExecutorService scheduler;
+
+        private Builder(AccountClient client) {
+            this.client = client;
+        }
+
+        /**
+         * (REQUIRED) Service types to load pricing for. This method is additive.
+         *
+         * @param serviceTypes The service types.
+         *
+         * @return This builder.
+         */
+        public Builder serviceTypes(ServiceType... serviceTypes) {
+            this.serviceTypes.addAll(Arrays.asList(serviceTypes));
+            return this;
+        }
+
+        /**
+         * How often to reload the pricing data. The default is 6 hours.
+         *
+         * @param refreshInterval The refresh interval, or {@code null} to disable background refresh.
+         *
+         * @return This builder.
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * Scheduler to run the background refresh on. If unspecified, a dedicated daemon thread is created
+         * and stopped when the cache is closed. A supplied scheduler is not shut down by the cache.
+         *
+         * @param scheduler The scheduler.
+         *
+         * @return This builder.
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Builds the cache, loading the initial pricing data on the calling thread.
+         *
+         * @return A new PricingCache with this builder's properties.
+         *
+         * @throws AccountResponseException If the initial pricing data could not be loaded.
+         */
+        public PricingCache build() {
+            return new PricingCache(this);
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class JWTAuthMethod extends BearerAuthMethod {
 
     private final Jwt jwt;
     private final String applicationId, privateKeyContents;
+    private volatile JwtSigner signer;
 
     public JWTAuthMethod(final String applicationId, final byte[] privateKey) {
         jwt = Jwt.builder()
@@ -49,6 +50,24 @@ public class JWTAuthMethod extends BearerAuthMethod {
         return Jwt.builder().applicationId(applicationId).privateKeyContents(privateKeyContents);
     }
 
+    /**
+     * Obtains a reusable signer for minting custom JWTs in bulk. The signer is created on first use.
+     *
+     * @return The signer for this application's ID and private key.
+     * @since 8.17.0
+     */
+    public JwtSigner getJwtSigner() {
+        JwtSigner result = signer;
+        if (result == null) {
+            synchronized (this) {
+                if ((result = signer) == null) {
+                    signer = result = new JwtSigner(applicationId, privateKeyContents);
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     protected final String getBearerToken() {
         return generateToken();
@@ -0,0 +1,294 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.vonage.client.VonageUnexpectedException;
+import com.vonage.client.common.TtlCache;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Verifies HS256-signed JSON Web Tokens on inbound webhooks against a signature secret, as an efficient,
+ * reusable alternative to {@code MessagesClient.verifySignature} and {@code VoiceClient.verifySignature}.
+ * Each thread keeps its own initialised {@link Mac}, so no cryptographic state is rebuilt per token.
+ * <p>
+ * A token is valid if its header declares the HS256 algorithm, its signature matches, and its {@code exp},
+ * {@code nbf} and {@code iat} claims (where present) are satisfied at the time of verification. Optionally,
+ * the SHA-256 hashes of recently verified tokens can be cached so that redelivered callbacks are accepted
+ * without recomputing the signature; the expiry claim is still checked on every cache hit.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 8.17.0
+ */
+public final class JwtSignatureVerifier {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final Base64.Decoder BASE64 = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (GeneralSecurityException ex) {
+            throw new VonageUnexpectedException(ex);
+        }
+    });
+    private final TtlCache<ByteBuffer, Long> verified;
+    private final Duration cacheTtl;
+    private final long leewaySeconds;
+    private final Clock clock;
+
+    private JwtSignatureVerifier(Builder builder) {
+        String secret = Objects.requireNonNull(builder.secret, "Secret cannot be null.");
+        if (secret.isEmpty()) {
+            throw new IllegalArgumentException("Secret cannot be empty.");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            }
+            catch (GeneralSecurityException ex) {
+                throw new VonageUnexpectedException(ex);
+            }
+        });
+        if (builder.leeway.isNegative()) {
+            throw new IllegalArgumentException("Leeway cannot be negative.");
+        }
+        leewaySeconds = builder.leeway.getSeconds();
+        cacheTtl = builder.cacheTtl;
+        verified = builder.cacheSize > 0 ? new TtlCache<>(cacheTtl, builder.cacheSize) : null;
+        clock = builder.clock;
+    }
+
+    /**
+     * Verifies a token.
+     *
+     * @param jwt The JSON Web Token, typically from the {@code Authorization} header with the
+     *            {@code Bearer} prefix removed.
+     *
+     * @return {@code true} if the token was signed by the secret and has not expired, {@code false} otherwise.
+     */
+    public boolean verify(String jwt) {
+        Objects.requireNonNull(jwt, "Token cannot be null.");
+        byte[] token = jwt.getBytes(StandardCharsets.US_ASCII);
+        long now = clock.millis() / 1000;
+        ByteBuffer cacheKey = null;
+        if (verified != null) {
+            cacheKey = ByteBuffer.wrap(digests.get().digest(token));
+            Long expiry = verified.get(cacheKey);
+            if (expiry != null) {
+                if (now - leewaySeconds <= expiry) {
+                    return true;
+                }
+                verified.invalidate(cacheKey);
+                return false;
+            }
+        }
+
+        int firstDot = jwt.indexOf('.'), secondDot = jwt.indexOf('.', firstDot + 1);
+        if (firstDot < 1 || secondDot < 0 || secondDot == token.length - 1 || jwt.indexOf('.', secondDot + 1) >= 0) {
+            return false;
+        }
+        try {
+            Mac mac = macs.get();
+            mac.update(token, 0, secondDot);
+            byte[] expected = mac.doFinal();
+            byte[] actual = decode(token, secondDot + 1, token.length);
+            if (!MessageDigest.isEqual(expected, actual) || !isHs256(decode(token, 0, firstDot))) {
+                return false;
+            }
+            long[] claims = timeClaims(decode(token, firstDot + 1, secondDot));
+            long exp = claims[0], nbf = claims[1], iat = claims[2];
+            if (now - leewaySeconds > exp || now + leewaySeconds < nbf || now + leewaySeconds < iat) {
+                return false;
+            }
+            if (cacheKey != null) {
+                long remaining = exp - now;
+                verified.put(cacheKey, exp, remaining < cacheTtl.getSeconds() ?
+                        Duration.ofSeconds(remaining + leewaySeconds + 1) : cacheTtl
+                );
+            }
+            return true;
+        }
+        catch (IllegalArgumentException | IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Verifies each of the tokens in turn on the calling thread.
+     *
+     * @param jwts The tokens to verify.
+     *
+     * @return The verification result for each token, in the same order as the input.
+     */
+    public boolean[] verifyAll(List<String> jwts) {
+        boolean[] results = new boolean[Objects.requireNonNull(jwts, "Tokens cannot be null.").size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = verify(jwts.get(i));
+        }
+        return results;
+    }
+
+    private static byte[] decode(byte[] token, int from, int to) {
+        return BASE64.decode(Arrays.copyOfRange(token, from, to));
+    }
+
+    private static boolean isHs256(byte[] header) throws IOException {
+        try (JsonParser parser = JSON.createParser(header)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            boolean hs256 = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if ("alg".equals(name)) {
+                    hs256 = parser.currentToken() == JsonToken.VALUE_STRING && "HS256".equals(parser.getText());
+                }
+                parser.skipChildren();
+            }
+            return hs256;
+        }
+    }
+
+    /**
+     * Extracts the {@code exp}, {@code nbf} and {@code iat} claims, in that order, defaulting to
+     * values which always pass validation when absent.
+     */
+    private static long[] timeClaims(byte[] payload) throws IOException {
+        long[] claims = {Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE};
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Token payload is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                int index = "exp".equals(name) ? 0 : "nbf".equals(name) ? 1 : "iat".equals(name) ? 2 : -1;
+                if (index >= 0 && value != JsonToken.VALUE_NULL) {
+                    if (!value.isNumeric()) {
+                        throw new IOException("Claim '" + name + "' must be numeric.");
+                    }
+                    claims[index] = parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Entrypoint for constructing an instance of this class.
+     *
+     * @param secret The signature secret shared with Vonage, as configured in the dashboard.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(String secret) {
+        return new Builder(secret);
+    }
+
+    /**
+     * Builder for configuring the verifier.
+     */
+    public static final class Builder {
+        private final String secret;
+        private Duration leeway = Duration.ZERO, cacheTtl = Duration.ofMinutes(5);
+        private int cacheSize;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(String secret) {
+            this.secret = secret;
+        }
+
+        /**
+         * Maximum number of recently verified tokens to remember. By default, tokens are not cached.
+         *
+         * @param cacheSize The cache size, or zero to disable caching.
+         *
+         * @return This builder.
+         */
+        public Builder cacheSize(int cacheSize) {
+            if (cacheSize < 0) {
+                throw new IllegalArgumentException("Cache size cannot be negative.");
+            }
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Maximum time to remember a verified token for, if caching is enabled. The default is 5 minutes.
+         * Tokens are never cached beyond their expiry time.
+         *
+         * @param cacheTtl The cache TTL, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            if (Objects.requireNonNull(cacheTtl, "Cache TTL cannot be null.").isNegative() || cacheTtl.isZero()) {
+                throw new IllegalArgumentException("Cache TTL must be positive.");
+            }
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Tolerance for clock skew when validating time claims. The default is zero.
+         *
+         * @param leeway The leeway, with second precision.
+         *
+         * @return This builder.
+         */
+        public Builder leeway(Duration leeway) {
+            this.leeway = Objects.requireNonNull(leeway, "Leeway cannot be null.");
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the verifier.
+         *
+         * @return A new JwtSignatureVerifier with this builder's properties.
+         */
+        public JwtSignatureVerifier build() {
+            return new JwtSignatureVerifier(this);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.vonage.client.VonageUnexpectedException;
+import com.vonage.client.auth.hashutils.HashUtil;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Verifies the {@code sig} parameter of signed inbound requests (e.g. SMS webhooks) against a signature
+ * secret, as a reusable alternative to {@link RequestSigning#verifyRequestSignature(InputStream, String, Map, String)}.
+ * The signing string, timestamp check and hash semantics are identical, but each thread keeps its own
+ * initialised {@link Mac} (or {@link MessageDigest} for {@link HashUtil.HashType#MD5}) along with reusable
+ * parameter and byte buffers, so verifying a request does not rebuild any cryptographic or parsing state.
+ * JSON bodies are read with a streaming parser rather than being bound to a map, and nothing is logged
+ * unless verification fails.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 8.17.0
+ */
+public final class RequestSignatureVerifier {
+    private static final Logger LOGGER = Logger.getLogger(RequestSignatureVerifier.class.getName());
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final ThreadLocal<State> states;
+    private final long maxTimeDeltaMillis;
+    private final Clock clock;
+
+    private RequestSignatureVerifier(Builder builder) {
+        String secret = Objects.requireNonNull(builder.secret, "Secret cannot be null.");
+        HashUtil.HashType hashType = Objects.requireNonNull(builder.hashType, "Hash type cannot be null.");
+        if (builder.maxTimeDelta.isNegative()) {
+            throw new IllegalArgumentException("Maximum time delta cannot be negative.");
+        }
+        maxTimeDeltaMillis = builder.maxTimeDelta.toMillis();
+        clock = builder.clock;
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        String algorithm = algorithm(hashType);
+        states = ThreadLocal.withInitial(() -> {
+            try {
+                if (algorithm == null) {
+                    return new State(null, MessageDigest.getInstance("MD5"), secretBytes);
+                }
+                Mac mac = Mac.getInstance(algorithm);
+                mac.init(new SecretKeySpec(secretBytes, algorithm));
+                return new State(mac, null, null);
+            }
+            catch (GeneralSecurityException ex) {
+                throw new VonageUnexpectedException(ex);
+            }
+        });
+        // Fail fast if the algorithm is unavailable, rather than on the first request.
+        states.get();
+    }
+
+    private static String algorithm(HashUtil.HashType hashType) {
+        switch (hashType) {
+            case MD5: return null;
+            case HMAC_MD5: return "HmacMD5";
+            case HMAC_SHA1: return "HmacSHA1";
+            case HMAC_SHA256: return "HmacSHA256";
+            case HMAC_SHA512: return "HmacSHA512";
+            default: throw new IllegalArgumentException("Unsupported hash type: " + hashType);
+        }
+    }
+
+    /**
+     * Verifies the signature of an inbound request. If the content type is {@code application/json} and a body
+     * is present, the parameters are read from the body's top-level fields; otherwise, the first value of each
+     * request parameter is used.
+     *
+     * @param inputStream The request body, which may be {@code null}.
+     * @param contentType The request Content-Type header.
+     * @param parameterMap The request parameters, as returned by {@code ServletRequest.getParameterMap()}.
+     *
+     * @return {@code true} if the signature is correct for this request and its timestamp is recent.
+     *
+     * @throws VonageUnexpectedException If the JSON body could not be read or is not a flat object.
+     */
+    public boolean verify(InputStream inputStream, String contentType, Map<String, String[]> parameterMap) {
+        State state = states.get();
+        state.clear();
+        if (RequestSigning.APPLICATION_JSON.equals(contentType) && inputStream != null) {
+            try (JsonParser parser = JSON.createParser(inputStream)) {
+                state.readJson(parser);
+            }
+            catch (IOException ex) {
+                throw new VonageUnexpectedException("Unexpected issue when parsing JSON", ex);
+            }
+        }
+        else {
+            for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+                String[] values = entry.getValue();
+                state.add(entry.getKey(), values != null && values.length > 0 ? values[0] : null);
+            }
+        }
+        return state.verify();
+    }
+
+    /**
+     * Verifies the signature of a set of single-valued request parameters.
+     *
+     * @param params The request parameters, including {@code sig} and {@code timestamp}.
+     *
+     * @return {@code true} if the signature is correct for these parameters and the timestamp is recent.
+     */
+    public boolean verify(Map<String, String> params) {
+        State state = states.get();
+        state.clear();
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            state.add(entry.getKey(), entry.getValue());
+        }
+        return state.verify();
+    }
+
+    private static boolean isBlank(String value) {
+        // Equivalent to value.trim().isEmpty() without allocating.
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return 0xFF;
+    }
+
+    /**
+     * Per-thread working buffers, reused across requests.
+     */
+    private final class State {
+        private final Mac mac;
+        private final MessageDigest md5;
+        private final byte[] md5Secret, digest;
+        private String[] names = new String[16], values = new String[16];
+        private byte[] bytes = new byte[512];
+        private int count, length;
+
+        State(Mac mac, MessageDigest md5, byte[] md5Secret) {
+            this.mac = mac;
+            this.md5 = md5;
+            this.md5Secret = md5Secret;
+            digest = new byte[mac != null ? mac.getMacLength() : md5.getDigestLength()];
+        }
+
+        void clear() {
+            Arrays.fill(names, 0, count, null);
+            Arrays.fill(values, 0, count, null);
+            count = 0;
+            length = 0;
+        }
+
+        void add(String name, String value) {
+            if (count == names.length) {
+                names = Arrays.copyOf(names, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            names[count] = name;
+            values[count++] = value;
+        }
+
+        void readJson(JsonParser parser) throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Request body is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == null || value.isStructStart()) {
+                    throw new IOException("Field '" + name + "' is not a scalar value.");
+                }
+                add(name, value == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+            }
+        }
+
+        /**
+         * Stable insertion sort by name, so that later duplicates follow earlier ones. Requests have few
+         * enough parameters that this is cheaper than allocating for a general-purpose sort.
+         */
+        void sort() {
+            for (int i = 1; i < count; i++) {
+                String name = names[i], value = values[i];
+                int j = i - 1;
+                while (j >= 0 && names[j].compareTo(name) > 0) {
+                    names[j + 1] = names[j];
+                    values[j + 1] = values[j];
+                    j--;
+                }
+                names[j + 1] = name;
+                values[j + 1] = value;
+            }
+        }
+
+        boolean verify() {
+            sort();
+            String suppliedSignature = null, timestamp = null;
+            for (int i = 0; i < count; i++) {
+                String name = names[i], value = values[i];
+                // As with a map, the last value for a duplicate name wins.
+                if ((i + 1 < count && name.equals(names[i + 1])) || value == null || isBlank(value)) {
+                    continue;
+                }
+                if (RequestSigning.PARAM_SIGNATURE.equals(name)) {
+                    suppliedSignature = value;
+                    continue;
+                }
+                if (RequestSigning.PARAM_TIMESTAMP.equals(name)) {
+                    timestamp = value;
+                }
+                append('&');
+                appendClean(name);
+                append('=');
+                appendClean(value);
+            }
+            if (suppliedSignature == null) {
+                LOGGER.fine("Request signature verification failed: no signature supplied.");
+                return false;
+            }
+            if (!isRecent(timestamp)) {
+                LOGGER.log(Level.FINE, "Request signature verification failed: bad timestamp [{0}].", timestamp);
+                return false;
+            }
+            try {
+                if (mac != null) {
+                    mac.update(bytes, 0, length);
+                    mac.doFinal(digest, 0);
+                }
+                else {
+                    md5.update(bytes, 0, length);
+                    md5.update(md5Secret);
+                    md5.digest(digest, 0, digest.length);
+                }
+            }
+            catch (GeneralSecurityException ex) {
+                LOGGER.log(Level.WARNING, "Unable to compute request signature.", ex);
+                return false;
+            }
+            if (!matches(suppliedSignature)) {
+                LOGGER.fine("Request signature verification failed: signature mismatch.");
+                return false;
+            }
+            return true;
+        }
+
+        private boolean isRecent(String timestamp) {
+            if (timestamp == null) {
+                return false;
+            }
+            long time;
+            try {
+                time = Long.parseLong(timestamp) * 1000;
+            }
+            catch (NumberFormatException ex) {
+                return false;
+            }
+            long diff = clock.millis() - time;
+            return diff <= maxTimeDeltaMillis && diff >= -maxTimeDeltaMillis;
+        }
+
+        /**
+         * Case-insensitive comparison of the hex-encoded signature against the computed digest, in time
+         * dependent only on the signature length.
+         */
+        private boolean matches(String hex) {
+            if (hex.length() != digest.length * 2) {
+                return false;
+            }
+            int diff = 0;
+            for (int i = 0; i < digest.length; i++) {
+                int b = digest[i] & 0xFF;
+                diff |= hexValue(hex.charAt(2 * i)) ^ (b >>> 4);
+                diff |= hexValue(hex.charAt(2 * i + 1)) ^ (b & 0x0F);
+            }
+            return diff == 0;
+        }
+
+        private void appendClean(String str) {
+            for (int i = 0; i < str.length(); i++) {
+                char c = str.charAt(i);
+                if (c == '=' || c == '&') {
+                    append('_');
+                }
+                else if (Character.isHighSurrogate(c) && i + 1 < str.length() &&
+                        Character.isLowSurrogate(str.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, str.charAt(++i));
+                    ensureCapacity(4);
+                    bytes[length++] = (byte) (0xF0 | (cp >> 18));
+                    bytes[length++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (cp & 0x3F));
+                }
+                else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogates are replaced, as String.getBytes does.
+                    append('?');
+                }
+                else {
+                    append(c);
+                }
+            }
+        }
+
+        private void append(char c) {
+            ensureCapacity(3);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            }
+            else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else {
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+
+    /**
+     * Entrypoint for constructing an instance of this class.
+     *
+     * @param secret The signature secret shared with Vonage, as configured in the dashboard.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder(String secret) {
+        return new Builder(secret);
+    }
+
+    /**
+     * Builder for configuring the verifier.
+     */
+    public static final class Builder {
+        private final String secret;
+        private HashUtil.HashType hashType = HashUtil.HashType.MD5;
+        private Duration maxTimeDelta = Duration.ofMillis(RequestSigning.MAX_ALLOWABLE_TIME_DELTA);
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(String secret) {
+            this.secret = secret;
+        }
+
+        /**
+         * Signature method configured for the account. The default is {@link HashUtil.HashType#MD5}.
+         *
+         * @param hashType The hash type.
+         *
+         * @return This builder.
+         */
+        public Builder hashType(HashUtil.HashType hashType) {
+            this.hashType = hashType;
+            return this;
+        }
+
+        /**
+         * Maximum difference between the request's {@code timestamp} and the current time.
+         * The default is {@link RequestSigning#MAX_ALLOWABLE_TIME_DELTA} (5 minutes).
+         *
+         * @param maxTimeDelta The tolerance, with millisecond precision.
+         *
+         * @return This builder.
+         */
+        public Builder maxTimeDelta(Duration maxTimeDelta) {
+            this.maxTimeDelta = Objects.requireNonNull(maxTimeDelta, "Maximum time delta cannot be null.");
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the verifier.
+         *
+         * @return A new RequestSignatureVerifier with this builder's properties.
+         */
+        public RequestSignatureVerifier build() {
+            return new RequestSignatureVerifier(this);
+        }
+    }
+}
@@ -184,6 +184,7 @@ public class RequestSigning {
      * @return true if the signature is correct for this request and secret key.
      *
      * @since 8.0.0
+     * @see RequestSignatureVerifier
      */
     public static boolean verifyRequestSignature(InputStream inputStream,
                                                     String contentType,
@@ -0,0 +1,233 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageClientException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Applies a blocking operation (typically an API call) to a batch of inputs concurrently, with at most
+ * {@link Builder#parallelism(int)} invocations in flight at any one time and, optionally, no more than
+ * {@link Builder#maxRequestsPerSecond(double)} started per second. Failures of individual inputs are
+ * collected rather than aborting the batch.
+ * <p>
+ * Instances are immutable and thread-safe, so can be shared and reused.
+ *
+ * @since 8.17.0
+ */
+public final class BatchExecutor {
+	private final Executor executor;
+	private final int parallelism;
+	private final RateLimiter rateLimiter;
+
+	private BatchExecutor(Builder builder) {
+		if ((parallelism = builder.parallelism) < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive.");
+		}
+		if (builder.maxRequestsPerSecond < 0) {
+			throw new IllegalArgumentException("Rate limit cannot be negative.");
+		}
+		rateLimiter = builder.maxRequestsPerSecond > 0 ? new RateLimiter(builder.maxRequestsPerSecond) : null;
+		executor = builder.executor;
+	}
+
+	/**
+	 * Maximum number of concurrent invocations.
+	 *
+	 * @return The parallelism limit.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Maximum rate at which invocations are started, shared by all batches run with this instance.
+	 *
+	 * @return The rate limit in invocations per second, or zero if unlimited.
+	 */
+	public double getMaxRequestsPerSecond() {
+		return rateLimiter != null ? rateLimiter.getPermitsPerSecond() : 0;
+	}
+
+	/**
+	 * Applies the operation to each input and waits for all invocations to complete.
+	 *
+	 * @param inputs The inputs to process. Duplicate inputs are processed once per occurrence,
+	 *               but only the last outcome for each is retained in the result.
+	 * @param operation The function to apply to each input.
+	 *
+	 * @return The successes and failures, each in input order. Errors thrown by the operation are
+	 * recorded as failures, wrapped in a {@link VonageClientException}.
+	 *
+	 * @param <I> The input type.
+	 * @param <R> The result type.
+	 *
+	 * @throws VonageClientException If the calling thread is interrupted whilst waiting. Outstanding
+	 * invocations are cancelled in this case.
+	 */
+	@SuppressWarnings("unchecked")
+	public <I, R> BatchResult<I, R> invokeAll(Collection<? extends I> inputs,
+											  Function<? super I, ? extends R> operation) {
+		Objects.requireNonNull(operation, "Operation is required.");
+		final List<I> items = new ArrayList<>(Objects.requireNonNull(inputs, "Inputs are required."));
+		final int n = items.size();
+		final Object[] results = new Object[n];
+		final RuntimeException[] errors = new RuntimeException[n];
+
+		if (n > 0) {
+			ExecutorService owned = executor == null ? new ForkJoinPool(Math.min(parallelism, n)) : null;
+			Executor delegate = owned != null ? owned : executor;
+			CompletionService<Integer> completion = new ExecutorCompletionService<>(delegate::execute);
+			List<Future<Integer>> futures = new ArrayList<>(n);
+			try {
+				int next = 0;
+				for (; next < n && next < parallelism; next++) {
+					futures.add(submit(completion, items, next, operation, results, errors, rateLimiter));
+				}
+				for (int done = 0; done < n; done++) {
+					completion.take();
+					if (next < n) {
+						futures.add(submit(completion, items, next++, operation, results, errors, rateLimiter));
+					}
+				}
+			}
+			catch (InterruptedException ex) {
+				futures.forEach(future -> future.cancel(true));
+				Thread.currentThread().interrupt();
+				throw new VonageClientException("Interrupted whilst waiting for batch to complete.", ex);
+			}
+			finally {
+				if (owned != null) {
+					owned.shutdownNow();
+				}
+			}
+		}
+
+		Map<I, R> successes = new LinkedHashMap<>();
+		Map<I, RuntimeException> failures = new LinkedHashMap<>();
+		for (int i = 0; i < n; i++) {
+			if (errors[i] != null) {
+				failures.put(items.get(i), errors[i]);
+			}
+			else {
+				successes.put(items.get(i), (R) results[i]);
+			}
+		}
+		return new BatchResult<>(successes, failures);
+	}
+
+	private static <I, R> Future<Integer> submit(CompletionService<Integer> completion, List<I> items, int index,
+			Function<? super I, ? extends R> operation, Object[] results, RuntimeException[] errors,
+			RateLimiter rateLimiter) {
+		return completion.submit(() -> {
+			try {
+				if (rateLimiter != null) {
+					rateLimiter.acquire();
+				}
+				results[index] = operation.apply(items.get(index));
+			}
+			catch (RuntimeException ex) {
+				errors[index] = ex;
+			}
+			catch (Throwable ex) {
+				errors[index] = new VonageClientException(ex);
+			}
+			return index;
+		});
+	}
+
+	/**
+	 * Creates an executor with the default settings.
+	 *
+	 * @param parallelism Maximum number of concurrent invocations.
+	 *
+	 * @return A new BatchExecutor.
+	 */
+	public static BatchExecutor withParallelism(int parallelism) {
+		return builder().parallelism(parallelism).build();
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for configuring the concurrency settings.
+	 */
+	public static final class Builder {
+		private Executor executor;
+		private int parallelism = 4;
+		private double maxRequestsPerSecond;
+
+		private Builder() {}
+
+		/**
+		 * Maximum number of invocations in flight at any one time. The default is 4.
+		 *
+		 * @param parallelism The concurrency limit, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder parallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Maximum number of invocations to start per second, to stay within the API's rate limits. The limit
+		 * applies across all batches run with the built instance, so it should be shared between callers of
+		 * the same API. By default, there is no limit.
+		 *
+		 * @param maxRequestsPerSecond The rate limit, or zero for no limit.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxRequestsPerSecond(double maxRequestsPerSecond) {
+			this.maxRequestsPerSecond = maxRequestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * Executor to run the invocations on. If unspecified, a dedicated {@link ForkJoinPool} sized to
+		 * the parallelism is created for each batch and shut down on completion. The in-flight limit is
+		 * applied regardless of the executor's own capacity, so this can safely be a shared pool.
+		 *
+		 * @param executor The executor to submit tasks to.
+		 *
+		 * @return This builder.
+		 */
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Builds the executor.
+		 *
+		 * @return A new BatchExecutor with this builder's properties.
+		 */
+		public BatchExecutor build() {
+			return new BatchExecutor(this);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Outcome of applying an operation to each input in a batch. Successful results and failures are kept
+ * separately, each in the encounter order of the inputs, so that one failed input does not prevent the
+ * results of the others from being retrieved.
+ *
+ * @param <I> The input (key) type.
+ * @param <R> The result type.
+ *
+ * @since 8.17.0
+ */
+public final class BatchResult<I, R> {
+	private final Map<I, R> successes;
+	private final Map<I, RuntimeException> failures;
+
+	BatchResult(Map<I, R> successes, Map<I, RuntimeException> failures) {
+		this.successes = Collections.unmodifiableMap(successes);
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+
+	/**
+	 * Results of the inputs for which the operation completed normally.
+	 *
+	 * @return Read-only map of inputs to their results, in input order.
+	 */
+	public Map<I, R> getSuccesses() {
+		return successes;
+	}
+
+	/**
+	 * Exceptions thrown by the operation, keyed by the input which caused them.
+	 *
+	 * @return Read-only map of inputs to the exception thrown, in input order.
+	 */
+	public Map<I, RuntimeException> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Convenience method for checking whether every input was processed successfully.
+	 *
+	 * @return {@code true} if there were no failures, {@code false} otherwise.
+	 */
+	public boolean isSuccessful() {
+		return failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " {successes=" + successes.size() + ", failures=" + failures + "}";
+	}
+}
@@ -0,0 +1,757 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.VonageClientException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A local, append-only journal of outbound requests which are sent in the background, so that requests
+ * accepted by the application survive a crash or restart of the process before they are sent.
+ * <p>
+ * Requests are serialised by the encoder and appended to memory-mapped segment files in the outbox directory.
+ * {@link #enqueue(Object)} returns once the request is durable: with {@link Builder#fsync(boolean)} enabled
+ * (the default), concurrent enqueues share a single {@code fsync} (group commit), so the cost of syncing is
+ * amortised across all callers waiting at the time. Without it, entries survive a process crash but not a power
+ * failure or operating system crash.
+ * <p>
+ * A sender loop reads entries in order and invokes the sender with up to {@link Builder#parallelism(int)} in flight.
+ * Transient failures are retried with exponential backoff; client errors (4xx responses other than 429), non-runtime
+ * throwables (wrapped in a {@link VonageClientException}) and entries which exhaust their attempts are passed to the
+ * {@link Builder#deadLetterHandler(BiConsumer)}. When a new
+ * outbox is opened on an existing directory, entries which were not acknowledged are replayed. Delivery is
+ * at-least-once: an entry whose send completed just before a crash may be sent again. Segments are deleted once
+ * every entry in them has been acknowledged.
+ * <p>
+ * Only one outbox may use a directory at a time. Instances are thread-safe.
+ *
+ * @param <T> The request type.
+ * @param <R> The response type.
+ *
+ * @since 8.17.0
+ */
+public final class DurableOutbox<T, R> implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(DurableOutbox.class.getName());
+	private static final String SEGMENT_SUFFIX = ".seg", ACK_FILE = "outbox.ack";
+	private static final int HEADER_SIZE = 8;
+
+	private final Path directory;
+	private final Function<? super T, byte[]> encoder;
+	private final Function<byte[], ? extends R> sender;
+	private final BiConsumer<byte[], ? super RuntimeException> deadLetterHandler;
+	private final int segmentSize, parallelism, maxAttempts;
+	private final long retryBackoffNanos, maxRetryBackoffNanos;
+	private final boolean fsync;
+
+	private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+	private final ConcurrentMap<Long, CompletableFuture<R>> futures = new ConcurrentHashMap<>();
+	private final FileChannel ackChannel;
+	private final FileLock lock;
+	private final Object appendLock = new Object(), syncLock = new Object(), signal = new Object();
+	private final TreeSet<Long> completedOutOfOrder = new TreeSet<>();
+	private final ScheduledExecutorService executor;
+	private final Thread senderThread;
+	private final AtomicLong enqueued = new AtomicLong(), delivered = new AtomicLong(), deadLettered = new AtomicLong();
+
+	private Segment active;
+	private long nextSeq, readSeq, acked;
+	private volatile long writtenSeq, durableSeq;
+	private boolean syncing;
+	private int inFlight;
+	private volatile boolean closed;
+
+	/**
+	 * A single memory-mapped journal file, holding consecutive entries starting from its base sequence number.
+	 */
+	private static final class Segment {
+		final long base;
+		final Path path;
+		final FileChannel channel;
+		final MappedByteBuffer buffer;
+		volatile int count;
+		int writePosition, readPosition;
+
+		Segment(long base, Path path, int size) throws IOException {
+			this.base = base;
+			this.path = path;
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+		}
+
+		/**
+		 * Counts the valid entries, stopping at the first empty or corrupt (e.g. partially written) entry.
+		 */
+		void recover() {
+			ByteBuffer view = buffer.duplicate();
+			int position = 0, entries = 0;
+			while (position + HEADER_SIZE <= view.capacity()) {
+				int length = view.getInt(position), crc = view.getInt(position + 4);
+				if (length <= 0 || length > view.capacity() - position - HEADER_SIZE) {
+					break;
+				}
+				byte[] payload = new byte[length];
+				view.position(position + HEADER_SIZE);
+				view.get(payload);
+				if (crc(payload) != crc) {
+					break;
+				}
+				position += HEADER_SIZE + length;
+				entries++;
+			}
+			writePosition = position;
+			count = entries;
+		}
+
+		boolean hasRoom(int length) {
+			return writePosition + HEADER_SIZE + length <= buffer.capacity();
+		}
+
+		void append(byte[] payload) {
+			ByteBuffer view = buffer.duplicate();
+			view.position(writePosition + HEADER_SIZE);
+			view.put(payload);
+			view.putInt(writePosition + 4, crc(payload));
+			view.putInt(writePosition, payload.length);
+			writePosition += HEADER_SIZE + payload.length;
+			count++;
+		}
+
+		byte[] read() {
+			int length = buffer.getInt(readPosition);
+			byte[] payload = new byte[length];
+			ByteBuffer view = buffer.duplicate();
+			view.position(readPosition + HEADER_SIZE);
+			view.get(payload);
+			readPosition += HEADER_SIZE + length;
+			return payload;
+		}
+
+		void close() {
+			try {
+				channel.close();
+			}
+			catch (IOException ex) {
+				LOGGER.log(Level.FINE, "Failed to close " + path, ex);
+			}
+		}
+	}
+
+	private DurableOutbox(Builder<T, R> builder) {
+		directory = Objects.requireNonNull(builder.directory, "Directory is required.");
+		encoder = Objects.requireNonNull(builder.encoder, "Encoder is required.");
+		sender = Objects.requireNonNull(builder.sender, "Sender is required.");
+		deadLetterHandler = builder.deadLetterHandler;
+		if ((segmentSize = builder.segmentSize) < 1024) {
+			throw new IllegalArgumentException("Segment size must be at least 1024 bytes.");
+		}
+		if ((parallelism = builder.parallelism) < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive.");
+		}
+		if ((maxAttempts = builder.maxAttempts) < 1) {
+			throw new IllegalArgumentException("Maximum attempts must be positive.");
+		}
+		Duration retryBackoff = Objects.requireNonNull(builder.retryBackoff, "Retry backoff is required.");
+		if (retryBackoff.isNegative() || retryBackoff.isZero()) {
+			throw new IllegalArgumentException("Retry backoff must be positive.");
+		}
+		retryBackoffNanos = retryBackoff.toNanos();
+		maxRetryBackoffNanos = Math.max(retryBackoffNanos, TimeUnit.MINUTES.toNanos(1));
+		fsync = builder.fsync;
+
+		FileChannel ackChannel = null;
+		try {
+			Files.createDirectories(directory);
+			ackChannel = FileChannel.open(directory.resolve(ACK_FILE),
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+			);
+			lock = ackChannel.tryLock();
+			if (lock == null) {
+				throw new IllegalStateException("Outbox directory is in use: " + directory);
+			}
+			this.ackChannel = ackChannel;
+			recover();
+		}
+		catch (IOException ex) {
+			closeQuietly(ackChannel);
+			segments.values().forEach(Segment::close);
+			throw new UncheckedIOException("Failed to open outbox at " + directory, ex);
+		}
+		catch (RuntimeException ex) {
+			closeQuietly(ackChannel);
+			segments.values().forEach(Segment::close);
+			throw ex;
+		}
+
+		executor = Executors.newScheduledThreadPool(parallelism, r -> {
+			Thread thread = new Thread(r, "vonage-outbox-send");
+			thread.setDaemon(true);
+			return thread;
+		});
+		senderThread = new Thread(this::senderLoop, "vonage-outbox");
+		senderThread.setDaemon(true);
+		senderThread.start();
+	}
+
+	private static void closeQuietly(FileChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			}
+			catch (IOException ex) {
+				LOGGER.log(Level.FINE, "Failed to close outbox file.", ex);
+			}
+		}
+	}
+
+	static int crc(byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload, 0, payload.length);
+		return (int) crc.getValue();
+	}
+
+	private Path segmentPath(long base) {
+		return directory.resolve(String.format("%020d", base) + SEGMENT_SUFFIX);
+	}
+
+	private void recover() throws IOException {
+		ByteBuffer ackBuffer = ByteBuffer.allocate(8);
+		acked = ackChannel.read(ackBuffer, 0) == 8 ? ackBuffer.getLong(0) : 0;
+
+		List<Path> files;
+		try (Stream<Path> listing = Files.list(directory)) {
+			files = new ArrayList<>();
+			listing.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX)).forEach(files::add);
+		}
+		files.sort(Comparator.naturalOrder());
+		long end = acked;
+		for (Path file : files) {
+			String name = file.getFileName().toString();
+			long base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+			Segment segment = new Segment(base, file, 0);
+			segment.recover();
+			if (segment.count == 0 || base + segment.count <= acked) {
+				segment.close();
+				Files.deleteIfExists(file);
+				continue;
+			}
+			segments.put(base, segment);
+			end = Math.max(end, base + segment.count);
+		}
+		if (!segments.isEmpty()) {
+			acked = Math.max(acked, segments.firstKey());
+		}
+		// Appending always begins in a new segment, so that a torn entry at the end of the last one is never reused
+		nextSeq = writtenSeq = durableSeq = end;
+		readSeq = acked;
+		active = new Segment(nextSeq, segmentPath(nextSeq), segmentSize);
+		segments.put(nextSeq, active);
+		Map.Entry<Long, Segment> first = segments.floorEntry(readSeq);
+		if (first != null) {
+			Segment segment = first.getValue();
+			for (long seq = segment.base; seq < readSeq; seq++) {
+				segment.read();
+			}
+		}
+	}
+
+	/**
+	 * Appends the request to the journal and returns once it is durable. The request is then sent in the
+	 * background.
+	 *
+	 * @param request The request to send.
+	 *
+	 * @return A future which completes with the sender's response once sent, or exceptionally if the request
+	 * was dead-lettered. If the outbox is closed first, the future is cancelled and the request will be sent
+	 * by the next outbox opened on the same directory.
+	 *
+	 * @throws IllegalArgumentException If the encoded request is too large to fit in a segment.
+	 * @throws UncheckedIOException If the request could not be written.
+	 */
+	public CompletableFuture<R> enqueue(T request) {
+		byte[] payload = Objects.requireNonNull(encoder.apply(Objects.requireNonNull(request, "Request is required.")));
+		if (payload.length == 0 || payload.length > segmentSize - HEADER_SIZE) {
+			throw new IllegalArgumentException("Encoded request must be between 1 and " +
+					(segmentSize - HEADER_SIZE) + " bytes, but was " + payload.length + '.'
+			);
+		}
+		CompletableFuture<R> future = new CompletableFuture<>();
+		long seq;
+		synchronized (appendLock) {
+			if (closed) {
+				throw new IllegalStateException("Outbox is closed.");
+			}
+			if (!active.hasRoom(payload.length)) {
+				roll();
+			}
+			seq = nextSeq++;
+			futures.put(seq, future);
+			active.append(payload);
+			writtenSeq = nextSeq;
+		}
+		enqueued.incrementAndGet();
+		awaitDurable(seq + 1);
+		synchronized (signal) {
+			signal.notifyAll();
+		}
+		return future;
+	}
+
+	private void roll() {
+		Segment previous = active;
+		try {
+			if (fsync) {
+				previous.buffer.force();
+			}
+			active = new Segment(nextSeq, segmentPath(nextSeq), segmentSize);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to create outbox segment.", ex);
+		}
+		segments.put(active.base, active);
+	}
+
+	/**
+	 * Waits until all entries before the given sequence number have been forced to disk. The first waiter
+	 * performs the sync on behalf of every entry written so far, and later waiters either piggyback on it or
+	 * perform the next one.
+	 */
+	private void awaitDurable(long seq) {
+		if (!fsync) {
+			return;
+		}
+		while (true) {
+			synchronized (syncLock) {
+				while (syncing && durableSeq < seq) {
+					try {
+						syncLock.wait();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new IllegalStateException("Interrupted whilst waiting for outbox sync.", ex);
+					}
+				}
+				if (durableSeq >= seq) {
+					return;
+				}
+				syncing = true;
+			}
+			long target = -1;
+			boolean synced = false;
+			try {
+				MappedByteBuffer buffer;
+				synchronized (appendLock) {
+					target = writtenSeq;
+					buffer = active.buffer;
+				}
+				// Earlier segments are forced when rolled over, so only the active one needs syncing
+				buffer.force();
+				synced = true;
+			}
+			finally {
+				synchronized (syncLock) {
+					if (synced && target > durableSeq) {
+						durableSeq = target;
+					}
+					syncing = false;
+					syncLock.notifyAll();
+				}
+			}
+		}
+	}
+
+	private void senderLoop() {
+		while (!closed) {
+			byte[] payload = null;
+			long seq = -1;
+			synchronized (signal) {
+				if (inFlight < parallelism && readSeq < durableReadLimit()) {
+					seq = readSeq++;
+					payload = readEntry(seq);
+					inFlight++;
+				}
+				else {
+					try {
+						signal.wait(100);
+					}
+					catch (InterruptedException ex) {
+						return;
+					}
+				}
+			}
+			if (payload != null) {
+				submit(seq, payload, 1);
+			}
+		}
+	}
+
+	private long durableReadLimit() {
+		return fsync ? durableSeq : writtenSeq;
+	}
+
+	private byte[] readEntry(long seq) {
+		return segments.floorEntry(seq).getValue().read();
+	}
+
+	private void submit(long seq, byte[] payload, int attempt) {
+		long delay = attempt == 1 ? 0 : Math.min(maxRetryBackoffNanos, retryBackoffNanos << Math.min(20, attempt - 2));
+		try {
+			executor.schedule(() -> attempt(seq, payload, attempt), delay, TimeUnit.NANOSECONDS);
+		}
+		catch (RejectedExecutionException ex) {
+			// Closed; the entry will be replayed by the next outbox on this directory
+		}
+	}
+
+	private void attempt(long seq, byte[] payload, int attempt) {
+		if (closed) {
+			return;
+		}
+		R response;
+		try {
+			response = sender.apply(payload);
+		}
+		catch (Throwable t) {
+			// Errors are not retried, but must still be acknowledged so that later entries can be compacted
+			RuntimeException ex = t instanceof RuntimeException ? (RuntimeException) t : new VonageClientException(t);
+			if (closed) {
+				return;
+			}
+			if (ex == t && !isFatal(ex) && attempt < maxAttempts) {
+				LOGGER.log(Level.FINE, "Outbox send failed on attempt " + attempt + ", retrying.", ex);
+				submit(seq, payload, attempt + 1);
+				return;
+			}
+			LOGGER.log(Level.WARNING, "Outbox entry could not be sent after " + attempt + " attempt(s).", ex);
+			deadLettered.incrementAndGet();
+			if (deadLetterHandler != null) {
+				try {
+					deadLetterHandler.accept(payload, ex);
+				}
+				catch (RuntimeException handlerEx) {
+					LOGGER.log(Level.WARNING, "Outbox dead letter handler failed.", handlerEx);
+				}
+			}
+			CompletableFuture<R> future = futures.remove(seq);
+			acknowledge(seq);
+			if (future != null) {
+				future.completeExceptionally(ex);
+			}
+			return;
+		}
+		delivered.incrementAndGet();
+		CompletableFuture<R> future = futures.remove(seq);
+		acknowledge(seq);
+		if (future != null) {
+			future.complete(response);
+		}
+	}
+
+	private static boolean isFatal(RuntimeException ex) {
+		if (ex instanceof VonageApiResponseException) {
+			int status = ((VonageApiResponseException) ex).getStatusCode();
+			return status >= 400 && status < 500 && status != 408 && status != 429;
+		}
+		return ex instanceof IllegalArgumentException;
+	}
+
+	/**
+	 * Marks the entry as done, advancing the persisted acknowledgement past every contiguous completed entry
+	 * and deleting segments which are no longer needed.
+	 */
+	private void acknowledge(long seq) {
+		boolean advanced = false;
+		synchronized (signal) {
+			inFlight--;
+			if (seq == acked) {
+				acked++;
+				while (completedOutOfOrder.remove(acked)) {
+					acked++;
+				}
+				advanced = true;
+			}
+			else {
+				completedOutOfOrder.add(seq);
+			}
+			signal.notifyAll();
+			if (advanced && !closed) {
+				writeAck(acked, false);
+				compact();
+			}
+		}
+	}
+
+	private void writeAck(long value, boolean force) {
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(8).putLong(0, value);
+			ackChannel.write(buffer, 0);
+			if (force) {
+				ackChannel.force(false);
+			}
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.WARNING, "Failed to record outbox acknowledgement.", ex);
+		}
+	}
+
+	private void compact() {
+		Segment current;
+		synchronized (appendLock) {
+			current = active;
+		}
+		for (Iterator<Segment> iterator = segments.values().iterator(); iterator.hasNext();) {
+			Segment segment = iterator.next();
+			if (segment == current || segment.base + segment.count > acked) {
+				break;
+			}
+			iterator.remove();
+			segment.close();
+			try {
+				Files.deleteIfExists(segment.path);
+			}
+			catch (IOException ex) {
+				LOGGER.log(Level.FINE, "Failed to delete outbox segment " + segment.path, ex);
+			}
+		}
+	}
+
+	/**
+	 * Number of entries which have been enqueued (including those replayed) but not yet sent or dead-lettered.
+	 *
+	 * @return The pending entry count.
+	 */
+	public long getPendingCount() {
+		synchronized (signal) {
+			return writtenSeq - acked - completedOutOfOrder.size();
+		}
+	}
+
+	/**
+	 * Number of entries enqueued through this instance.
+	 *
+	 * @return The enqueued count.
+	 */
+	public long getEnqueuedCount() {
+		return enqueued.get();
+	}
+
+	/**
+	 * Number of entries successfully sent by this instance.
+	 *
+	 * @return The delivered count.
+	 */
+	public long getDeliveredCount() {
+		return delivered.get();
+	}
+
+	/**
+	 * Number of entries which could not be sent and were passed to the dead letter handler.
+	 *
+	 * @return The dead-lettered count.
+	 */
+	public long getDeadLetterCount() {
+		return deadLettered.get();
+	}
+
+	/**
+	 * Number of segment files currently in use.
+	 *
+	 * @return The segment count.
+	 */
+	public int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * Stops sending and releases the journal. Entries which have not been sent remain in the journal and are
+	 * replayed by the next outbox opened on the same directory; their futures are cancelled.
+	 */
+	@Override
+	public void close() {
+		synchronized (appendLock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+		senderThread.interrupt();
+		executor.shutdownNow();
+		try {
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+			senderThread.join(TimeUnit.SECONDS.toMillis(5));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (signal) {
+			active.buffer.force();
+			writeAck(acked, true);
+		}
+		futures.values().forEach(future -> future.cancel(false));
+		futures.clear();
+		segments.values().forEach(Segment::close);
+		try {
+			lock.release();
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.FINE, "Failed to release outbox lock.", ex);
+		}
+		closeQuietly(ackChannel);
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param directory The directory to store the journal in, which is created if necessary.
+	 * @param encoder Function which serialises a request.
+	 * @param sender Function which deserialises and sends a request, returning the response or throwing
+	 * an exception if unsuccessful.
+	 *
+	 * @return A new Builder.
+	 *
+	 * @param <T> The request type.
+	 * @param <R> The response type.
+	 */
+	public static <T, R> Builder<T, R> builder(Path directory,
+			Function<? super T, byte[]> encoder, Function<byte[], ? extends R> sender) {
+		return new Builder<>(directory, encoder, sender);
+	}
+
+	/**
+	 * Builder for configuring the outbox.
+	 *
+	 * @param <T> The request type.
+	 * @param <R> The response type.
+	 */
+	public static final class Builder<T, R> {
+		private final Path directory;
+		private final Function<? super T, byte[]> encoder;
+		private final Function<byte[], ? extends R> sender;
+		private BiConsumer<byte[], ? super RuntimeException> deadLetterHandler;
+		private int segmentSize = 64 * 1024 * 1024, parallelism = 4, maxAttempts = 5;
+		private Duration retryBackoff = Duration.ofSeconds(1);
+		private boolean fsync = true;
+
+		private Builder(Path directory, Function<? super T, byte[]> encoder, Function<byte[], ? extends R> sender) {
+			this.directory = directory;
+			this.encoder = encoder;
+			this.sender = sender;
+		}
+
+		/**
+		 * Size of each journal segment file, which bounds the size of a single encoded request.
+		 * The default is 64 MiB.
+		 *
+		 * @param segmentSize The segment size in bytes, which must be at least 1024.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T, R> segmentSize(int segmentSize) {
+			this.segmentSize = segmentSize;
+			return this;
+		}
+
+		/**
+		 * Whether {@link #enqueue(Object)} waits for the entry to be forced to disk. The default is {@code true}.
+		 *
+		 * @param fsync {@code false} to only wait for the entry to be written to the memory-mapped file.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T, R> fsync(boolean fsync) {
+			this.fsync = fsync;
+			return this;
+		}
+
+		/**
+		 * Maximum number of sends in progress at once. The default is 4; use 1 to send strictly in order.
+		 *
+		 * @param parallelism The concurrency limit, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T, R> parallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Maximum number of times to attempt sending an entry before dead-lettering it. The default is 5.
+		 *
+		 * @param maxAttempts The maximum attempts, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T, R> maxAttempts(int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Delay before the first retry of a failed send, which doubles for each subsequent retry up to a
+		 * maximum of 1 minute (or this value, if greater). The default is 1 second.
+		 *
+		 * @param retryBackoff The initial backoff, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T, R> retryBackoff(Duration retryBackoff) {
+			this.retryBackoff = retryBackoff;
+			return this;
+		}
+
+		/**
+		 * Handler for entries which could not be sent, invoked with the encoded request and the last failure
+		 * before the entry is removed from the outbox. By default, such entries are logged and discarded.
+		 *
+		 * @param deadLetterHandler The dead letter handler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<T, R> deadLetterHandler(BiConsumer<byte[], ? super RuntimeException> deadLetterHandler) {
+			this.deadLetterHandler = deadLetterHandler;
+			return this;
+		}
+
+		/**
+		 * Opens the outbox, replaying any unacknowledged entries in the directory, and starts sending.
+		 *
+		 * @return A new DurableOutbox with this builder's properties.
+		 *
+		 * @throws UncheckedIOException If the journal could not be opened.
+		 * @throws IllegalStateException If the directory is in use by another outbox.
+		 */
+		public DurableOutbox<T, R> build() {
+			return new DurableOutbox<>(this);
+		}
+	}
+}
@@ -0,0 +1,348 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageClientException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Retrieves every page of a page-indexed listing concurrently. The first page is fetched on the calling
+ * thread to determine how many pages there are, then the remaining pages are requested in parallel with
+ * at most {@link Builder#parallelism(int)} requests in flight at any time.
+ * <p>
+ * Pages are identified by their zero-based ordinal; it is up to the page getter to map this to the
+ * appropriate request parameter (e.g. page number, index or record offset) for the endpoint.
+ *
+ * @param <P> The page response type.
+ * @param <T> The item type contained in each page.
+ *
+ * @since 8.17.0
+ */
+public final class ParallelPageFetcher<P, T> {
+	private final IntFunction<? extends P> pageGetter;
+	private final Function<? super P, ? extends Collection<? extends T>> itemsGetter;
+	private final ToIntFunction<? super P> totalPagesGetter;
+	private final Executor executor;
+	private final int parallelism, maxPages;
+
+	private ParallelPageFetcher(Builder<P, T> builder) {
+		pageGetter = Objects.requireNonNull(builder.pageGetter, "Page getter is required.");
+		itemsGetter = Objects.requireNonNull(builder.itemsGetter, "Items getter is required.");
+		totalPagesGetter = Objects.requireNonNull(builder.totalPagesGetter, "Total pages getter is required.");
+		if ((parallelism = builder.parallelism) < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive.");
+		}
+		if ((maxPages = builder.maxPages) < 1) {
+			throw new IllegalArgumentException("Maximum number of pages must be positive.");
+		}
+		executor = builder.executor;
+	}
+
+	/**
+	 * Fetches all pages and merges their items, preserving the order in which the API returns them.
+	 *
+	 * @return The combined items from every page, in page order.
+	 *
+	 * @throws VonageClientException If any of the page requests fails. Outstanding requests are cancelled.
+	 */
+	public List<T> fetchAll() {
+		P first = pageGetter.apply(0);
+		int totalPages = totalPages(first);
+		List<Collection<? extends T>> pages = new ArrayList<>(totalPages);
+		pages.add(items(first));
+		if (totalPages > 1) {
+			List<Collection<? extends T>> remaining = new ArrayList<>(Collections.nCopies(totalPages - 1, null));
+			try (PageCompletion completion = new PageCompletion(totalPages)) {
+				for (int received = 1; received < totalPages; received++) {
+					Map.Entry<Integer, Collection<? extends T>> page = completion.next();
+					remaining.set(page.getKey() - 1, page.getValue());
+				}
+			}
+			pages.addAll(remaining);
+		}
+		List<T> result = new ArrayList<>(pages.stream().mapToInt(Collection::size).sum());
+		pages.forEach(result::addAll);
+		return result;
+	}
+
+	/**
+	 * Fetches all pages and streams their items as each page arrives. Items within a page retain their
+	 * order, but pages are emitted in completion order rather than page order. Pages are requested lazily
+	 * when the stream is consumed; closing the stream before it has been exhausted cancels any outstanding
+	 * requests.
+	 *
+	 * @return A sequential stream of all items, unordered across pages.
+	 *
+	 * @throws VonageClientException If any of the page requests fails, this will be thrown on consumption.
+	 */
+	public Stream<T> streamUnordered() {
+		P first = pageGetter.apply(0);
+		int totalPages = totalPages(first);
+		Stream<T> head = items(first).stream().map(item -> (T) item);
+		if (totalPages < 2) {
+			return head;
+		}
+		PageIterator pages = new PageIterator(totalPages);
+		Stream<T> tail = StreamSupport.stream(
+				Spliterators.spliterator(pages, totalPages - 1, Spliterator.NONNULL), false
+		).flatMap(page -> page.stream().map(item -> (T) item));
+		return Stream.concat(head, tail).onClose(pages::close);
+	}
+
+	private int totalPages(P first) {
+		if (first == null) {
+			return 0;
+		}
+		return Math.max(1, Math.min(maxPages, totalPagesGetter.applyAsInt(first)));
+	}
+
+	private Collection<? extends T> items(P page) {
+		Collection<? extends T> items = page != null ? itemsGetter.apply(page) : null;
+		return items != null ? items : Collections.emptyList();
+	}
+
+	/**
+	 * Lazily starts requesting the remaining pages when first advanced.
+	 */
+	private final class PageIterator implements Iterator<Collection<? extends T>>, AutoCloseable {
+		private final int totalPages;
+		private PageCompletion completion;
+		private int received = 1;
+
+		PageIterator(int totalPages) {
+			this.totalPages = totalPages;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return received < totalPages;
+		}
+
+		@Override
+		public Collection<? extends T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (completion == null) {
+				completion = new PageCompletion(totalPages);
+			}
+			Collection<? extends T> page = completion.next().getValue();
+			if (++received == totalPages) {
+				close();
+			}
+			return page;
+		}
+
+		@Override
+		public void close() {
+			if (completion != null) {
+				completion.close();
+			}
+		}
+	}
+
+	/**
+	 * Submits page requests with a sliding window so that no more than {@link #parallelism} are
+	 * in flight, regardless of the capacity of the underlying executor.
+	 */
+	private final class PageCompletion implements AutoCloseable {
+		private final int totalPages;
+		private final ExecutorService ownedExecutor;
+		private final CompletionService<Map.Entry<Integer, Collection<? extends T>>> completionService;
+		private final List<Future<?>> futures = new ArrayList<>();
+		private int nextPage = 1;
+
+		PageCompletion(int totalPages) {
+			this.totalPages = totalPages;
+			Executor delegate = executor;
+			if (delegate == null) {
+				delegate = ownedExecutor = new ForkJoinPool(Math.min(parallelism, totalPages - 1));
+			}
+			else {
+				ownedExecutor = null;
+			}
+			// Hide the service type so that tasks are plain FutureTasks which rethrow the original exception
+			completionService = new ExecutorCompletionService<>(delegate::execute);
+			while (nextPage < totalPages && nextPage <= parallelism) {
+				submitNext();
+			}
+		}
+
+		private void submitNext() {
+			final int ordinal = nextPage++;
+			futures.add(completionService.submit(() ->
+					new AbstractMap.SimpleImmutableEntry<>(ordinal, items(pageGetter.apply(ordinal)))
+			));
+		}
+
+		Map.Entry<Integer, Collection<? extends T>> next() {
+			try {
+				Map.Entry<Integer, Collection<? extends T>> page = completionService.take().get();
+				if (nextPage < totalPages) {
+					submitNext();
+				}
+				return page;
+			}
+			catch (InterruptedException ex) {
+				close();
+				Thread.currentThread().interrupt();
+				throw new VonageClientException("Interrupted whilst fetching pages.", ex);
+			}
+			catch (ExecutionException ex) {
+				close();
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new VonageClientException("Failed to fetch page.", cause);
+			}
+		}
+
+		@Override
+		public void close() {
+			futures.forEach(future -> future.cancel(true));
+			if (ownedExecutor != null) {
+				ownedExecutor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param pageGetter Function which retrieves the page for the given zero-based ordinal.
+	 * @param itemsGetter Function which extracts the items from a page.
+	 *
+	 * @return A new Builder.
+	 *
+	 * @param <P> The page response type.
+	 * @param <T> The item type contained in each page.
+	 */
+	public static <P, T> Builder<P, T> builder(IntFunction<? extends P> pageGetter,
+			Function<? super P, ? extends Collection<? extends T>> itemsGetter) {
+		return new Builder<P, T>().pageGetter(pageGetter).itemsGetter(itemsGetter);
+	}
+
+	/**
+	 * Builder for configuring the fetcher.
+	 *
+	 * @param <P> The page response type.
+	 * @param <T> The item type contained in each page.
+	 */
+	public static final class Builder<P, T> {
+		private IntFunction<? extends P> pageGetter;
+		private Function<? super P, ? extends Collection<? extends T>> itemsGetter;
+		private ToIntFunction<? super P> totalPagesGetter;
+		private Executor executor;
+		private int parallelism = 4, maxPages = Integer.MAX_VALUE;
+
+		private Builder() {}
+
+		private Builder<P, T> pageGetter(IntFunction<? extends P> pageGetter) {
+			this.pageGetter = pageGetter;
+			return this;
+		}
+
+		private Builder<P, T> itemsGetter(Function<? super P, ? extends Collection<? extends T>> itemsGetter) {
+			this.itemsGetter = itemsGetter;
+			return this;
+		}
+
+		/**
+		 * (REQUIRED if {@linkplain #totalItems(ToIntFunction, int)} is not set)
+		 * Function which extracts the total number of pages from the first page, for example
+		 * {@link HalPageResponse#getTotalPages()}.
+		 *
+		 * @param totalPagesGetter The total pages function.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<P, T> totalPages(ToIntFunction<? super P> totalPagesGetter) {
+			this.totalPagesGetter = totalPagesGetter;
+			return this;
+		}
+
+		/**
+		 * (REQUIRED if {@linkplain #totalPages(ToIntFunction)} is not set)
+		 * Derives the number of pages from the total number of items reported by the first page.
+		 *
+		 * @param totalItemsGetter Function which extracts the total number of items from the first page.
+		 * @param pageSize The number of items requested per page.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<P, T> totalItems(ToIntFunction<? super P> totalItemsGetter, int pageSize) {
+			if (pageSize < 1) {
+				throw new IllegalArgumentException("Page size must be positive.");
+			}
+			Objects.requireNonNull(totalItemsGetter, "Total items getter is required.");
+			return totalPages(page -> (int) ((totalItemsGetter.applyAsInt(page) + (long) pageSize - 1) / pageSize));
+		}
+
+		/**
+		 * Maximum number of page requests in flight at any one time. The default is 4.
+		 *
+		 * @param parallelism The concurrency limit, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<P, T> parallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Upper bound on the number of pages to fetch, including the first. By default, all pages are fetched.
+		 *
+		 * @param maxPages The maximum number of pages, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<P, T> maxPages(int maxPages) {
+			this.maxPages = maxPages;
+			return this;
+		}
+
+		/**
+		 * Executor to run the page requests on. If unspecified, a dedicated {@link ForkJoinPool} sized to
+		 * the parallelism is created for each fetch and shut down on completion. The in-flight limit is
+		 * applied regardless of the executor's own capacity, so this can safely be a shared pool.
+		 *
+		 * @param executor The executor to submit page requests to.
+		 *
+		 * @return This builder.
+		 */
+		public Builder<P, T> executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Builds the fetcher.
+		 *
+		 * @return A new ParallelPageFetcher with this builder's properties.
+		 */
+		public ParallelPageFetcher<P, T> build() {
+			return new ParallelPageFetcher<>(this);
+		}
+	}
+}
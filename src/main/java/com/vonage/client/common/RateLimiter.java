@@ -0,0 +1,91 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageClientException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Spaces out operations so that they do not exceed a fixed rate. Each call to {@link #acquire()} reserves
+ * the next available slot and blocks until it arrives. Unused capacity is not accumulated, so there are no
+ * bursts above the configured rate.
+ * <p>
+ * Instances are thread-safe and can be shared between callers which draw on the same quota.
+ *
+ * @since 8.17.0
+ */
+public final class RateLimiter {
+	private final long intervalNanos;
+	private final LongSupplier clock;
+	private long nextFree;
+
+	/**
+	 * Creates a new rate limiter.
+	 *
+	 * @param permitsPerSecond Maximum number of operations per second, which must be positive.
+	 */
+	public RateLimiter(double permitsPerSecond) {
+		this(permitsPerSecond, System::nanoTime);
+	}
+
+	RateLimiter(double permitsPerSecond, LongSupplier clock) {
+		if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+			throw new IllegalArgumentException("Rate must be positive and finite.");
+		}
+		intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+		this.clock = clock;
+		nextFree = clock.getAsLong();
+	}
+
+	/**
+	 * Reserves the next slot without waiting.
+	 *
+	 * @return The number of nanoseconds until the reserved slot, which may be zero.
+	 */
+	public synchronized long reserve() {
+		long now = clock.getAsLong(), slot = Math.max(now, nextFree);
+		nextFree = slot + intervalNanos;
+		return slot - now;
+	}
+
+	/**
+	 * Blocks until the next slot is available.
+	 *
+	 * @throws VonageClientException If the thread is interrupted whilst waiting.
+	 */
+	public void acquire() {
+		long wait = reserve();
+		if (wait > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new VonageClientException("Interrupted whilst waiting for rate limit.", ex);
+			}
+		}
+	}
+
+	/**
+	 * The configured rate.
+	 *
+	 * @return The maximum number of operations per second.
+	 */
+	public double getPermitsPerSecond() {
+		return (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos;
+	}
+}
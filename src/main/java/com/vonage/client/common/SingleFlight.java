@@ -0,0 +1,130 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Suppresses duplicate concurrent calls. While a call for a given key is in progress, other callers with
+ * the same key wait for and share its outcome rather than making their own call. Once the call completes,
+ * the key is released so that subsequent calls are made afresh; no results are retained.
+ *
+ * @param <K> The key type.
+ * @param <V> The result type.
+ *
+ * @since 8.17.0
+ */
+public final class SingleFlight<K, V> {
+	private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+	/**
+	 * Invokes the call, or waits for the outcome of an identical call already in progress.
+	 *
+	 * @param key The key identifying equivalent calls.
+	 * @param call The call to make if none is in progress for the key.
+	 *
+	 * @return The result of the call, which may be shared with other callers.
+	 *
+	 * @throws RuntimeException The exception thrown by the call, which may be shared with other callers.
+	 */
+	public V execute(K key, Supplier<? extends V> call) {
+		return execute(key, call, SingleFlight::await);
+	}
+
+	/**
+	 * Invokes the call, or joins an identical call already in progress using the given function, which
+	 * allows callers to bound how long they wait for it.
+	 *
+	 * @param key The key identifying equivalent calls.
+	 * @param call The call to make if none is in progress for the key.
+	 * @param join Waits for the call in progress and returns its outcome.
+	 *
+	 * @return The result of the call, or the value returned by {@code join}.
+	 *
+	 * @throws RuntimeException The exception thrown by the call or by {@code join}.
+	 */
+	public V execute(K key, Supplier<? extends V> call, Function<? super CompletableFuture<V>, ? extends V> join) {
+		Objects.requireNonNull(key, "Key is required.");
+		Objects.requireNonNull(call, "Call is required.");
+		CompletableFuture<V> flight = new CompletableFuture<>(), existing = calls.putIfAbsent(key, flight);
+		if (existing != null) {
+			return join.apply(existing);
+		}
+		try {
+			V result = call.get();
+			flight.complete(result);
+			return result;
+		}
+		catch (RuntimeException | Error ex) {
+			flight.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			calls.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Waits for the outcome of the call in progress for the key, if there is one.
+	 *
+	 * @param key The key identifying the call.
+	 *
+	 * @return The call in progress, or {@code null} if there is none.
+	 */
+	public CompletableFuture<V> getInFlight(K key) {
+		return calls.get(key);
+	}
+
+	/**
+	 * Number of distinct calls currently in progress.
+	 *
+	 * @return The number of in-flight keys.
+	 */
+	public int size() {
+		return calls.size();
+	}
+
+	/**
+	 * Waits for the given call, rethrowing its exception if it failed.
+	 *
+	 * @param flight The in-flight call, as obtained from {@link #getInFlight(Object)}.
+	 *
+	 * @return The result of the call.
+	 *
+	 * @param <V> The result type.
+	 */
+	public static <V> V await(CompletableFuture<V> flight) {
+		try {
+			return flight.join();
+		}
+		catch (CompletionException | CancellationException ex) {
+			Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe, size-bounded cache whose entries expire after a time-to-live. When the cache is full,
+ * the least recently accessed entry is evicted. Expired entries are removed lazily on access.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ *
+ * @since 8.17.0
+ */
+public final class TtlCache<K, V> {
+	private final long defaultTtlNanos;
+	private final LongSupplier clock;
+	private final LinkedHashMap<K, Timed<V>> entries;
+
+	private static final class Timed<V> {
+		final V value;
+		final long expiresAt;
+
+		Timed(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param defaultTtl How long entries remain valid for after being added, unless overridden.
+	 * @param maxSize Maximum number of entries to retain.
+	 */
+	public TtlCache(Duration defaultTtl, int maxSize) {
+		this(defaultTtl, maxSize, System::nanoTime);
+	}
+
+	TtlCache(Duration defaultTtl, int maxSize, LongSupplier clock) {
+		defaultTtlNanos = validateTtl(defaultTtl);
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		this.clock = clock;
+		entries = new LinkedHashMap<K, Timed<V>>(Math.min(maxSize, 1024), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Timed<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	private static long validateTtl(Duration ttl) {
+		if (Objects.requireNonNull(ttl, "TTL is required.").isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("TTL must be positive.");
+		}
+		return ttl.toNanos();
+	}
+
+	/**
+	 * Retrieves the value for the given key, if present and not expired.
+	 *
+	 * @param key The key to look up.
+	 *
+	 * @return The cached value, or {@code null} if absent or expired.
+	 */
+	public V get(K key) {
+		long now = clock.getAsLong();
+		synchronized (entries) {
+			Timed<V> entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (now - entry.expiresAt >= 0) {
+				entries.remove(key);
+				return null;
+			}
+			return entry.value;
+		}
+	}
+
+	/**
+	 * Adds or replaces an entry using the default TTL.
+	 *
+	 * @param key The key.
+	 * @param value The value, which must not be null.
+	 */
+	public void put(K key, V value) {
+		put(key, value, defaultTtlNanos);
+	}
+
+	/**
+	 * Adds or replaces an entry with a custom TTL.
+	 *
+	 * @param key The key.
+	 * @param value The value, which must not be null.
+	 * @param ttl How long the entry remains valid for.
+	 */
+	public void put(K key, V value, Duration ttl) {
+		put(key, value, validateTtl(ttl));
+	}
+
+	private void put(K key, V value, long ttlNanos) {
+		Timed<V> entry = new Timed<>(Objects.requireNonNull(value, "Value is required."), clock.getAsLong() + ttlNanos);
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	/**
+	 * Removes the entry for the given key.
+	 *
+	 * @param key The key to remove.
+	 */
+	public void invalidate(K key) {
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void invalidateAll() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Number of entries currently held, which may include expired entries not yet removed.
+	 *
+	 * @return The cache size.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+}
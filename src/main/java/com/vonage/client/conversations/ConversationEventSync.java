@@ -0,0 +1,295 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.conversations;
+
+import com.vonage.client.common.BatchExecutor;
+import com.vonage.client.common.BatchResult;
+import com.vonage.client.common.HalLinks;
+import com.vonage.client.common.SortOrder;
+import org.apache.http.client.utils.URLEncodedUtils;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Incrementally mirrors conversation events by remembering the last event processed for each conversation
+ * in an {@link EventCheckpointStore}. Each call to {@link #sync(Collection, BiConsumer)} only retrieves events
+ * newer than the checkpoint, so the cost of polling is proportional to the number of new events rather than
+ * the size of the conversation history.
+ * <p>
+ * Conversations are synchronised concurrently, up to the configured parallelism. Within a conversation, events
+ * are delivered to the handler sequentially in ascending ID order, and the checkpoint only advances past events
+ * which the handler accepted without throwing. Delivery is at-least-once: events handled since the last
+ * {@link EventCheckpointStore#flush()} may be redelivered if the process exits abruptly.
+ *
+ * @since 8.17.0
+ */
+public final class ConversationEventSync {
+	private final ConversationsClient client;
+	private final EventCheckpointStore checkpoints;
+	private final BatchExecutor batchExecutor;
+	private final int pageSize;
+	private final EventType eventType;
+	private final Boolean excludeDeletedEvents;
+
+	private ConversationEventSync(Builder builder) {
+		client = builder.client;
+		checkpoints = Objects.requireNonNull(builder.checkpoints, "Checkpoint store is required.");
+		batchExecutor = builder.batchExecutor != null ? builder.batchExecutor : BatchExecutor.withParallelism(8);
+		if ((pageSize = builder.pageSize) < 1 || pageSize > 100) {
+			throw new IllegalArgumentException("Page size must be between 1 and 100.");
+		}
+		eventType = builder.eventType;
+		excludeDeletedEvents = builder.excludeDeletedEvents;
+	}
+
+	/**
+	 * The store used to persist the last processed event for each conversation.
+	 *
+	 * @return The checkpoint store.
+	 */
+	public EventCheckpointStore getCheckpointStore() {
+		return checkpoints;
+	}
+
+	/**
+	 * Retrieves and handles new events for a single conversation, then flushes the checkpoint store.
+	 *
+	 * @param conversationId Unique conversation identifier.
+	 * @param handler Callback invoked for each new event, in ascending ID order.
+	 *
+	 * @return The number of events delivered to the handler.
+	 *
+	 * @throws ConversationsResponseException If the conversation was not found (404), or any other API error.
+	 */
+	public int sync(String conversationId, BiConsumer<String, ? super Event> handler) {
+		try {
+			return syncConversation(conversationId, handler);
+		}
+		finally {
+			checkpoints.flush();
+		}
+	}
+
+	/**
+	 * Retrieves and handles new events for each of the given conversations concurrently, then flushes the
+	 * checkpoint store. The handler may be invoked from multiple threads at once, but never concurrently for
+	 * the same conversation.
+	 *
+	 * @param conversationIds Unique identifiers of the conversations to synchronise.
+	 * @param handler Callback invoked for each new event, with the conversation ID as the first argument.
+	 *
+	 * @return The number of events delivered for each conversation, along with any failures.
+	 * A failed conversation's checkpoint reflects the events which were successfully handled before the error.
+	 */
+	public BatchResult<String, Integer> sync(Collection<String> conversationIds,
+											 BiConsumer<String, ? super Event> handler) {
+		Objects.requireNonNull(handler, "Event handler is required.");
+		try {
+			return batchExecutor.invokeAll(conversationIds, id -> syncConversation(id, handler));
+		}
+		finally {
+			checkpoints.flush();
+		}
+	}
+
+	private int syncConversation(String conversationId, BiConsumer<String, ? super Event> handler) {
+		final Integer checkpoint = checkpoints.getLastEventId(conversationId);
+		Integer lastId = checkpoint;
+		int delivered = 0;
+		String cursor = null;
+		try {
+			do {
+				ListEventsResponse page = client.listEvents(conversationId, nextRequest(lastId, cursor));
+				List<Event> events = page.getEvents();
+				for (Event event : events != null ? events : Collections.<Event> emptyList()) {
+					Integer id = event.getId();
+					if (id != null && lastId != null && id <= lastId) {
+						continue;
+					}
+					handler.accept(conversationId, event);
+					delivered++;
+					if (id != null) {
+						lastId = id;
+					}
+				}
+				cursor = parseNextCursor(page.getLinks());
+			}
+			while (cursor != null);
+			return delivered;
+		}
+		finally {
+			if (lastId != null && !lastId.equals(checkpoint)) {
+				checkpoints.setLastEventId(conversationId, lastId);
+			}
+		}
+	}
+
+	private ListEventsRequest nextRequest(Integer lastId, String cursor) {
+		ListEventsRequest.Builder builder = ListEventsRequest.builder()
+				.pageSize(pageSize).order(SortOrder.ASCENDING);
+		if (cursor != null) {
+			builder.cursor(cursor);
+		}
+		else if (lastId != null) {
+			builder.startId(lastId + 1);
+		}
+		if (eventType != null) {
+			builder.eventType(eventType);
+		}
+		if (excludeDeletedEvents != null) {
+			builder.excludeDeletedEvents(excludeDeletedEvents);
+		}
+		return builder.build();
+	}
+
+	static String parseNextCursor(HalLinks links) {
+		URI next = links != null ? links.getNextUrl() : null;
+		if (next == null) {
+			return null;
+		}
+		return URLEncodedUtils.parse(next, StandardCharsets.UTF_8).stream()
+				.filter(nvp -> "cursor".equals(nvp.getName()))
+				.map(nvp -> nvp.getValue()).filter(c -> c != null && !c.isEmpty())
+				.findFirst().orElse(null);
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param client (REQUIRED) The client to retrieve events with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(ConversationsClient client) {
+		return new Builder(client);
+	}
+
+	/**
+	 * Builder for configuring the synchronisation settings.
+	 */
+	public static final class Builder {
+		private final ConversationsClient client;
+		private EventCheckpointStore checkpoints;
+		private BatchExecutor batchExecutor;
+		private int pageSize = 100;
+		private EventType eventType;
+		private Boolean excludeDeletedEvents;
+
+		private Builder(ConversationsClient client) {
+			this.client = Objects.requireNonNull(client, "Conversations client is required.");
+		}
+
+		/**
+		 * (REQUIRED) Where to store the last processed event for each conversation. Either this or
+		 * {@link #checkpointFile(Path)} must be set.
+		 *
+		 * @param checkpoints The checkpoint store.
+		 *
+		 * @return This builder.
+		 */
+		public Builder checkpointStore(EventCheckpointStore checkpoints) {
+			this.checkpoints = checkpoints;
+			return this;
+		}
+
+		/**
+		 * (REQUIRED) Persist checkpoints to the specified file using a {@link FileEventCheckpointStore}.
+		 * Either this or {@link #checkpointStore(EventCheckpointStore)} must be set.
+		 *
+		 * @param file Path to the checkpoints file.
+		 *
+		 * @return This builder.
+		 */
+		public Builder checkpointFile(Path file) {
+			return checkpointStore(new FileEventCheckpointStore(file));
+		}
+
+		/**
+		 * (OPTIONAL) Maximum number of conversations to synchronise concurrently. The default is 8.
+		 *
+		 * @param parallelism The concurrency limit, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder parallelism(int parallelism) {
+			return batchExecutor(BatchExecutor.withParallelism(parallelism));
+		}
+
+		/**
+		 * (OPTIONAL) Executor settings to use for synchronising conversations concurrently.
+		 * This takes precedence over {@linkplain #parallelism(int)}.
+		 *
+		 * @param batchExecutor The batch executor.
+		 *
+		 * @return This builder.
+		 */
+		public Builder batchExecutor(BatchExecutor batchExecutor) {
+			this.batchExecutor = batchExecutor;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Number of events to request per page. The default (and maximum) is 100.
+		 *
+		 * @param pageSize The page size, between 1 and 100.
+		 *
+		 * @return This builder.
+		 */
+		public Builder pageSize(int pageSize) {
+			this.pageSize = pageSize;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Only synchronise events of this type. Does not currently support custom events.
+		 *
+		 * @param eventType The event type to filter by.
+		 *
+		 * @return This builder.
+		 */
+		public Builder eventType(EventType eventType) {
+			this.eventType = eventType;
+			return this;
+		}
+
+		/**
+		 * (OPTIONAL) Whether to exclude deleted events.
+		 *
+		 * @param excludeDeletedEvents {@code true} to exclude deleted events.
+		 *
+		 * @return This builder.
+		 */
+		public Builder excludeDeletedEvents(boolean excludeDeletedEvents) {
+			this.excludeDeletedEvents = excludeDeletedEvents;
+			return this;
+		}
+
+		/**
+		 * Builds the synchroniser.
+		 *
+		 * @return A new ConversationEventSync with this builder's properties.
+		 */
+		public ConversationEventSync build() {
+			return new ConversationEventSync(this);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.conversations;
+
+/**
+ * Persists the sequence ID of the last event processed for each conversation, so that
+ * {@link ConversationEventSync} only needs to retrieve events which are newer. Implementations
+ * must be thread-safe, since conversations are synchronised concurrently.
+ *
+ * @since 8.17.0
+ */
+public interface EventCheckpointStore {
+
+	/**
+	 * Gets the checkpoint for the given conversation.
+	 *
+	 * @param conversationId Unique conversation identifier.
+	 *
+	 * @return The ID of the last event processed, or {@code null} if the conversation has not been synchronised.
+	 */
+	Integer getLastEventId(String conversationId);
+
+	/**
+	 * Records the ID of the last event processed for the given conversation.
+	 *
+	 * @param conversationId Unique conversation identifier.
+	 * @param eventId The ID of the last event which was successfully handled.
+	 */
+	void setLastEventId(String conversationId, int eventId);
+
+	/**
+	 * Writes any buffered checkpoints to durable storage. This is invoked at the end of each
+	 * synchronisation run. The default implementation does nothing.
+	 */
+	default void flush() {
+	}
+}
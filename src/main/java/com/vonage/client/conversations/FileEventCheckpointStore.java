@@ -0,0 +1,120 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.conversations;
+
+import com.vonage.client.VonageUnexpectedException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Default {@link EventCheckpointStore}, which keeps checkpoints in memory and persists them to a properties
+ * file on {@link #flush()}. The file is replaced atomically, so a crash whilst writing never leaves it
+ * partially written. Checkpoints only ever move forward.
+ *
+ * @since 8.17.0
+ */
+public class FileEventCheckpointStore implements EventCheckpointStore {
+	private final Path file;
+	private final ConcurrentMap<String, Integer> checkpoints = new ConcurrentHashMap<>();
+	private volatile boolean dirty;
+
+	/**
+	 * Creates the store, loading any existing checkpoints from the file.
+	 *
+	 * @param file Path to the checkpoints file. It will be created on the first flush if it does not exist.
+	 *
+	 * @throws VonageUnexpectedException If the file exists but could not be read.
+	 */
+	public FileEventCheckpointStore(Path file) {
+		this.file = Objects.requireNonNull(file, "Checkpoint file is required.").toAbsolutePath();
+		if (Files.exists(this.file)) {
+			Properties properties = new Properties();
+			try (InputStream in = Files.newInputStream(this.file)) {
+				properties.load(in);
+			}
+			catch (IOException ex) {
+				throw new VonageUnexpectedException("Couldn't read checkpoints from '"+file+"'", ex);
+			}
+			properties.forEach((k, v) -> checkpoints.put(k.toString(), Integer.valueOf(v.toString())));
+		}
+	}
+
+	/**
+	 * Path of the file which checkpoints are persisted to.
+	 *
+	 * @return The absolute file path.
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	@Override
+	public Integer getLastEventId(String conversationId) {
+		return checkpoints.get(conversationId);
+	}
+
+	@Override
+	public void setLastEventId(String conversationId, int eventId) {
+		checkpoints.merge(conversationId, eventId, Math::max);
+		dirty = true;
+	}
+
+	/**
+	 * Writes all checkpoints to the file if any have changed since the last flush.
+	 *
+	 * @throws VonageUnexpectedException If the file could not be written.
+	 */
+	@Override
+	public synchronized void flush() {
+		if (!dirty) return;
+		dirty = false;
+		Properties properties = new Properties();
+		for (Map.Entry<String, Integer> entry : checkpoints.entrySet()) {
+			properties.setProperty(entry.getKey(), entry.getValue().toString());
+		}
+		try {
+			Path parent = file.getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+			boolean moved = false;
+			try {
+				try (OutputStream out = Files.newOutputStream(temp)) {
+					properties.store(out, "Conversation event checkpoints");
+				}
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				moved = true;
+			}
+			finally {
+				if (!moved) {
+					Files.deleteIfExists(temp);
+				}
+			}
+		}
+		catch (IOException ex) {
+			dirty = true;
+			throw new VonageUnexpectedException("Couldn't write checkpoints to '"+file+"'", ex);
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.common.TtlCache;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * Matches asynchronous Advanced Insight callbacks with the requests that triggered them. Each request made
+ * through {@link InsightClient#getAdvancedNumberInsightAsync(AdvancedInsightRequest, AsyncInsightCorrelator)}
+ * is registered under its request ID, and the returned future is completed when the corresponding webhook is
+ * passed to {@link #handleCallback(String)}. No threads are blocked whilst waiting for callbacks.
+ * <p>
+ * Futures which are not completed within the timeout fail with a {@link TimeoutException}. Callbacks which
+ * arrive before their request has been registered are held for the duration of the timeout, so the
+ * webhook racing the initial response is handled correctly.
+ * <p>
+ * Instances are thread-safe and should be closed when no longer needed.
+ *
+ * @since 8.17.0
+ */
+public final class AsyncInsightCorrelator implements AutoCloseable {
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final TtlCache<String, AdvancedInsightResponse> early;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final long timeoutNanos;
+
+    private static final class Pending {
+        final CompletableFuture<AdvancedInsightResponse> future = new CompletableFuture<>();
+        volatile ScheduledFuture<?> timeout;
+    }
+
+    private AsyncInsightCorrelator(Builder builder) {
+        Duration timeout = Objects.requireNonNull(builder.timeout, "Timeout is required.");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive.");
+        }
+        timeoutNanos = timeout.toNanos();
+        early = new TtlCache<>(timeout, builder.maxEarlyCallbacks);
+        if ((ownsScheduler = builder.scheduler == null)) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "vonage-insight-callback-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        else {
+            scheduler = builder.scheduler;
+        }
+    }
+
+    /**
+     * Registers interest in the callback for a request.
+     *
+     * @param requestId The request ID from the initial asynchronous insight response.
+     *
+     * @return A future which is completed with the callback payload, or exceptionally if it times out.
+     * Cancelling the future stops waiting for the callback.
+     */
+    public CompletableFuture<AdvancedInsightResponse> register(String requestId) {
+        Objects.requireNonNull(requestId, "Request ID is required.");
+        AdvancedInsightResponse arrived = early.get(requestId);
+        if (arrived != null) {
+            early.invalidate(requestId);
+            return CompletableFuture.completedFuture(arrived);
+        }
+        Pending entry = new Pending();
+        if (pending.putIfAbsent(requestId, entry) != null) {
+            throw new IllegalStateException("Request '" + requestId + "' is already registered.");
+        }
+        entry.future.whenComplete((result, ex) -> {
+            pending.remove(requestId, entry);
+            ScheduledFuture<?> timeout = entry.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        });
+        entry.timeout = scheduler.schedule(() -> entry.future.completeExceptionally(new TimeoutException(
+                "No callback received for insight request '" + requestId + "'."
+        )), timeoutNanos, TimeUnit.NANOSECONDS);
+        if (entry.future.isDone()) {
+            entry.timeout.cancel(false);
+        }
+        // Close the gap between checking for an early callback and registering
+        arrived = early.get(requestId);
+        if (arrived != null) {
+            early.invalidate(requestId);
+            entry.future.complete(arrived);
+        }
+        return entry.future;
+    }
+
+    /**
+     * Completes the future registered for the callback's request ID. If no request has been registered yet,
+     * the callback is held until one is, or until the timeout elapses.
+     *
+     * @param callback The parsed callback payload.
+     *
+     * @return {@code true} if a waiting future was completed, {@code false} otherwise.
+     */
+    public boolean complete(AdvancedInsightResponse callback) {
+        String requestId = Objects.requireNonNull(callback, "Callback is required.").getRequestId();
+        if (requestId == null) {
+            return false;
+        }
+        Pending entry = pending.get(requestId);
+        if (entry != null) {
+            return entry.future.complete(callback);
+        }
+        early.put(requestId, callback);
+        entry = pending.get(requestId);
+        if (entry != null) {
+            early.invalidate(requestId);
+            return entry.future.complete(callback);
+        }
+        return false;
+    }
+
+    /**
+     * Parses the body of an asynchronous insight webhook and completes the matching future.
+     *
+     * @param json The JSON callback payload.
+     *
+     * @return {@code true} if a waiting future was completed, {@code false} otherwise.
+     *
+     * @throws com.vonage.client.VonageResponseParseException If the payload could not be parsed.
+     */
+    public boolean handleCallback(String json) {
+        return complete(Jsonable.fromJson(json, AdvancedInsightResponse.class));
+    }
+
+    /**
+     * Number of requests still awaiting their callback.
+     *
+     * @return The pending count.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Cancels all pending futures and, unless a scheduler was supplied, stops the timeout thread.
+     */
+    @Override
+    public void close() {
+        pending.values().forEach(entry -> entry.future.cancel(false));
+        early.invalidateAll();
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Entrypoint for constructing an instance of this class.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for configuring the correlator.
+     */
+    public static final class Builder {
+        private Duration timeout = Duration.ofMinutes(5);
+        private ScheduledExecutorService scheduler;
+        private int maxEarlyCallbacks = 10_000;
+
+        private Builder() {}
+
+        /**
+         * How long to wait for each callback. The default is 5 minutes.
+         *
+         * @param timeout The timeout, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Maximum number of callbacks to hold which arrived before their request was registered.
+         * The default is 10000.
+         *
+         * @param maxEarlyCallbacks The limit, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder maxEarlyCallbacks(int maxEarlyCallbacks) {
+            this.maxEarlyCallbacks = maxEarlyCallbacks;
+            return this;
+        }
+
+        /**
+         * Scheduler to run timeouts on. If unspecified, a dedicated daemon thread is created and stopped
+         * when the correlator is closed. A supplied scheduler is not shut down by the correlator.
+         *
+         * @param scheduler The scheduler.
+         *
+         * @return This builder.
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Builds the correlator.
+         *
+         * @return A new AsyncInsightCorrelator with this builder's properties.
+         */
+        public AsyncInsightCorrelator build() {
+            return new AsyncInsightCorrelator(this);
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+import com.vonage.client.VonageClientException;
+import com.vonage.client.common.RateLimiter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs Number Insight lookups over a large, possibly unbounded, stream of numbers. Numbers are normalised
+ * and deduplicated, then looked up with bounded concurrency and an optional request rate limit. Results are
+ * streamed back in completion order, keyed by the normalised number.
+ * <p>
+ * Numbers are expected in international format, with or without a leading {@code +} or {@code 00}.
+ * Numbers in national format (beginning with a trunk prefix of {@code 0}) are only accepted if a
+ * {@link Builder#country(String)} is set, which is then sent with every lookup. Note that the same
+ * number given in national and international format is not recognised as a duplicate.
+ * <p>
+ * Input is consumed lazily as results are read, so at most {@link Builder#parallelism(int)} lookups are in
+ * flight or awaiting consumption at any time. Deduplication remembers the most recent
+ * {@link Builder#dedupeWindow(int)} distinct numbers, so memory use is bounded regardless of input size;
+ * repeats further apart than the window will be looked up again.
+ * <p>
+ * Obtain a builder for the desired tier from {@link InsightClient#bulkBasicInsight()},
+ * {@link InsightClient#bulkStandardInsight()} or {@link InsightClient#bulkAdvancedInsight()}.
+ * Instances are immutable and can be reused.
+ *
+ * @param <R> The insight response type.
+ *
+ * @since 8.17.0
+ */
+public final class BulkInsightLookup<R extends BasicInsightResponse> {
+    private static final Pattern FORMATTING = Pattern.compile("[\\s\\-().]"), DIGITS = Pattern.compile("\\d{2,}");
+
+    private final BiFunction<String, String, ? extends R> lookup;
+    private final String country;
+    private final Executor executor;
+    private final int parallelism, dedupeWindow;
+    private final double maxRequestsPerSecond;
+
+    private BulkInsightLookup(Builder<R> builder) {
+        lookup = Objects.requireNonNull(builder.lookup, "Lookup function is required.");
+        if ((parallelism = builder.parallelism) < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        if ((dedupeWindow = builder.dedupeWindow) < 0) {
+            throw new IllegalArgumentException("Deduplication window cannot be negative.");
+        }
+        if ((maxRequestsPerSecond = builder.maxRequestsPerSecond) < 0) {
+            throw new IllegalArgumentException("Rate limit cannot be negative.");
+        }
+        executor = builder.executor;
+        country = builder.country;
+    }
+
+    /**
+     * Normalises a number for lookup and deduplication by removing whitespace, formatting characters
+     * and any leading {@code +} or international {@code 00} prefix.
+     *
+     * @param number The number as provided.
+     *
+     * @return The normalised number, or {@code null} if it does not contain a plausible number.
+     */
+    static String normalise(String number) {
+        if (number == null) {
+            return null;
+        }
+        String normalised = FORMATTING.matcher(number).replaceAll("");
+        if (normalised.startsWith("+")) {
+            normalised = normalised.substring(1);
+        }
+        else if (normalised.startsWith("00")) {
+            normalised = normalised.substring(2);
+        }
+        return DIGITS.matcher(normalised).matches() ? normalised : null;
+    }
+
+    /**
+     * Looks up each distinct number, streaming the results as they complete. Numbers which cannot be
+     * normalised, or which are in national format when no country is set, produce a failed result
+     * without making a request. The returned stream should be closed
+     * if it is not fully consumed, which cancels outstanding lookups and closes the input stream.
+     *
+     * @param numbers The numbers to look up, in international format (or national format if a country is set).
+     *
+     * @return A lazy, sequential stream of results in completion order.
+     *
+     * @throws VonageClientException On consumption, if the consuming thread is interrupted whilst waiting.
+     */
+    public Stream<BulkInsightResult<R>> lookup(Stream<String> numbers) {
+        Run run = new Run(Objects.requireNonNull(numbers, "Numbers are required.").iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(run, Spliterator.NONNULL), false)
+                .onClose(run::close).onClose(numbers::close);
+    }
+
+    /**
+     * Looks up each distinct number, passing each result to the consumer on the calling thread as it completes.
+     * This method returns once all numbers have been processed.
+     *
+     * @param numbers The numbers to look up, in international format (or national format if a country is set).
+     * @param resultConsumer Receives each result.
+     *
+     * @throws VonageClientException If the calling thread is interrupted. Outstanding lookups are cancelled.
+     */
+    public void lookup(Stream<String> numbers, Consumer<? super BulkInsightResult<R>> resultConsumer) {
+        Objects.requireNonNull(resultConsumer, "Result consumer is required.");
+        try (Stream<BulkInsightResult<R>> results = lookup(numbers)) {
+            results.forEach(resultConsumer);
+        }
+    }
+
+    /**
+     * State of a single bulk run. Only the consuming thread advances the input, so the deduplication
+     * window and outstanding count need no synchronisation; workers communicate via the completion queue.
+     */
+    private final class Run implements Iterator<BulkInsightResult<R>>, AutoCloseable {
+        private final Iterator<String> input;
+        private final BlockingQueue<BulkInsightResult<R>> completed = new LinkedBlockingQueue<>();
+        private final Set<String> seen;
+        private final RateLimiter rateLimiter;
+        private ExecutorService ownedExecutor;
+        private volatile boolean closed;
+        private BulkInsightResult<R> immediate;
+        private int outstanding;
+
+        Run(Iterator<String> input) {
+            this.input = input;
+            rateLimiter = maxRequestsPerSecond > 0 ? new RateLimiter(maxRequestsPerSecond) : null;
+            seen = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > dedupeWindow;
+                }
+            });
+        }
+
+        /**
+         * Submits lookups until the parallelism limit is reached or the input is exhausted,
+         * stopping early if an input cannot be normalised.
+         */
+        private void fill() {
+            while (immediate == null && outstanding < parallelism && input.hasNext()) {
+                String raw = input.next(), number = normalise(raw);
+                if (number == null) {
+                    immediate = new BulkInsightResult<>(null, raw, null,
+                            new IllegalArgumentException("Invalid number: " + raw)
+                    );
+                }
+                else if (country == null && number.charAt(0) == '0') {
+                    immediate = new BulkInsightResult<>(null, raw, null,
+                            new IllegalArgumentException("Country is required for national number: " + raw)
+                    );
+                }
+                else if (dedupeWindow == 0 || seen.add(number)) {
+                    submit(number, raw);
+                }
+            }
+        }
+
+        private void submit(String number, String raw) {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            Executor delegate = executor;
+            if (delegate == null) {
+                if (ownedExecutor == null) {
+                    ownedExecutor = new ForkJoinPool(parallelism);
+                }
+                delegate = ownedExecutor;
+            }
+            outstanding++;
+            delegate.execute(() -> {
+                R response = null;
+                RuntimeException error = null;
+                try {
+                    if (closed) {
+                        throw new CancellationException("Bulk lookup closed.");
+                    }
+                    response = lookup.apply(number, country);
+                }
+                catch (RuntimeException ex) {
+                    error = ex;
+                }
+                catch (Throwable ex) {
+                    error = new VonageClientException(ex);
+                }
+                finally {
+                    completed.add(new BulkInsightResult<>(number, raw, response, error));
+                }
+            });
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            fill();
+            if (immediate != null || outstanding > 0) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public BulkInsightResult<R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (immediate != null) {
+                BulkInsightResult<R> result = immediate;
+                immediate = null;
+                return result;
+            }
+            try {
+                BulkInsightResult<R> result = completed.take();
+                outstanding--;
+                return result;
+            }
+            catch (InterruptedException ex) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new VonageClientException("Interrupted whilst waiting for insight results.", ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+    }
+
+    static <R extends BasicInsightResponse> Builder<R> builder(BiFunction<String, String, ? extends R> lookup) {
+        return new Builder<>(lookup);
+    }
+
+    /**
+     * Builder for configuring bulk lookups.
+     *
+     * @param <R> The insight response type.
+     */
+    public static final class Builder<R extends BasicInsightResponse> {
+        private final BiFunction<String, String, ? extends R> lookup;
+        private String country;
+        private Executor executor;
+        private int parallelism = 4, dedupeWindow = 100_000;
+        private double maxRequestsPerSecond;
+
+        private Builder(BiFunction<String, String, ? extends R> lookup) {
+            this.lookup = lookup;
+        }
+
+        /**
+         * Maximum number of lookups in flight or awaiting consumption at any one time. The default is 4.
+         *
+         * @param parallelism The concurrency limit, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder<R> parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Maximum number of requests to start per second. By default, requests are not rate limited.
+         *
+         * @param maxRequestsPerSecond The rate limit, or zero for no limit.
+         *
+         * @return This builder.
+         */
+        public Builder<R> maxRequestsPerSecond(double maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Number of most recently seen distinct numbers to remember for deduplication. The default is 100000.
+         *
+         * @param dedupeWindow The window size, or zero to disable deduplication.
+         *
+         * @return This builder.
+         */
+        public Builder<R> dedupeWindow(int dedupeWindow) {
+            this.dedupeWindow = dedupeWindow;
+            return this;
+        }
+
+        /**
+         * Two-character country code (ISO 3166-1 alpha-2) to send with each lookup, which allows numbers in
+         * national format to be looked up. By default, no country is sent and only numbers in international
+         * format are accepted.
+         *
+         * @param country The country code, or {@code null} for none.
+         *
+         * @return This builder.
+         */
+        public Builder<R> country(String country) {
+            this.country = country;
+            return this;
+        }
+
+        /**
+         * Executor to run the lookups on. If unspecified, a dedicated {@link ForkJoinPool} sized to the
+         * parallelism is created for each run and shut down when it completes or is closed.
+         *
+         * @param executor The executor to submit lookups to.
+         *
+         * @return This builder.
+         */
+        public Builder<R> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the bulk lookup.
+         *
+         * @return A new BulkInsightLookup with this builder's properties.
+         */
+        public BulkInsightLookup<R> build() {
+            return new BulkInsightLookup<>(this);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+/**
+ * Outcome of a single lookup in a bulk Number Insight run. Results are emitted in completion order,
+ * so the normalised number should be used to correlate them with the input.
+ *
+ * @param <R> The insight response type.
+ *
+ * @since 8.17.0
+ */
+public final class BulkInsightResult<R extends BasicInsightResponse> {
+    private final String number, input;
+    private final R response;
+    private final RuntimeException error;
+
+    BulkInsightResult(String number, String input, R response, RuntimeException error) {
+        this.number = number;
+        this.input = input;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * The normalised number which was looked up. This is the correlation key for the result.
+     *
+     * @return The normalised number.
+     */
+    public String getNumber() {
+        return number;
+    }
+
+    /**
+     * The first input value which normalised to this number.
+     *
+     * @return The number as provided.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * The response from the API.
+     *
+     * @return The insight response, or {@code null} if the lookup failed.
+     */
+    public R getResponse() {
+        return response;
+    }
+
+    /**
+     * The reason the lookup failed, if it did.
+     *
+     * @return The exception, or {@code null} if the lookup succeeded.
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    /**
+     * Whether the lookup returned a response with a successful status.
+     *
+     * @return {@code true} if the response status is {@link InsightStatus#SUCCESS}.
+     */
+    public boolean isSuccessful() {
+        return response != null && response.getStatus() == InsightStatus.SUCCESS;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{number=" + number + (error != null ?
+                ", error=" + error : ", status=" + (response != null ? response.getStatus() : null)) + '}';
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+import com.vonage.client.common.SingleFlight;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of Number Insight responses for use with {@link InsightClient#enableCache(InsightCache)}.
+ * Entries are keyed by account (API key), number, country and CNAM option, so a cache may be shared between
+ * clients without one account being served another's responses. A cached response from a higher tier also answers
+ * requests for lower tiers, so an Advanced lookup satisfies subsequent Standard and Basic lookups for the
+ * same number. Freshness is judged using the TTL of the tier being requested.
+ * <p>
+ * Responses with {@link InsightStatus#INVALID_PARAMS} (typically an invalid number) are cached separately
+ * using the negative TTL; other unsuccessful statuses are never cached. Concurrent misses for the same
+ * number are coalesced so that only one request is made. Asynchronous and real-time Advanced requests
+ * always bypass the cache. When full, the least recently used number is evicted.
+ *
+ * @since 8.17.0
+ */
+public final class InsightCache {
+    static final int BASIC = 0, STANDARD = 1, ADVANCED = 2;
+
+    private final long[] ttlNanos;
+    private final long negativeTtlNanos, maxTtlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Cached[]> entries;
+    private final SingleFlight<String, BasicInsightResponse> flights = new SingleFlight<>();
+
+    private static final class Cached {
+        final BasicInsightResponse response;
+        final long fetchedAt;
+
+        Cached(BasicInsightResponse response, long fetchedAt) {
+            this.response = response;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+
+    private InsightCache(Builder builder) {
+        ttlNanos = new long[]{
+                validateTtl(builder.basicTtl), validateTtl(builder.standardTtl), validateTtl(builder.advancedTtl)
+        };
+        negativeTtlNanos = builder.negativeTtl != null ? validateTtl(builder.negativeTtl) : 0;
+        long max = negativeTtlNanos;
+        for (long ttl : ttlNanos) {
+            max = Math.max(max, ttl);
+        }
+        maxTtlNanos = max;
+        int maxSize = builder.maxSize;
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        }
+        clock = builder.clock;
+        entries = new LinkedHashMap<String, Cached[]>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached[]> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static long validateTtl(Duration ttl) {
+        if (Objects.requireNonNull(ttl, "TTL is required.").isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive.");
+        }
+        return ttl.toNanos();
+    }
+
+    static boolean isCacheable(BaseInsightRequest request) {
+        if (request instanceof AdvancedInsightRequest) {
+            AdvancedInsightRequest advanced = (AdvancedInsightRequest) request;
+            return !advanced.isAsync() && !Boolean.TRUE.equals(advanced.getRealTimeData());
+        }
+        return true;
+    }
+
+    static String key(String account, BaseInsightRequest request) {
+        String number = request.getNumber().trim(), country = request.getCountry();
+        if (number.startsWith("+")) {
+            number = number.substring(1);
+        }
+        return (account != null ? account : "") + '|' + number + '|' + (country != null ? country.toUpperCase(Locale.ROOT) : "") + '|' +
+                (request.cnam != null ? request.cnam : "");
+    }
+
+    private static boolean isNegative(BasicInsightResponse response) {
+        return response.getStatus() == InsightStatus.INVALID_PARAMS;
+    }
+
+    private BasicInsightResponse lookup(String key, int tier) {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            Cached[] slots = entries.get(key);
+            if (slots == null) {
+                return null;
+            }
+            for (int t = tier; t < slots.length; t++) {
+                Cached cached = slots[t];
+                if (cached != null) {
+                    long ttl = isNegative(cached.response) ? negativeTtlNanos : ttlNanos[tier];
+                    if (now - cached.fetchedAt < ttl) {
+                        return cached.response;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private void store(String key, int tier, BasicInsightResponse response, long fetchedAt) {
+        if (response == null) {
+            return;
+        }
+        boolean negative = isNegative(response);
+        if (response.getStatus() != InsightStatus.SUCCESS && !(negative && negativeTtlNanos > 0)) {
+            return;
+        }
+        synchronized (entries) {
+            Cached[] slots = entries.get(key);
+            if (slots == null) {
+                entries.put(key, slots = new Cached[ADVANCED + 1]);
+            }
+            slots[tier] = new Cached(response, fetchedAt);
+        }
+    }
+
+    /**
+     * Retrieves the response for the request from the cache, or invokes the call on a miss.
+     *
+     * @param account The API key of the client making the request.
+     * @param request The insight request.
+     * @param tier The tier of the request.
+     * @param call The API call to make on a cache miss.
+     *
+     * @return The cached or fetched response.
+     */
+    @SuppressWarnings("unchecked")
+    <R extends BasicInsightResponse> R get(String account, BaseInsightRequest request, int tier, Supplier<R> call) {
+        if (!isCacheable(request)) {
+            return call.get();
+        }
+        String key = key(account, request);
+        BasicInsightResponse cached = lookup(key, tier);
+        if (cached != null) {
+            return (R) cached;
+        }
+        for (int t = ADVANCED; t > tier; t--) {
+            CompletableFuture<BasicInsightResponse> higher = flights.getInFlight(key + '|' + t);
+            if (higher != null) {
+                BasicInsightResponse shared;
+                try {
+                    shared = SingleFlight.await(higher);
+                }
+                catch (RuntimeException ex) {
+                    // The higher tier may fail for reasons which don't apply to this one, such as lack of credit
+                    continue;
+                }
+                if (shared != null && shared.getStatus() == InsightStatus.SUCCESS) {
+                    return (R) shared;
+                }
+            }
+        }
+        return (R) flights.execute(key + '|' + tier, () -> {
+            BasicInsightResponse recheck = lookup(key, tier);
+            if (recheck != null) {
+                return recheck;
+            }
+            long fetchedAt = clock.getAsLong();
+            R response = call.get();
+            store(key, tier, response, fetchedAt);
+            return response;
+        });
+    }
+
+    /**
+     * Removes expired entries. Expired entries are otherwise only replaced on access or evicted when full.
+     */
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            entries.values().removeIf(slots -> {
+                for (Cached cached : slots) {
+                    if (cached != null && now - cached.fetchedAt < maxTtlNanos) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Removes all cached responses for the number, for all accounts.
+     *
+     * @param number The phone number, as provided in requests.
+     * @param country (OPTIONAL) The country code, as provided in requests.
+     */
+    public void invalidate(String number, String country) {
+        String prefix = key(null, BasicInsightRequest.withNumberAndCountry(number, country));
+        String numberAndCountry = prefix.substring(0, prefix.lastIndexOf('|') + 1);
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(numberAndCountry, key.indexOf('|')));
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Number of distinct numbers currently cached (counted separately for each account), including
+     * those which may have expired.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Entrypoint for constructing an instance of this class.
+     *
+     * @return A new Builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for configuring the cache.
+     */
+    public static final class Builder {
+        private Duration basicTtl = Duration.ofDays(1), standardTtl = Duration.ofHours(6),
+                advancedTtl = Duration.ofHours(1), negativeTtl = Duration.ofMinutes(10);
+        private int maxSize = 10_000;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {}
+
+        /**
+         * How long Basic-tier lookups can be answered from the cache. The default is 1 day.
+         *
+         * @param basicTtl The Basic TTL, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder basicTtl(Duration basicTtl) {
+            this.basicTtl = basicTtl;
+            return this;
+        }
+
+        /**
+         * How long Standard-tier lookups can be answered from the cache. The default is 6 hours.
+         *
+         * @param standardTtl The Standard TTL, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder standardTtl(Duration standardTtl) {
+            this.standardTtl = standardTtl;
+            return this;
+        }
+
+        /**
+         * How long Advanced-tier lookups can be answered from the cache. The default is 1 hour.
+         *
+         * @param advancedTtl The Advanced TTL, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder advancedTtl(Duration advancedTtl) {
+            this.advancedTtl = advancedTtl;
+            return this;
+        }
+
+        /**
+         * How long responses with {@link InsightStatus#INVALID_PARAMS} are cached for. The default is 10 minutes.
+         *
+         * @param negativeTtl The negative TTL, or {@code null} to disable negative caching.
+         *
+         * @return This builder.
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * Maximum number of distinct numbers to retain. The default is 10000.
+         *
+         * @param maxSize The maximum size, which must be positive.
+         *
+         * @return This builder.
+         */
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return A new InsightCache with this builder's properties.
+         */
+        public InsightCache build() {
+            return new InsightCache(this);
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.vonage.client.auth.ApiKeyQueryParamsAuthMethod;
 import com.vonage.client.auth.AuthMethod;
 import com.vonage.client.auth.SignatureAuthMethod;
 import com.vonage.client.common.HttpMethod;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -31,6 +33,8 @@ public class InsightClient {
     final RestEndpoint<BasicInsightRequest, BasicInsightResponse> basic;
     final RestEndpoint<StandardInsightRequest, StandardInsightResponse> standard;
     final RestEndpoint<AdvancedInsightRequest, AdvancedInsightResponse> advanced;
+    private final HttpWrapper wrapper;
+    private volatile InsightCache cache;
 
     /**
      * Constructor.
@@ -38,6 +42,7 @@ public class InsightClient {
      * @param wrapper (REQUIRED) shared HTTP wrapper object used for making REST calls.
      */
     public InsightClient(HttpWrapper wrapper) {
+        this.wrapper = wrapper;
         @SuppressWarnings("unchecked")
         final class Endpoint<T, R> extends DynamicEndpoint<T, R> {
             Endpoint(Function<T, String> pathGetter, Class<? extends AuthMethod> auth, R... type) {
@@ -97,6 +102,11 @@ public class InsightClient {
      * @throws VonageClientException        if there was a problem with the Vonage request or response objects.
      */
     public BasicInsightResponse getBasicNumberInsight(BasicInsightRequest basicInsightRequest) throws VonageResponseParseException, VonageClientException {
+        InsightCache cache = this.cache;
+        if (cache != null) {
+            return cache.get(wrapper.getApiKey(), basicInsightRequest,
+                    InsightCache.BASIC, () -> basic.execute(basicInsightRequest));
+        }
         return basic.execute(basicInsightRequest);
     }
 
@@ -140,6 +150,11 @@ public class InsightClient {
      * @throws VonageClientException        if there was a problem with the Vonage request or response objects.
      */
     public StandardInsightResponse getStandardNumberInsight(StandardInsightRequest standardInsightRequest) throws VonageResponseParseException, VonageClientException {
+        InsightCache cache = this.cache;
+        if (cache != null) {
+            return cache.get(wrapper.getApiKey(), standardInsightRequest,
+                    InsightCache.STANDARD, () -> standard.execute(standardInsightRequest));
+        }
         return standard.execute(standardInsightRequest);
     }
 
@@ -183,6 +198,99 @@ public class InsightClient {
      * @throws VonageClientException        if there was a problem with the Vonage request or response objects.
      */
     public AdvancedInsightResponse getAdvancedNumberInsight(AdvancedInsightRequest advancedInsightRequest) throws VonageResponseParseException, VonageClientException {
+        InsightCache cache = this.cache;
+        if (cache != null) {
+            return cache.get(wrapper.getApiKey(), advancedInsightRequest,
+                    InsightCache.ADVANCED, () -> advanced.execute(advancedInsightRequest));
+        }
         return advanced.execute(advancedInsightRequest);
     }
+
+    /**
+     * Perform an asynchronous Advanced Insight Request, returning a future which completes when the result is
+     * delivered to the request's callback URL. The initial request is made on the calling thread; thereafter
+     * no threads are blocked. Your webhook handler must pass each callback to
+     * {@link AsyncInsightCorrelator#handleCallback(String)} on the same correlator.
+     * <p>
+     * If the initial request is not accepted, the future is completed immediately with its response, so the
+     * status should be checked as with synchronous requests.
+     *
+     * @param advancedInsightRequest The request, which must have {@code async} set and a callback URL.
+     * @param correlator The correlator which will receive the callback.
+     *
+     * @return A future for the full insight response delivered to the callback.
+     *
+     * @throws VonageResponseParseException if the initial response from the API could not be parsed.
+     * @throws VonageClientException        if there was a problem with the Vonage request or response objects.
+     *
+     * @since 8.17.0
+     */
+    public CompletableFuture<AdvancedInsightResponse> getAdvancedNumberInsightAsync(
+            AdvancedInsightRequest advancedInsightRequest, AsyncInsightCorrelator correlator
+    ) throws VonageResponseParseException, VonageClientException {
+        Objects.requireNonNull(correlator, "Correlator is required.");
+        if (!Objects.requireNonNull(advancedInsightRequest, "Request is required.").isAsync()) {
+            throw new IllegalArgumentException("Request must be asynchronous.");
+        }
+        AdvancedInsightResponse accepted = advanced.execute(advancedInsightRequest);
+        if (accepted.getStatus() != InsightStatus.SUCCESS || accepted.getRequestId() == null) {
+            return CompletableFuture.completedFuture(accepted);
+        }
+        return correlator.register(accepted.getRequestId());
+    }
+
+    /**
+     * Prepares a bulk Basic Insight lookup over a stream of numbers.
+     *
+     * @return A builder for configuring the concurrency, rate limit and deduplication of the lookup.
+     *
+     * @since 8.17.0
+     */
+    public BulkInsightLookup.Builder<BasicInsightResponse> bulkBasicInsight() {
+        return BulkInsightLookup.builder(this::getBasicNumberInsight);
+    }
+
+    /**
+     * Prepares a bulk Standard Insight lookup over a stream of numbers.
+     *
+     * @return A builder for configuring the concurrency, rate limit and deduplication of the lookup.
+     *
+     * @since 8.17.0
+     */
+    public BulkInsightLookup.Builder<StandardInsightResponse> bulkStandardInsight() {
+        return BulkInsightLookup.builder(this::getStandardNumberInsight);
+    }
+
+    /**
+     * Prepares a bulk synchronous Advanced Insight lookup over a stream of numbers.
+     *
+     * @return A builder for configuring the concurrency, rate limit and deduplication of the lookup.
+     *
+     * @since 8.17.0
+     */
+    public BulkInsightLookup.Builder<AdvancedInsightResponse> bulkAdvancedInsight() {
+        return BulkInsightLookup.builder(this::getAdvancedNumberInsight);
+    }
+
+    /**
+     * Enables caching of insight responses, so that repeated lookups for the same number are served
+     * from memory until they expire. See {@link InsightCache} for details of the caching behaviour.
+     *
+     * @param cache The cache to use, which may be shared between clients. Responses are only served to
+     *              clients using the same API key.
+     *
+     * @since 8.17.0
+     */
+    public void enableCache(InsightCache cache) {
+        this.cache = Objects.requireNonNull(cache, "Cache is required.");
+    }
+
+    /**
+     * Disables caching of insight responses, if previously enabled.
+     *
+     * @since 8.17.0
+     */
+    public void disableCache() {
+        cache = null;
+    }
 }
@@ -18,8 +18,11 @@ package com.vonage.client.messages;
 import com.vonage.client.*;
 import com.vonage.client.auth.JWTAuthMethod;
 import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
+import com.vonage.client.common.DurableOutbox;
 import com.vonage.client.common.HttpMethod;
 import com.vonage.jwt.Jwt;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -27,6 +30,23 @@ public class MessagesClient {
 	private boolean sandbox = false;
 	final RestEndpoint<MessageRequest, MessageResponse> sendMessage, sendMessageSandbox;
 	final RestEndpoint<UpdateStatusRequest, Void> updateMessage;
+	final RestEndpoint<SerialisedRequest, MessageResponse> sendSerialised, sendSerialisedSandbox;
+
+	/**
+	 * A message request which has already been serialised, as stored in an outbox.
+	 */
+	static final class SerialisedRequest implements Jsonable {
+		private final String json;
+
+		SerialisedRequest(String json) {
+			this.json = json;
+		}
+
+		@Override
+		public String toJson() {
+			return json;
+		}
+	}
 
 	/**
 	 * Create a new MessagesClient.
@@ -51,6 +71,8 @@ public class MessagesClient {
 
 		sendMessage = new Endpoint<>(HttpConfig::getApiBaseUri);
 		sendMessageSandbox = new Endpoint<>(hc -> "https://messages-sandbox.nexmo.com");
+		sendSerialised = new Endpoint<>(HttpConfig::getApiBaseUri);
+		sendSerialisedSandbox = new Endpoint<>(hc -> "https://messages-sandbox.nexmo.com");
 		updateMessage = DynamicEndpoint.<UpdateStatusRequest, Void> builder(Void.class)
 				.responseExceptionType(MessageResponseException.class)
 				.wrapper(wrapper).requestMethod(HttpMethod.PATCH)
@@ -91,6 +113,26 @@ public class MessagesClient {
 		return (sandbox ? sendMessageSandbox : sendMessage).execute(request);
 	}
 
+	/**
+	 * Creates a builder for a {@link DurableOutbox} which journals message requests to local disk before
+	 * sending them in the background with this client, so that accepted messages are not lost if the process
+	 * exits before they are sent. Unsent messages are replayed when an outbox is next opened on the directory.
+	 * Whether the sandbox endpoint is used is determined at the time each message is sent.
+	 *
+	 * @param directory The directory to store the journal in.
+	 *
+	 * @return A new outbox builder, which can be further configured before building.
+	 * @since 8.17.0
+	 */
+	public DurableOutbox.Builder<MessageRequest, MessageResponse> outboxBuilder(Path directory) {
+		return DurableOutbox.builder(directory,
+				request -> request.toJson().getBytes(StandardCharsets.UTF_8),
+				payload -> (sandbox ? sendSerialisedSandbox : sendSerialised).execute(
+						new SerialisedRequest(new String(payload, StandardCharsets.UTF_8))
+				)
+		);
+	}
+
 	/**
 	 * Calling this method will make the client use the sandbox endpoint, which will enable you to
 	 * use the <a href=https://dashboard.nexmo.com/messages/sandbox>Messages Sandbox</a>.
@@ -170,6 +212,7 @@ public class MessagesClient {
 	 * @return {@code true} if the token was signed by the secret, {@code false} otherwise.
 	 *
 	 * @since 7.11.0
+	 * @see com.vonage.client.auth.JwtSignatureVerifier
 	 */
 	public static boolean verifySignature(String jwt, String secret) {
 		return Jwt.verifySignature(jwt, secret);
@@ -44,6 +44,14 @@ abstract class BaseNumbersFilter implements QueryParamsRequest {
         searchPattern = builder.searchPattern;
     }
 
+    BaseNumbersFilter(BaseNumbersFilter copy, int index, int size) {
+        this.index = index;
+        this.size = size;
+        pattern = copy.pattern;
+        country = copy.country;
+        searchPattern = copy.searchPattern;
+    }
+
     /**
      * Page index to start return results from. Default is 1.
      *
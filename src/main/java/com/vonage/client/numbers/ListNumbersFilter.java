@@ -31,6 +31,12 @@ public class ListNumbersFilter extends BaseNumbersFilter {
         hasApplication = builder.hasApplication;
     }
 
+    private ListNumbersFilter(ListNumbersFilter copy, int index, int size) {
+        super(copy, index, size);
+        applicationId = copy.applicationId;
+        hasApplication = copy.hasApplication;
+    }
+
     /**
      * Old constructor.
      *
@@ -73,6 +79,18 @@ public class ListNumbersFilter extends BaseNumbersFilter {
         return hasApplication;
     }
 
+    /**
+     * Creates a copy of this filter for retrieving a different page.
+     *
+     * @param index The page index.
+     * @param size The page size.
+     *
+     * @return A new filter with the same criteria as this one, but with the specified page index and size.
+     */
+    ListNumbersFilter withPage(int index, int size) {
+        return new ListNumbersFilter(this, index, size);
+    }
+
     @Override
     public Map<String, String> makeParams() {
         Map<String, String> params = super.makeParams();
@@ -18,6 +18,9 @@ package com.vonage.client.numbers;
 import com.vonage.client.*;
 import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
 import com.vonage.client.common.HttpMethod;
+import com.vonage.client.common.ParallelPageFetcher;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -75,6 +78,32 @@ public class NumbersClient {
         return listNumbers.execute(filter);
     }
 
+    /**
+     * Get every number assigned to the authenticated account which matches the filter, fetching all pages
+     * concurrently. The first page is requested to determine the total count, after which the remaining
+     * pages are retrieved in parallel. If the filter does not specify a page size, the maximum (100) is used.
+     *
+     * @param filter A ListNumbersFilter describing the filters to be applied to the request. The page index,
+     *               if specified, determines the first page to retrieve.
+     * @param parallelism Maximum number of concurrent page requests.
+     *
+     * @return The owned numbers matching the supplied filter across all pages, in page order.
+     *
+     * @throws NumbersResponseException If any of the API calls returned an unsuccessful (4xx or 5xx) response.
+     * @since 8.17.0
+     */
+    public List<OwnedNumber> listAllNumbers(ListNumbersFilter filter, int parallelism) throws NumbersResponseException {
+        final ListNumbersFilter base = filter != null ? filter : ListNumbersFilter.builder().build();
+        final int size = base.getSize() != null ? base.getSize() : 100,
+                start = base.getIndex() != null ? base.getIndex() : 1;
+        return ParallelPageFetcher.<ListNumbersResponse, OwnedNumber> builder(
+                    ordinal -> listNumbers(base.withPage(start + ordinal, size)),
+                    page -> Arrays.asList(page.getNumbers())
+                )
+                .totalItems(page -> page.getCount() - (start - 1) * size, size)
+                .parallelism(parallelism).build().fetchAll();
+    }
+
     /**
      * Search for available Vonage Virtual Numbers.
      *
@@ -18,8 +18,14 @@ package com.vonage.client.sms;
 import com.vonage.client.*;
 import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
 import com.vonage.client.auth.SignatureAuthMethod;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.common.DurableOutbox;
 import com.vonage.client.common.HttpMethod;
 import com.vonage.client.sms.messages.Message;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 
 
 /**
@@ -27,7 +33,10 @@ import com.vonage.client.sms.messages.Message;
  * is to use {@link VonageClient#getSmsClient()}.
  */
 public class SmsClient {
+    private static final ObjectMapper PARAMS_MAPPER = Jsonable.createDefaultObjectMapper();
+
     final RestEndpoint<Message, SmsSubmissionResponse> sendMessage;
+    final RestEndpoint<QueryParamsRequest, SmsSubmissionResponse> sendSerialised;
 
     /**
      * Create a new SmsClient.
@@ -36,9 +45,9 @@ public class SmsClient {
      */
     public SmsClient(HttpWrapper wrapper) {
         @SuppressWarnings("unchecked")
-        class Endpoint extends DynamicEndpoint<Message, SmsSubmissionResponse> {
+        class Endpoint<T> extends DynamicEndpoint<T, SmsSubmissionResponse> {
             Endpoint() {
-                super(DynamicEndpoint.<Message, SmsSubmissionResponse> builder(SmsSubmissionResponse.class)
+                super(DynamicEndpoint.<T, SmsSubmissionResponse> builder(SmsSubmissionResponse.class)
                         .wrapper(wrapper).requestMethod(HttpMethod.POST)
                         .authMethod(SignatureAuthMethod.class, ApiKeyHeaderAuthMethod.class)
                         .urlFormEncodedContentType(true).pathGetter((de, req) ->
@@ -47,7 +56,8 @@ public class SmsClient {
                 );
             }
         }
-        sendMessage = new Endpoint();
+        sendMessage = new Endpoint<>();
+        sendSerialised = new Endpoint<>();
     }
 
     /**
@@ -74,4 +84,37 @@ public class SmsClient {
     public SmsSubmissionResponse submitMessage(Message message) throws VonageResponseParseException, VonageClientException {
         return sendMessage.execute(message);
     }
+
+    /**
+     * Creates a builder for a {@link DurableOutbox} which journals SMS submissions to local disk before
+     * sending them in the background with this client, so that accepted messages are not lost if the process
+     * exits before they are sent. Unsent messages are replayed when an outbox is next opened on the directory.
+     * <p>
+     * Note that the SMS API reports most delivery problems as a per-message status in a successful response,
+     * so the resulting {@link SmsSubmissionResponse} should still be checked.
+     *
+     * @param directory The directory to store the journal in.
+     *
+     * @return A new outbox builder, which can be further configured before building.
+     * @since 8.17.0
+     */
+    public DurableOutbox.Builder<Message, SmsSubmissionResponse> outboxBuilder(Path directory) {
+        return DurableOutbox.builder(directory, message -> {
+            try {
+                return PARAMS_MAPPER.writeValueAsBytes(message.makeParams());
+            }
+            catch (IOException ex) {
+                throw new VonageUnexpectedException("Failed to serialise SMS parameters.", ex);
+            }
+        }, payload -> {
+            LinkedHashMap<String, Object> params;
+            try {
+                params = PARAMS_MAPPER.readValue(payload, new TypeReference<LinkedHashMap<String, Object>>() {});
+            }
+            catch (IOException ex) {
+                throw new IllegalArgumentException("Failed to read SMS parameters from outbox.", ex);
+            }
+            return sendSerialised.execute(() -> params);
+        });
+    }
 }
@@ -20,7 +20,11 @@ import com.vonage.client.HttpWrapper;
 import com.vonage.client.RestEndpoint;
 import com.vonage.client.VonageClient;
 import com.vonage.client.auth.JWTAuthMethod;
+import com.vonage.client.common.BatchExecutor;
+import com.vonage.client.common.BatchResult;
 import com.vonage.client.common.HttpMethod;
+import com.vonage.client.common.TtlCache;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -37,6 +41,8 @@ public class UsersClient {
     final RestEndpoint<String, User> getUser;
     final RestEndpoint<User, User> updateUser;
     final RestEndpoint<String, Void> deleteUser;
+    private volatile TtlCache<String, String> userCache;
+    private final long[] userCacheGenerations = new long[64];
 
     public UsersClient(HttpWrapper wrapper) {
         @SuppressWarnings("unchecked")
@@ -102,7 +108,12 @@ public class UsersClient {
      */
     public User updateUser(String userId, User user) throws UsersResponseException {
         validateUser(user).id = validateUserId(userId);
-        return updateUser.execute(user);
+        try {
+            return updateUser.execute(user);
+        }
+        finally {
+            invalidateCachedUser(user.id);
+        }
     }
 
     /**
@@ -115,7 +126,28 @@ public class UsersClient {
      * @throws UsersResponseException If there was an error processing the request.
      */
     public User getUser(String userId) throws UsersResponseException {
-        return getUser.execute(validateUserId(userId));
+        final String id = validateUserId(userId);
+        final TtlCache<String, String> cache = userCache;
+        if (cache == null) {
+            return getUser.execute(id);
+        }
+        String cached = cache.get(id);
+        if (cached != null) {
+            return User.fromJson(cached);
+        }
+        // Only cache the result if the user was not invalidated whilst it was being retrieved.
+        final int stripe = generationStripe(id);
+        final long generation;
+        synchronized (userCacheGenerations) {
+            generation = userCacheGenerations[stripe];
+        }
+        User user = getUser.execute(id);
+        synchronized (userCacheGenerations) {
+            if (userCacheGenerations[stripe] == generation) {
+                cache.put(id, user.toJson());
+            }
+        }
+        return user;
     }
 
     /**
@@ -126,7 +158,13 @@ public class UsersClient {
      * @throws UsersResponseException If there was an error processing the request.
      */
     public void deleteUser(String userId) throws UsersResponseException {
-        deleteUser.execute(validateUserId(userId));
+        final String id = validateUserId(userId);
+        try {
+            deleteUser.execute(id);
+        }
+        finally {
+            invalidateCachedUser(id);
+        }
     }
 
     /**
@@ -184,4 +222,79 @@ public class UsersClient {
         return Objects.requireNonNull(minimalUsers, "Users list is required")
                 .stream().map(this::getUserDetails).collect(Collectors.toList());
     }
+
+    /**
+     * Concurrent version of {@link #getUserDetails(List)}, which retrieves the full records of many users
+     * in parallel. A failure to retrieve one user does not prevent the others from being retrieved.
+     * If the user cache is enabled, cached records are used where available.
+     *
+     * @param minimalUsers The list of users' metadata.
+     * @param parallelism Maximum number of concurrent requests.
+     *
+     * @return The fully populated users keyed by user ID, and any failures (typically
+     * {@linkplain UsersResponseException}) keyed by user ID, both in the same encounter order.
+     *
+     * @since 8.17.0
+     */
+    public BatchResult<String, User> getUserDetails(List<? extends BaseUser> minimalUsers, int parallelism) {
+        return getUserDetails(minimalUsers, BatchExecutor.withParallelism(parallelism));
+    }
+
+    /**
+     * Concurrent version of {@link #getUserDetails(List)}, which retrieves the full records of many users
+     * using the specified executor settings. A failure to retrieve one user does not prevent the others
+     * from being retrieved. If the user cache is enabled, cached records are used where available.
+     *
+     * @param minimalUsers The list of users' metadata.
+     * @param batchExecutor The concurrency settings to use.
+     *
+     * @return The fully populated users keyed by user ID, and any failures (typically
+     * {@linkplain UsersResponseException}) keyed by user ID, both in the same encounter order.
+     *
+     * @since 8.17.0
+     */
+    public BatchResult<String, User> getUserDetails(List<? extends BaseUser> minimalUsers, BatchExecutor batchExecutor) {
+        List<String> ids = Objects.requireNonNull(minimalUsers, "Users list is required").stream()
+                .map(user -> validateUser(user).getId()).collect(Collectors.toList());
+        return Objects.requireNonNull(batchExecutor, "Batch executor is required.").invokeAll(ids, this::getUser);
+    }
+
+    /**
+     * Enables caching of user records retrieved through {@link #getUser(String)} and the
+     * {@code getUserDetails} methods. Cached records are invalidated when the user is updated or
+     * deleted through this client. Note that changes made elsewhere will not be visible until the
+     * cached record expires. Each call returns a new copy of the cached record, so callers may modify
+     * it freely. Calling this method again replaces the existing cache.
+     *
+     * @param ttl How long to retain each user record for.
+     * @param maxSize Maximum number of users to retain. The least recently used are evicted first.
+     *
+     * @since 8.17.0
+     */
+    public void enableUserCache(Duration ttl, int maxSize) {
+        userCache = new TtlCache<>(ttl, maxSize);
+    }
+
+    /**
+     * Disables and clears the user cache, if it was enabled.
+     *
+     * @since 8.17.0
+     */
+    public void disableUserCache() {
+        userCache = null;
+    }
+
+    void invalidateCachedUser(String userId) {
+        synchronized (userCacheGenerations) {
+            userCacheGenerations[generationStripe(userId)]++;
+            final TtlCache<String, String> cache = userCache;
+            if (cache != null) {
+                cache.invalidate(userId);
+            }
+        }
+    }
+
+    private int generationStripe(String userId) {
+        return (userId.hashCode() & 0x7fffffff) % userCacheGenerations.length;
+    }
 }
@@ -24,7 +24,7 @@ class SearchRequest implements QueryParamsRequest {
     /**
      * Number of maximum request IDs that can be searched for.
      */
-    private static final int MAX_SEARCH_REQUESTS = 10;
+    static final int MAX_SEARCH_REQUESTS = 10;
 
     private final String[] requestIds;
 
@@ -18,7 +18,9 @@ package com.vonage.client.verify;
 import com.vonage.client.*;
 import com.vonage.client.auth.ApiKeyQueryParamsAuthMethod;
 import com.vonage.client.common.HttpMethod;
-import java.util.Locale;
+import com.vonage.client.common.ParallelPageFetcher;
+import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * A client for talking to the Vonage Verify API. The standard way to obtain an instance of this class is to use {@link
@@ -236,6 +238,65 @@ public class VerifyClient {
         return search.execute(new SearchRequest(requestIds));
     }
 
+    /**
+     * Search for any number of previous verification requests. The IDs are de-duplicated and split into
+     * batches of the maximum size accepted by the API (10), which are searched concurrently. The details of
+     * each batch are emitted as soon as it completes, so the stream is not in the order of the IDs. Batches
+     * are requested lazily when the stream is consumed; closing the stream early cancels outstanding requests.
+     * <p>
+     * IDs which are not found are omitted. A batch which fails due to throttling, credentials, account
+     * restrictions or an internal error causes a {@link VerifyException} to be thrown on consumption.
+     *
+     * @param requestIds The IDs of the Verify requests to look up.
+     * @param parallelism Maximum number of concurrent search requests.
+     *
+     * @return A stream of the details of all verification requests that were found.
+     *
+     * @throws VonageClientException        if there was a problem with the Vonage request or response objects.
+     * @throws VonageResponseParseException if the response from the API could not be parsed.
+     * @since 8.17.0
+     */
+    public Stream<VerifyDetails> searchAll(Collection<String> requestIds, int parallelism)
+            throws VonageClientException, VonageResponseParseException {
+        final List<String> ids = new ArrayList<>(new LinkedHashSet<>(
+                Objects.requireNonNull(requestIds, "Request IDs are required.")
+        ));
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("Request IDs cannot be null.");
+        }
+        if (ids.isEmpty()) {
+            return Stream.empty();
+        }
+        final int batchSize = SearchRequest.MAX_SEARCH_REQUESTS,
+                batches = (ids.size() + batchSize - 1) / batchSize;
+        return ParallelPageFetcher.<SearchVerifyResponse, VerifyDetails> builder(
+                    ordinal -> search(ids.subList(ordinal * batchSize,
+                            Math.min(ids.size(), (ordinal + 1) * batchSize)).toArray(new String[0])
+                    ),
+                    VerifyClient::searchResults
+                )
+                .totalPages(first -> batches)
+                .parallelism(parallelism).build().streamUnordered();
+    }
+
+    private static List<VerifyDetails> searchResults(SearchVerifyResponse response) {
+        VerifyStatus status = response.getStatus();
+        if (status == null || status == VerifyStatus.OK) {
+            List<VerifyDetails> details = response.getVerificationRequests();
+            return details != null ? details : Collections.emptyList();
+        }
+        switch (status) {
+            case THROTTLED:
+            case INVALID_CREDENTIALS:
+            case INTERNAL_ERROR:
+            case PARTNER_ACCOUNT_BARRED:
+            case PARTNER_QUOTA_EXCEEDED:
+                throw new VerifyException(String.valueOf(status.getVerifyStatus()), response.getErrorText());
+            default:
+                return Collections.emptyList();
+        }
+    }
+
     /**
      * Advance a current verification request to the next stage in the process.
      *
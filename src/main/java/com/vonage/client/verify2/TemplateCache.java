@@ -0,0 +1,366 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.verify2;
+
+import com.vonage.client.common.SingleFlight;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory copy of an account's Verify templates and their fragments, for use with
+ * {@link Verify2Client#enableTemplateCache(TemplateCache)}. All templates and fragments are loaded together on
+ * first use and indexed by template ID, template name and fragment (channel, locale), so lookups do not require
+ * a round trip. The copy is refreshed periodically in the background, serving the previous copy until the
+ * refresh completes, and is discarded whenever a template or fragment is created, updated or deleted through
+ * the client so that the next lookup reloads it.
+ * <p>
+ * Returned templates and fragments are shared between callers and should not be modified.
+ *
+ * @since 8.17.0
+ */
+public final class TemplateCache implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(TemplateCache.class.getName());
+
+	private final Verify2Client client;
+	private final SingleFlight<Boolean, Snapshot> loads = new SingleFlight<>();
+	private final AtomicLong generation = new AtomicLong(), loadCount = new AtomicLong();
+	private final ScheduledExecutorService ownedScheduler;
+	private final ScheduledFuture<?> refreshTask;
+	private volatile Snapshot current;
+	private volatile RuntimeException lastRefreshFailure;
+
+	/**
+	 * Immutable indexes over a single load of the templates and fragments.
+	 */
+	private static final class Snapshot {
+		final long generation;
+		final List<Template> templates;
+		final Map<UUID, Template> byId;
+		final Map<String, Template> byName;
+		final Map<UUID, List<TemplateFragment>> fragments;
+		final Map<UUID, Map<UUID, TemplateFragment>> fragmentsById;
+		final Map<UUID, Map<String, TemplateFragment>> fragmentsByChannelLocale;
+
+		Snapshot(long generation, List<Template> templates, Map<UUID, List<TemplateFragment>> fragments) {
+			this.generation = generation;
+			this.templates = Collections.unmodifiableList(templates);
+			Map<UUID, Template> byId = new HashMap<>();
+			Map<String, Template> byName = new HashMap<>();
+			for (Template template : templates) {
+				byId.put(template.getId(), template);
+				if (template.getName() != null) {
+					byName.put(template.getName(), template);
+				}
+			}
+			this.byId = byId;
+			this.byName = byName;
+			Map<UUID, Map<UUID, TemplateFragment>> fragmentsById = new HashMap<>();
+			Map<UUID, Map<String, TemplateFragment>> fragmentsByChannelLocale = new HashMap<>();
+			fragments.forEach((templateId, list) -> {
+				Map<UUID, TemplateFragment> ids = new HashMap<>();
+				Map<String, TemplateFragment> channelLocales = new HashMap<>();
+				for (TemplateFragment fragment : list) {
+					ids.put(fragment.getFragmentId(), fragment);
+					if (fragment.getChannel() != null && fragment.getLocale() != null) {
+						channelLocales.put(channelLocaleKey(fragment.getChannel(), fragment.getLocale().toLanguageTag()), fragment);
+					}
+				}
+				fragmentsById.put(templateId, ids);
+				fragmentsByChannelLocale.put(templateId, channelLocales);
+			});
+			this.fragments = fragments;
+			this.fragmentsById = fragmentsById;
+			this.fragmentsByChannelLocale = fragmentsByChannelLocale;
+		}
+	}
+
+	private TemplateCache(Builder builder) {
+		client = Objects.requireNonNull(builder.client, "Verify client is required.");
+		Duration refreshInterval = builder.refreshInterval;
+		if (refreshInterval == null) {
+			ownedScheduler = null;
+			refreshTask = null;
+			return;
+		}
+		if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+			throw new IllegalArgumentException("Refresh interval must be positive.");
+		}
+		ScheduledExecutorService scheduler = builder.scheduler;
+		if (scheduler == null) {
+			scheduler = ownedScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "vonage-verify-template-cache");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		else {
+			ownedScheduler = null;
+		}
+		long interval = refreshInterval.toNanos();
+		refreshTask = scheduler.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.NANOSECONDS);
+	}
+
+	static String channelLocaleKey(FragmentChannel channel, String locale) {
+		return channel + "|" + locale.trim().replace('_', '-').toLowerCase(Locale.ROOT);
+	}
+
+	Verify2Client getClient() {
+		return client;
+	}
+
+	private Snapshot load() {
+		long gen = generation.get();
+		loadCount.incrementAndGet();
+		List<Template> templates = client.listTemplates(1, 100).getTemplates();
+		templates = templates != null ? new ArrayList<>(templates) : new ArrayList<>();
+		Map<UUID, List<TemplateFragment>> fragments = new HashMap<>();
+		for (Template template : templates) {
+			List<TemplateFragment> list = client.listTemplateFragments(template.getId(), 1, 1000).getTemplateFragments();
+			fragments.put(template.getId(), list != null ?
+					Collections.unmodifiableList(new ArrayList<>(list)) : Collections.emptyList()
+			);
+		}
+		Snapshot snapshot = new Snapshot(gen, templates, fragments);
+		synchronized (this) {
+			if (generation.get() == gen) {
+				current = snapshot;
+			}
+		}
+		return snapshot;
+	}
+
+	private Snapshot snapshot() {
+		Snapshot snapshot = current;
+		while (snapshot == null) {
+			snapshot = loads.execute(Boolean.TRUE, this::load);
+			if (snapshot.generation != generation.get()) {
+				snapshot = current;
+			}
+		}
+		return snapshot;
+	}
+
+	private void refreshQuietly() {
+		try {
+			refresh();
+			lastRefreshFailure = null;
+		}
+		catch (RuntimeException ex) {
+			lastRefreshFailure = ex;
+			LOGGER.log(Level.WARNING, "Failed to refresh Verify templates.", ex);
+		}
+	}
+
+	/**
+	 * Reloads all templates and fragments now. Lookups continue to be served from the previous copy
+	 * (if any) until this completes.
+	 */
+	public void refresh() {
+		loads.execute(Boolean.TRUE, this::load);
+	}
+
+	/**
+	 * Discards the cached templates and fragments, so that the next lookup reloads them. This is called
+	 * automatically by the client after any template or fragment is created, updated or deleted.
+	 */
+	public void invalidate() {
+		synchronized (this) {
+			generation.incrementAndGet();
+			current = null;
+		}
+	}
+
+	/**
+	 * All templates in the account.
+	 *
+	 * @return The templates as an unmodifiable list.
+	 */
+	public List<Template> getTemplates() {
+		return snapshot().templates;
+	}
+
+	/**
+	 * Looks up a template by its ID.
+	 *
+	 * @param templateId The template ID.
+	 *
+	 * @return The template, or {@code null} if there is no such template.
+	 */
+	public Template getTemplate(UUID templateId) {
+		return snapshot().byId.get(templateId);
+	}
+
+	/**
+	 * Looks up a template by its name.
+	 *
+	 * @param name The template name.
+	 *
+	 * @return The template, or {@code null} if there is no such template.
+	 */
+	public Template getTemplate(String name) {
+		return snapshot().byName.get(name);
+	}
+
+	/**
+	 * The template which is used when a verification request does not specify one.
+	 *
+	 * @return The default template, or {@code null} if there is none.
+	 */
+	public Template getDefaultTemplate() {
+		for (Template template : snapshot().templates) {
+			if (Boolean.TRUE.equals(template.isDefault())) {
+				return template;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * All fragments of a template.
+	 *
+	 * @param templateId The template ID.
+	 *
+	 * @return The fragments as an unmodifiable list, which is empty if there is no such template.
+	 */
+	public List<TemplateFragment> getTemplateFragments(UUID templateId) {
+		return snapshot().fragments.getOrDefault(templateId, Collections.emptyList());
+	}
+
+	/**
+	 * Looks up a template fragment by its ID.
+	 *
+	 * @param templateId The template ID.
+	 * @param fragmentId The fragment ID.
+	 *
+	 * @return The fragment, or {@code null} if there is no such fragment.
+	 */
+	public TemplateFragment getTemplateFragment(UUID templateId, UUID fragmentId) {
+		return snapshot().fragmentsById.getOrDefault(templateId, Collections.emptyMap()).get(fragmentId);
+	}
+
+	/**
+	 * Looks up the fragment of a template for a given channel and locale.
+	 *
+	 * @param templateId The template ID.
+	 * @param channel The fragment channel.
+	 * @param locale The BCP-47 locale, e.g. {@code en-gb}. This is case-insensitive.
+	 *
+	 * @return The fragment, or {@code null} if the template has no fragment for the channel and locale.
+	 */
+	public TemplateFragment getTemplateFragment(UUID templateId, FragmentChannel channel, String locale) {
+		Objects.requireNonNull(channel, "Channel is required.");
+		Objects.requireNonNull(locale, "Locale is required.");
+		return snapshot().fragmentsByChannelLocale.getOrDefault(templateId, Collections.emptyMap())
+				.get(channelLocaleKey(channel, locale));
+	}
+
+	/**
+	 * Number of times the templates and fragments have been loaded from the API.
+	 *
+	 * @return The load count.
+	 */
+	public long getLoadCount() {
+		return loadCount.get();
+	}
+
+	/**
+	 * The exception thrown by the most recent background refresh, if it failed.
+	 *
+	 * @return The failure, or {@code null} if the last refresh succeeded or none has been attempted.
+	 */
+	public RuntimeException getLastRefreshFailure() {
+		return lastRefreshFailure;
+	}
+
+	/**
+	 * Stops background refreshing. Lookups continue to work, loading on demand after invalidation.
+	 */
+	@Override
+	public void close() {
+		if (refreshTask != null) {
+			refreshTask.cancel(false);
+		}
+		if (ownedScheduler != null) {
+			ownedScheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param client The Verify client to load templates with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(Verify2Client client) {
+		return new Builder(client);
+	}
+
+	/**
+	 * Builder for configuring the cache.
+	 */
+	public static final class Builder {
+		private final Verify2Client client;
+		private Duration refreshInterval = Duration.ofMinutes(10);
+		private ScheduledExecutorService scheduler;
+
+		private Builder(Verify2Client client) {
+			this.client = client;
+		}
+
+		/**
+		 * How often to reload the templates and fragments in the background, to pick up changes made
+		 * outside this client. The default is 10 minutes.
+		 *
+		 * @param refreshInterval The refresh interval, or {@code null} to only load on demand.
+		 *
+		 * @return This builder.
+		 */
+		public Builder refreshInterval(Duration refreshInterval) {
+			this.refreshInterval = refreshInterval;
+			return this;
+		}
+
+		/**
+		 * Scheduler to refresh on. If unspecified, a dedicated daemon thread is created and stopped when the
+		 * cache is closed. A supplied scheduler is not shut down by the cache.
+		 *
+		 * @param scheduler The scheduler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder scheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Builds the cache. Nothing is loaded until the first lookup or refresh.
+		 *
+		 * @return A new TemplateCache with this builder's properties.
+		 */
+		public TemplateCache build() {
+			return new TemplateCache(this);
+		}
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.verify2;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vonage.client.Jsonable;
+import com.vonage.client.common.SingleFlight;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Suppresses duplicate verification requests, for use with {@link Verify2Client#enableCoalescing(VerificationCoalescer)}.
+ * Requests are considered identical if they are made by the same application or account and have the same
+ * brand, options and workflows, with recipients
+ * compared after normalisation: phone numbers by their digits only (so {@code +44 7700-900000} and
+ * {@code 447700900000} match) and email addresses case-insensitively.
+ * <p>
+ * While a request is in progress, identical requests wait for and share its {@link VerificationResponse}
+ * (or exception) rather than being sent. A successful response continues to be returned for identical
+ * requests for the duration of the dedupe window, which absorbs double-clicks and client retries that
+ * would otherwise fail with a concurrent verification error. Failures are never retained.
+ *
+ * @since 8.17.0
+ */
+public final class VerificationCoalescer {
+	private static final ObjectMapper MAPPER = Jsonable.createDefaultObjectMapper();
+
+	private final long windowNanos;
+	private final LongSupplier clock;
+	private final LinkedHashMap<String, Completed> recent;
+	private final SingleFlight<String, VerificationResponse> flights = new SingleFlight<>();
+	private final AtomicLong sent = new AtomicLong(), coalesced = new AtomicLong();
+
+	private static final class Completed {
+		final VerificationResponse response;
+		final long completedAt;
+
+		Completed(VerificationResponse response, long completedAt) {
+			this.response = response;
+			this.completedAt = completedAt;
+		}
+	}
+
+	private VerificationCoalescer(Builder builder) {
+		Duration window = Objects.requireNonNull(builder.dedupeWindow, "Dedupe window is required.");
+		if (window.isNegative()) {
+			throw new IllegalArgumentException("Dedupe window cannot be negative.");
+		}
+		windowNanos = window.toNanos();
+		int maxSize = builder.maxSize;
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be positive.");
+		}
+		clock = builder.clock;
+		recent = new LinkedHashMap<String, Completed>(Math.min(maxSize, 1024), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Completed> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Computes the deduplication key for the request, which is the identity of the sender followed by
+	 * the request's JSON representation with each workflow's recipient normalised.
+	 *
+	 * @param sender The application ID or API key of the client sending the request.
+	 * @param request The verification request.
+	 *
+	 * @return The key as a string.
+	 */
+	static String key(String sender, VerificationRequest request) {
+		return (sender != null ? sender : "") + '|' + requestKey(request);
+	}
+
+	private static String requestKey(VerificationRequest request) {
+		JsonNode tree = MAPPER.valueToTree(request);
+		for (JsonNode workflow : tree.path("workflow")) {
+			JsonNode to = workflow.get("to");
+			if (to != null && to.isTextual()) {
+				((ObjectNode) workflow).put("to", normaliseRecipient(workflow.path("channel").asText(), to.asText()));
+			}
+		}
+		return tree.toString();
+	}
+
+	static String normaliseRecipient(String channel, String to) {
+		String trimmed = to.trim();
+		if (Channel.EMAIL.toString().equals(channel)) {
+			return trimmed.toLowerCase(Locale.ROOT);
+		}
+		StringBuilder digits = new StringBuilder(trimmed.length());
+		for (int i = 0; i < trimmed.length(); i++) {
+			char c = trimmed.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits.append(c);
+			}
+		}
+		return digits.length() > 0 ? digits.toString() : trimmed;
+	}
+
+	private VerificationResponse lookup(String key) {
+		long now = clock.getAsLong();
+		synchronized (recent) {
+			Completed completed = recent.get(key);
+			if (completed == null) {
+				return null;
+			}
+			if (now - completed.completedAt >= windowNanos) {
+				recent.remove(key);
+				return null;
+			}
+			return completed.response;
+		}
+	}
+
+	/**
+	 * Sends the request, unless an identical request is in progress or completed within the dedupe window.
+	 *
+	 * @param sender The application ID or API key of the client sending the request.
+	 * @param request The verification request.
+	 * @param call The API call to make if the request is not a duplicate.
+	 *
+	 * @return The response, which may be shared with other callers.
+	 */
+	VerificationResponse send(String sender, VerificationRequest request, Supplier<VerificationResponse> call) {
+		String key = key(sender, request);
+		VerificationResponse previous = lookup(key);
+		if (previous != null) {
+			coalesced.incrementAndGet();
+			return previous;
+		}
+		boolean[] leader = {false};
+		VerificationResponse response = flights.execute(key, () -> {
+			leader[0] = true;
+			VerificationResponse recheck = lookup(key);
+			if (recheck != null) {
+				return recheck;
+			}
+			sent.incrementAndGet();
+			VerificationResponse result = call.get();
+			if (result != null && windowNanos > 0) {
+				synchronized (recent) {
+					recent.put(key, new Completed(result, clock.getAsLong()));
+				}
+			}
+			return result;
+		});
+		if (!leader[0]) {
+			coalesced.incrementAndGet();
+		}
+		return response;
+	}
+
+	/**
+	 * Forgets any completed request identical to the given one from any client, so that the next such
+	 * request is sent even if within the dedupe window. This does not affect requests which are still
+	 * in progress.
+	 *
+	 * @param request The verification request.
+	 */
+	public void invalidate(VerificationRequest request) {
+		String requestKey = requestKey(Objects.requireNonNull(request, "Request is required."));
+		synchronized (recent) {
+			recent.keySet().removeIf(key -> key.endsWith(requestKey) &&
+					key.length() == key.indexOf('|') + 1 + requestKey.length()
+			);
+		}
+	}
+
+	/**
+	 * Forgets all completed requests.
+	 */
+	public void invalidateAll() {
+		synchronized (recent) {
+			recent.clear();
+		}
+	}
+
+	/**
+	 * Number of requests which were sent to the API.
+	 *
+	 * @return The sent request count.
+	 */
+	public long getSentCount() {
+		return sent.get();
+	}
+
+	/**
+	 * Number of requests which were answered by sharing another request's outcome instead of being sent.
+	 *
+	 * @return The coalesced request count.
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for configuring the coalescer.
+	 */
+	public static final class Builder {
+		private Duration dedupeWindow = Duration.ofSeconds(5);
+		private int maxSize = 10_000;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder() {}
+
+		/**
+		 * How long after completion a successful response is returned for identical requests.
+		 * The default is 5 seconds.
+		 *
+		 * @param dedupeWindow The window, or {@link Duration#ZERO} to only coalesce concurrent requests.
+		 *
+		 * @return This builder.
+		 */
+		public Builder dedupeWindow(Duration dedupeWindow) {
+			this.dedupeWindow = dedupeWindow;
+			return this;
+		}
+
+		/**
+		 * Maximum number of completed requests to remember. When full, the least recently used is
+		 * forgotten. The default is 10000.
+		 *
+		 * @param maxSize The maximum size, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxSize(int maxSize) {
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		Builder clock(LongSupplier clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Builds the coalescer.
+		 *
+		 * @return A new VerificationCoalescer with this builder's properties.
+		 */
+		public VerificationCoalescer build() {
+			return new VerificationCoalescer(this);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class Verify2Client {
 	final boolean hasJwtAuthMethod;
@@ -38,6 +39,9 @@ public class Verify2Client {
 	final RestEndpoint<TemplateFragmentRequestWrapper, TemplateFragment> getFragment;
 	final RestEndpoint<TemplateFragmentRequestWrapper, Void> deleteFragment;
 	final RestEndpoint<TemplateFragment, TemplateFragment> createFragment, updateFragment;
+	private final HttpWrapper httpWrapper;
+	private volatile VerificationCoalescer coalescer;
+	private volatile TemplateCache templateCache;
 
 	/**
 	 * Create a new Verify2Client.
@@ -45,6 +49,7 @@ public class Verify2Client {
 	 * @param wrapper Http Wrapper used to create verification requests.
 	 */
 	public Verify2Client(HttpWrapper wrapper) {
+		httpWrapper = wrapper;
 		hasJwtAuthMethod = wrapper.getAuthCollection().hasAuthMethod(JWTAuthMethod.class);
 
 		@SuppressWarnings("unchecked")
@@ -136,7 +141,75 @@ public class Verify2Client {
 				"Codeless verification requires an application ID to be set in order to use webhooks."
 			);
 		}
-		return verifyUser.execute(Objects.requireNonNull(request));
+		Objects.requireNonNull(request);
+		VerificationCoalescer coalescer = this.coalescer;
+		if (coalescer != null) {
+			return coalescer.send(senderIdentity(), request, () -> verifyUser.execute(request));
+		}
+		return verifyUser.execute(request);
+	}
+
+	/**
+	 * Enables coalescing of duplicate verification requests, so that identical requests made concurrently or
+	 * in quick succession share a single API call. See {@link VerificationCoalescer} for details.
+	 *
+	 * @param coalescer The coalescer to use, which may be shared between clients. Requests are only
+	 *                  coalesced with those from clients using the same application ID or API key.
+	 *
+	 * @since 8.17.0
+	 */
+	public void enableCoalescing(VerificationCoalescer coalescer) {
+		this.coalescer = Objects.requireNonNull(coalescer, "Coalescer is required.");
+	}
+
+	/**
+	 * Disables coalescing of verification requests, if previously enabled.
+	 *
+	 * @since 8.17.0
+	 */
+	public void disableCoalescing() {
+		coalescer = null;
+	}
+
+	private String senderIdentity() {
+		UUID applicationId = httpWrapper.getApplicationId();
+		return applicationId != null ? applicationId.toString() : httpWrapper.getApiKey();
+	}
+
+	/**
+	 * Enables serving template and fragment lookups from memory. Lookups for IDs which are not cached
+	 * fall back to the API. See {@link TemplateCache} for details.
+	 *
+	 * @param cache The cache to use, which must have been built for this client.
+	 *
+	 * @since 8.17.0
+	 */
+	public void enableTemplateCache(TemplateCache cache) {
+		if (Objects.requireNonNull(cache, "Template cache is required.").getClient() != this) {
+			throw new IllegalArgumentException("Template cache was built for a different client.");
+		}
+		templateCache = cache;
+	}
+
+	/**
+	 * Disables serving template and fragment lookups from memory, if previously enabled.
+	 *
+	 * @since 8.17.0
+	 */
+	public void disableTemplateCache() {
+		templateCache = null;
+	}
+
+	private <R> R invalidatingTemplateCache(Supplier<R> call) {
+		try {
+			return call.get();
+		}
+		finally {
+			TemplateCache cache = templateCache;
+			if (cache != null) {
+				cache.invalidate();
+			}
+		}
 	}
 
 	/**
@@ -226,7 +299,8 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public Template createTemplate(String name) {
-		return createTemplate.execute(new Template(Objects.requireNonNull(name, "Name is required."), null, null));
+		Template template = new Template(Objects.requireNonNull(name, "Name is required."), null, null);
+		return invalidatingTemplateCache(() -> createTemplate.execute(template));
 	}
 
 	/**
@@ -245,6 +319,10 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public List<Template> listTemplates() {
+		TemplateCache cache = templateCache;
+		if (cache != null) {
+			return cache.getTemplates();
+		}
 		return listTemplates(1, 100).getTemplates();
 	}
 
@@ -272,6 +350,13 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public Template getTemplate(UUID templateId) {
+		TemplateCache cache = templateCache;
+		if (cache != null) {
+			Template cached = cache.getTemplate(validateTemplateId(templateId));
+			if (cached != null) {
+				return cached;
+			}
+		}
 		return getTemplate.execute(validateTemplateId(templateId));
 	}
 
@@ -298,7 +383,8 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public Template updateTemplate(UUID templateId, String name, Boolean isDefault) {
-		return updateTemplate.execute(new Template(name, isDefault, validateTemplateId(templateId)));
+		Template template = new Template(name, isDefault, validateTemplateId(templateId));
+		return invalidatingTemplateCache(() -> updateTemplate.execute(template));
 	}
 
 	/**
@@ -320,7 +406,8 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public void deleteTemplate(UUID templateId) {
-		deleteTemplate.execute(validateTemplateId(templateId));
+		validateTemplateId(templateId);
+		invalidatingTemplateCache(() -> deleteTemplate.execute(templateId));
 	}
 
 	/**
@@ -347,7 +434,7 @@ public class Verify2Client {
 	 */
 	public TemplateFragment createTemplateFragment(UUID templateId, TemplateFragment fragment) {
 		Objects.requireNonNull(fragment, "Template fragment is required.").templateId = validateTemplateId(templateId);
-		return createFragment.execute(fragment);
+		return invalidatingTemplateCache(() -> createFragment.execute(fragment));
 	}
 
 	/**
@@ -369,6 +456,10 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public List<TemplateFragment> listTemplateFragments(UUID templateId) {
+		TemplateCache cache = templateCache;
+		if (cache != null && cache.getTemplate(validateTemplateId(templateId)) != null) {
+			return cache.getTemplateFragments(templateId);
+		}
 		return listTemplateFragments(templateId, 1, 1000).getTemplateFragments();
 	}
 
@@ -397,6 +488,15 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public TemplateFragment getTemplateFragment(UUID templateId, UUID fragmentId) {
+		TemplateCache cache = templateCache;
+		if (cache != null) {
+			TemplateFragment cached = cache.getTemplateFragment(
+					validateTemplateId(templateId), validateFragmentId(fragmentId)
+			);
+			if (cached != null) {
+				return cached;
+			}
+		}
 		return getFragment.execute(new TemplateFragmentRequestWrapper(
 				validateTemplateId(templateId), validateFragmentId(fragmentId)
 		));
@@ -429,9 +529,10 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public TemplateFragment updateTemplateFragment(UUID templateId, UUID fragmentId, String text) {
-		return updateFragment.execute(new TemplateFragment(
+		TemplateFragment fragment = new TemplateFragment(
 				text, validateTemplateId(templateId), validateFragmentId(fragmentId)
-		));
+		);
+		return invalidatingTemplateCache(() -> updateFragment.execute(fragment));
 	}
 
 	/**
@@ -454,9 +555,10 @@ public class Verify2Client {
 	 * @since 8.13.0
 	 */
 	public void deleteTemplateFragment(UUID templateId, UUID fragmentId) {
-		deleteFragment.execute(new TemplateFragmentRequestWrapper(
+		TemplateFragmentRequestWrapper wrapper = new TemplateFragmentRequestWrapper(
 				validateTemplateId(templateId),
 				validateFragmentId(fragmentId)
-		));
+		);
+		invalidatingTemplateCache(() -> deleteFragment.execute(wrapper));
 	}
 }
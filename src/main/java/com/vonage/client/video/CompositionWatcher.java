@@ -0,0 +1,589 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.video;
+
+import com.vonage.client.VonageApiResponseException;
+import com.vonage.client.VonageClientException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Waits for archives, broadcasts and Experience Composer renders to reach a given status, using a single
+ * scheduler thread for any number of compositions rather than a polling loop per composition.
+ * <p>
+ * Each composition is polled at an interval which starts at {@link Builder#initialInterval(Duration)} and
+ * grows by {@link Builder#backoffMultiplier(double)} while its status is unchanged, up to
+ * {@link Builder#maxInterval(Duration)}. Concurrent waiters on the same composition share its polls. When at
+ * least {@link Builder#listThreshold(int)} compositions of the same type are due, their statuses are first
+ * read from a single list request, falling back to individual requests for any not in the listing.
+ * <p>
+ * The returned futures complete with the composition once it reaches one of the target statuses. They
+ * complete exceptionally with a {@link VonageClientException} if the composition instead reaches a status
+ * from which none of the targets can follow (e.g. {@link ArchiveStatus#FAILED}, or
+ * {@link BroadcastStatus#STOPPED} when waiting for {@link BroadcastStatus#STARTED}), with the API's exception
+ * if it no longer exists or the request is rejected, and with a {@link TimeoutException} if the timeout elapses.
+ * Transient errors (rate limiting, server errors and I/O failures) are retried with backoff.
+ * <p>
+ * Instances are thread-safe. The watcher should be closed when no longer required.
+ *
+ * @since 8.17.0
+ */
+public final class CompositionWatcher implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(CompositionWatcher.class.getName());
+	private static final int MAX_LIST_COUNT = 1000;
+
+	private final Kind<Archive, ArchiveStatus> archives;
+	private final Kind<Broadcast, BroadcastStatus> broadcasts;
+	private final Kind<RenderResponse, RenderStatus> renders;
+	private final ConcurrentMap<String, Watch<?, ?>> watches = new ConcurrentHashMap<>();
+	private final long initialIntervalNanos, maxIntervalNanos, timeoutNanos;
+	private final double backoffMultiplier;
+	private final int listThreshold;
+	private final LongSupplier clock;
+	private final ScheduledExecutorService ownedScheduler;
+	private final ScheduledFuture<?> pollTask;
+	private final AtomicLong requests = new AtomicLong();
+	private volatile boolean closed;
+
+	/**
+	 * How to retrieve and interpret one type of composition.
+	 */
+	private static final class Kind<T, S> {
+		final String name;
+		final Function<String, T> getter;
+		final Supplier<List<T>> lister;
+		final Function<T, ?> idGetter;
+		final Function<T, S> statusGetter;
+		final Map<S, Set<S>> successors;
+
+		Kind(String name, Function<String, T> getter, Supplier<List<T>> lister,
+				Function<T, ?> idGetter, Function<T, S> statusGetter, Map<S, Set<S>> successors) {
+			this.name = name;
+			this.getter = getter;
+			this.lister = lister;
+			this.idGetter = idGetter;
+			this.statusGetter = statusGetter;
+			this.successors = successors;
+		}
+	}
+
+	private static final class Waiter<T, S> {
+		final Set<S> targets;
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final long deadline;
+
+		Waiter(Set<S> targets, long deadline) {
+			this.targets = targets;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * The polling state of a single composition, shared by all of its waiters.
+	 */
+	private static final class Watch<T, S> {
+		final Kind<T, S> kind;
+		final String key, id;
+		final List<Waiter<T, S>> waiters = new ArrayList<>(2);
+		T last;
+		long interval, nextPollAt;
+
+		Watch(Kind<T, S> kind, String key, String id) {
+			this.kind = kind;
+			this.key = key;
+			this.id = id;
+		}
+	}
+
+	private CompositionWatcher(Builder builder) {
+		VideoClient client = Objects.requireNonNull(builder.client, "Video client is required.");
+		initialIntervalNanos = positive(builder.initialInterval, "Initial interval");
+		maxIntervalNanos = positive(builder.maxInterval, "Maximum interval");
+		if (maxIntervalNanos < initialIntervalNanos) {
+			throw new IllegalArgumentException("Maximum interval cannot be less than the initial interval.");
+		}
+		timeoutNanos = positive(builder.timeout, "Timeout");
+		if (!(builder.backoffMultiplier >= 1) || Double.isInfinite(builder.backoffMultiplier)) {
+			throw new IllegalArgumentException("Backoff multiplier must be at least 1.");
+		}
+		backoffMultiplier = builder.backoffMultiplier;
+		if ((listThreshold = builder.listThreshold) < 0) {
+			throw new IllegalArgumentException("List threshold cannot be negative.");
+		}
+		clock = builder.clock;
+
+		ListStreamCompositionsRequest recent = ListStreamCompositionsRequest.builder().count(MAX_LIST_COUNT).build();
+		archives = new Kind<>("Archive", client::getArchive, () -> client.listArchives(recent),
+				Archive::getId, Archive::getStatus, archiveSuccessors()
+		);
+		broadcasts = new Kind<>("Broadcast", client::getBroadcast, () -> client.listBroadcasts(recent),
+				Broadcast::getId, Broadcast::getStatus, broadcastSuccessors()
+		);
+		renders = new Kind<>("Render", client::getRender, () -> client.listRenders(recent),
+				RenderResponse::getId, RenderResponse::getStatus, renderSuccessors()
+		);
+
+		ScheduledExecutorService scheduler = builder.scheduler;
+		if (scheduler == null) {
+			scheduler = ownedScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "vonage-composition-watcher");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		else {
+			ownedScheduler = null;
+		}
+		pollTask = scheduler.scheduleWithFixedDelay(this::pollQuietly,
+				initialIntervalNanos, initialIntervalNanos, TimeUnit.NANOSECONDS
+		);
+	}
+
+	/**
+	 * The statuses which an archive can subsequently reach from each status.
+	 */
+	private static Map<ArchiveStatus, Set<ArchiveStatus>> archiveSuccessors() {
+		Map<ArchiveStatus, Set<ArchiveStatus>> successors = new EnumMap<>(ArchiveStatus.class);
+		Set<ArchiveStatus> recording = EnumSet.complementOf(EnumSet.of(ArchiveStatus.STARTED, ArchiveStatus.PAUSED));
+		successors.put(ArchiveStatus.STARTED, EnumSet.allOf(ArchiveStatus.class));
+		successors.put(ArchiveStatus.PAUSED, EnumSet.allOf(ArchiveStatus.class));
+		successors.put(ArchiveStatus.STOPPED, recording);
+		successors.put(ArchiveStatus.AVAILABLE, EnumSet.of(ArchiveStatus.EXPIRED, ArchiveStatus.DELETED));
+		successors.put(ArchiveStatus.UPLOADED, EnumSet.of(ArchiveStatus.DELETED));
+		successors.put(ArchiveStatus.EXPIRED, EnumSet.of(ArchiveStatus.DELETED));
+		successors.put(ArchiveStatus.DELETED, EnumSet.noneOf(ArchiveStatus.class));
+		successors.put(ArchiveStatus.FAILED, EnumSet.noneOf(ArchiveStatus.class));
+		return successors;
+	}
+
+	/**
+	 * The statuses which a broadcast can subsequently reach from each status.
+	 */
+	private static Map<BroadcastStatus, Set<BroadcastStatus>> broadcastSuccessors() {
+		Map<BroadcastStatus, Set<BroadcastStatus>> successors = new EnumMap<>(BroadcastStatus.class);
+		successors.put(BroadcastStatus.STARTED, EnumSet.of(BroadcastStatus.STOPPED));
+		successors.put(BroadcastStatus.STOPPED, EnumSet.noneOf(BroadcastStatus.class));
+		return successors;
+	}
+
+	/**
+	 * The statuses which a render can subsequently reach from each status.
+	 */
+	private static Map<RenderStatus, Set<RenderStatus>> renderSuccessors() {
+		Map<RenderStatus, Set<RenderStatus>> successors = new EnumMap<>(RenderStatus.class);
+		successors.put(RenderStatus.STARTING, EnumSet.of(RenderStatus.STARTED, RenderStatus.STOPPED, RenderStatus.FAILED));
+		successors.put(RenderStatus.STARTED, EnumSet.of(RenderStatus.STOPPED, RenderStatus.FAILED));
+		successors.put(RenderStatus.STOPPED, EnumSet.noneOf(RenderStatus.class));
+		successors.put(RenderStatus.FAILED, EnumSet.noneOf(RenderStatus.class));
+		return successors;
+	}
+
+	private static long positive(Duration duration, String name) {
+		if (duration == null || duration.isNegative() || duration.isZero()) {
+			throw new IllegalArgumentException(name + " must be positive.");
+		}
+		return duration.toNanos();
+	}
+
+	/**
+	 * Waits for an archive to reach one of the given statuses.
+	 *
+	 * @param archiveId The archive ID.
+	 * @param targets The statuses to wait for, e.g. {@link ArchiveStatus#AVAILABLE}.
+	 *
+	 * @return A future which completes with the archive's details once it reaches a target status.
+	 */
+	public CompletableFuture<Archive> awaitArchive(String archiveId, ArchiveStatus... targets) {
+		return await(archives, archiveId, targets);
+	}
+
+	/**
+	 * Waits for a broadcast to reach one of the given statuses.
+	 *
+	 * @param broadcastId The broadcast ID.
+	 * @param targets The statuses to wait for, e.g. {@link BroadcastStatus#STARTED}.
+	 *
+	 * @return A future which completes with the broadcast's details once it reaches a target status.
+	 */
+	public CompletableFuture<Broadcast> awaitBroadcast(String broadcastId, BroadcastStatus... targets) {
+		return await(broadcasts, broadcastId, targets);
+	}
+
+	/**
+	 * Waits for an Experience Composer render to reach one of the given statuses.
+	 *
+	 * @param renderId The render ID.
+	 * @param targets The statuses to wait for, e.g. {@link RenderStatus#STARTED}.
+	 *
+	 * @return A future which completes with the render's details once it reaches a target status.
+	 */
+	public CompletableFuture<RenderResponse> awaitRender(String renderId, RenderStatus... targets) {
+		return await(renders, renderId, targets);
+	}
+
+	@SafeVarargs
+	private final <T, S> CompletableFuture<T> await(Kind<T, S> kind, String id, S... targets) {
+		if (id == null || id.trim().isEmpty()) {
+			throw new IllegalArgumentException(kind.name + " ID is required.");
+		}
+		if (targets == null || targets.length == 0) {
+			throw new IllegalArgumentException("At least one target status is required.");
+		}
+		if (closed) {
+			throw new IllegalStateException("Watcher is closed.");
+		}
+		long now = clock.getAsLong();
+		Waiter<T, S> waiter = new Waiter<>(new HashSet<>(Arrays.asList(targets)), now + timeoutNanos);
+		String key = kind.name + ':' + id.trim().toLowerCase(Locale.ROOT);
+		watches.compute(key, (k, existing) -> {
+			@SuppressWarnings("unchecked")
+			Watch<T, S> watch = existing != null ? (Watch<T, S>) existing : new Watch<>(kind, key, id.trim());
+			synchronized (watch) {
+				if (existing == null) {
+					watch.interval = initialIntervalNanos;
+					watch.nextPollAt = now;
+				}
+				else if (watch.last != null && notify(waiter, watch)) {
+					return watch;
+				}
+				watch.waiters.add(waiter);
+			}
+			return watch;
+		});
+		return waiter.future;
+	}
+
+	/**
+	 * Completes the waiter if the watch's last observed status is conclusive for it: either one of its
+	 * targets, or a status from which none of its targets can be reached. Unknown statuses are not conclusive.
+	 *
+	 * @return {@code true} if the waiter has been completed.
+	 */
+	private static <T, S> boolean notify(Waiter<T, S> waiter, Watch<T, S> watch) {
+		S status = watch.kind.statusGetter.apply(watch.last);
+		Set<S> successors = status != null ? watch.kind.successors.get(status) : null;
+		if (waiter.targets.contains(status)) {
+			waiter.future.complete(watch.last);
+		}
+		else if (successors != null && Collections.disjoint(successors, waiter.targets)) {
+			waiter.future.completeExceptionally(new VonageClientException(
+					watch.kind.name + " " + watch.id + " reached status '" + status + "'."
+			));
+		}
+		return waiter.future.isDone();
+	}
+
+	private void pollQuietly() {
+		try {
+			poll();
+		}
+		catch (RuntimeException ex) {
+			LOGGER.log(Level.WARNING, "Failed to poll composition statuses.", ex);
+		}
+	}
+
+	/**
+	 * Polls every composition which is due. This is called automatically by the scheduler.
+	 */
+	void poll() {
+		long now = clock.getAsLong();
+		Map<Kind<?, ?>, List<Watch<?, ?>>> due = new HashMap<>(4);
+		for (Watch<?, ?> watch : watches.values()) {
+			if (expireWaiters(watch, now)) {
+				continue;
+			}
+			if (watch.nextPollAt - now <= 0) {
+				due.computeIfAbsent(watch.kind, k -> new ArrayList<>()).add(watch);
+			}
+		}
+		for (Map.Entry<Kind<?, ?>, List<Watch<?, ?>>> entry : due.entrySet()) {
+			pollKind(entry.getKey(), entry.getValue(), now);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T, S> void pollKind(Kind<T, S> kind, List<Watch<?, ?>> due, long now) {
+		Map<String, T> listed = Collections.emptyMap();
+		if (listThreshold > 0 && due.size() >= listThreshold) {
+			try {
+				requests.incrementAndGet();
+				List<T> all = kind.lister.get();
+				listed = new HashMap<>(all.size() * 2);
+				for (T item : all) {
+					Object itemId = item != null ? kind.idGetter.apply(item) : null;
+					if (itemId != null) {
+						listed.put(itemId.toString().toLowerCase(Locale.ROOT), item);
+					}
+				}
+			}
+			catch (RuntimeException ex) {
+				LOGGER.log(Level.FINE, "Failed to list " + kind.name + "s, polling individually.", ex);
+			}
+		}
+		for (Watch<?, ?> w : due) {
+			if (closed) return;
+			Watch<T, S> watch = (Watch<T, S>) w;
+			T value = listed.get(watch.key.substring(kind.name.length() + 1));
+			RuntimeException error = null;
+			if (value == null) {
+				try {
+					requests.incrementAndGet();
+					value = kind.getter.apply(watch.id);
+				}
+				catch (RuntimeException ex) {
+					error = ex;
+				}
+			}
+			update(watch, value, error, now);
+		}
+	}
+
+	private <T, S> void update(Watch<T, S> watch, T value, RuntimeException error, long now) {
+		synchronized (watch) {
+			boolean changed = false;
+			if (error == null && value != null) {
+				S previous = watch.last != null ? watch.kind.statusGetter.apply(watch.last) : null;
+				changed = !Objects.equals(previous, watch.kind.statusGetter.apply(value));
+				watch.last = value;
+			}
+			watch.interval = changed ? initialIntervalNanos :
+					(long) Math.min(maxIntervalNanos, watch.interval * backoffMultiplier);
+			watch.nextPollAt = now + watch.interval;
+
+			boolean fatal = error != null && isFatal(error);
+			if (error != null && !fatal) {
+				LOGGER.log(Level.FINE, "Transient error polling " + watch.kind.name + " " + watch.id, error);
+			}
+			for (Iterator<Waiter<T, S>> iterator = watch.waiters.iterator(); iterator.hasNext();) {
+				Waiter<T, S> waiter = iterator.next();
+				if (fatal) {
+					waiter.future.completeExceptionally(error);
+				}
+				if (waiter.future.isDone() || (watch.last != null && error == null && notify(waiter, watch))) {
+					iterator.remove();
+				}
+			}
+		}
+		removeIfIdle(watch);
+	}
+
+	private static boolean isFatal(RuntimeException error) {
+		if (error instanceof VonageApiResponseException) {
+			int status = ((VonageApiResponseException) error).getStatusCode();
+			return status >= 400 && status < 500 && status != 408 && status != 429;
+		}
+		return error instanceof IllegalArgumentException;
+	}
+
+	/**
+	 * Times out overdue waiters and discards those which were cancelled.
+	 *
+	 * @return {@code true} if the watch has no remaining waiters and was removed.
+	 */
+	private boolean expireWaiters(Watch<?, ?> watch, long now) {
+		synchronized (watch) {
+			for (Iterator<? extends Waiter<?, ?>> iterator = watch.waiters.iterator(); iterator.hasNext();) {
+				Waiter<?, ?> waiter = iterator.next();
+				if (waiter.deadline - now <= 0) {
+					waiter.future.completeExceptionally(new TimeoutException(
+							"Timed out waiting for " + watch.kind.name + " " + watch.id + "."
+					));
+				}
+				if (waiter.future.isDone()) {
+					iterator.remove();
+				}
+			}
+		}
+		return removeIfIdle(watch);
+	}
+
+	private boolean removeIfIdle(Watch<?, ?> watch) {
+		boolean[] removed = {false};
+		watches.computeIfPresent(watch.key, (k, current) -> {
+			if (current == watch) {
+				synchronized (watch) {
+					removed[0] = watch.waiters.isEmpty();
+				}
+			}
+			return removed[0] ? null : current;
+		});
+		return removed[0];
+	}
+
+	/**
+	 * Number of distinct compositions currently being watched.
+	 *
+	 * @return The watched composition count.
+	 */
+	public int getWatchedCount() {
+		return watches.size();
+	}
+
+	/**
+	 * Total number of API requests made to poll statuses, including list requests.
+	 *
+	 * @return The request count.
+	 */
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	/**
+	 * Stops polling. Any outstanding futures are completed exceptionally with a {@link CancellationException}.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		pollTask.cancel(false);
+		if (ownedScheduler != null) {
+			ownedScheduler.shutdownNow();
+		}
+		for (Watch<?, ?> watch : watches.values()) {
+			synchronized (watch) {
+				watch.waiters.forEach(waiter -> waiter.future.cancel(false));
+				watch.waiters.clear();
+			}
+		}
+		watches.clear();
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param client The Video client to poll statuses with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(VideoClient client) {
+		return new Builder(client);
+	}
+
+	/**
+	 * Builder for configuring the watcher.
+	 */
+	public static final class Builder {
+		private final VideoClient client;
+		private Duration initialInterval = Duration.ofSeconds(1), maxInterval = Duration.ofSeconds(30),
+				timeout = Duration.ofHours(1);
+		private double backoffMultiplier = 1.5;
+		private int listThreshold = 5;
+		private ScheduledExecutorService scheduler;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder(VideoClient client) {
+			this.client = client;
+		}
+
+		/**
+		 * Polling interval for a composition whose status has just changed, which is also how often the
+		 * watcher checks for due polls and timeouts. The default is 1 second.
+		 *
+		 * @param initialInterval The initial interval, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder initialInterval(Duration initialInterval) {
+			this.initialInterval = initialInterval;
+			return this;
+		}
+
+		/**
+		 * Upper bound on the polling interval for a composition whose status is unchanged. The default is
+		 * 30 seconds.
+		 *
+		 * @param maxInterval The maximum interval, which must be at least the initial interval.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxInterval(Duration maxInterval) {
+			this.maxInterval = maxInterval;
+			return this;
+		}
+
+		/**
+		 * Factor by which the polling interval grows after each poll that observes no change. The default
+		 * is 1.5; a value of 1 polls at a fixed rate.
+		 *
+		 * @param backoffMultiplier The multiplier, which must be at least 1.
+		 *
+		 * @return This builder.
+		 */
+		public Builder backoffMultiplier(double backoffMultiplier) {
+			this.backoffMultiplier = backoffMultiplier;
+			return this;
+		}
+
+		/**
+		 * Maximum time to wait for a target status before the future completes with a
+		 * {@link TimeoutException}. The default is 1 hour.
+		 *
+		 * @param timeout The timeout, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder timeout(Duration timeout) {
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Minimum number of compositions of the same type due for polling at once for their statuses to be
+		 * read from a single list request of the 1000 most recent. The default is 5.
+		 *
+		 * @param listThreshold The threshold, or zero to always poll compositions individually.
+		 *
+		 * @return This builder.
+		 */
+		public Builder listThreshold(int listThreshold) {
+			this.listThreshold = listThreshold;
+			return this;
+		}
+
+		/**
+		 * Scheduler to poll on. If unspecified, a dedicated daemon thread is created and stopped when the
+		 * watcher is closed. A supplied scheduler is not shut down by the watcher.
+		 *
+		 * @param scheduler The scheduler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder scheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		Builder clock(LongSupplier clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Builds the watcher and starts its polling schedule.
+		 *
+		 * @return A new CompositionWatcher with this builder's properties.
+		 */
+		public CompositionWatcher build() {
+			return new CompositionWatcher(this);
+		}
+	}
+}
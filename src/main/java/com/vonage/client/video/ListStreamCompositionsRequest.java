@@ -79,6 +79,24 @@ public class ListStreamCompositionsRequest implements QueryParamsRequest {
 		return sessionId;
 	}
 
+	/**
+	 * Creates a copy of this request for retrieving a different page.
+	 *
+	 * @param offset The start offset.
+	 * @param count The number of results per page.
+	 *
+	 * @return A new request for the same session, but with the specified offset and count.
+	 *
+	 * @since 8.17.0
+	 */
+	ListStreamCompositionsRequest withPage(int offset, int count) {
+		Builder builder = builder().offset(offset).count(count);
+		if (sessionId != null) {
+			builder.sessionId(sessionId);
+		}
+		return builder.build();
+	}
+
 	/**
 	 * Used in {@linkplain VideoClient} for default retrieval (no-args).
 	 *
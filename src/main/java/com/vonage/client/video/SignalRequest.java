@@ -30,6 +30,13 @@ public class SignalRequest extends JsonableBaseObject {
 		this.data = Objects.requireNonNull(builder.data, "Data is required.");
 	}
 
+	SignalRequest(SignalRequest payload, String sessionId, String connectionId) {
+		type = payload.type;
+		data = payload.data;
+		this.sessionId = sessionId;
+		this.connectionId = connectionId;
+	}
+
 	/**
 	 * @return The signal type.
 	 */
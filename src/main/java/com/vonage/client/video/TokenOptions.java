@@ -17,9 +17,12 @@ package com.vonage.client.video;
 
 import com.vonage.jwt.Jwt;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * Defines values for the {@code options} parameter of the
@@ -50,13 +53,7 @@ public class TokenOptions {
 
     protected void addClaims(Jwt.Builder jwt) {
         jwt.expiresAt(ZonedDateTime.now().plus(ttl));
-        jwt.addClaim("role", role.toString());
-        if (data != null) {
-            jwt.addClaim("connection_data", data);
-        }
-        if (initialLayoutClassList != null) {
-            jwt.addClaim("initial_layout_class_list", String.join(" ", initialLayoutClassList));
-        }
+        addClaims(jwt::addClaim);
     }
 
     /**
@@ -69,6 +66,27 @@ public class TokenOptions {
         return role;
     }
 
+    /**
+     * Adds this token's claims to a map, for use with {@link com.vonage.client.auth.JwtSigner}.
+     *
+     * @param claims The claims map to populate.
+     * @param issuedAt The time at which the token is being minted, from which the expiry is derived.
+     */
+    void addClaims(Map<String, Object> claims, Instant issuedAt) {
+        claims.put("exp", issuedAt.plus(ttl).getEpochSecond());
+        addClaims(claims::put);
+    }
+
+    private void addClaims(BiConsumer<String, Object> claims) {
+        claims.accept("role", role.toString());
+        if (data != null) {
+            claims.accept("connection_data", data);
+        }
+        if (initialLayoutClassList != null) {
+            claims.accept("initial_layout_class_list", String.join(" ", initialLayoutClassList));
+        }
+    }
+
     /**
      * Returns the time-to-live for the JWT.
      *
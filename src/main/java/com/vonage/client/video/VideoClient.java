@@ -21,12 +21,20 @@ import com.vonage.client.RestEndpoint;
 import com.vonage.client.VonageClient;
 import com.vonage.client.auth.JWTAuthMethod;
 import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
+import com.vonage.client.auth.JwtSigner;
+import com.vonage.client.common.BatchExecutor;
+import com.vonage.client.common.BatchResult;
 import com.vonage.client.common.HttpMethod;
+import com.vonage.client.common.ParallelPageFetcher;
 import com.vonage.jwt.Jwt;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * A client for using the Vonage Video API. The standard way to obtain an instance of this class is to use
@@ -36,6 +44,7 @@ import java.util.function.Supplier;
  */
 public class VideoClient {
 	final Supplier<? extends Jwt.Builder> newJwtSupplier;
+	final Supplier<JwtSigner> jwtSignerSupplier;
 
 	final RestEndpoint<CreateSessionRequest, CreateSessionResponse[]> createSession;
 	final RestEndpoint<String, ListStreamsResponse> listStreams;
@@ -71,6 +80,7 @@ public class VideoClient {
 		Supplier<JWTAuthMethod> jwtAuthGetter = () -> wrapper.getAuthCollection().getAuth(JWTAuthMethod.class);
 		Supplier<String> appIdGetter = () -> jwtAuthGetter.get().getApplicationId();
 		newJwtSupplier = () -> jwtAuthGetter.get().newJwt();
+		jwtSignerSupplier = () -> jwtAuthGetter.get().getJwtSigner();
 
 		@SuppressWarnings("unchecked")
 		class Endpoint<T, R> extends DynamicEndpoint<T, R> {
@@ -133,6 +143,15 @@ public class VideoClient {
 		return param;
 	}
 
+	private static BatchResult<String, Void> fanOut(Collection<String> ids, BatchExecutor batchExecutor,
+													Consumer<String> action) {
+		Objects.requireNonNull(ids, "IDs are required.");
+		return Objects.requireNonNull(batchExecutor, "Batch executor is required.").invokeAll(ids, id -> {
+			action.accept(id);
+			return null;
+		});
+	}
+
 	private String validateSessionId(String sessionId) {
 		return validateId(sessionId, "Session", false);
 	}
@@ -201,6 +220,61 @@ public class VideoClient {
 		return generateToken(sessionId, null);
 	}
 
+	/**
+	 * Generates signed JSON Web Tokens for many participants of a session at once, such as when starting a
+	 * large webinar. The application's private key is parsed once and reused, and tokens are minted in
+	 * parallel across the available processors.
+	 *
+	 * @param sessionId The session ID.
+	 * @param options Configuration parameters (claims) of each token. A {@code null} entry uses the defaults.
+	 *
+	 * @return The JWTs as raw strings, in the same order as the options.
+	 *
+	 * @see #generateToken(String, TokenOptions)
+	 * @since 8.17.0
+	 */
+	public List<String> generateTokens(String sessionId, List<TokenOptions> options) {
+		Objects.requireNonNull(options, "Token options cannot be null.");
+		return generateTokens(sessionId, options.size(), options::get);
+	}
+
+	/**
+	 * Generates the specified number of signed JSON Web Tokens with the same options. Each token has a
+	 * unique ID, so they can be handed out to different participants.
+	 *
+	 * @param sessionId The session ID.
+	 * @param options Configuration parameters (claims) shared by all tokens, or {@code null} for the defaults.
+	 * @param count The number of tokens to generate.
+	 *
+	 * @return The JWTs as raw strings.
+	 *
+	 * @see #generateTokens(String, List)
+	 * @since 8.17.0
+	 */
+	public List<String> generateTokens(String sessionId, TokenOptions options, int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Count cannot be negative.");
+		}
+		return generateTokens(sessionId, count, i -> options);
+	}
+
+	private List<String> generateTokens(String sessionId, int count, IntFunction<TokenOptions> optionsGetter) {
+		Map<String, Object> sessionClaims = new LinkedHashMap<>(4);
+		sessionClaims.put("session_id", validateSessionId(sessionId));
+		sessionClaims.put("scope", "session.connect");
+		JwtSigner signer = jwtSignerSupplier.get();
+		TokenOptions defaults = TokenOptions.builder().build();
+		Instant now = Instant.now();
+		String[] tokens = new String[count];
+		IntStream.range(0, count).parallel().forEach(i -> {
+			TokenOptions tokenOptions = optionsGetter.apply(i);
+			Map<String, Object> claims = new LinkedHashMap<>(sessionClaims);
+			(tokenOptions != null ? tokenOptions : defaults).addClaims(claims, now);
+			tokens[i] = signer.sign(claims, now);
+		});
+		return Collections.unmodifiableList(Arrays.asList(tokens));
+	}
+
 	/**
 	 * Generate a new session, using default properties.
 	 *
@@ -222,6 +296,26 @@ public class VideoClient {
         return response.length == 0 ? new CreateSessionResponse() : response[0];
 	}
 
+	/**
+	 * Creates a pool of pre-created sessions for the given configurations, which is filled in the background
+	 * so that sessions can be obtained without waiting for the API. Use
+	 * {@link VideoSessionPool#builder(VideoClient)} for more options.
+	 *
+	 * @param size Number of warm sessions to keep for each configuration.
+	 * @param configurations The session properties to pre-warm.
+	 *
+	 * @return A new session pool, which should be closed when no longer required.
+	 *
+	 * @since 8.17.0
+	 */
+	public VideoSessionPool createSessionPool(int size, CreateSessionRequest... configurations) {
+		VideoSessionPool.Builder builder = VideoSessionPool.builder(this).size(size);
+		for (CreateSessionRequest configuration : configurations) {
+			builder.configuration(configuration);
+		}
+		return builder.build();
+	}
+
 	/**
 	 * Use this method to get information on all Vonage Video streams in a session.
 	 *
@@ -300,6 +394,30 @@ public class VideoClient {
 		signal.execute(request);
 	}
 
+	/**
+	 * Sends the same signal to many participants in an active Vonage Video session concurrently.
+	 * A failure for one connection does not prevent the signal from being sent to the others.
+	 *
+	 * @param sessionId The session ID.
+	 * @param connectionIds The publisher connection IDs to signal.
+	 * @param request Signal payload.
+	 * @param batchExecutor The concurrency and rate limit settings to use.
+	 *
+	 * @return The connection IDs which were signalled successfully (with {@code null} values), and any
+	 * failures (typically {@linkplain VideoResponseException}) keyed by connection ID, in encounter order.
+	 *
+	 * @see #signal(String, String, SignalRequest)
+	 * @since 8.17.0
+	 */
+	public BatchResult<String, Void> signal(String sessionId, Collection<String> connectionIds,
+											SignalRequest request, BatchExecutor batchExecutor) {
+		validateRequest(request);
+		String validSessionId = validateSessionId(sessionId);
+		return fanOut(connectionIds, batchExecutor, connectionId -> signal.execute(
+				new SignalRequest(request, validSessionId, validateConnectionId(connectionId))
+		));
+	}
+
 	/**
 	 * Force a client to disconnect from a session.
 	 *
@@ -313,6 +431,27 @@ public class VideoClient {
 		));
 	}
 
+	/**
+	 * Force many clients to disconnect from a session concurrently.
+	 *
+	 * @param sessionId The session ID.
+	 * @param connectionIds The publisher connection IDs to disconnect.
+	 * @param batchExecutor The concurrency and rate limit settings to use.
+	 *
+	 * @return The connection IDs which were disconnected successfully (with {@code null} values), and any
+	 * failures (typically {@linkplain VideoResponseException}) keyed by connection ID, in encounter order.
+	 *
+	 * @see #forceDisconnect(String, String)
+	 * @since 8.17.0
+	 */
+	public BatchResult<String, Void> forceDisconnect(String sessionId, Collection<String> connectionIds,
+													 BatchExecutor batchExecutor) {
+		String validSessionId = validateSessionId(sessionId);
+		return fanOut(connectionIds, batchExecutor, connectionId -> forceDisconnect.execute(
+				new SessionResourceRequestWrapper(validSessionId, validateConnectionId(connectionId))
+		));
+	}
+
 	/**
 	 * Force mute a specific publisher stream.
 	 *
@@ -326,6 +465,28 @@ public class VideoClient {
 		));
 	}
 
+	/**
+	 * Force mute many publisher streams concurrently. Unlike {@link #muteSession(String, boolean, String...)},
+	 * this does not change the mute state of the session for future streams.
+	 *
+	 * @param sessionId The session ID.
+	 * @param streamIds IDs of the streams to mute.
+	 * @param batchExecutor The concurrency and rate limit settings to use.
+	 *
+	 * @return The stream IDs which were muted successfully (with {@code null} values), and any
+	 * failures (typically {@linkplain VideoResponseException}) keyed by stream ID, in encounter order.
+	 *
+	 * @see #muteStream(String, String)
+	 * @since 8.17.0
+	 */
+	public BatchResult<String, Void> muteStream(String sessionId, Collection<String> streamIds,
+												BatchExecutor batchExecutor) {
+		String validSessionId = validateSessionId(sessionId);
+		return fanOut(streamIds, batchExecutor, streamId -> muteStream.execute(
+				new SessionResourceRequestWrapper(validSessionId, validateStreamId(streamId))
+		));
+	}
+
 	/**
 	 * Force all streams (except for an optional list of streams) in a session to mute published audio.
 	 * You can also use this method to disable the force mute state of a session.
@@ -423,6 +584,31 @@ public class VideoClient {
 		));
 	}
 
+	/**
+	 * Play the same DTMF tones into many connections concurrently.
+	 *
+	 * @param sessionId The session ID.
+	 * @param connectionIds The publisher connection IDs to play the tones into.
+	 * @param digits The string of DTMF digits to send. This can include 0-9, '*', '#', and 'p'.
+	 * A 'p' indicates a pause of 500ms (if you need to add a delay in sending the digits).
+	 * @param batchExecutor The concurrency and rate limit settings to use.
+	 *
+	 * @return The connection IDs which the tones were sent to successfully (with {@code null} values), and any
+	 * failures (typically {@linkplain VideoResponseException}) keyed by connection ID, in encounter order.
+	 *
+	 * @see #sendDtmf(String, String, String)
+	 * @since 8.17.0
+	 */
+	public BatchResult<String, Void> sendDtmf(String sessionId, Collection<String> connectionIds,
+											  String digits, BatchExecutor batchExecutor) {
+		String validSessionId = validateSessionId(sessionId);
+		// Validates the digits once, rather than failing for every connection.
+		new SendDtmfRequest(validSessionId, null, digits);
+		return fanOut(connectionIds, batchExecutor, connectionId -> sendDtmfToConnection.execute(
+				new SendDtmfRequest(validSessionId, validateConnectionId(connectionId), digits)
+		));
+	}
+
 	/**
 	 * Play DTMF tones into a SIP call.
 	 * Telephony events are negotiated over SDP and transmitted as RFC4733/RFC2833 digits to the remote endpoint.
@@ -461,6 +647,23 @@ public class VideoClient {
 		return listArchives.execute(request).getItems();
 	}
 
+	/**
+	 * List all archives in the application, fetching all pages concurrently. Deleted archives are not
+	 * included in the results. The first page is requested to determine the total count, after which
+	 * the remaining pages are retrieved in parallel.
+	 *
+	 * @param request (OPTIONAL) Filter properties of the request. The {@code count} is used as the page
+	 * size (1000 if unspecified) and the {@code offset}, if specified, determines the first result.
+	 * @param parallelism Maximum number of concurrent page requests.
+	 *
+	 * @return The list of all archives matching the filter criteria, in order from newest to oldest.
+	 *
+	 * @since 8.17.0
+	 */
+	public List<Archive> listAllArchives(ListStreamCompositionsRequest request, int parallelism) {
+		return listAllPages(listArchives, request, parallelism);
+	}
+
 	/**
 	 * Retrieve information about a specific archive.
 	 *
@@ -593,6 +796,23 @@ public class VideoClient {
 		return listBroadcasts.execute(request).getItems();
 	}
 
+	/**
+	 * List all broadcasts that are in progress and started in the application, fetching all pages
+	 * concurrently. The first page is requested to determine the total count, after which the remaining
+	 * pages are retrieved in parallel.
+	 *
+	 * @param request (OPTIONAL) Filter properties of the request. The {@code count} is used as the page
+	 * size (1000 if unspecified) and the {@code offset}, if specified, determines the first result.
+	 * @param parallelism Maximum number of concurrent page requests.
+	 *
+	 * @return The list of all broadcasts matching the filter criteria, in order from newest to oldest.
+	 *
+	 * @since 8.17.0
+	 */
+	public List<Broadcast> listAllBroadcasts(ListStreamCompositionsRequest request, int parallelism) {
+		return listAllPages(listBroadcasts, request, parallelism);
+	}
+
 	/**
 	 * Get Information about a Broadcast that is in progress.
 	 *
@@ -772,6 +992,35 @@ public class VideoClient {
 		return listRenders.execute(request).getItems();
 	}
 
+	/**
+	 * List all Experience Composers in the application, fetching all pages concurrently. The first page
+	 * is requested to determine the total count, after which the remaining pages are retrieved in parallel.
+	 *
+	 * @param request (OPTIONAL) Filter properties of the request. The {@code count} is used as the page
+	 * size (1000 if unspecified) and the {@code offset}, if specified, determines the first result.
+	 * @param parallelism Maximum number of concurrent page requests.
+	 *
+	 * @return The list of all Experience Composers, in order from newest to oldest.
+	 *
+	 * @since 8.17.0
+	 */
+	public List<RenderResponse> listAllRenders(ListStreamCompositionsRequest request, int parallelism) {
+		return listAllPages(listRenders, request, parallelism);
+	}
+
+	private <T> List<T> listAllPages(RestEndpoint<ListStreamCompositionsRequest, ? extends ListResourceResponse<T>> endpoint,
+			ListStreamCompositionsRequest request, int parallelism) {
+		final ListStreamCompositionsRequest base = request != null ? request : ListStreamCompositionsRequest.builder().build();
+		final int count = base.getCount() != null && base.getCount() > 0 ? base.getCount() : 1000,
+				start = base.getOffset() != null ? base.getOffset() : 0;
+		return ParallelPageFetcher.<ListResourceResponse<T>, T> builder(
+					ordinal -> endpoint.execute(base.withPage(start + ordinal * count, count)),
+					ListResourceResponse::getItems
+				)
+				.totalItems(page -> page.getCount() != null ? page.getCount() - start : 0, count)
+				.parallelism(parallelism).build().fetchAll();
+	}
+
 	/**
 	 * Retrieve details on an Experience Composer.
 	 *
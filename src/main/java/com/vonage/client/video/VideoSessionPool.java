@@ -0,0 +1,431 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.video;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a number of pre-created video sessions warm for each session configuration, so that
+ * {@link #acquire(CreateSessionRequest)} can hand one out without a round trip to the Video API. Sessions
+ * taken from the pool are replaced in the background, and sessions which have been pooled for longer than
+ * the maximum age are discarded. If a pool is empty when a session is requested, one is created on the
+ * calling thread instead.
+ * <p>
+ * Configurations are distinguished by their {@linkplain CreateSessionRequest#makeParams() parameters}
+ * (media mode, archive mode, location and encryption). Configurations registered on the builder are filled
+ * as soon as the pool is built; others are pooled from their first use.
+ * <p>
+ * Instances are thread-safe. The pool should be closed when no longer required to stop background work.
+ *
+ * @since 8.17.0
+ */
+public final class VideoSessionPool implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(VideoSessionPool.class.getName());
+
+	private final Function<CreateSessionRequest, CreateSessionResponse> creator;
+	private final ConcurrentMap<Map<String, String>, Pool> pools = new ConcurrentHashMap<>();
+	private final int size;
+	private final long maxAgeNanos;
+	private final LongSupplier clock;
+	private final ScheduledExecutorService scheduler, ownedScheduler;
+	private final ScheduledFuture<?> sweepTask;
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(),
+			created = new AtomicLong(), expired = new AtomicLong();
+	private volatile RuntimeException lastRefillFailure;
+	private volatile boolean closed;
+
+	private static final class PooledSession {
+		final CreateSessionResponse session;
+		final long createdAt;
+
+		PooledSession(CreateSessionResponse session, long createdAt) {
+			this.session = session;
+			this.createdAt = createdAt;
+		}
+	}
+
+	/**
+	 * The warm sessions for a single configuration, oldest first.
+	 */
+	private final class Pool {
+		final CreateSessionRequest request;
+		final Deque<PooledSession> sessions = new ConcurrentLinkedDeque<>();
+		final AtomicInteger depth = new AtomicInteger();
+		final AtomicBoolean refilling = new AtomicBoolean();
+
+		Pool(CreateSessionRequest request) {
+			this.request = request;
+		}
+
+		CreateSessionResponse poll() {
+			PooledSession pooled;
+			while ((pooled = sessions.pollFirst()) != null) {
+				depth.decrementAndGet();
+				if (!isExpired(pooled)) {
+					return pooled.session;
+				}
+				expired.incrementAndGet();
+			}
+			return null;
+		}
+
+		void evictExpired() {
+			PooledSession oldest;
+			while ((oldest = sessions.peekFirst()) != null && isExpired(oldest)) {
+				if (sessions.remove(oldest)) {
+					depth.decrementAndGet();
+					expired.incrementAndGet();
+				}
+			}
+		}
+
+		void scheduleRefill() {
+			if (!closed && depth.get() < size && refilling.compareAndSet(false, true)) {
+				try {
+					scheduler.execute(this::refill);
+				}
+				catch (RejectedExecutionException ex) {
+					refilling.set(false);
+				}
+			}
+		}
+
+		private void refill() {
+			boolean failed = false;
+			try {
+				while (!closed && depth.get() < size) {
+					CreateSessionResponse session = creator.apply(request);
+					created.incrementAndGet();
+					sessions.offerLast(new PooledSession(session, clock.getAsLong()));
+					depth.incrementAndGet();
+				}
+			}
+			catch (RuntimeException ex) {
+				// Retried on the next sweep rather than immediately, to avoid hammering a failing API.
+				failed = true;
+				lastRefillFailure = ex;
+				LOGGER.log(Level.WARNING, "Failed to pre-create video session.", ex);
+			}
+			finally {
+				refilling.set(false);
+			}
+			if (!failed) {
+				// A session may have been taken after the loop's last check.
+				scheduleRefill();
+			}
+		}
+	}
+
+	private VideoSessionPool(Builder builder) {
+		creator = Objects.requireNonNull(builder.creator, "Session creator is required.");
+		if ((size = builder.size) < 1) {
+			throw new IllegalArgumentException("Pool size must be positive.");
+		}
+		if (builder.maxAge.isNegative() || builder.maxAge.isZero()) {
+			throw new IllegalArgumentException("Maximum age must be positive.");
+		}
+		if (builder.sweepInterval.isNegative() || builder.sweepInterval.isZero()) {
+			throw new IllegalArgumentException("Sweep interval must be positive.");
+		}
+		maxAgeNanos = builder.maxAge.toNanos();
+		clock = builder.clock;
+
+		if (builder.scheduler == null) {
+			scheduler = ownedScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "vonage-video-session-pool");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		else {
+			scheduler = builder.scheduler;
+			ownedScheduler = null;
+		}
+		for (CreateSessionRequest request : builder.configurations) {
+			pool(request).scheduleRefill();
+		}
+		long interval = builder.sweepInterval.toNanos();
+		sweepTask = scheduler.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.NANOSECONDS);
+	}
+
+	private static Map<String, String> key(CreateSessionRequest request) {
+		return request != null ? request.makeParams() : Collections.emptyMap();
+	}
+
+	private Pool pool(CreateSessionRequest request) {
+		return pools.computeIfAbsent(key(request), k -> new Pool(request));
+	}
+
+	private boolean isExpired(PooledSession pooled) {
+		return clock.getAsLong() - pooled.createdAt >= maxAgeNanos;
+	}
+
+	/**
+	 * Discards expired sessions and tops up every pool. This is called automatically on the sweep interval.
+	 */
+	void sweep() {
+		for (Pool pool : pools.values()) {
+			pool.evictExpired();
+			pool.scheduleRefill();
+		}
+	}
+
+	/**
+	 * Obtains a session with the given configuration, from the pool if one is available or by creating
+	 * one on the calling thread otherwise. Each session is handed out at most once.
+	 *
+	 * @param request (OPTIONAL) The session properties, or {@code null} for the defaults.
+	 *
+	 * @return Details of the session.
+	 *
+	 * @throws VideoResponseException If the pool was empty and the session could not be created.
+	 */
+	public CreateSessionResponse acquire(CreateSessionRequest request) {
+		if (closed) {
+			return creator.apply(request);
+		}
+		Pool pool = pool(request);
+		CreateSessionResponse session = pool.poll();
+		pool.scheduleRefill();
+		if (session != null) {
+			hits.incrementAndGet();
+			return session;
+		}
+		misses.incrementAndGet();
+		return creator.apply(request);
+	}
+
+	/**
+	 * Obtains a session with the default properties.
+	 *
+	 * @return Details of the session.
+	 *
+	 * @see #acquire(CreateSessionRequest)
+	 */
+	public CreateSessionResponse acquire() {
+		return acquire(null);
+	}
+
+	/**
+	 * Number of warm sessions currently pooled for the given configuration. This may include sessions
+	 * which have expired but not yet been swept.
+	 *
+	 * @param request The session properties, or {@code null} for the defaults.
+	 *
+	 * @return The pool depth.
+	 */
+	public int getDepth(CreateSessionRequest request) {
+		Pool pool = pools.get(key(request));
+		return pool != null ? pool.depth.get() : 0;
+	}
+
+	/**
+	 * Total number of warm sessions across all configurations.
+	 *
+	 * @return The sum of all pool depths.
+	 */
+	public int getTotalDepth() {
+		return pools.values().stream().mapToInt(pool -> pool.depth.get()).sum();
+	}
+
+	/**
+	 * Target number of warm sessions per configuration.
+	 *
+	 * @return The pool size.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Number of requests served from the pool.
+	 *
+	 * @return The hit count.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Number of requests for which the pool was empty, so a session was created on the calling thread.
+	 *
+	 * @return The miss count.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of sessions created in the background to fill the pools.
+	 *
+	 * @return The number of sessions pre-created.
+	 */
+	public long getCreatedCount() {
+		return created.get();
+	}
+
+	/**
+	 * Number of pooled sessions discarded for exceeding the maximum age.
+	 *
+	 * @return The expired count.
+	 */
+	public long getExpiredCount() {
+		return expired.get();
+	}
+
+	/**
+	 * The most recent error encountered when filling a pool in the background.
+	 *
+	 * @return The exception, or {@code null} if no refill has failed.
+	 */
+	public RuntimeException getLastRefillFailure() {
+		return lastRefillFailure;
+	}
+
+	/**
+	 * Stops background refilling and discards all pooled sessions. Subsequent calls to
+	 * {@link #acquire(CreateSessionRequest)} create sessions directly.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		sweepTask.cancel(false);
+		if (ownedScheduler != null) {
+			ownedScheduler.shutdownNow();
+		}
+		for (Pool pool : pools.values()) {
+			while (pool.sessions.pollFirst() != null) {
+				pool.depth.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Entrypoint for constructing an instance of this class.
+	 *
+	 * @param client The Video client to create sessions with.
+	 *
+	 * @return A new Builder.
+	 */
+	public static Builder builder(VideoClient client) {
+		Objects.requireNonNull(client, "Video client is required.");
+		return builder(client::createSession);
+	}
+
+	static Builder builder(Function<CreateSessionRequest, CreateSessionResponse> creator) {
+		return new Builder(creator);
+	}
+
+	/**
+	 * Builder for configuring the pool.
+	 */
+	public static final class Builder {
+		private final Function<CreateSessionRequest, CreateSessionResponse> creator;
+		private final List<CreateSessionRequest> configurations = new ArrayList<>();
+		private int size = 5;
+		private Duration maxAge = Duration.ofHours(1), sweepInterval = Duration.ofMinutes(1);
+		private ScheduledExecutorService scheduler;
+		private LongSupplier clock = System::nanoTime;
+
+		private Builder(Function<CreateSessionRequest, CreateSessionResponse> creator) {
+			this.creator = creator;
+		}
+
+		/**
+		 * Adds a session configuration to pre-warm when the pool is built. This method is additive.
+		 *
+		 * @param request The session properties, or {@code null} for the defaults.
+		 *
+		 * @return This builder.
+		 */
+		public Builder configuration(CreateSessionRequest request) {
+			configurations.add(request);
+			return this;
+		}
+
+		/**
+		 * Number of warm sessions to keep for each configuration. The default is 5.
+		 *
+		 * @param size The pool size, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder size(int size) {
+			this.size = size;
+			return this;
+		}
+
+		/**
+		 * Maximum time a session may remain in the pool before it is discarded. The default is 1 hour.
+		 *
+		 * @param maxAge The maximum age, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder maxAge(Duration maxAge) {
+			this.maxAge = Objects.requireNonNull(maxAge, "Maximum age cannot be null.");
+			return this;
+		}
+
+		/**
+		 * How often to discard expired sessions and retry any refills which failed. The default is 1 minute.
+		 *
+		 * @param sweepInterval The sweep interval, which must be positive.
+		 *
+		 * @return This builder.
+		 */
+		public Builder sweepInterval(Duration sweepInterval) {
+			this.sweepInterval = Objects.requireNonNull(sweepInterval, "Sweep interval cannot be null.");
+			return this;
+		}
+
+		/**
+		 * Scheduler to create sessions and sweep the pools on. If unspecified, a dedicated daemon thread is
+		 * created and stopped when the pool is closed. A supplied scheduler is not shut down by the pool.
+		 *
+		 * @param scheduler The scheduler.
+		 *
+		 * @return This builder.
+		 */
+		public Builder scheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		Builder clock(LongSupplier clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/**
+		 * Builds the pool and starts filling the configured pools in the background.
+		 *
+		 * @return A new VideoSessionPool with this builder's properties.
+		 */
+		public VideoSessionPool build() {
+			return new VideoSessionPool(this);
+		}
+	}
+}
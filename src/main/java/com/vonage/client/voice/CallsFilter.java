@@ -41,6 +41,16 @@ public class CallsFilter implements QueryParamsRequest {
         this.conversationUuid = builder.conversationUuid;
     }
 
+    private CallsFilter(CallsFilter copy, int pageSize, int recordIndex) {
+        this.status = copy.status;
+        this.dateStart = copy.dateStart;
+        this.dateEnd = copy.dateEnd;
+        this.pageSize = pageSize;
+        this.recordIndex = recordIndex;
+        this.order = copy.order;
+        this.conversationUuid = copy.conversationUuid;
+    }
+
     public CallStatus getStatus() {
         return status;
     }
@@ -69,6 +79,18 @@ public class CallsFilter implements QueryParamsRequest {
         return conversationUuid;
     }
 
+    /**
+     * Creates a copy of this filter for retrieving a different page.
+     *
+     * @param pageSize The number of records per page.
+     * @param recordIndex The offset of the first record to return.
+     *
+     * @return A new filter with the same criteria as this one, but with the specified page parameters.
+     */
+    CallsFilter withPage(int pageSize, int recordIndex) {
+        return new CallsFilter(this, pageSize, recordIndex);
+    }
+
     @Override
     public Map<String, String> makeParams() {
         Map<String, String> params = new LinkedHashMap<>();
@@ -18,6 +18,7 @@ package com.vonage.client.voice;
 import com.vonage.client.*;
 import com.vonage.client.auth.JWTAuthMethod;
 import com.vonage.client.common.HttpMethod;
+import com.vonage.client.common.ParallelPageFetcher;
 import com.vonage.client.voice.ncco.InputMode;
 import com.vonage.client.voice.ncco.Ncco;
 import com.vonage.jwt.Jwt;
@@ -25,6 +26,9 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -138,6 +142,35 @@ public class VoiceClient {
         return listCalls.execute(filter);
     }
 
+    /**
+     * Obtain every CallInfo matching the query described by {@code filter}, fetching all pages concurrently.
+     * The first page is requested to determine the total count, after which the remaining pages are retrieved
+     * in parallel. If the filter does not specify a page size, the maximum (100) is used.
+     *
+     * @param filter (optional) A filter describing which calls to be listed. The record index, if specified,
+     *               determines the offset of the first record to retrieve.
+     * @param parallelism Maximum number of concurrent page requests.
+     *
+     * @return The calls matching the filter across all pages, in page order.
+     *
+     * @throws VonageClientException        if there was a problem with the Vonage request or response objects.
+     * @throws VonageResponseParseException if the response from the API could not be parsed.
+     * @since 8.17.0
+     */
+    public List<CallInfo> listAllCalls(CallsFilter filter, int parallelism)
+            throws VonageResponseParseException, VonageClientException {
+        final CallsFilter base = filter != null ? filter : CallsFilter.builder().build();
+        final int pageSize = base.getPageSize() != null ? base.getPageSize() : 100,
+                start = base.getRecordIndex() != null ? base.getRecordIndex() : 0;
+        return ParallelPageFetcher.<CallInfoPage, CallInfo> builder(
+                    ordinal -> listCalls(base.withPage(pageSize, start + ordinal * pageSize)),
+                    page -> page.getEmbedded() != null && page.getEmbedded().getCallInfos() != null ?
+                            Arrays.asList(page.getEmbedded().getCallInfos()) : Collections.emptyList()
+                )
+                .totalItems(page -> page.getCount() - start, pageSize)
+                .parallelism(parallelism).build().fetchAll();
+    }
+
     /**
      * Look up the status of a single call initiated by {@link #createCall(Call)}.
      *
@@ -574,6 +607,7 @@ public class VoiceClient {
      * @return {@code true} if the token was signed by the secret, {@code false} otherwise.
      *
      * @since 7.11.0
+     * @see com.vonage.client.auth.JwtSignatureVerifier
      */
     public static boolean verifySignature(String jwt, String secret) {
         return Jwt.verifySignature(jwt, secret);
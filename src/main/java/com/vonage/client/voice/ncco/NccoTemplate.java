@@ -0,0 +1,293 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice.ncco;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.vonage.client.VonageUnexpectedException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A precompiled NCCO with named placeholders, for answer webhooks whose responses differ only in a few
+ * values such as the caller's number or a URL. The structure is serialised once when the template is
+ * compiled; rendering splices JSON-escaped values between the pre-encoded fragments in a single pass over
+ * a reused per-thread buffer, with no object mapping.
+ * <p>
+ * Placeholders take the form {@code {{name}}}, where the name consists of letters, digits and underscores,
+ * and may appear anywhere within a JSON string value, including as part of a longer string:
+ *
+ * <pre>{@code
+ * NccoTemplate template = NccoTemplate.compile(
+ *     TalkAction.builder("Hello {{name}}, connecting you now.").build(),
+ *     ConnectAction.builder(PhoneEndpoint.builder("{{agent}}").build()).from("{{from}}").build()
+ * );
+ * byte[] body = template.render(Map.of("name", name, "agent", agentNumber, "from", lvn));
+ * }</pre>
+ *
+ * Fields which are not strings in the object model (e.g. the {@code language} of a {@link TalkAction})
+ * can be parameterised by compiling the template from JSON instead, using {@link #compile(String)}.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 8.17.0
+ */
+public final class NccoTemplate {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([A-Za-z0-9_]+)}}");
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<byte[][]> BUFFERS = ThreadLocal.withInitial(() -> new byte[1][1024]);
+
+    private final byte[][] fragments;
+    private final String[] slots;
+    private final Set<String> placeholders;
+    private final int fragmentsLength;
+
+    private NccoTemplate(String json) {
+        validate(json);
+        List<byte[]> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(json);
+        int start = 0;
+        while (matcher.find()) {
+            fragments.add(json.substring(start, matcher.start()).getBytes(StandardCharsets.UTF_8));
+            slots.add(matcher.group(1));
+            start = matcher.end();
+        }
+        fragments.add(json.substring(start).getBytes(StandardCharsets.UTF_8));
+        this.fragments = fragments.toArray(new byte[0][]);
+        this.slots = slots.toArray(new String[0]);
+        placeholders = Collections.unmodifiableSet(new LinkedHashSet<>(slots));
+        fragmentsLength = fragments.stream().mapToInt(f -> f.length).sum();
+    }
+
+    /**
+     * Checks that the JSON is an array and that placeholders only occur within string values, since values
+     * are always spliced in as string content.
+     */
+    private static void validate(String json) {
+        try (JsonParser parser = JSON.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("NCCO must be a JSON array.");
+            }
+            int depth = 1;
+            JsonToken token;
+            while (depth > 0 && (token = parser.nextToken()) != null) {
+                if (token.isStructStart()) {
+                    depth++;
+                }
+                else if (token.isStructEnd()) {
+                    depth--;
+                }
+                else if (token == JsonToken.FIELD_NAME && PLACEHOLDER.matcher(parser.currentName()).find()) {
+                    throw new IllegalArgumentException(
+                            "Placeholders cannot be used in field names: '" + parser.currentName() + "'."
+                    );
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Unexpected content after NCCO array.");
+            }
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Invalid NCCO template JSON.", ex);
+        }
+    }
+
+    /**
+     * Compiles a template from an NCCO.
+     *
+     * @param ncco The NCCO, whose string fields may contain placeholders.
+     *
+     * @return A new template.
+     */
+    public static NccoTemplate compile(Ncco ncco) {
+        return new NccoTemplate(Objects.requireNonNull(ncco, "NCCO cannot be null.").toJson());
+    }
+
+    /**
+     * Compiles a template from a sequence of actions.
+     *
+     * @param actions The NCCO actions, whose string fields may contain placeholders.
+     *
+     * @return A new template.
+     */
+    public static NccoTemplate compile(Action... actions) {
+        return compile(new Ncco(actions));
+    }
+
+    /**
+     * Compiles a template from the JSON representation of an NCCO.
+     *
+     * @param json The NCCO as a JSON array, whose string values may contain placeholders.
+     *
+     * @return A new template.
+     *
+     * @throws IllegalArgumentException If the JSON is malformed, is not an array or uses placeholders
+     * in field names.
+     */
+    public static NccoTemplate compile(String json) {
+        return new NccoTemplate(Objects.requireNonNull(json, "JSON cannot be null."));
+    }
+
+    /**
+     * Names of the placeholders in this template.
+     *
+     * @return The distinct placeholder names, in order of first appearance.
+     */
+    public Set<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values The value for each placeholder. Values are converted using {@link Object#toString()}.
+     *
+     * @return The UTF-8 encoded NCCO JSON.
+     *
+     * @throws IllegalArgumentException If a value is missing for any of the placeholders.
+     */
+    public byte[] render(Map<String, ?> values) {
+        byte[][] buffer = BUFFERS.get();
+        int length = renderInto(buffer, values);
+        return Arrays.copyOf(buffer[0], length);
+    }
+
+    /**
+     * Renders the template as a String.
+     *
+     * @param values The value for each placeholder. Values are converted using {@link Object#toString()}.
+     *
+     * @return The NCCO JSON.
+     *
+     * @throws IllegalArgumentException If a value is missing for any of the placeholders.
+     */
+    public String toJson(Map<String, ?> values) {
+        byte[][] buffer = BUFFERS.get();
+        int length = renderInto(buffer, values);
+        return new String(buffer[0], 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders the template directly to a stream (e.g. the webhook response body) in a single write.
+     *
+     * @param out The stream to write the UTF-8 encoded NCCO JSON to.
+     * @param values The value for each placeholder. Values are converted using {@link Object#toString()}.
+     *
+     * @return The number of bytes written, which can be used as the Content-Length.
+     *
+     * @throws IllegalArgumentException If a value is missing for any of the placeholders.
+     * @throws VonageUnexpectedException If the stream could not be written to.
+     */
+    public int writeTo(OutputStream out, Map<String, ?> values) {
+        byte[][] buffer = BUFFERS.get();
+        int length = renderInto(buffer, values);
+        try {
+            out.write(buffer[0], 0, length);
+        }
+        catch (IOException ex) {
+            throw new VonageUnexpectedException("Unable to write NCCO.", ex);
+        }
+        return length;
+    }
+
+    private int renderInto(byte[][] holder, Map<String, ?> values) {
+        Objects.requireNonNull(values, "Values cannot be null.");
+        String[] rendered = new String[slots.length];
+        int estimate = fragmentsLength;
+        for (int i = 0; i < slots.length; i++) {
+            Object value = values.get(slots[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for placeholder '" + slots[i] + "'.");
+            }
+            rendered[i] = value.toString();
+            // Worst case is a control character escaped as six bytes.
+            estimate += rendered[i].length() * 6;
+        }
+        byte[] buffer = holder[0];
+        if (buffer.length < estimate) {
+            buffer = holder[0] = new byte[Math.max(estimate, buffer.length * 2)];
+        }
+        int pos = 0;
+        for (int i = 0; i < slots.length; i++) {
+            byte[] fragment = fragments[i];
+            System.arraycopy(fragment, 0, buffer, pos, fragment.length);
+            pos = escape(rendered[i], buffer, pos + fragment.length);
+        }
+        byte[] last = fragments[slots.length];
+        System.arraycopy(last, 0, buffer, pos, last.length);
+        return pos + last.length;
+    }
+
+    /**
+     * Writes the value as JSON string content encoded in UTF-8, returning the new position.
+     */
+    private static int escape(String value, byte[] buffer, int pos) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer[pos++] = '\\';
+                buffer[pos++] = (byte) c;
+            }
+            else if (c < 0x20) {
+                buffer[pos++] = '\\';
+                switch (c) {
+                    case '\n': buffer[pos++] = 'n'; break;
+                    case '\r': buffer[pos++] = 'r'; break;
+                    case '\t': buffer[pos++] = 't'; break;
+                    case '\b': buffer[pos++] = 'b'; break;
+                    case '\f': buffer[pos++] = 'f'; break;
+                    default:
+                        buffer[pos++] = 'u';
+                        buffer[pos++] = '0';
+                        buffer[pos++] = '0';
+                        buffer[pos++] = HEX[c >> 4];
+                        buffer[pos++] = HEX[c & 0xF];
+                }
+            }
+            else if (c < 0x80) {
+                buffer[pos++] = (byte) c;
+            }
+            else if (c < 0x800) {
+                buffer[pos++] = (byte) (0xC0 | (c >> 6));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                buffer[pos++] = (byte) (0xF0 | (cp >> 18));
+                buffer[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (cp & 0x3F));
+            }
+            else if (Character.isSurrogate(c)) {
+                buffer[pos++] = '?';
+            }
+            else {
+                buffer[pos++] = (byte) (0xE0 | (c >> 12));
+                buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vonage.client.auth.AuthMethod;
+import com.vonage.client.auth.NoAuthMethod;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+public class ConnectionPoolTest {
+	HttpServer server;
+	ExecutorService executor;
+	final CountDownLatch slowReleased = new CountDownLatch(1);
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			try {
+				if (exchange.getRequestURI().getPath().startsWith("/v1/messages")) {
+					slowReleased.await(10, TimeUnit.SECONDS);
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		slowReleased.countDown();
+		executor.shutdownNow();
+		server.stop(0);
+	}
+
+	AbstractMethod<String, String> endpoint(HttpWrapper wrapper) {
+		String base = "http://localhost:" + server.getAddress().getPort();
+		return new AbstractMethod<String, String>(wrapper) {
+			@Override
+			protected Set<Class<? extends AuthMethod>> getAcceptableAuthMethods() {
+				return Set.of(NoAuthMethod.class);
+			}
+
+			@Override
+			public RequestBuilder makeRequest(String path) {
+				return RequestBuilder.get(base + path);
+			}
+
+			@Override
+			public String parseResponse(HttpResponse response) throws IOException {
+				return EntityUtils.toString(response.getEntity());
+			}
+		};
+	}
+
+	static ConnectionPoolConfig.Builder messagesPool() {
+		return ConnectionPoolConfig.builder("messages").pathPrefix("/v1/messages").pathPrefix("/sms");
+	}
+
+	@Test
+	public void testConfigDefaultsAndValidation() {
+		var config = messagesPool().build();
+		assertEquals("messages", config.getName());
+		assertEquals(List.of("/v1/messages", "/sms"), config.getPathPrefixes());
+		assertEquals(20, config.getMaxConnections());
+		assertEquals(-1, config.getMaxQueued());
+		assertNull(config.getConnectTimeoutMillis());
+		assertNull(config.getSocketTimeoutMillis());
+		assertNull(config.getLeaseTimeoutMillis());
+
+		var custom = messagesPool().maxConnections(5).maxQueued(0).connectTimeoutMillis(100)
+				.socketTimeoutMillis(2000).leaseTimeoutMillis(50).build();
+		assertEquals(5, custom.getMaxConnections());
+		assertEquals(0, custom.getMaxQueued());
+		assertEquals(100, custom.getConnectTimeoutMillis());
+		assertEquals(2000, custom.getSocketTimeoutMillis());
+		assertEquals(50, custom.getLeaseTimeoutMillis());
+
+		assertThrows(NullPointerException.class, () -> ConnectionPoolConfig.builder(null).pathPrefix("/").build());
+		assertThrows(IllegalArgumentException.class, () -> ConnectionPoolConfig.builder("x").build());
+		assertThrows(IllegalArgumentException.class, () -> messagesPool().maxConnections(0).build());
+		assertThrows(IllegalArgumentException.class, () -> messagesPool().maxQueued(-1));
+		assertThrows(IllegalArgumentException.class, () -> messagesPool().socketTimeoutMillis(0).build());
+
+		var httpConfig = HttpConfig.builder().maxConnections(50).connectionPool(config).build();
+		assertEquals(50, httpConfig.getMaxConnections());
+		assertEquals(List.of(config), httpConfig.getConnectionPools());
+		assertThrows(IllegalArgumentException.class, () ->
+				HttpConfig.builder().connectionPool(config).connectionPool(messagesPool().build()).build()
+		);
+		assertThrows(IllegalArgumentException.class, () -> HttpConfig.builder().maxConnections(0).build());
+	}
+
+	@Test
+	public void testRouting() {
+		var wrapper = new HttpWrapper(HttpConfig.builder()
+				.connectionPool(messagesPool().build())
+				.connectionPool(ConnectionPoolConfig.builder("verify").pathPrefix("/v2/verify").build())
+				.connectionPool(ConnectionPoolConfig.builder("templates").pathPrefix("/v2/verify/templates").build())
+				.build(), new NoAuthMethod()
+		);
+		var pools = wrapper.getConnectionPools();
+		assertEquals(List.of("messages", "verify", "templates"), List.copyOf(pools.keySet()));
+		assertSame(pools, wrapper.getConnectionPools());
+		assertSame(pools.get("messages"), wrapper.getConnectionPool(new HttpGet("https://api.nexmo.com/v1/messages")));
+		assertSame(pools.get("messages"), wrapper.getConnectionPool(new HttpGet("https://rest.nexmo.com/sms/json")));
+		assertSame(pools.get("verify"), wrapper.getConnectionPool(new HttpGet("https://api.nexmo.com/v2/verify/abc")));
+		assertSame(pools.get("templates"), wrapper.getConnectionPool(new HttpGet("https://api.nexmo.com/v2/verify/templates")));
+		assertNull(wrapper.getConnectionPool(new HttpGet("https://api.nexmo.com/v1/calls")));
+		assertNotSame(wrapper.getHttpClient(), pools.get("messages").getHttpClient());
+
+		wrapper.setHttpClient(mock(CloseableHttpClient.class));
+		assertNull(wrapper.getConnectionPool(new HttpGet("https://api.nexmo.com/v1/messages")));
+		assertTrue(new HttpWrapper(new NoAuthMethod()).getConnectionPools().isEmpty());
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testReconfigurationClosesPreviousPools() throws Exception {
+		var wrapper = new HttpWrapper(HttpConfig.builder().connectionPool(messagesPool().build()).build());
+		var previous = wrapper.getConnectionPools().get("messages");
+		wrapper.setHttpConfig(HttpConfig.builder().connectionPool(messagesPool().maxConnections(2).build()).build());
+
+		var current = wrapper.getConnectionPools().get("messages");
+		assertNotSame(previous, current);
+		assertEquals(2, current.getConfig().getMaxConnections());
+		assertSame(current, wrapper.getConnectionPool(new HttpGet("https://api.nexmo.com/v1/messages")));
+		String url = "http://localhost:" + server.getAddress().getPort() + "/status";
+		assertThrows(IllegalStateException.class, () -> previous.getHttpClient().execute(new HttpGet(url)));
+		try (var response = current.getHttpClient().execute(new HttpGet(url))) {
+			assertEquals(200, response.getStatusLine().getStatusCode());
+		}
+	}
+
+	@Test
+	public void testReconfigurationWaitsForInFlightRequests() throws Exception {
+		var wrapper = new HttpWrapper(HttpConfig.builder().connectionPool(messagesPool().build()).build(),
+				new NoAuthMethod()
+		);
+		var endpoint = endpoint(wrapper);
+		var previous = wrapper.getConnectionPools().get("messages");
+		Future<String> inFlight = executor.submit(() -> endpoint.execute("/v1/messages"));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (previous.getLeasedCount() < 1) {
+			assertTrue(System.currentTimeMillis() < deadline, previous.toString());
+			Thread.sleep(5);
+		}
+
+		wrapper.setHttpConfig(HttpConfig.builder().connectionPool(messagesPool().maxConnections(2).build()).build());
+		assertNotSame(previous, wrapper.getConnectionPools().get("messages"));
+		slowReleased.countDown();
+		assertEquals("/v1/messages", inFlight.get(5, TimeUnit.SECONDS));
+		String url = "http://localhost:" + server.getAddress().getPort() + "/status";
+		assertThrows(IllegalStateException.class, () -> previous.getHttpClient().execute(new HttpGet(url)));
+		assertEquals("/v1/messages", endpoint.execute("/v1/messages"));
+	}
+
+	@Test
+	public void testSaturatedPoolDoesNotAffectOthers() throws Exception {
+		var wrapper = new HttpWrapper(HttpConfig.builder()
+				.connectionPool(messagesPool().maxConnections(1).maxQueued(1).build())
+				.build(), new NoAuthMethod()
+		);
+		var endpoint = endpoint(wrapper);
+		var pool = wrapper.getConnectionPools().get("messages");
+
+		Future<String> first = executor.submit(() -> endpoint.execute("/v1/messages"));
+		Future<String> second = executor.submit(() -> endpoint.execute("/v1/messages"));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (pool.getLeasedCount() < 1 || pool.getPendingCount() < 1) {
+			assertTrue(System.currentTimeMillis() < deadline, pool.toString());
+			Thread.sleep(5);
+		}
+
+		var ex = assertThrows(VonageMethodFailedException.class, () -> endpoint.execute("/sms/json"));
+		assertEquals("Connection pool 'messages' is at capacity.", ex.getMessage());
+		assertEquals(1, pool.getRejectedCount());
+		assertEquals("/v1/calls", endpoint.execute("/v1/calls"));
+
+		slowReleased.countDown();
+		assertEquals("/v1/messages", first.get(5, TimeUnit.SECONDS));
+		assertEquals("/v1/messages", second.get(5, TimeUnit.SECONDS));
+		assertEquals(0, pool.getLeasedCount());
+		assertEquals(1, pool.getAvailableCount());
+		assertEquals("/sms/json", endpoint.execute("/sms/json"));
+	}
+
+	@Test
+	public void testLeaseTimeout() throws Exception {
+		var wrapper = new HttpWrapper(HttpConfig.builder()
+				.connectionPool(messagesPool().maxConnections(1).leaseTimeoutMillis(50).build())
+				.build(), new NoAuthMethod()
+		);
+		var endpoint = endpoint(wrapper);
+		var pool = wrapper.getConnectionPools().get("messages");
+		Future<String> first = executor.submit(() -> endpoint.execute("/v1/messages"));
+		long deadline = System.currentTimeMillis() + 5000;
+		while (pool.getLeasedCount() < 1) {
+			assertTrue(System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+		assertThrows(VonageMethodFailedException.class, () -> endpoint.execute("/v1/messages"));
+		assertEquals(0, pool.getRejectedCount());
+		slowReleased.countDown();
+		assertEquals("/v1/messages", first.get(5, TimeUnit.SECONDS));
+	}
+}
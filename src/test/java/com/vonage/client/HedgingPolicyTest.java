@@ -0,0 +1,228 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vonage.client.auth.AuthMethod;
+import com.vonage.client.auth.NoAuthMethod;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+
+public class HedgingPolicyTest {
+	HttpServer server;
+	ExecutorService serverExecutor;
+	final AtomicInteger received = new AtomicInteger(), completed = new AtomicInteger();
+	volatile IntUnaryOperator delayMillis = n -> n % 2 == 1 ? 3000 : 0;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			int n = received.incrementAndGet();
+			String path = exchange.getRequestURI().getPath();
+			try {
+				Thread.sleep(delayMillis.applyAsInt(n));
+				int status = path.endsWith("missing") ? 404 : 200;
+				byte[] body = (path + '#' + n).getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(status, body.length);
+				try (OutputStream os = exchange.getResponseBody()) {
+					os.write(body);
+				}
+				completed.incrementAndGet();
+			}
+			catch (InterruptedException | IOException ex) {
+				exchange.close();
+			}
+		});
+		server.setExecutor(serverExecutor = Executors.newCachedThreadPool());
+		server.start();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	AbstractMethod<String, String> endpoint(HedgingPolicy policy, String method) {
+		String base = "http://localhost:" + server.getAddress().getPort();
+		var config = HttpConfig.builder().hedgingPolicy(policy).build();
+		assertSame(policy, config.getHedgingPolicy());
+		return new AbstractMethod<String, String>(new HttpWrapper(config, new NoAuthMethod())) {
+			@Override
+			protected Set<Class<? extends AuthMethod>> getAcceptableAuthMethods() {
+				return Set.of(NoAuthMethod.class);
+			}
+
+			@Override
+			public RequestBuilder makeRequest(String path) {
+				return RequestBuilder.create(method).setUri(base + path);
+			}
+
+			@Override
+			public String parseResponse(HttpResponse response) throws IOException {
+				String body = EntityUtils.toString(response.getEntity());
+				if (response.getStatusLine().getStatusCode() != 200) {
+					throw new VonageApiResponseException(body);
+				}
+				return body;
+			}
+		};
+	}
+
+	static HedgingPolicy.Builder builder() {
+		return HedgingPolicy.builder().pathPrefix("/v2/applications").pathPrefix("/v1/calls");
+	}
+
+	@Test
+	public void testHedgeWinsWhenPrimaryIsSlow() {
+		var policy = builder().initialDelay(Duration.ofMillis(50)).build();
+		var endpoint = endpoint(policy, "GET");
+		long start = System.nanoTime();
+		assertEquals("/v2/applications/abc#2", endpoint.execute("/v2/applications/abc"));
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2000);
+		assertEquals(2, received.get());
+		assertEquals(1, policy.getEligibleCount());
+		assertEquals(1, policy.getHedgedCount());
+		assertEquals(1, policy.getHedgeWinCount());
+		assertEquals(0, policy.getBudgetExhaustedCount());
+	}
+
+	@Test
+	public void testNoHedgeWhenPrimaryIsFast() throws Exception {
+		var policy = builder().initialDelay(Duration.ofSeconds(1)).minDelay(Duration.ofMillis(100)).build();
+		var endpoint = endpoint(policy, "GET");
+		delayMillis = n -> 0;
+		assertEquals(Duration.ofSeconds(1), policy.getHedgeDelay("/v1/calls"));
+		for (int i = 1; i <= HedgingPolicy.MIN_SAMPLES; i++) {
+			assertEquals("/v1/calls/xyz#" + i, endpoint.execute("/v1/calls/xyz"));
+		}
+		Thread.sleep(50);
+		assertEquals(HedgingPolicy.MIN_SAMPLES, received.get());
+		assertEquals(HedgingPolicy.MIN_SAMPLES, policy.getEligibleCount());
+		assertEquals(0, policy.getHedgedCount());
+		assertEquals(Duration.ofMillis(100), policy.getHedgeDelay("/v1/calls"));
+		assertEquals(Duration.ofSeconds(1), policy.getHedgeDelay("/v2/applications"));
+		assertThrows(IllegalArgumentException.class, () -> policy.getHedgeDelay("/v1/messages"));
+	}
+
+	@Test
+	public void testBudgetCapsHedges() {
+		var policy = builder().initialDelay(Duration.ofMillis(10)).budget(0.01).build();
+		var endpoint = endpoint(policy, "GET");
+		delayMillis = n -> 60;
+		int requests = HedgingPolicy.MAX_BURST + 2;
+		for (int i = 0; i < requests; i++) {
+			assertTrue(endpoint.execute("/v2/applications").startsWith("/v2/applications#"));
+		}
+		assertEquals(requests, policy.getEligibleCount());
+		assertEquals(HedgingPolicy.MAX_BURST, policy.getHedgedCount());
+		assertEquals(2, policy.getBudgetExhaustedCount());
+		assertTrue(policy.getHedgeWinCount() <= policy.getHedgedCount());
+	}
+
+	@Test
+	public void testPrimaryErrorCancelsHedge() throws Exception {
+		var policy = builder().initialDelay(Duration.ofMillis(50)).build();
+		var endpoint = endpoint(policy, "GET");
+		delayMillis = n -> n == 1 ? 150 : 3000;
+		assertThrows(VonageApiResponseException.class, () -> endpoint.execute("/v1/calls/missing"));
+		assertEquals(1, policy.getHedgedCount());
+		assertEquals(0, policy.getHedgeWinCount());
+		Thread.sleep(100);
+		assertEquals(1, completed.get());
+	}
+
+	@Test
+	public void testIneligibleRequestsNotHedged() {
+		var policy = builder().initialDelay(Duration.ofMillis(10)).build();
+		delayMillis = n -> 200;
+		assertTrue(policy.isEligible(new HttpGet("https://api.nexmo.com/v2/applications/abc")));
+		assertFalse(policy.isEligible(new HttpGet("https://api.nexmo.com/v1/messages")));
+		assertFalse(policy.isEligible(new HttpPost("https://api.nexmo.com/v1/calls")));
+
+		assertEquals("/v1/calls#1", endpoint(policy, "POST").execute("/v1/calls"));
+		assertEquals("/v2/users#2", endpoint(policy, "GET").execute("/v2/users"));
+		assertEquals(0, policy.getEligibleCount());
+		assertEquals(0, policy.getHedgedCount());
+		assertEquals(Set.of("/v2/applications", "/v1/calls"), policy.getPathPrefixes());
+	}
+
+	@Test
+	public void testHedgeInheritsRequestContext() {
+		var policy = builder().initialDelay(Duration.ofMillis(20)).build();
+		var endpoint = endpoint(policy, "GET");
+		delayMillis = n -> 3000;
+		var context = RequestContext.withTimeout(Duration.ofMillis(300));
+		var ex = assertThrows(VonageMethodFailedException.class, () ->
+				context.call(() -> endpoint.execute("/v2/applications/abc"))
+		);
+		assertEquals("Request deadline exceeded.", ex.getMessage());
+		assertEquals(1, policy.getHedgedCount());
+		assertEquals(0, policy.getHedgeWinCount());
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().build());
+		assertThrows(NullPointerException.class, () -> builder().pathPrefix(null));
+		assertThrows(IllegalArgumentException.class, () -> builder().percentile(1).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().percentile(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().budget(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().budget(1.5).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().sampleWindow(10).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().minDelay(Duration.ofSeconds(3)).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().initialDelay(Duration.ofSeconds(5)).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().minDelay(Duration.ofMillis(-1)).build());
+	}
+
+	@Test
+	public void testCloseStopsHedging() {
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			var policy = builder().initialDelay(Duration.ofMillis(20)).executor(executor).build();
+			var endpoint = endpoint(policy, "GET");
+			delayMillis = n -> 100;
+			policy.close();
+			assertEquals("/v1/calls#1", endpoint.execute("/v1/calls"));
+			assertEquals(0, policy.getEligibleCount());
+			assertEquals(0, policy.getHedgedCount());
+			assertFalse(executor.isShutdown());
+			policy.close();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		var policy = builder().build();
+		policy.close();
+		assertEquals("/v2/applications#2", endpoint(policy, "GET").execute("/v2/applications"));
+	}
+}
@@ -40,6 +40,12 @@ public class HttpConfigTest {
         assertEquals(EXPECTED_DEFAULT_API_EU_BASE_URI, config.getApiEuBaseUri());
         assertEquals(EXPECTED_DEFAULT_VIDEO_BASE_URI, config.getVideoBaseUri());
         assertEquals(URI.create(EXPECTED_DEFAULT_API_EU_BASE_URI), config.getRegionalBaseUri(ApiRegion.API_EU));
+        assertNull(config.getRequestScheduler());
+        assertEquals(200, config.getMaxConnections());
+        assertTrue(config.getConnectionPools().isEmpty());
+        assertTrue(config.getEndpointTimeouts().isEmpty());
+        assertNull(config.getHedgingPolicy());
+        assertFalse(config.isSingleFlightGets());
     }
 
     @Test
@@ -0,0 +1,279 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vonage.client.auth.AuthMethod;
+import com.vonage.client.auth.NoAuthMethod;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.CookieSpecs;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.Executable;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestContextTest {
+	HttpServer server;
+	ExecutorService serverExecutor;
+	final AtomicInteger received = new AtomicInteger();
+	final CountDownLatch slowReceived = new CountDownLatch(1);
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			received.incrementAndGet();
+			String path = exchange.getRequestURI().getPath();
+			try {
+				if (path.startsWith("/slow")) {
+					slowReceived.countDown();
+					Thread.sleep(path.equals("/slow/short") ? 300 : 3000);
+				}
+				byte[] body = path.getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream os = exchange.getResponseBody()) {
+					os.write(body);
+				}
+			}
+			catch (InterruptedException | IOException ex) {
+				exchange.close();
+			}
+		});
+		server.setExecutor(serverExecutor = Executors.newCachedThreadPool());
+		server.start();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	AbstractMethod<String, String> endpoint(HttpConfig config) {
+		String base = "http://localhost:" + server.getAddress().getPort();
+		return new AbstractMethod<String, String>(new HttpWrapper(config, new NoAuthMethod())) {
+			@Override
+			protected Set<Class<? extends AuthMethod>> getAcceptableAuthMethods() {
+				return Set.of(NoAuthMethod.class);
+			}
+
+			@Override
+			public RequestBuilder makeRequest(String path) {
+				return RequestBuilder.get(base + path);
+			}
+
+			@Override
+			public String parseResponse(HttpResponse response) throws IOException {
+				return EntityUtils.toString(response.getEntity());
+			}
+		};
+	}
+
+	AbstractMethod<String, String> endpoint() {
+		return endpoint(HttpConfig.defaultConfig());
+	}
+
+	static void assertFailure(String message, Executable call) {
+		var ex = assertThrows(VonageMethodFailedException.class, call);
+		assertEquals(message, ex.getMessage());
+	}
+
+	@Test
+	public void testDeadlineAbortsSlowRequest() {
+		var endpoint = endpoint();
+		var context = RequestContext.withTimeout(Duration.ofMillis(200));
+		assertFalse(context.isExpired());
+		assertTrue(context.getRemaining().toMillis() <= 200);
+		long start = System.nanoTime();
+		assertFailure("Request deadline exceeded.", () -> context.call(() -> endpoint.execute("/slow")));
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2000);
+		assertTrue(context.isExpired());
+		assertFalse(context.isCancelled());
+		assertEquals(Duration.ZERO, context.getRemaining());
+
+		int before = received.get();
+		assertFailure("Request deadline exceeded.", () -> context.call(() -> endpoint.execute("/fast")));
+		assertEquals(before, received.get());
+		assertEquals("/fast", endpoint.execute("/fast"));
+	}
+
+	@Test
+	public void testCancelAbortsInFlightRequest() throws Exception {
+		var endpoint = endpoint();
+		var context = RequestContext.cancellable();
+		assertNull(context.getRemaining());
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> result = executor.submit(() -> context.call(() -> endpoint.execute("/slow")));
+			assertTrue(slowReceived.await(5, TimeUnit.SECONDS));
+			context.cancel();
+			var ex = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+			assertInstanceOf(VonageMethodFailedException.class, ex.getCause());
+			assertEquals("Request was cancelled.", ex.getCause().getMessage());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertTrue(context.isCancelled());
+		assertFalse(context.isExpired());
+		assertFailure("Request was cancelled.", () -> context.run(() -> endpoint.execute("/fast")));
+	}
+
+	@Test
+	public void testNestedContexts() {
+		var endpoint = endpoint();
+		var outer = RequestContext.withDeadline(Instant.now().plusMillis(200));
+		var inner = RequestContext.withTimeout(Duration.ofSeconds(10));
+		assertNull(RequestContext.current());
+		outer.run(() -> {
+			assertSame(outer, RequestContext.current());
+			assertFailure("Request deadline exceeded.", () -> inner.run(() -> {
+				assertSame(inner, RequestContext.current());
+				endpoint.execute("/slow");
+			}));
+			assertSame(outer, RequestContext.current());
+		});
+		assertNull(RequestContext.current());
+		assertFalse(inner.isExpired());
+		assertEquals("/slow/short", inner.call(() -> endpoint.execute("/slow/short")));
+	}
+
+	@Test
+	public void testEndpointTimeouts() {
+		var config = HttpConfig.builder()
+				.endpointTimeoutMillis("/slow", 100)
+				.endpointTimeoutMillis("/slow/short", 2000)
+				.build();
+		assertEquals(2, config.getEndpointTimeouts().size());
+		assertEquals(100, config.getEndpointTimeoutMillis("/slow/long"));
+		assertEquals(2000, config.getEndpointTimeoutMillis("/slow/short"));
+		assertNull(config.getEndpointTimeoutMillis("/fast"));
+
+		var endpoint = endpoint(config);
+		assertFailure("Request deadline exceeded.", () -> endpoint.execute("/slow"));
+		assertEquals("/slow/short", endpoint.execute("/slow/short"));
+		assertEquals("/fast", endpoint.execute("/fast"));
+		assertEquals("/slow/short", RequestContext.withTimeout(Duration.ofSeconds(5))
+				.call(() -> endpoint.execute("/slow/short")));
+
+		assertThrows(IllegalArgumentException.class, () -> HttpConfig.builder().endpointTimeoutMillis("/x", 0));
+		assertThrows(NullPointerException.class, () -> HttpConfig.builder().endpointTimeoutMillis(null, 10));
+	}
+
+	@Test
+	public void testSchedulerWaitCountsTowardsDeadline() throws Exception {
+		var scheduler = RequestScheduler.builder().maxConcurrency(1).build();
+		var endpoint = endpoint(HttpConfig.builder().requestScheduler(scheduler).build());
+		try (var held = scheduler.acquire(RequestScheduler.DEFAULT_LANE)) {
+			assertFailure("Request deadline exceeded.", () ->
+					RequestContext.withTimeout(Duration.ofMillis(50)).call(() -> endpoint.execute("/fast"))
+			);
+		}
+		assertEquals(1, scheduler.getMetrics(RequestScheduler.DEFAULT_LANE).getAbandonedCount());
+		assertEquals(0, received.get());
+		assertEquals("/fast", endpoint.execute("/fast"));
+	}
+
+	@Test
+	public void testCancelWhilstWaitingForSchedulerPermit() throws Exception {
+		var scheduler = RequestScheduler.builder().maxConcurrency(1).build();
+		var endpoint = endpoint(HttpConfig.builder().requestScheduler(scheduler).build());
+		var context = RequestContext.cancellable();
+		var executor = Executors.newSingleThreadExecutor();
+		try (var held = scheduler.acquire(RequestScheduler.DEFAULT_LANE)) {
+			Future<String> result = executor.submit(() -> context.call(() -> endpoint.execute("/fast")));
+			long deadline = System.currentTimeMillis() + 5000;
+			while (scheduler.getMetrics(RequestScheduler.DEFAULT_LANE).getQueueDepth() < 1) {
+				assertTrue(System.currentTimeMillis() < deadline);
+				Thread.sleep(5);
+			}
+			context.cancel();
+			var ex = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+			assertEquals("Request was cancelled.", ex.getCause().getMessage());
+			var metrics = scheduler.getMetrics(RequestScheduler.DEFAULT_LANE);
+			assertEquals(1, metrics.getAbandonedCount());
+			assertEquals(0, metrics.getQueueDepth());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals(0, received.get());
+		assertEquals("/fast", endpoint.execute("/fast"));
+	}
+
+	@Test
+	public void testTimeoutsCappedToRemainingBudget() {
+		var base = HttpWrapper.createRequestConfig(100, 60_000, 60_000);
+		var request = new HttpGet("https://api.nexmo.com/v1/calls");
+		RequestContext.withTimeout(Duration.ofSeconds(1)).run(() -> {
+			try (var attempt = RequestContext.begin(HttpConfig.defaultConfig(), request)) {
+				assertTrue(attempt.remainingNanos() > 0);
+				assertSame(request, attempt.applyTo(base));
+			}
+		});
+		RequestConfig config = request.getConfig();
+		assertEquals(100, config.getConnectTimeout());
+		assertTrue(config.getConnectionRequestTimeout() <= 1000);
+		assertTrue(config.getSocketTimeout() <= 1000);
+		assertFalse(request.isAborted());
+
+		assertNull(RequestContext.begin(HttpConfig.defaultConfig(), request));
+		assertNull(RequestContext.begin(null, request));
+		assertThrows(NullPointerException.class, () -> RequestContext.withTimeout(null));
+		assertTrue(RequestContext.withTimeout(Duration.ofSeconds(-1)).isExpired());
+		assertFalse(RequestContext.withTimeout(Duration.ofSeconds(Long.MAX_VALUE)).isExpired());
+	}
+
+	@Test
+	public void testCustomClientRequestConfigPreserved() {
+		var captured = new ArrayList<RequestConfig>();
+		var endpoint = endpoint();
+		endpoint.getHttpWrapper().setHttpClient(HttpClientBuilder.create()
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setCookieSpec(CookieSpecs.IGNORE_COOKIES).setSocketTimeout(60_000).build()
+				)
+				.addInterceptorFirst((HttpRequestInterceptor) (request, context) ->
+						captured.add(HttpClientContext.adapt(context).getRequestConfig())
+				)
+				.build()
+		);
+
+		assertEquals("/fast", endpoint.execute("/fast"));
+		assertEquals("/fast", RequestContext.withTimeout(Duration.ofSeconds(1)).call(() -> endpoint.execute("/fast")));
+		assertEquals(2, captured.size());
+		assertEquals(60_000, captured.get(0).getSocketTimeout());
+		for (RequestConfig config : captured) {
+			assertEquals(CookieSpecs.IGNORE_COOKIES, config.getCookieSpec());
+		}
+		assertTrue(captured.get(1).getSocketTimeout() <= 1000);
+	}
+}
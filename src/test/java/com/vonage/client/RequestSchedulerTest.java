@@ -0,0 +1,238 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.auth.AuthMethod;
+import com.vonage.client.auth.NoAuthMethod;
+import org.apache.http.HttpResponse;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class RequestSchedulerTest {
+	final List<Thread> threads = new ArrayList<>();
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		for (Thread thread : threads) {
+			thread.interrupt();
+			thread.join(5000);
+		}
+	}
+
+	RequestScheduler.Builder builder() {
+		return RequestScheduler.builder()
+				.lane("otp", 4).lane("bulk", 1, 2)
+				.route("/v2/verify", "otp").route("/verify", "otp")
+				.route("/v1/messages", "bulk").route("/sms", "bulk");
+	}
+
+	void startWaiter(RequestScheduler scheduler, String lane, List<String> order) throws Exception {
+		int queued = scheduler.getMetrics(lane).getQueueDepth();
+		Thread thread = new Thread(() -> {
+			try (RequestScheduler.Permit permit = scheduler.acquire(lane)) {
+				order.add(permit.getLane());
+			}
+			catch (InterruptedException ex) {
+				// Test torn down
+			}
+		});
+		threads.add(thread);
+		thread.start();
+		awaitQueueDepth(scheduler, lane, queued + 1);
+	}
+
+	void awaitQueueDepth(RequestScheduler scheduler, String lane, int depth) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (scheduler.getMetrics(lane).getQueueDepth() != depth) {
+			assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for " + lane + " queue");
+			Thread.sleep(1);
+		}
+	}
+
+	@Test
+	public void testRouting() {
+		var scheduler = builder().route("/v2/verify/templates", "bulk").build();
+		assertEquals("otp", scheduler.resolveLane("/v2/verify"));
+		assertEquals("otp", scheduler.resolveLane("/verify/json"));
+		assertEquals("bulk", scheduler.resolveLane("/v2/verify/templates/abc"));
+		assertEquals("bulk", scheduler.resolveLane("/v1/messages"));
+		assertEquals("bulk", scheduler.resolveLane("/sms/json"));
+		assertEquals(RequestScheduler.DEFAULT_LANE, scheduler.resolveLane("/v1/calls"));
+		assertEquals(RequestScheduler.DEFAULT_LANE, scheduler.resolveLane(null));
+
+		assertEquals("otp", RequestScheduler.callInLane("otp", () -> scheduler.resolveLane("/v1/messages")));
+		assertEquals("bulk", RequestScheduler.callInLane("unknown", () -> scheduler.resolveLane("/v1/messages")));
+		RequestScheduler.runInLane("bulk", () -> {
+			assertEquals("bulk", scheduler.resolveLane("/verify/json"));
+			assertEquals("otp", RequestScheduler.callInLane("otp", () -> scheduler.resolveLane("/sms")));
+			assertEquals("bulk", scheduler.resolveLane("/verify/json"));
+		});
+		assertEquals("otp", scheduler.resolveLane("/verify/json"));
+
+		assertEquals(List.of("otp", "bulk", RequestScheduler.DEFAULT_LANE), List.copyOf(scheduler.getMetrics().keySet()));
+		assertEquals("bulk", builder().defaultLane("bulk").build().resolveLane("/v1/calls"));
+	}
+
+	@Test
+	public void testWeightedFairQueueing() throws Exception {
+		var scheduler = builder().maxConcurrency(1).build();
+		List<String> order = new CopyOnWriteArrayList<>();
+		RequestScheduler.Permit holder = scheduler.acquire(RequestScheduler.DEFAULT_LANE);
+		for (int i = 0; i < 4; i++) {
+			startWaiter(scheduler, "bulk", order);
+		}
+		for (int i = 0; i < 8; i++) {
+			startWaiter(scheduler, "otp", order);
+		}
+		assertEquals(4, scheduler.getMetrics("bulk").getQueueDepth());
+		assertEquals(8, scheduler.getMetrics("otp").getQueueDepth());
+
+		holder.close();
+		for (Thread thread : threads) {
+			thread.join(5000);
+		}
+		assertEquals(List.of(
+				"otp", "otp", "otp", "otp", "bulk",
+				"otp", "otp", "otp", "otp", "bulk", "bulk", "bulk"
+		), order);
+
+		var otp = scheduler.getMetrics("otp");
+		assertEquals(0, otp.getQueueDepth());
+		assertEquals(0, otp.getInFlightCount());
+		assertEquals(8, otp.getGrantedCount());
+		assertEquals(8, otp.getCompletedCount());
+		assertTrue(otp.getMaxWait().compareTo(otp.getAverageWait()) >= 0);
+		assertEquals(4, scheduler.getMetrics("bulk").getCompletedCount());
+		assertEquals(0, scheduler.getInFlightCount());
+	}
+
+	@Test
+	public void testLaneCapReservesHeadroom() throws Exception {
+		var scheduler = builder().maxConcurrency(3).build();
+		var first = scheduler.acquire("bulk");
+		var second = scheduler.acquire("bulk");
+		assertNull(scheduler.tryAcquire("bulk", 10, TimeUnit.MILLISECONDS));
+
+		try (var otp = scheduler.tryAcquire("otp", 0, TimeUnit.MILLISECONDS)) {
+			assertNotNull(otp);
+			assertEquals("otp", otp.getLane());
+			assertEquals(3, scheduler.getInFlightCount());
+			assertNull(scheduler.tryAcquire(RequestScheduler.DEFAULT_LANE, 0, TimeUnit.SECONDS));
+		}
+
+		var bulk = scheduler.getMetrics("bulk");
+		assertEquals(2, bulk.getMaxConcurrency());
+		assertEquals(2, bulk.getInFlightCount());
+		assertEquals(2, bulk.getGrantedCount());
+		assertEquals(1, bulk.getAbandonedCount());
+		assertEquals(0, bulk.getQueueDepth());
+		assertEquals(1, scheduler.getMetrics(RequestScheduler.DEFAULT_LANE).getAbandonedCount());
+		assertEquals(3, scheduler.getMetrics("otp").getMaxConcurrency());
+
+		first.close();
+		first.close();
+		assertEquals(1, scheduler.getInFlightCount());
+		second.close();
+		assertEquals(0, scheduler.getInFlightCount());
+	}
+
+	@Test
+	public void testInterruptWhilstWaiting() throws Exception {
+		var scheduler = builder().maxConcurrency(1).build();
+		try (var holder = scheduler.acquire("otp")) {
+			BlockingQueue<Throwable> result = new LinkedBlockingQueue<>();
+			Thread waiter = new Thread(() -> {
+				try {
+					scheduler.acquire("bulk").close();
+					result.add(new AssertionError("Permit granted"));
+				}
+				catch (InterruptedException ex) {
+					result.add(ex);
+				}
+			});
+			waiter.start();
+			awaitQueueDepth(scheduler, "bulk", 1);
+			waiter.interrupt();
+			assertInstanceOf(InterruptedException.class, result.poll(5, TimeUnit.SECONDS));
+			assertEquals(0, scheduler.getMetrics("bulk").getQueueDepth());
+			assertEquals(1, scheduler.getMetrics("bulk").getAbandonedCount());
+		}
+		assertEquals(0, scheduler.getInFlightCount());
+	}
+
+	@Test
+	public void testAppliedToRequests() throws Exception {
+		var scheduler = builder().build();
+		var wrapper = new HttpWrapper(HttpConfig.builder().requestScheduler(scheduler).build(), new NoAuthMethod());
+		assertSame(scheduler, wrapper.getHttpConfig().getRequestScheduler());
+		var httpClient = mock(CloseableHttpClient.class);
+		var response = mock(CloseableHttpResponse.class);
+		when(response.getStatusLine()).thenReturn(new BasicStatusLine(new ProtocolVersion("HTTP", 1, 1), 200, "OK"));
+		when(httpClient.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+			assertEquals(1, scheduler.getMetrics("otp").getInFlightCount());
+			return response;
+		});
+		wrapper.setHttpClient(httpClient);
+
+		var endpoint = new AbstractMethod<String, Integer>(wrapper) {
+			@Override
+			protected Set<Class<? extends AuthMethod>> getAcceptableAuthMethods() {
+				return Set.of(NoAuthMethod.class);
+			}
+
+			@Override
+			public RequestBuilder makeRequest(String request) {
+				return RequestBuilder.get("https://api.nexmo.com" + request);
+			}
+
+			@Override
+			public Integer parseResponse(HttpResponse response) {
+				return response.getStatusLine().getStatusCode();
+			}
+		};
+
+		assertEquals(200, endpoint.execute("/v2/verify"));
+		assertEquals(200, RequestScheduler.callInLane("otp", () -> endpoint.execute("/v1/messages")));
+		var otp = scheduler.getMetrics("otp");
+		assertEquals(2, otp.getCompletedCount());
+		assertEquals(0, otp.getInFlightCount());
+		assertEquals(0, scheduler.getMetrics("bulk").getGrantedCount());
+		verify(response, times(2)).close();
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(IllegalArgumentException.class, () -> builder().maxConcurrency(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().lane("x", 0));
+		assertThrows(IllegalArgumentException.class, () -> builder().lane("x", 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> builder().route("/v1/calls", "voice").build());
+		assertThrows(IllegalArgumentException.class, () -> builder().defaultLane("voice").build());
+		assertThrows(NullPointerException.class, () -> builder().route(null, "otp"));
+		var scheduler = builder().build();
+		assertThrows(IllegalArgumentException.class, () -> scheduler.acquire("voice"));
+		assertThrows(IllegalArgumentException.class, () -> scheduler.getMetrics("voice"));
+		assertThrows(NullPointerException.class, () -> RequestScheduler.callInLane(null, () -> 1));
+	}
+}
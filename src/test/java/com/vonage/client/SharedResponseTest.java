@@ -0,0 +1,252 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sun.net.httpserver.HttpServer;
+import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
+import com.vonage.client.auth.AuthMethod;
+import com.vonage.client.auth.NoAuthMethod;
+import com.vonage.client.common.HttpMethod;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SharedResponseTest {
+	static final int CALLERS = 8;
+
+	HttpServer server;
+	ExecutorService serverExecutor, callers;
+	final AtomicInteger received = new AtomicInteger();
+	final CountDownLatch release = new CountDownLatch(1);
+
+	public static class Payload implements Jsonable {
+		@JsonProperty("id") String id;
+		@JsonProperty("tags") List<String> tags;
+	}
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			int n = received.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			String path = exchange.getRequestURI().getPath();
+			int status = path.endsWith("missing") ? 404 : 200;
+			byte[] body = ("{\"id\":\"" + path + '#' + n + "\",\"tags\":[\"a\"]}").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, body.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(body);
+			}
+		});
+		server.setExecutor(serverExecutor = Executors.newCachedThreadPool());
+		server.start();
+		callers = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		release.countDown();
+		callers.shutdownNow();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	<R> DynamicEndpoint<String, R> endpoint(HttpWrapper wrapper, Class<R> type, HttpMethod method,
+											Class<? extends AuthMethod> auth) {
+		String base = "http://localhost:" + server.getAddress().getPort();
+		return DynamicEndpoint.<String, R> builder(type).wrapper(wrapper)
+				.authMethod(auth).requestMethod(method)
+				.pathGetter((de, path) -> base + path).build();
+	}
+
+	HttpWrapper wrapper(boolean singleFlight) {
+		var config = HttpConfig.builder().singleFlightGets(singleFlight).build();
+		assertEquals(singleFlight, config.isSingleFlightGets());
+		return new HttpWrapper(config, new NoAuthMethod(), new ApiKeyHeaderAuthMethod("key", "secret"));
+	}
+
+	<R> List<R> callConcurrently(List<Callable<R>> calls) throws Exception {
+		List<Future<R>> futures = new ArrayList<>();
+		for (Callable<R> call : calls) {
+			futures.add(callers.submit(call));
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (received.get() < 1) {
+			assertTrue(System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+		// Give the remaining callers time to join the call in flight
+		Thread.sleep(200);
+		release.countDown();
+		List<R> results = new ArrayList<>();
+		for (Future<R> future : futures) {
+			results.add(future.get(5, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	<R> List<R> callConcurrently(int times, Callable<R> call) throws Exception {
+		return callConcurrently(Collections.nCopies(times, call));
+	}
+
+	@Test
+	public void testConcurrentGetsShareOneCall() throws Exception {
+		var endpoint = endpoint(wrapper(true), Payload.class, HttpMethod.GET, NoAuthMethod.class);
+		var results = callConcurrently(CALLERS, () -> endpoint.execute("/v2/applications/abc"));
+		assertEquals(1, received.get());
+		Set<Payload> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Payload payload : results) {
+			assertEquals("/v2/applications/abc#1", payload.id);
+			distinct.add(payload);
+		}
+		assertEquals(CALLERS, distinct.size());
+		results.get(0).tags.add("modified");
+		assertEquals(List.of("a"), results.get(1).tags);
+
+		assertEquals("/v2/applications/abc#2", endpoint.execute("/v2/applications/abc").id);
+	}
+
+	@Test
+	public void testImmutableResultIsShared() throws Exception {
+		var endpoint = endpoint(wrapper(true), String.class, HttpMethod.GET, NoAuthMethod.class);
+		var results = callConcurrently(CALLERS, () -> endpoint.execute("/v1/calls/xyz"));
+		assertEquals(1, received.get());
+		Set<String> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		distinct.addAll(results);
+		assertEquals(1, distinct.size());
+		assertTrue(results.get(0).contains("/v1/calls/xyz#1"));
+	}
+
+	@Test
+	public void testKeyedByUriAndAuth() throws Exception {
+		var wrapper = wrapper(true);
+		var noAuth = endpoint(wrapper, String.class, HttpMethod.GET, NoAuthMethod.class);
+		var apiKey = endpoint(wrapper, String.class, HttpMethod.GET, ApiKeyHeaderAuthMethod.class);
+		List<Callable<String>> calls = new ArrayList<>();
+		for (int i = 0; i < CALLERS / 2; i++) {
+			calls.add(() -> noAuth.execute("/v2/users/1"));
+			calls.add(() -> apiKey.execute("/v2/users/1"));
+			calls.add(() -> noAuth.execute("/v2/users/2"));
+		}
+		var results = callConcurrently(calls);
+		assertEquals(3, received.get());
+		assertEquals(3, new HashSet<>(results).size());
+	}
+
+	@Test
+	public void testErrorsAndUnsupportedRequests() throws Exception {
+		var wrapper = wrapper(true);
+		var get = endpoint(wrapper, String.class, HttpMethod.GET, NoAuthMethod.class);
+		var post = endpoint(wrapper, String.class, HttpMethod.POST, NoAuthMethod.class);
+		List<Callable<Object>> calls = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			calls.add(() -> assertThrows(VonageApiResponseException.class, () -> get.execute("/v2/users/missing")));
+			calls.add(() -> post.execute("/v2/users"));
+		}
+		var results = callConcurrently(calls);
+		assertEquals(4, received.get());
+		Set<Object> exceptions = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < results.size(); i += 2) {
+			exceptions.add(results.get(i));
+		}
+		assertEquals(3, exceptions.size());
+	}
+
+	void awaitReceived(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (received.get() < count) {
+			assertTrue(System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	@Test
+	public void testFollowerDeadlineIsRespected() throws Exception {
+		var endpoint = endpoint(wrapper(true), String.class, HttpMethod.GET, NoAuthMethod.class);
+		var leader = callers.submit(() -> endpoint.execute("/v1/calls/xyz"));
+		awaitReceived(1);
+
+		long start = System.nanoTime();
+		var ex = assertThrows(VonageMethodFailedException.class, () -> RequestContext
+				.withTimeout(Duration.ofMillis(200)).call(() -> endpoint.execute("/v1/calls/xyz"))
+		);
+		assertEquals("Request deadline exceeded.", ex.getMessage());
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2000);
+		assertFalse(leader.isDone());
+
+		release.countDown();
+		assertTrue(leader.get(5, TimeUnit.SECONDS).contains("/v1/calls/xyz#1"));
+		assertEquals(1, received.get());
+	}
+
+	@Test
+	public void testFollowersRetryWhenLeaderIsCancelled() throws Exception {
+		var endpoint = endpoint(wrapper(true), String.class, HttpMethod.GET, NoAuthMethod.class);
+		var context = RequestContext.cancellable();
+		var leader = callers.submit(() -> context.call(() -> endpoint.execute("/v1/calls/xyz")));
+		awaitReceived(1);
+		List<Future<String>> followers = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			followers.add(callers.submit(() -> endpoint.execute("/v1/calls/xyz")));
+		}
+		Thread.sleep(200);
+
+		context.cancel();
+		var ex = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+		assertEquals("Request was cancelled.", ex.getCause().getMessage());
+		awaitReceived(2);
+		Thread.sleep(100);
+		release.countDown();
+		for (Future<String> follower : followers) {
+			assertTrue(follower.get(5, TimeUnit.SECONDS).contains("/v1/calls/xyz#2"));
+		}
+		assertEquals(2, received.get());
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		assertFalse(HttpConfig.defaultConfig().isSingleFlightGets());
+		var endpoint = endpoint(wrapper(false), String.class, HttpMethod.GET, NoAuthMethod.class);
+		callConcurrently(3, () -> endpoint.execute("/v1/calls/xyz"));
+		assertEquals(3, received.get());
+	}
+
+	@Test
+	public void testImmutability() {
+		assertTrue(SharedResponse.isImmutable(null));
+		assertTrue(SharedResponse.isImmutable("x"));
+		assertTrue(SharedResponse.isImmutable(1L));
+		assertTrue(SharedResponse.isImmutable(UUID.randomUUID()));
+		assertTrue(SharedResponse.isImmutable(HttpMethod.GET));
+		assertFalse(SharedResponse.isImmutable(new byte[0]));
+		assertFalse(SharedResponse.isImmutable(new AtomicInteger()));
+		assertFalse(SharedResponse.isImmutable(new Payload()));
+		assertFalse(SharedResponse.isImmutable(new ArrayList<>()));
+	}
+}
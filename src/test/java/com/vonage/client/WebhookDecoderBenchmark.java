@@ -0,0 +1,69 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.vonage.client.messages.InboundMessage;
+import com.vonage.client.messages.MessageStatus;
+import com.vonage.client.sms.MessageEvent;
+import com.vonage.client.voice.EventWebhook;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares the memory allocated by {@link WebhookDecoder} with parsing each payload using its
+ * {@code Jsonable.fromJson} method. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class WebhookDecoderBenchmark {
+    static final int WARMUP = 2_000, ITERATIONS = 20_000;
+
+    static long allocatedBytesPerCall(Function<byte[], Object> decoder, byte[] payload) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            decoder.apply(payload);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            decoder.apply(payload);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    @Test
+    public void benchmarkAllocations() {
+        Map<String, Function<String, Object>> payloads = new LinkedHashMap<>();
+        payloads.put(WebhookDecoderTest.STATUS_JSON, MessageStatus::fromJson);
+        payloads.put(WebhookDecoderTest.INBOUND_WHATSAPP_JSON, InboundMessage::fromJson);
+        payloads.put(WebhookDecoderTest.VOICE_JSON, EventWebhook::fromJson);
+        payloads.put(WebhookDecoderTest.SMS_JSON, MessageEvent::fromJson);
+
+        System.out.printf("%-16s %18s %22s%n", "Payload", "fromJson (B/op)", "WebhookDecoder (B/op)");
+        payloads.forEach((json, fromJson) -> {
+            byte[] payload = WebhookDecoderTest.bytes(json);
+            Object decoded = WebhookDecoder.decode(payload);
+            assertEquals(fromJson.apply(json).getClass(), decoded.getClass());
+            long legacy = allocatedBytesPerCall(bytes -> fromJson.apply(new String(bytes, StandardCharsets.UTF_8)), payload);
+            long decoder = allocatedBytesPerCall(WebhookDecoder::decode, payload);
+            System.out.printf("%-16s %18d %22d%n", decoded.getClass().getSimpleName(), legacy, decoder);
+        });
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vonage.client.WebhookDecoder.PayloadType;
+import com.vonage.client.messages.Channel;
+import com.vonage.client.messages.InboundMessage;
+import com.vonage.client.messages.MessageStatus;
+import com.vonage.client.sms.MessageEvent;
+import com.vonage.client.voice.CallStatus;
+import com.vonage.client.voice.EventWebhook;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class WebhookDecoderTest {
+    static final String
+        MESSAGE_UUID = "aaaaaaaa-bbbb-cccc-dddd-0123456789ab",
+        STATUS_JSON = """
+            {"message_uuid":"%s","to":"447700900000","from":"447700900001",
+             "timestamp":"2020-01-01T14:00:03.010Z","status":"delivered","channel":"sms",
+             "usage":{"currency":"EUR","price":"0.0333"}}""".formatted(MESSAGE_UUID),
+        INBOUND_WHATSAPP_JSON = """
+            {"channel":"whatsapp","message_uuid":"%s","to":"447700900000","from":"447700900001",
+             "timestamp":"2020-01-01T14:00:00Z","message_type":"text","text":"Hello"}""".formatted(MESSAGE_UUID),
+        INBOUND_SMS_CHANNEL_JSON = INBOUND_WHATSAPP_JSON.replace("whatsapp", "sms"),
+        VOICE_JSON = """
+            {"conversation_uuid":"CON-aaaaaaaa-bbbb-cccc-dddd-0123456789ab",
+             "uuid":"aaaaaaaa-bbbb-cccc-dddd-0123456789ab","status":"answered","direction":"outbound",
+             "timestamp":"2020-01-01T14:00:00.000Z","nested":{"status":"ignored","message_uuid":"x"}}""",
+        INPUT_JSON = """
+            {"from":"447700900001","to":"447700900000","uuid":"aaaaaaaa-bbbb-cccc-dddd-0123456789ab",
+             "conversation_uuid":"CON-aaaaaaaa-bbbb-cccc-dddd-0123456789ab","timestamp":"2020-01-01T14:00:00.000Z",
+             "dtmf":{"digits":"42","timed_out":true}}""",
+        RECORDING_JSON = """
+            {"start_time":"2020-01-01T14:00:00Z","end_time":"2020-01-01T14:00:10Z","size":12222,
+             "recording_url":"https://api.nexmo.com/v1/files/bbbbbbbb-aaaa-cccc-dddd-0123456789ab",
+             "recording_uuid":"bbbbbbbb-aaaa-cccc-dddd-0123456789ab",
+             "conversation_uuid":"CON-aaaaaaaa-bbbb-cccc-dddd-0123456789ab","timestamp":"2020-01-01T14:00:10.000Z"}""",
+        TRANSFER_JSON = """
+            {"conversation_uuid_from":"CON-aaaaaaaa-bbbb-cccc-dddd-0123456789ab",
+             "conversation_uuid_to":"CON-bbbbbbbb-aaaa-cccc-dddd-0123456789ab",
+             "uuid":"aaaaaaaa-bbbb-cccc-dddd-0123456789ab","timestamp":"2020-01-01T14:00:00.000Z"}""",
+        SMS_JSON = """
+            {"msisdn":"447700900001","to":"447700900000","messageId":"0A0000000123ABCD1",
+             "text":"Hello world","type":"text","message-timestamp":"2020-01-01 12:00:00"}""",
+        DLR_JSON = """
+            {"msisdn":"447700900001","messageId":"0A0000000123ABCD1","status":"delivered"}""";
+
+    static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDecodeEachType() {
+        var status = assertInstanceOf(MessageStatus.class, WebhookDecoder.decode(bytes(STATUS_JSON)));
+        assertEquals(MessageStatus.fromJson(STATUS_JSON), status);
+        assertEquals(UUID.fromString(MESSAGE_UUID), status.getMessageUuid());
+        assertEquals(MessageStatus.Status.DELIVERED, status.getStatus());
+
+        var inbound = assertInstanceOf(InboundMessage.class, WebhookDecoder.decode(bytes(INBOUND_WHATSAPP_JSON)));
+        assertEquals(InboundMessage.fromJson(INBOUND_WHATSAPP_JSON), inbound);
+        assertEquals(Channel.WHATSAPP, inbound.getChannel());
+        assertEquals("Hello", inbound.getText());
+
+        var event = assertInstanceOf(EventWebhook.class, WebhookDecoder.decode(bytes(VOICE_JSON)));
+        assertEquals(EventWebhook.fromJson(VOICE_JSON), event);
+        assertEquals(CallStatus.ANSWERED, event.getStatus());
+
+        var input = assertInstanceOf(EventWebhook.class, WebhookDecoder.decode(bytes(INPUT_JSON)));
+        assertEquals(EventWebhook.fromJson(INPUT_JSON), input);
+        assertNull(input.getStatus());
+        assertEquals("42", input.getDtmf().getDigits());
+
+        var recording = assertInstanceOf(EventWebhook.class, WebhookDecoder.decode(bytes(RECORDING_JSON)));
+        assertEquals(EventWebhook.fromJson(RECORDING_JSON), recording);
+        assertEquals("bbbbbbbb-aaaa-cccc-dddd-0123456789ab", recording.getRecordingUuid());
+
+        var transfer = assertInstanceOf(EventWebhook.class, WebhookDecoder.decode(bytes(TRANSFER_JSON)));
+        assertEquals(EventWebhook.fromJson(TRANSFER_JSON), transfer);
+        assertEquals("CON-bbbbbbbb-aaaa-cccc-dddd-0123456789ab", transfer.getConversationUuidTo());
+
+        var sms = assertInstanceOf(MessageEvent.class, WebhookDecoder.decode(bytes(SMS_JSON)));
+        assertEquals(MessageEvent.fromJson(SMS_JSON), sms);
+        assertEquals("0A0000000123ABCD1", sms.getMessageId());
+
+        var unknown = assertInstanceOf(JsonNode.class, WebhookDecoder.decode(bytes(DLR_JSON)));
+        assertEquals("delivered", unknown.get("status").asText());
+    }
+
+    @Test
+    public void testInputSources() {
+        var fromStream = WebhookDecoder.decode(new ByteArrayInputStream(bytes(STATUS_JSON)));
+        assertEquals(MessageStatus.fromJson(STATUS_JSON), fromStream);
+
+        byte[] padded = bytes("xx" + SMS_JSON + "yy");
+        var heap = ByteBuffer.wrap(padded, 2, padded.length - 4);
+        assertEquals(MessageEvent.fromJson(SMS_JSON), WebhookDecoder.decode(heap));
+        assertEquals(2, heap.position());
+
+        var direct = ByteBuffer.allocateDirect(padded.length);
+        direct.put(padded).position(2).limit(padded.length - 2);
+        assertEquals(MessageEvent.fromJson(SMS_JSON), WebhookDecoder.decode(direct));
+        assertEquals(2, direct.position());
+    }
+
+    @Test
+    public void testDispatch() {
+        List<Object> statuses = new ArrayList<>(), inbound = new ArrayList<>(), whatsapp = new ArrayList<>(),
+                events = new ArrayList<>(), sms = new ArrayList<>(), unrecognised = new ArrayList<>();
+        var decoder = WebhookDecoder.builder()
+                .onMessageStatus(statuses::add)
+                .onInboundMessage(inbound::add)
+                .onInboundMessage(Channel.WHATSAPP, whatsapp::add)
+                .onVoiceEvent(events::add)
+                .onInboundSms(sms::add)
+                .onUnrecognised(unrecognised::add)
+                .build();
+
+        assertEquals(PayloadType.MESSAGE_STATUS, decoder.dispatch(bytes(STATUS_JSON)));
+        assertEquals(PayloadType.INBOUND_MESSAGE, decoder.dispatch(bytes(INBOUND_WHATSAPP_JSON)));
+        assertEquals(PayloadType.INBOUND_MESSAGE, decoder.dispatch(ByteBuffer.wrap(bytes(INBOUND_SMS_CHANNEL_JSON))));
+        assertEquals(PayloadType.VOICE_EVENT, decoder.dispatch(new ByteArrayInputStream(bytes(VOICE_JSON))));
+        assertEquals(PayloadType.INBOUND_SMS, decoder.dispatch(bytes(SMS_JSON)));
+        assertEquals(PayloadType.UNRECOGNISED, decoder.dispatch(bytes(DLR_JSON)));
+        assertEquals(PayloadType.UNRECOGNISED, decoder.dispatch(bytes("{}")));
+
+        assertEquals(1, statuses.size());
+        assertEquals(1, whatsapp.size());
+        assertEquals(1, inbound.size());
+        assertEquals(Channel.SMS, ((InboundMessage) inbound.get(0)).getChannel());
+        assertEquals(1, events.size());
+        assertEquals(1, sms.size());
+        assertEquals(2, unrecognised.size());
+
+        assertEquals(PayloadType.VOICE_EVENT, WebhookDecoder.builder().build().dispatch(bytes(VOICE_JSON)));
+    }
+
+    @Test
+    public void testInvalidPayloads() {
+        assertThrows(VonageResponseParseException.class, () -> WebhookDecoder.decode(bytes("[]")));
+        assertThrows(VonageResponseParseException.class, () -> WebhookDecoder.decode(bytes("{\"status\":")));
+        assertThrows(VonageResponseParseException.class, () -> WebhookDecoder.decode(bytes("")));
+        assertThrows(VonageResponseParseException.class, () ->
+                WebhookDecoder.decode(bytes("{\"message_uuid\":\"not-a-uuid\",\"status\":\"delivered\"}"))
+        );
+        assertThrows(NullPointerException.class, () -> WebhookDecoder.decode((byte[]) null));
+        assertThrows(NullPointerException.class, () -> WebhookDecoder.builder().onInboundMessage(null, m -> {}));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.account;
+
+import com.vonage.client.Jsonable;
+import com.vonage.client.common.E164;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class PrefixPriceTrieTest {
+    static PricingResponse country(String code, String prefix, String price, String... networks) {
+        StringBuilder json = new StringBuilder("{\"countryCode\":\"").append(code).append('"');
+        if (prefix != null) json.append(",\"dialingPrefix\":\"").append(prefix).append('"');
+        if (price != null) json.append(",\"defaultPrice\":\"").append(price).append('"');
+        json.append(",\"networks\":[");
+        for (int i = 0; i < networks.length; i += 2) {
+            if (i > 0) json.append(',');
+            json.append("{\"networkCode\":\"").append(networks[i]).append("\",\"price\":\"")
+                    .append(networks[i + 1]).append("\"}");
+        }
+        return Jsonable.fromJson(json.append("]}").toString(), PricingResponse.class);
+    }
+
+    static final PrefixPriceTrie TRIE = PrefixPriceTrie.build(Arrays.asList(
+            country("US", "1", "0.0070"),
+            country("CA", "1", "0.0062", "302530", "0.0059"),
+            country("JM", "1876", "0.0800"),
+            country("GB", "44", "0.0400", "23410", "0.0350"),
+            country("DE", "49", null),
+            country("XX", null, "1"),
+            country("YY", "+9", "1"),
+            null
+    ));
+
+    @Test
+    public void testLongestPrefixMatch() {
+        assertEquals(4, TRIE.size());
+        assertEquals("JM", TRIE.lookup("18765550100").getCountry().getCode());
+        assertEquals("US", TRIE.lookup("+18005550100").getCountry().getCode());
+        assertEquals("US", TRIE.lookup("187").getCountry().getCode());
+        assertEquals("GB", TRIE.lookup("447700900000").getCountry().getCode());
+        assertNull(TRIE.lookup("4"));
+        assertNull(TRIE.lookup("33612345678"));
+        assertNull(TRIE.lookup(""));
+        assertNull(TRIE.lookup("+"));
+        assertNull(TRIE.lookup("x44"));
+    }
+
+    @Test
+    public void testPricing() {
+        assertEquals(new BigDecimal("0.0350"), TRIE.getPrice("447700900000", "23410"));
+        assertEquals(new BigDecimal("0.0400"), TRIE.getPrice("447700900000", "23415"));
+        assertEquals(new BigDecimal("0.0400"), TRIE.getPrice(new E164("+44 7700 900000")));
+        assertEquals(new BigDecimal("0.0070"), TRIE.getPrice("14155550100", "302530"));
+        assertNull(TRIE.getPrice("4930123456"));
+        assertNull(TRIE.getPrice("33612345678", "20801"));
+        assertThrows(NullPointerException.class, () -> TRIE.getPrice((E164) null));
+        assertThrows(NullPointerException.class, () -> TRIE.lookup(null));
+    }
+
+    @Test
+    public void testBulkPricing() {
+        List<E164> numbers = new ArrayList<>();
+        IntStream.range(0, 1000).forEach(i -> {
+            numbers.add(new E164("447700" + String.format("%06d", i)));
+            numbers.add(new E164("33612" + String.format("%06d", i)));
+        });
+        List<BigDecimal> prices = TRIE.getPrices(numbers);
+        assertEquals(numbers.size(), prices.size());
+        for (int i = 0; i < prices.size(); i++) {
+            assertEquals(i % 2 == 0 ? new BigDecimal("0.0400") : null, prices.get(i));
+        }
+        assertEquals(0, new BigDecimal("40").compareTo(TRIE.estimateTotal(numbers)));
+        assertEquals(BigDecimal.ZERO, TRIE.estimateTotal(Collections.emptyList()));
+    }
+
+    @Test
+    public void testEmpty() {
+        PrefixPriceTrie empty = PrefixPriceTrie.build(Collections.emptyList());
+        assertEquals(0, empty.size());
+        assertNull(empty.getPrice("447700900000"));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.account;
+
+import com.vonage.client.AbstractClientTest;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class PricingCacheTest extends AbstractClientTest<AccountClient> {
+    static final String SMS_JSON = """
+            {"count": 3, "countries": [{},
+                {"countryCode": "CA", "countryName": "Canada", "currency": "EUR",
+                 "defaultPrice": "0.00620000", "dialingPrefix": "1", "networks": [
+                    {"type": "mobile", "price": "0.00590000", "currency": "EUR",
+                     "mcc": "302", "mnc": "530", "networkCode": "302530", "networkName": "Keewaytinook Mobile"},
+                    {"type": "landline", "currency": "EUR", "networkCode": "302000", "networkName": "Unpriced"}
+                 ]},
+                {"countryCode": "GB", "countryName": "United Kingdom", "defaultPrice": "0.04", "dialingPrefix": "44"}
+            ]}
+            """, VOICE_JSON = """
+            {"count": 1, "countries": [
+                {"countryCode": "GB", "defaultPrice": "0.012", "dialingPrefix": "44"}
+            ]}
+            """;
+
+    public PricingCacheTest() {
+        client = new AccountClient(wrapper);
+    }
+
+    PricingCache.Builder builder() {
+        return PricingCache.builder(client).serviceTypes(ServiceType.SMS, ServiceType.VOICE).refreshInterval(null);
+    }
+
+    @Test
+    public void testLookups() throws Exception {
+        stubResponse(200, SMS_JSON, VOICE_JSON);
+        try (PricingCache cache = builder().build()) {
+            assertNotNull(cache.getLastRefreshed());
+            assertNull(cache.getLastRefreshFailure());
+            assertEquals(2, cache.getServiceTypes().size());
+            assertEquals(2, cache.getAllCountries(ServiceType.SMS).size());
+            assertEquals(1, cache.getAllCountries(ServiceType.VOICE).size());
+
+            PricingResponse canada = cache.getCountryPricing(ServiceType.SMS, "ca");
+            assertEquals("Canada", canada.getCountry().getName());
+            assertEquals("Keewaytinook Mobile", cache.getNetworkPricing(ServiceType.SMS, "302530").getName());
+            assertNull(cache.getNetworkPricing(ServiceType.VOICE, "302530"));
+            assertNull(cache.getCountryPricing(ServiceType.VOICE, "CA"));
+            assertNull(cache.getCountryPricing(ServiceType.SMS, null));
+
+            assertEquals(new BigDecimal("0.00590000"), cache.getPrice(ServiceType.SMS, "CA", "302530"));
+            assertEquals(new BigDecimal("0.00620000"), cache.getPrice(ServiceType.SMS, "CA", "302000"));
+            assertEquals(new BigDecimal("0.00620000"), cache.getPrice(ServiceType.SMS, "CA", null));
+            assertEquals(new BigDecimal("0.012"), cache.getPrice(ServiceType.VOICE, "GB", null));
+            assertNull(cache.getPrice(ServiceType.SMS, "FR", null));
+
+            assertEquals(new BigDecimal("0.00620000"), cache.getPrefixTrie(ServiceType.SMS).getPrice("+16135550100"));
+            assertEquals(new BigDecimal("0.012"), cache.getPrefixTrie(ServiceType.VOICE).getPrice("447700900000"));
+
+            assertThrows(IllegalArgumentException.class, () -> cache.getCountryPricing(ServiceType.SMS_TRANSIT, "GB"));
+            assertThrows(NullPointerException.class, () -> cache.getPrice(null, "GB", null));
+            assertThrows(UnsupportedOperationException.class, () -> cache.getAllCountries(ServiceType.SMS).clear());
+        }
+    }
+
+    @Test
+    public void testRefreshFailureRetainsPreviousData() throws Exception {
+        stubResponse(200, SMS_JSON, VOICE_JSON);
+        try (PricingCache cache = builder().build()) {
+            var refreshed = cache.getLastRefreshed();
+            stubResponse(500, VOICE_JSON, SMS_JSON);
+            assertFalse(cache.refresh());
+            assertInstanceOf(AccountResponseException.class, cache.getLastRefreshFailure());
+            assertEquals(refreshed, cache.getLastRefreshed());
+            assertEquals(new BigDecimal("0.012"), cache.getPrice(ServiceType.VOICE, "GB", null));
+            assertNull(cache.getCountryPricing(ServiceType.SMS, "CA"));
+            assertEquals(new BigDecimal("0.012"), cache.getPrice(ServiceType.SMS, "GB", null));
+
+            stubResponse(200, SMS_JSON, VOICE_JSON);
+            assertTrue(cache.refresh());
+            assertNull(cache.getLastRefreshFailure());
+            assertNotNull(cache.getCountryPricing(ServiceType.SMS, "CA"));
+        }
+    }
+
+    @Test
+    public void testInitialLoadFailure() throws Exception {
+        stubResponse(401);
+        assertThrows(AccountResponseException.class, () -> builder().build());
+    }
+
+    @Test
+    public void testBackgroundRefresh() throws Exception {
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            stubResponse(200, SMS_JSON);
+            try (var cache = PricingCache.builder(client).serviceTypes(ServiceType.SMS)
+                    .refreshInterval(Duration.ofMillis(20)).scheduler(scheduler).build()) {
+                var initial = cache.getLastRefreshed();
+                stubResponse(200, VOICE_JSON);
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (cache.getCountryPricing(ServiceType.SMS, "CA") != null && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertNull(cache.getCountryPricing(ServiceType.SMS, "CA"));
+                assertNotNull(cache.getCountryPricing(ServiceType.SMS, "GB"));
+                assertFalse(cache.getLastRefreshed().isBefore(initial));
+            }
+            assertFalse(scheduler.isShutdown());
+        }
+        finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCreateFromClient() throws Exception {
+        stubResponse(200, VOICE_JSON);
+        try (var cache = client.createPricingCache(Duration.ofDays(1), ServiceType.VOICE)) {
+            assertEquals(1, cache.getAllCountries(ServiceType.VOICE).size());
+        }
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(NullPointerException.class, () -> PricingCache.builder(null).serviceTypes(ServiceType.SMS).build());
+        assertThrows(IllegalArgumentException.class, () -> PricingCache.builder(client).build());
+        assertThrows(IllegalArgumentException.class, () -> PricingCache.builder(client)
+                .serviceTypes(ServiceType.SMS).refreshInterval(Duration.ZERO).build()
+        );
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.vonage.jwt.Jwt;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class JwtSignatureVerifierTest {
+    static final String
+            SECRET = "XsA09z2MhUxYcdbXaUX3aTT7TzGmnCLfkdILf0NIyC9hN9criTEUdlI3OZ5hRjR",
+            HS256_HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+            KNOWN_TOKEN = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9." +
+                    "eyJzdWIiOiJTaW5hIiwibmFtZSI6IkphdmFfU0RLIiwiaWF0IjoxNjk4NjgwMzkyfQ." +
+                    "4qJpi46NSYURiLI1xoLIfGRygA8IUI2QSG9P2Kus1Oo";
+
+    final AtomicReference<Instant> now = new AtomicReference<>(Instant.ofEpochSecond(1_700_000_000L));
+    final Clock clock = new Clock() {
+        public ZoneOffset getZone() { return ZoneOffset.UTC; }
+        public Clock withZone(java.time.ZoneId zone) { return this; }
+        public Instant instant() { return now.get(); }
+    };
+
+    static String base64(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sign(String secret, String header, String payload) throws Exception {
+        String unsigned = base64(header) + '.' + base64(payload);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] signature = mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+        return unsigned + '.' + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    JwtSignatureVerifier.Builder builder() {
+        return JwtSignatureVerifier.builder(SECRET).clock(clock);
+    }
+
+    @Test
+    public void testMatchesExistingVerification() throws Exception {
+        var verifier = JwtSignatureVerifier.builder(SECRET).build();
+        var tokens = List.of(
+                KNOWN_TOKEN,
+                KNOWN_TOKEN.substring(0, KNOWN_TOKEN.lastIndexOf('.') + 1) + "XsaXHXqxe2kfIbPy-JH2J6hfbHnEv8jdWsOhEuvzU98",
+                sign(SECRET, HS256_HEADER, "{\"exp\":1}"),
+                sign(SECRET, HS256_HEADER, "{\"nbf\":99999999999,\"sub\":\"x\"}"),
+                sign(SECRET, HS256_HEADER, "{\"exp\":99999999999,\"application_id\":\"abc\",\"nested\":{\"exp\":1}}"),
+                sign(SECRET, "{\"alg\":\"HS512\"}", "{}"),
+                sign(SECRET, "{\"alg\":\"none\"}", "{}"),
+                sign("wrong-secret", HS256_HEADER, "{}"),
+                sign(SECRET, HS256_HEADER, "not json"),
+                sign(SECRET, HS256_HEADER, "{\"exp\":\"soon\"}"),
+                "not.a.token", "no-dots", "a.b", "a.b.c.d", "..", "a.b.", ".b.c", ""
+        );
+        boolean[] results = verifier.verifyAll(tokens);
+        for (int i = 0; i < tokens.size(); i++) {
+            assertEquals(Jwt.verifySignature(tokens.get(i), SECRET), results[i], tokens.get(i));
+            assertEquals(results[i], verifier.verify(tokens.get(i)));
+        }
+        assertTrue(results[0]);
+        assertTrue(results[4]);
+        assertFalse(results[1]);
+    }
+
+    @Test
+    public void testTimeClaimsAndLeeway() throws Exception {
+        long t = now.get().getEpochSecond();
+        var verifier = builder().build();
+        assertTrue(verifier.verify(sign(SECRET, HS256_HEADER, "{\"exp\":" + t + "}")));
+        assertFalse(verifier.verify(sign(SECRET, HS256_HEADER, "{\"exp\":" + (t - 1) + "}")));
+        assertTrue(verifier.verify(sign(SECRET, HS256_HEADER, "{\"nbf\":" + t + ",\"iat\":" + t + "}")));
+        assertFalse(verifier.verify(sign(SECRET, HS256_HEADER, "{\"nbf\":" + (t + 1) + "}")));
+        assertFalse(verifier.verify(sign(SECRET, HS256_HEADER, "{\"iat\":" + (t + 1) + "}")));
+        assertTrue(verifier.verify(sign(SECRET, HS256_HEADER, "{\"exp\":null}")));
+
+        var lenient = builder().leeway(Duration.ofSeconds(30)).build();
+        assertTrue(lenient.verify(sign(SECRET, HS256_HEADER, "{\"exp\":" + (t - 30) + "}")));
+        assertFalse(lenient.verify(sign(SECRET, HS256_HEADER, "{\"exp\":" + (t - 31) + "}")));
+        assertTrue(lenient.verify(sign(SECRET, HS256_HEADER, "{\"nbf\":" + (t + 30) + "}")));
+    }
+
+    @Test
+    public void testCachedTokensStillExpire() throws Exception {
+        long t = now.get().getEpochSecond();
+        var verifier = builder().cacheSize(16).build();
+        String token = sign(SECRET, HS256_HEADER, "{\"exp\":" + (t + 60) + "}");
+        assertTrue(verifier.verify(token));
+        assertTrue(verifier.verify(token));
+        now.set(now.get().plusSeconds(61));
+        assertFalse(verifier.verify(token));
+        assertFalse(verifier.verify(token));
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertFalse(verifier.verify(tampered));
+        assertTrue(verifier.verify(KNOWN_TOKEN));
+        assertTrue(verifier.verify(KNOWN_TOKEN));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        var verifier = builder().cacheSize(4).build();
+        var tokens = new java.util.ArrayList<String>();
+        for (int i = 0; i < 64; i++) {
+            tokens.add(sign(i % 2 == 0 ? SECRET : "other", HS256_HEADER, "{\"jti\":\"" + i + "\"}"));
+        }
+        boolean allCorrect = tokens.parallelStream().allMatch(token ->
+                verifier.verify(token) == (tokens.indexOf(token) % 2 == 0)
+        );
+        assertTrue(allCorrect);
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(NullPointerException.class, () -> JwtSignatureVerifier.builder(null).build());
+        assertThrows(IllegalArgumentException.class, () -> JwtSignatureVerifier.builder("").build());
+        assertThrows(IllegalArgumentException.class, () -> builder().cacheSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder().cacheTtl(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder().leeway(Duration.ofSeconds(-1)).build());
+        assertThrows(NullPointerException.class, () -> builder().build().verify(null));
+        assertThrows(NullPointerException.class, () -> builder().build().verifyAll(null));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.vonage.client.TestUtils;
+import static com.vonage.client.TestUtils.APPLICATION_ID_STR;
+import static com.vonage.client.TestUtils.decodeTokenBody;
+import com.vonage.jwt.Jwt;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+public class JwtSignerTest {
+    private JWTAuthMethod auth;
+    private PublicKey publicKey;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        auth = new JWTAuthMethod(APPLICATION_ID_STR, new TestUtils().loadKey("test/keys/application_key"));
+        publicKey = KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Files.readAllBytes(
+                Paths.get("src/test/resources/com/vonage/client/test/keys/application_public_key.der")
+        )));
+    }
+
+    boolean verify(String jwt) throws Exception {
+        int lastDot = jwt.lastIndexOf('.');
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initVerify(publicKey);
+        signature.update(jwt.substring(0, lastDot).getBytes(StandardCharsets.US_ASCII));
+        return signature.verify(Base64.getUrlDecoder().decode(jwt.substring(lastDot + 1)));
+    }
+
+    @Test
+    public void testSignedTokenMatchesJwtLibrary() throws Exception {
+        JwtSigner signer = auth.getJwtSigner();
+        assertSame(signer, auth.getJwtSigner());
+        assertEquals(APPLICATION_ID_STR, signer.getApplicationId());
+
+        String token = signer.sign(Map.of("scope", "test", "exp", 1700000000L));
+        assertTrue(verify(token));
+        String legacy = auth.newJwt().addClaim("scope", "test").build().generate();
+        assertTrue(verify(legacy));
+        assertEquals(new String(Base64.getUrlDecoder().decode(legacy.split("\\.")[0])),
+                new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]))
+        );
+
+        var claims = decodeTokenBody(token);
+        assertEquals(APPLICATION_ID_STR, claims.get("application_id"));
+        assertEquals("test", claims.get("scope"));
+        assertEquals("1700000000", claims.get("exp"));
+        assertNotNull(claims.get("jti"));
+        assertTrue(decodeTokenBody(legacy).keySet().containsAll(Set.of("application_id", "iat", "jti", "scope")));
+        assertEquals(Jwt.builder().applicationId(APPLICATION_ID_STR).unsigned().build().getApplicationId().toString(),
+                claims.get("application_id")
+        );
+    }
+
+    @Test
+    public void testIssuedAtAndOverrides() {
+        JwtSigner signer = auth.getJwtSigner();
+        var claims = decodeTokenBody(signer.sign(Map.of(), Instant.ofEpochSecond(1234)));
+        assertEquals("1234", claims.get("iat"));
+        claims = decodeTokenBody(signer.sign(Map.of("jti", "fixed", "iat", 99)));
+        assertEquals("fixed", claims.get("jti"));
+        assertEquals("99", claims.get("iat"));
+    }
+
+    @Test
+    public void testConcurrentSigningProducesUniqueValidTokens() throws Exception {
+        JwtSigner signer = auth.getJwtSigner();
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 64).parallel().forEach(i -> tokens.add(signer.sign(Map.of("n", i))));
+        assertEquals(64, tokens.size());
+        for (String token : tokens) {
+            assertTrue(verify(token));
+        }
+    }
+
+    @Test
+    public void testUnsignedWhenKeyBlank() {
+        String token = new JWTAuthMethod(APPLICATION_ID_STR, new byte[0]).getJwtSigner().sign(Map.of("a", "b"));
+        assertTrue(token.endsWith("."));
+        assertEquals("{\"alg\":\"none\",\"typ\":\"JWT\"}",
+                new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))))
+        );
+        assertEquals("b", decodeTokenBody(token).get("a"));
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.auth;
+
+import com.vonage.client.VonageUnexpectedException;
+import com.vonage.client.auth.hashutils.HashUtil;
+import static com.vonage.client.auth.hashutils.HashUtil.HashType.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+
+public class RequestSignatureVerifierTest {
+    static final String SECRET = "abcde";
+    static final long NOW_MILLIS = 2_100_000;
+    static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(NOW_MILLIS), ZoneOffset.UTC);
+
+    static RequestSignatureVerifier verifier(HashUtil.HashType hashType) {
+        return RequestSignatureVerifier.builder(SECRET).hashType(hashType).clock(CLOCK).build();
+    }
+
+    static Map<String, String> signed(Map<String, String> params, HashUtil.HashType hashType) {
+        Map<String, String> result = new LinkedHashMap<>(params);
+        result.putAll(RequestSigning.constructSignatureForRequestParameters(
+                params, SECRET, NOW_MILLIS / 1000, hashType
+        ));
+        return result;
+    }
+
+    static Map<String, String[]> multi(Map<String, String> params) {
+        Map<String, String[]> result = new LinkedHashMap<>();
+        params.forEach((k, v) -> result.put(k, new String[]{v}));
+        return result;
+    }
+
+    static boolean legacy(Map<String, String> params, HashUtil.HashType hashType) {
+        return RequestSigning.verifyRequestSignature(null, null, multi(params), SECRET, NOW_MILLIS, hashType);
+    }
+
+    @Test
+    public void testKnownSignatures() {
+        var params = new LinkedHashMap<String, String>();
+        params.put("a", "alphabet");
+        params.put("b", "bananas");
+        params.put("timestamp", "2100");
+        params.put("sig", "7d43241108912b32cc315b48ce681acf");
+        assertTrue(verifier(MD5).verify(params));
+        params.put("sig", "7D43241108912B32CC315B48CE681ACF");
+        assertTrue(verifier(MD5).verify(params));
+        params.put("sig", "b7f749de27b4adcf736cc95c9a7e059a16c85127");
+        assertTrue(verifier(HMAC_SHA1).verify(params));
+        assertFalse(verifier(MD5).verify(params));
+        params.put("sig", "8d1b0428276b6a070578225914c3502cc0687a454dfbbbb370c76a14234cb546");
+        assertTrue(verifier(HMAC_SHA256).verify(params));
+    }
+
+    @Test
+    public void testParityWithRequestSigning() {
+        for (var hashType : HashUtil.HashType.values()) {
+            assertParity(hashType);
+        }
+    }
+
+    void assertParity(HashUtil.HashType hashType) {
+        var verifier = verifier(hashType);
+        List<Map<String, String>> cases = List.of(
+                Map.of("to", "447700900000", "msisdn", "447700900001", "text", "Hello & goodbye = farewell"),
+                Map.of("text", "Ünïcödé 😀 ✓", "keyword", "  ", "type", "unicode"),
+                Map.of("api_key", "a1b2c3", "messageId", "0A0000000123ABCD1")
+        );
+        for (var params : cases) {
+            var signed = signed(params, hashType);
+            assertTrue(legacy(signed, hashType));
+            assertTrue(verifier.verify(signed));
+            assertTrue(verifier.verify(null, "application/x-www-form-urlencoded", multi(signed)));
+
+            var tampered = new LinkedHashMap<>(signed);
+            tampered.put("extra", "value");
+            assertEquals(legacy(tampered, hashType), verifier.verify(tampered));
+            assertFalse(verifier.verify(tampered));
+
+            var blankAdded = new LinkedHashMap<>(signed);
+            blankAdded.put("blank", " ");
+            blankAdded.put("null", null);
+            assertTrue(legacy(blankAdded, hashType));
+            assertTrue(verifier.verify(blankAdded));
+        }
+    }
+
+    @Test
+    public void testJsonBody() {
+        var verifier = verifier(HMAC_SHA1);
+        String json = "{\"a\":\"alphabet\",\"b\":\"bananas\",\"n\":null,\"timestamp\":\"2100\"," +
+                "\"sig\":\"b7f749de27b4adcf736cc95c9a7e059a16c85127\"}";
+        assertTrue(verifier.verify(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "application/json", Map.of()
+        ));
+
+        var numeric = signed(Map.of("count", "3", "price", "0.0450"), HMAC_SHA256);
+        String numericJson = "{\"count\":3,\"price\":0.0450,\"timestamp\":" + numeric.get("timestamp") +
+                ",\"sig\":\"" + numeric.get("sig") + "\"}";
+        assertTrue(verifier(HMAC_SHA256).verify(
+                new ByteArrayInputStream(numericJson.getBytes(StandardCharsets.UTF_8)), "application/json", Map.of()
+        ));
+
+        assertThrows(VonageUnexpectedException.class, () -> verifier.verify(
+                new ByteArrayInputStream("{\"a\":{\"b\":1}}".getBytes(StandardCharsets.UTF_8)),
+                "application/json", Map.of()
+        ));
+        assertThrows(VonageUnexpectedException.class, () -> verifier.verify(
+                new ByteArrayInputStream(new byte[0]), "application/json", Map.of()
+        ));
+    }
+
+    @Test
+    public void testDuplicateJsonFieldsLastWins() {
+        var signed = signed(Map.of("a", "second"), MD5);
+        String json = "{\"a\":\"first\",\"a\":\"second\",\"timestamp\":\"" + signed.get("timestamp") +
+                "\",\"sig\":\"" + signed.get("sig") + "\"}";
+        assertTrue(verifier(MD5).verify(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "application/json", Map.of()
+        ));
+    }
+
+    @Test
+    public void testRejectsMissingOrBadValues() {
+        var verifier = verifier(MD5);
+        var signed = signed(Map.of("a", "alphabet"), MD5);
+
+        var noSig = new HashMap<>(signed);
+        noSig.remove("sig");
+        assertFalse(verifier.verify(noSig));
+
+        var noTimestamp = new HashMap<>(signed);
+        noTimestamp.remove("timestamp");
+        assertFalse(verifier.verify(noTimestamp));
+
+        var badTimestamp = new HashMap<>(signed);
+        badTimestamp.put("timestamp", "yesterday");
+        assertFalse(verifier.verify(badTimestamp));
+
+        var shortSig = new HashMap<>(signed);
+        shortSig.put("sig", signed.get("sig").substring(2));
+        assertFalse(verifier.verify(shortSig));
+
+        var nonHexSig = new HashMap<>(signed);
+        nonHexSig.put("sig", "zz" + signed.get("sig").substring(2));
+        assertFalse(verifier.verify(nonHexSig));
+
+        assertFalse(RequestSignatureVerifier.builder("wrong").clock(CLOCK).build().verify(signed));
+    }
+
+    @Test
+    public void testTimeDelta() {
+        var signed = signed(Map.of("a", "alphabet"), HMAC_SHA512);
+        Clock later = Clock.offset(CLOCK, Duration.ofMinutes(6));
+        var builder = RequestSignatureVerifier.builder(SECRET).hashType(HMAC_SHA512).clock(later);
+        assertFalse(builder.build().verify(signed));
+        assertTrue(builder.maxTimeDelta(Duration.ofMinutes(10)).build().verify(signed));
+        assertThrows(IllegalArgumentException.class, () ->
+                builder.maxTimeDelta(Duration.ofSeconds(-1)).build()
+        );
+    }
+
+    @Test
+    public void testManyParametersAndReuseAcrossCalls() {
+        var verifier = verifier(HMAC_SHA256);
+        var params = new TreeMap<String, String>(Comparator.reverseOrder());
+        for (int i = 0; i < 100; i++) {
+            params.put("param" + i, "x".repeat(i * 10));
+        }
+        var signed = signed(params, HMAC_SHA256);
+        assertTrue(verifier.verify(signed));
+        assertTrue(verifier.verify(signed(Map.of("z", "1"), HMAC_SHA256)));
+        assertTrue(verifier.verify(signed));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(NullPointerException.class, () -> RequestSignatureVerifier.builder(null).build());
+        assertThrows(NullPointerException.class, () ->
+                RequestSignatureVerifier.builder(SECRET).hashType(null).build()
+        );
+        assertThrows(NullPointerException.class, () ->
+                RequestSignatureVerifier.builder(SECRET).maxTimeDelta(null)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageClientException;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class BatchExecutorTest {
+
+	@Test
+	public void testInvokeAllPreservesOrderAndCollectsFailures() {
+		AtomicInteger inFlight = new AtomicInteger(), maxInFlight = new AtomicInteger();
+		List<Integer> inputs = IntStream.range(0, 50).boxed().toList();
+		BatchResult<Integer, String> result = BatchExecutor.withParallelism(5).invokeAll(inputs, i -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50 - i);
+				if (i % 10 == 3) {
+					throw new IllegalArgumentException("Bad " + i);
+				}
+				return "#" + i;
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				inFlight.decrementAndGet();
+			}
+		});
+
+		assertFalse(result.isSuccessful());
+		assertTrue(maxInFlight.get() <= 5);
+		assertEquals(List.of(3, 13, 23, 33, 43), List.copyOf(result.getFailures().keySet()));
+		assertEquals("Bad 13", result.getFailures().get(13).getMessage());
+		assertEquals(45, result.getSuccesses().size());
+		assertEquals(
+				inputs.stream().filter(i -> i % 10 != 3).map(i -> "#" + i).toList(),
+				List.copyOf(result.getSuccesses().values())
+		);
+		assertNotNull(result.toString());
+	}
+
+	@Test
+	public void testCustomExecutor() {
+		var pool = Executors.newFixedThreadPool(2);
+		try {
+			var executor = BatchExecutor.builder().executor(pool).parallelism(8).build();
+			assertEquals(8, executor.getParallelism());
+			var result = executor.invokeAll(List.of("a", "b", "c"), String::toUpperCase);
+			assertTrue(result.isSuccessful());
+			assertEquals(List.of("A", "B", "C"), List.copyOf(result.getSuccesses().values()));
+			assertFalse(pool.isShutdown());
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testRateLimit() {
+		var executor = BatchExecutor.builder().parallelism(5).maxRequestsPerSecond(20).build();
+		assertEquals(20, executor.getMaxRequestsPerSecond());
+		assertEquals(0, BatchExecutor.withParallelism(1).getMaxRequestsPerSecond());
+		long start = System.nanoTime();
+		var result = executor.invokeAll(List.of(1, 2, 3, 4, 5), i -> i * 2);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		assertTrue(result.isSuccessful());
+		assertEquals(List.of(2, 4, 6, 8, 10), List.copyOf(result.getSuccesses().values()));
+		// Five invocations at 20 per second require at least four 50ms intervals.
+		assertTrue(elapsedMillis >= 180, "Elapsed: " + elapsedMillis);
+		assertThrows(IllegalArgumentException.class, () ->
+				BatchExecutor.builder().maxRequestsPerSecond(-1).build()
+		);
+	}
+
+	@Test
+	public void testErrorsAreReportedAsFailures() {
+		var result = BatchExecutor.withParallelism(2).invokeAll(List.of(1, 2, 3), i -> {
+			if (i == 2) {
+				throw new AssertionError("Boom");
+			}
+			return i;
+		});
+		assertFalse(result.isSuccessful());
+		assertEquals(List.of(1, 3), List.copyOf(result.getSuccesses().keySet()));
+		var failure = result.getFailures().get(2);
+		assertInstanceOf(VonageClientException.class, failure);
+		assertInstanceOf(AssertionError.class, failure.getCause());
+	}
+
+	@Test
+	public void testEmptyAndInvalid() {
+		var result = BatchExecutor.withParallelism(1).invokeAll(List.<String> of(), String::length);
+		assertTrue(result.isSuccessful());
+		assertTrue(result.getSuccesses().isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> BatchExecutor.withParallelism(0));
+		assertThrows(NullPointerException.class, () -> BatchExecutor.withParallelism(1).invokeAll(null, o -> o));
+	}
+}
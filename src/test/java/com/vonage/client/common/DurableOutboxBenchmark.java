@@ -0,0 +1,52 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures the rate at which concurrent producers can durably enqueue requests to a {@link DurableOutbox}.
+ * The result depends heavily on the disk's fsync latency. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class DurableOutboxBenchmark {
+	static final int THREADS = 8, WARMUP = 250, PER_THREAD = 2_500;
+
+	@TempDir Path directory;
+
+	@Test
+	public void benchmarkConcurrentEnqueue() throws Exception {
+		ExecutorService producers = Executors.newFixedThreadPool(THREADS);
+		try (var outbox = DurableOutbox.builder(directory, DurableOutboxTest::encode, payload -> "ok")
+				.segmentSize(1024 * 1024).build()) {
+			DurableOutboxTest.enqueueConcurrently(outbox, producers, THREADS, WARMUP);
+			long start = System.nanoTime();
+			DurableOutboxTest.enqueueConcurrently(outbox, producers, THREADS, PER_THREAD);
+			double rate = THREADS * PER_THREAD / ((System.nanoTime() - start) / 1e9);
+			System.out.printf("Durable outbox enqueue rate with %d producers: %.0f/s%n", THREADS, rate);
+			DurableOutboxTest.await(() -> outbox.getPendingCount() == 0);
+			assertEquals(THREADS * (PER_THREAD + WARMUP), outbox.getDeliveredCount());
+		}
+		finally {
+			producers.shutdownNow();
+		}
+	}
+}
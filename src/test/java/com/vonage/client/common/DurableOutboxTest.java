@@ -0,0 +1,243 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class DurableOutboxTest {
+	@TempDir Path directory;
+
+	final List<String> sent = new CopyOnWriteArrayList<>();
+
+	static byte[] encode(String request) {
+		return request.getBytes(StandardCharsets.UTF_8);
+	}
+
+	String send(byte[] payload) {
+		String request = new String(payload, StandardCharsets.UTF_8);
+		sent.add(request);
+		return "sent:" + request;
+	}
+
+	DurableOutbox.Builder<String, String> builder(Function<byte[], String> sender) {
+		return DurableOutbox.builder(directory, DurableOutboxTest::encode, sender).retryBackoff(Duration.ofMillis(1));
+	}
+
+	static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "Timed out waiting for outbox");
+			Thread.sleep(2);
+		}
+	}
+
+	int segmentFiles() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return (int) files.filter(p -> p.toString().endsWith(".seg")).count();
+		}
+	}
+
+	@Test
+	public void testEnqueueAndSend() throws Exception {
+		try (var outbox = builder(this::send).build()) {
+			var futures = IntStream.range(0, 50).mapToObj(i -> outbox.enqueue("message-" + i)).toList();
+			for (int i = 0; i < futures.size(); i++) {
+				assertEquals("sent:message-" + i, futures.get(i).get(5, TimeUnit.SECONDS));
+			}
+			await(() -> outbox.getPendingCount() == 0);
+			assertEquals(50, outbox.getEnqueuedCount());
+			assertEquals(50, outbox.getDeliveredCount());
+			assertEquals(50, new HashSet<>(sent).size());
+		}
+	}
+
+	@Test
+	public void testReplayAfterRestartInOrder() throws Exception {
+		CountDownLatch blocked = new CountDownLatch(1);
+		var first = builder(payload -> {
+			blocked.countDown();
+			throw new IllegalStateException("Unavailable");
+		}).parallelism(1).maxAttempts(Integer.MAX_VALUE).retryBackoff(Duration.ofHours(1)).build();
+		List<CompletableFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			futures.add(first.enqueue("message-" + i));
+		}
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		assertThrows(IllegalStateException.class, () -> builder(this::send).build());
+		first.close();
+		assertTrue(futures.stream().allMatch(CompletableFuture::isCancelled));
+		assertThrows(IllegalStateException.class, () -> first.enqueue("late"));
+
+		try (var second = builder(this::send).parallelism(1).build()) {
+			await(() -> sent.size() == 20);
+			assertEquals(IntStream.range(0, 20).mapToObj(i -> "message-" + i).toList(), sent);
+			await(() -> second.getPendingCount() == 0);
+		}
+		try (var third = builder(this::send).build()) {
+			Thread.sleep(50);
+			assertEquals(20, sent.size());
+			assertEquals(0, third.getPendingCount());
+		}
+	}
+
+	@Test
+	public void testCompaction() throws Exception {
+		String padding = "x".repeat(200);
+		try (var outbox = builder(this::send).segmentSize(1024).build()) {
+			for (int i = 0; i < 40; i++) {
+				outbox.enqueue(i + padding);
+			}
+			await(() -> outbox.getPendingCount() == 0);
+			await(() -> outbox.getSegmentCount() == 1);
+			assertEquals(1, segmentFiles());
+			assertEquals(40, sent.size());
+			assertThrows(IllegalArgumentException.class, () -> outbox.enqueue("y".repeat(1024)));
+		}
+	}
+
+	@Test
+	public void testTornEntryIgnoredOnRecovery() throws Exception {
+		var blocked = builder(payload -> { throw new IllegalStateException(); })
+				.maxAttempts(Integer.MAX_VALUE).retryBackoff(Duration.ofHours(1)).segmentSize(4096).build();
+		blocked.enqueue("first");
+		blocked.enqueue("second");
+		blocked.close();
+
+		Path segment;
+		try (Stream<Path> files = Files.list(directory)) {
+			segment = files.filter(p -> p.toString().endsWith(".seg")).sorted().findFirst().orElseThrow();
+		}
+		try (var file = new RandomAccessFile(segment.toFile(), "rw")) {
+			// Simulate a crash part way through writing a third entry: the length is written but not the payload
+			file.seek(2 * 8 + "first".length() + "second".length());
+			file.writeInt(100);
+			file.writeInt(12345);
+		}
+		try (var outbox = builder(this::send).parallelism(1).build()) {
+			await(() -> sent.size() == 2);
+			assertEquals(List.of("first", "second"), sent);
+			outbox.enqueue("third").get(5, TimeUnit.SECONDS);
+			assertEquals(List.of("first", "second", "third"), sent);
+		}
+	}
+
+	@Test
+	public void testRetriesAndDeadLetters() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		Map<String, RuntimeException> deadLetters = new ConcurrentHashMap<>();
+		try (var outbox = builder(payload -> {
+			String request = new String(payload, StandardCharsets.UTF_8);
+			if (request.equals("flaky") && attempts.incrementAndGet() < 3) {
+				throw new IllegalStateException("Transient");
+			}
+			if (request.equals("invalid")) {
+				throw new IllegalArgumentException("Rejected");
+			}
+			if (request.equals("broken")) {
+				throw new IllegalStateException("Always");
+			}
+			if (request.equals("error")) {
+				throw new AssertionError("Fatal");
+			}
+			return send(payload);
+		}).maxAttempts(4).deadLetterHandler((payload, ex) ->
+				deadLetters.put(new String(payload, StandardCharsets.UTF_8), ex)
+		).build()) {
+			assertEquals("sent:flaky", outbox.enqueue("flaky").get(5, TimeUnit.SECONDS));
+			assertEquals(3, attempts.get());
+
+			var invalid = outbox.enqueue("invalid");
+			var ex = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+			assertEquals("Rejected", ex.getCause().getMessage());
+
+			var broken = outbox.enqueue("broken");
+			assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+			var error = outbox.enqueue("error");
+			ex = assertThrows(ExecutionException.class, () -> error.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(AssertionError.class, ex.getCause().getCause());
+			assertEquals("sent:after", outbox.enqueue("after").get(5, TimeUnit.SECONDS));
+
+			assertEquals(Set.of("invalid", "broken", "error"), deadLetters.keySet());
+			assertEquals(3, outbox.getDeadLetterCount());
+			await(() -> outbox.getPendingCount() == 0);
+		}
+	}
+
+	static void enqueueConcurrently(DurableOutbox<String, ?> outbox, ExecutorService producers,
+			int threads, int perThread) throws Exception {
+		List<Future<?>> results = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			final int thread = t;
+			results.add(producers.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					outbox.enqueue("{\"thread\":" + thread + ",\"index\":" + i + ",\"text\":\"Hello from Vonage\"}");
+				}
+			}));
+		}
+		for (var result : results) {
+			result.get(60, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void testConcurrentEnqueue() throws Exception {
+		final int threads = 8, perThread = 250;
+		ExecutorService producers = Executors.newFixedThreadPool(threads);
+		try (var outbox = builder(payload -> "ok").segmentSize(1024 * 1024).build()) {
+			enqueueConcurrently(outbox, producers, threads, perThread);
+			assertEquals(threads * perThread, outbox.getEnqueuedCount());
+			await(() -> outbox.getPendingCount() == 0);
+			assertEquals(threads * perThread, outbox.getDeliveredCount());
+		}
+		finally {
+			producers.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(NullPointerException.class, () ->
+				DurableOutbox.<String, String> builder(null, DurableOutboxTest::encode, this::send).build()
+		);
+		assertThrows(NullPointerException.class, () -> DurableOutbox.builder(directory, null, this::send).build());
+		assertThrows(NullPointerException.class, () ->
+				DurableOutbox.builder(directory, DurableOutboxTest::encode, null).build()
+		);
+		assertThrows(IllegalArgumentException.class, () -> builder(this::send).segmentSize(100).build());
+		assertThrows(IllegalArgumentException.class, () -> builder(this::send).parallelism(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder(this::send).maxAttempts(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder(this::send).retryBackoff(Duration.ZERO).build());
+		try (var outbox = builder(this::send).build()) {
+			assertThrows(NullPointerException.class, () -> outbox.enqueue(null));
+			assertThrows(IllegalArgumentException.class, () -> outbox.enqueue(""));
+		}
+	}
+}
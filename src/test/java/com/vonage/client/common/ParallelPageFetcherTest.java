@@ -0,0 +1,139 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageClientException;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ParallelPageFetcherTest {
+	static final int TOTAL_ITEMS = 95, PAGE_SIZE = 10;
+
+	record Page(int ordinal, int total, List<Integer> items) {}
+
+	static Page page(int ordinal) {
+		int start = ordinal * PAGE_SIZE, end = Math.min(TOTAL_ITEMS, start + PAGE_SIZE);
+		return new Page(ordinal, TOTAL_ITEMS, IntStream.range(start, end).boxed().toList());
+	}
+
+	static ParallelPageFetcher.Builder<Page, Integer> builder(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+		return ParallelPageFetcher.<Page, Integer> builder(ordinal -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(ordinal % 3 == 0 ? 20 : 2);
+				return page(ordinal);
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				inFlight.decrementAndGet();
+			}
+		}, Page::items).totalItems(Page::total, PAGE_SIZE);
+	}
+
+	@Test
+	public void testFetchAllPreservesOrder() {
+		AtomicInteger inFlight = new AtomicInteger(), maxInFlight = new AtomicInteger();
+		List<Integer> result = builder(inFlight, maxInFlight).parallelism(3).build().fetchAll();
+		assertEquals(IntStream.range(0, TOTAL_ITEMS).boxed().toList(), result);
+		assertTrue(maxInFlight.get() <= 3);
+		assertEquals(0, inFlight.get());
+	}
+
+	@Test
+	public void testStreamUnorderedContainsAllItems() {
+		AtomicInteger inFlight = new AtomicInteger(), maxInFlight = new AtomicInteger();
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			var fetcher = builder(inFlight, maxInFlight).parallelism(2).executor(executor).build();
+			Set<Integer> result = fetcher.streamUnordered().collect(Collectors.toSet());
+			assertEquals(IntStream.range(0, TOTAL_ITEMS).boxed().collect(Collectors.toSet()), result);
+			assertTrue(maxInFlight.get() <= 2);
+			assertFalse(executor.isShutdown());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testSinglePage() {
+		AtomicInteger calls = new AtomicInteger();
+		var fetcher = ParallelPageFetcher.<Page, Integer> builder(
+				ordinal -> { calls.incrementAndGet(); return new Page(0, 3, List.of(1, 2, 3)); },
+				Page::items
+		).totalPages(p -> 1).build();
+		assertEquals(List.of(1, 2, 3), fetcher.fetchAll());
+		assertEquals(List.of(1, 2, 3), fetcher.streamUnordered().toList());
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void testEmptyAndNullPages() {
+		var fetcher = ParallelPageFetcher.<Page, Integer> builder(ordinal -> null, Page::items)
+				.totalPages(p -> 5).build();
+		assertEquals(List.of(), fetcher.fetchAll());
+		assertEquals(0, fetcher.streamUnordered().count());
+
+		var nullItems = ParallelPageFetcher.<Page, Integer> builder(
+				ordinal -> new Page(ordinal, 0, null), Page::items
+		).totalPages(p -> 0).build();
+		assertEquals(List.of(), nullItems.fetchAll());
+	}
+
+	@Test
+	public void testMaxPages() {
+		AtomicInteger inFlight = new AtomicInteger(), maxInFlight = new AtomicInteger();
+		var result = builder(inFlight, maxInFlight).maxPages(2).build().fetchAll();
+		assertEquals(IntStream.range(0, 2 * PAGE_SIZE).boxed().toList(), result);
+	}
+
+	@Test
+	public void testFailurePropagates() {
+		var fetcher = ParallelPageFetcher.<Page, Integer> builder(ordinal -> {
+			if (ordinal == 4) {
+				throw new VonageClientException("Page " + ordinal);
+			}
+			return page(ordinal);
+		}, Page::items).totalItems(Page::total, PAGE_SIZE).parallelism(2).build();
+
+		var ex = assertThrows(VonageClientException.class, fetcher::fetchAll);
+		assertEquals("Page 4", ex.getMessage());
+		assertThrows(VonageClientException.class, () -> fetcher.streamUnordered().count());
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(NullPointerException.class, () ->
+				ParallelPageFetcher.<Page, Integer> builder(ParallelPageFetcherTest::page, Page::items).build()
+		);
+		assertThrows(IllegalArgumentException.class, () ->
+				ParallelPageFetcher.<Page, Integer> builder(ParallelPageFetcherTest::page, Page::items)
+						.totalItems(Page::total, 0)
+		);
+		var builder = ParallelPageFetcher.<Page, Integer> builder(ParallelPageFetcherTest::page, Page::items)
+				.totalItems(Page::total, PAGE_SIZE);
+		assertThrows(IllegalArgumentException.class, () -> builder.parallelism(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder.parallelism(1).maxPages(0).build());
+	}
+}
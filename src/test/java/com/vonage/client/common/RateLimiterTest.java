@@ -0,0 +1,74 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import com.vonage.client.VonageClientException;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RateLimiterTest {
+	static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	public void testReservationsAreSpacedOut() {
+		AtomicLong clock = new AtomicLong(1000 * MILLI);
+		RateLimiter limiter = new RateLimiter(10, clock::get);
+		assertEquals(10.0, limiter.getPermitsPerSecond(), 0.0001);
+		assertEquals(0, limiter.reserve());
+		assertEquals(100 * MILLI, limiter.reserve());
+		assertEquals(200 * MILLI, limiter.reserve());
+		clock.addAndGet(250 * MILLI);
+		assertEquals(50 * MILLI, limiter.reserve());
+		// Idle time does not accumulate into a burst
+		clock.addAndGet(5000 * MILLI);
+		assertEquals(0, limiter.reserve());
+		assertEquals(100 * MILLI, limiter.reserve());
+	}
+
+	@Test
+	public void testAcquireBlocks() {
+		RateLimiter limiter = new RateLimiter(100);
+		long start = System.nanoTime();
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire();
+		}
+		assertTrue(System.nanoTime() - start >= 35 * MILLI);
+	}
+
+	@Test
+	public void testInterrupted() {
+		RateLimiter limiter = new RateLimiter(0.01);
+		limiter.acquire();
+		Thread.currentThread().interrupt();
+		try {
+			assertThrows(VonageClientException.class, limiter::acquire);
+			assertTrue(Thread.currentThread().isInterrupted());
+		}
+		finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	public void testInvalidRate() {
+		assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0));
+		assertThrows(IllegalArgumentException.class, () -> new RateLimiter(-1));
+		assertThrows(IllegalArgumentException.class, () -> new RateLimiter(Double.NaN));
+		assertThrows(IllegalArgumentException.class, () -> new RateLimiter(Double.POSITIVE_INFINITY));
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+	@Test
+	public void testConcurrentCallsShareResult() throws Exception {
+		SingleFlight<String, Integer> flights = new SingleFlight<>();
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				results.add(executor.submit(() -> flights.execute("key", () -> {
+					calls.incrementAndGet();
+					try {
+						release.await();
+					}
+					catch (InterruptedException ex) {
+						throw new IllegalStateException(ex);
+					}
+					return 42;
+				})));
+			}
+			while (flights.getInFlight("key") == null) Thread.sleep(1);
+			Thread.sleep(50);
+			assertEquals(1, flights.size());
+			release.countDown();
+			for (Future<Integer> result : results) {
+				assertEquals(42, result.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, calls.get());
+			assertEquals(0, flights.size());
+			assertNull(flights.getInFlight("key"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testCustomJoin() throws Exception {
+		SingleFlight<String, Integer> flights = new SingleFlight<>();
+		CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Integer> leader = executor.submit(() -> flights.execute("key", () -> {
+				started.countDown();
+				try {
+					release.await();
+				}
+				catch (InterruptedException ex) {
+					throw new IllegalStateException(ex);
+				}
+				return 42;
+			}));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			assertEquals(-1, flights.execute("key", () -> 0, flight -> {
+				assertFalse(flight.isDone());
+				return -1;
+			}));
+			release.countDown();
+			assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+			assertEquals(1, flights.execute("key", () -> 1, flight -> -1));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testSequentialCallsAreNotShared() {
+		SingleFlight<String, Integer> flights = new SingleFlight<>();
+		AtomicInteger calls = new AtomicInteger();
+		assertEquals(1, flights.execute("key", calls::incrementAndGet));
+		assertEquals(2, flights.execute("key", calls::incrementAndGet));
+		assertEquals(3, flights.execute("other", calls::incrementAndGet));
+	}
+
+	@Test
+	public void testFailurePropagates() {
+		SingleFlight<String, Integer> flights = new SingleFlight<>();
+		var ex = assertThrows(IllegalStateException.class, () ->
+				flights.execute("key", () -> { throw new IllegalStateException("Boom"); })
+		);
+		assertEquals("Boom", ex.getMessage());
+		assertEquals(0, flights.size());
+
+		CompletableFuture<Integer> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new UnsupportedOperationException());
+		assertThrows(UnsupportedOperationException.class, () -> SingleFlight.await(failed));
+		CompletableFuture<Integer> cancelled = new CompletableFuture<>();
+		cancelled.cancel(true);
+		assertThrows(CancellationException.class, () -> SingleFlight.await(cancelled));
+		assertThrows(NullPointerException.class, () -> flights.execute(null, () -> 1));
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.common;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TtlCacheTest {
+	final AtomicLong clock = new AtomicLong();
+	final TtlCache<String, Integer> cache = new TtlCache<>(Duration.ofSeconds(10), 3, clock::get);
+
+	@Test
+	public void testExpiry() {
+		cache.put("a", 1);
+		cache.put("b", 2, Duration.ofSeconds(30));
+		assertEquals(1, cache.get("a"));
+		clock.set(Duration.ofSeconds(10).toNanos());
+		assertNull(cache.get("a"));
+		assertEquals(2, cache.get("b"));
+		assertEquals(1, cache.size());
+		clock.set(Duration.ofSeconds(31).toNanos());
+		assertNull(cache.get("b"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertEquals(1, cache.get("a"));
+		cache.put("d", 4);
+		assertEquals(3, cache.size());
+		assertNull(cache.get("b"));
+		assertEquals(1, cache.get("a"));
+		assertEquals(4, cache.get("d"));
+	}
+
+	@Test
+	public void testInvalidate() {
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.invalidate("a");
+		assertNull(cache.get("a"));
+		assertEquals(2, cache.get("b"));
+		cache.invalidateAll();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertThrows(NullPointerException.class, () -> new TtlCache<>(null, 1));
+		assertThrows(IllegalArgumentException.class, () -> new TtlCache<>(Duration.ZERO, 1));
+		assertThrows(IllegalArgumentException.class, () -> new TtlCache<>(Duration.ofSeconds(-1), 1));
+		assertThrows(IllegalArgumentException.class, () -> new TtlCache<>(Duration.ofSeconds(1), 0));
+		assertThrows(NullPointerException.class, () -> cache.put("a", null));
+		assertThrows(IllegalArgumentException.class, () -> cache.put("a", 1, Duration.ZERO));
+	}
+}
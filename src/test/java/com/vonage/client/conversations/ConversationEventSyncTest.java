@@ -0,0 +1,126 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.conversations;
+
+import com.vonage.client.AbstractClientTest;
+import com.vonage.client.VonageUnexpectedException;
+import com.vonage.client.common.BatchExecutor;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConversationEventSyncTest extends AbstractClientTest<ConversationsClient> {
+	static final String CONVERSATION_ID = "CON-d66d47de-5bcb-4300-94f0-0c9d4b948e9a";
+
+	@TempDir Path tempDir;
+
+	public ConversationEventSyncTest() {
+		client = new ConversationsClient(wrapper);
+	}
+
+	static String page(String nextCursor, int... ids) {
+		StringBuilder json = new StringBuilder("{\"page_size\":2,");
+		if (nextCursor != null) {
+			json.append("\"_links\":{\"next\":{\"href\":\"https://api.nexmo.com/v1/conversations/")
+					.append(CONVERSATION_ID).append("/events?cursor=").append(nextCursor).append("\"}},");
+		}
+		json.append("\"_embedded\":{\"events\":[");
+		for (int i = 0; i < ids.length; i++) {
+			if (i > 0) json.append(',');
+			json.append("{\"id\":").append(ids[i]).append(",\"type\":\"custom:test\"}");
+		}
+		return json.append("]}}").toString();
+	}
+
+	ConversationEventSync newSync(Path file) {
+		return ConversationEventSync.builder(client).checkpointFile(file)
+				.batchExecutor(BatchExecutor.withParallelism(1)).pageSize(2).build();
+	}
+
+	@Test
+	public void testIncrementalSync() throws Exception {
+		Path file = tempDir.resolve("checkpoints.properties");
+		var sync = newSync(file);
+		List<Integer> received = new ArrayList<>();
+
+		stubResponse(200, page("abc123", 1, 2), page(null, 3));
+		assertEquals(3, sync.sync(CONVERSATION_ID, (id, event) -> received.add(event.getId())));
+		assertEquals(List.of(1, 2, 3), received);
+		assertTrue(Files.exists(file));
+		assertEquals(3, new FileEventCheckpointStore(file).getLastEventId(CONVERSATION_ID));
+
+		stubResponse(200, page(null, 3, 4));
+		var result = newSync(file).sync(List.of(CONVERSATION_ID), (id, event) -> received.add(event.getId()));
+		assertTrue(result.isSuccessful());
+		assertEquals(1, result.getSuccesses().get(CONVERSATION_ID));
+		assertEquals(List.of(1, 2, 3, 4), received);
+		assertEquals(4, new FileEventCheckpointStore(file).getLastEventId(CONVERSATION_ID));
+	}
+
+	@Test
+	public void testHandlerFailureRetainsProgress() throws Exception {
+		Path file = tempDir.resolve("nested").resolve("checkpoints.properties");
+		var sync = newSync(file);
+		stubResponse(200, page(null, 1, 2));
+		var result = sync.sync(List.of(CONVERSATION_ID), (id, event) -> {
+			if (event.getId() == 2) throw new IllegalStateException("Handler failed");
+		});
+		assertFalse(result.isSuccessful());
+		assertEquals("Handler failed", result.getFailures().get(CONVERSATION_ID).getMessage());
+		assertEquals(1, sync.getCheckpointStore().getLastEventId(CONVERSATION_ID));
+		assertEquals(1, new FileEventCheckpointStore(file).getLastEventId(CONVERSATION_ID));
+	}
+
+	@Test
+	public void testApiFailure() throws Exception {
+		var sync = newSync(tempDir.resolve("checkpoints.properties"));
+		stubResponse(404, "{\"title\":\"Not found\"}");
+		var result = sync.sync(List.of(CONVERSATION_ID), (id, event) -> fail());
+		assertEquals(ConversationsResponseException.class, result.getFailures().get(CONVERSATION_ID).getClass());
+		assertNull(sync.getCheckpointStore().getLastEventId(CONVERSATION_ID));
+		assertThrows(IllegalArgumentException.class, () -> sync.sync("invalid", (id, event) -> {}));
+	}
+
+	@Test
+	public void testFailedFlushRemovesTempFile() throws Exception {
+		Path file = tempDir.resolve("checkpoints.properties");
+		var store = new FileEventCheckpointStore(file);
+		// A non-empty directory in place of the file makes the final move fail
+		Files.createDirectories(file.resolve("occupied"));
+		store.setLastEventId(CONVERSATION_ID, 5);
+		assertThrows(VonageUnexpectedException.class, store::flush);
+		assertThrows(VonageUnexpectedException.class, store::flush);
+		try (var files = Files.list(tempDir)) {
+			assertEquals(List.of(file), files.toList());
+		}
+		assertEquals(5, store.getLastEventId(CONVERSATION_ID));
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(NullPointerException.class, () -> ConversationEventSync.builder(null));
+		assertThrows(NullPointerException.class, () -> ConversationEventSync.builder(client).build());
+		assertThrows(IllegalArgumentException.class, () ->
+				ConversationEventSync.builder(client).checkpointStore(new FileEventCheckpointStore(
+						tempDir.resolve("x"))).pageSize(101).build()
+		);
+		assertNull(ConversationEventSync.parseNextCursor(null));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+import com.vonage.client.VonageResponseParseException;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+public class AsyncInsightCorrelatorTest {
+    final AsyncInsightCorrelator correlator = AsyncInsightCorrelator.builder().timeout(Duration.ofSeconds(5)).build();
+
+    @AfterEach
+    public void tearDown() {
+        correlator.close();
+    }
+
+    static String callback(String requestId) {
+        return "{\"status\":0,\"request_id\":\"" + requestId + "\",\"valid_number\":\"valid\"}";
+    }
+
+    @Test
+    public void testCallbackCompletesFuture() throws Exception {
+        var future = correlator.register("req-1");
+        assertFalse(future.isDone());
+        assertEquals(1, correlator.getPendingCount());
+        assertFalse(correlator.handleCallback(callback("req-2")));
+        assertTrue(correlator.handleCallback(callback("req-1")));
+        var response = future.get(1, TimeUnit.SECONDS);
+        assertEquals("req-1", response.getRequestId());
+        assertEquals(Validity.VALID, response.getValidNumber());
+        assertEquals(0, correlator.getPendingCount());
+        assertFalse(correlator.handleCallback(callback("req-1")));
+    }
+
+    @Test
+    public void testEarlyCallback() throws Exception {
+        assertFalse(correlator.handleCallback(callback("req-early")));
+        var future = correlator.register("req-early");
+        assertTrue(future.isDone());
+        assertEquals("req-early", future.get().getRequestId());
+        assertEquals(0, correlator.getPendingCount());
+        assertFalse(correlator.register("req-early").isDone());
+    }
+
+    @Test
+    public void testTimeout() {
+        try (var shortCorrelator = AsyncInsightCorrelator.builder().timeout(Duration.ofMillis(20)).build()) {
+            var future = shortCorrelator.register("req-timeout");
+            var ex = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(TimeoutException.class, ex.getCause());
+            assertEquals(0, shortCorrelator.getPendingCount());
+        }
+    }
+
+    @Test
+    public void testCancelAndClose() {
+        var cancelled = correlator.register("req-cancel");
+        cancelled.cancel(false);
+        assertEquals(0, correlator.getPendingCount());
+        assertFalse(correlator.handleCallback(callback("req-cancel")));
+
+        var open = correlator.register("req-open");
+        assertThrows(IllegalStateException.class, () -> correlator.register("req-open"));
+        correlator.close();
+        assertTrue(open.isCancelled());
+    }
+
+    @Test
+    public void testSuppliedScheduler() {
+        var scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            AsyncInsightCorrelator.builder().scheduler(scheduler).build().close();
+            assertFalse(scheduler.isShutdown());
+        }
+        finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        assertFalse(correlator.complete(AdvancedInsightResponse.fromJson("{}")));
+        assertThrows(VonageResponseParseException.class, () -> correlator.handleCallback("not json"));
+        assertThrows(NullPointerException.class, () -> correlator.register(null));
+        assertThrows(NullPointerException.class, () -> correlator.complete(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncInsightCorrelator.builder().timeout(Duration.ZERO).build());
+        assertThrows(NullPointerException.class, () -> AsyncInsightCorrelator.builder().timeout(null).build());
+        assertThrows(IllegalArgumentException.class, () -> AsyncInsightCorrelator.builder().maxEarlyCallbacks(0).build());
+    }
+}
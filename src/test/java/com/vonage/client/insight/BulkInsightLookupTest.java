@@ -0,0 +1,187 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+import com.vonage.client.VonageClientException;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class BulkInsightLookupTest {
+    final AtomicInteger inFlight = new AtomicInteger(), maxInFlight = new AtomicInteger();
+    final Map<String, Integer> calls = new ConcurrentHashMap<>();
+
+    final BiFunction<String, String, BasicInsightResponse> lookup = (number, country) -> {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        calls.merge(number, 1, Integer::sum);
+        try {
+            Thread.sleep(Math.floorMod(number.hashCode(), 3));
+            if (number.endsWith("99")) {
+                throw new VonageClientException("Failed " + number);
+            }
+            return BasicInsightResponse.fromJson(
+                    "{\"status\":" + (number.endsWith("0") ? 3 : 0) + ",\"international_format_number\":\"" + number + "\"}"
+            );
+        }
+        catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+        finally {
+            inFlight.decrementAndGet();
+        }
+    };
+
+    @Test
+    public void testNormalise() {
+        assertEquals("447700900000", BulkInsightLookup.normalise("+44 (7700) 900-000"));
+        assertEquals("447700900000", BulkInsightLookup.normalise("00447700900000"));
+        assertEquals("07700900000", BulkInsightLookup.normalise("07700.900.000"));
+        assertNull(BulkInsightLookup.normalise("not a number"));
+        assertNull(BulkInsightLookup.normalise("+"));
+        assertNull(BulkInsightLookup.normalise(null));
+    }
+
+    @Test
+    public void testDeduplicatesAndCorrelates() {
+        var inputs = Stream.of("+447700900001", "447700900001", "0044 7700 900001", "447700900002",
+                "invalid", "447700900010", "447700900099", "447700900002");
+        var results = BulkInsightLookup.builder(lookup).parallelism(3).build()
+                .lookup(inputs).collect(Collectors.toList());
+
+        assertEquals(5, results.size());
+        assertEquals(4, calls.size());
+        assertTrue(calls.values().stream().allMatch(count -> count == 1));
+        assertTrue(maxInFlight.get() <= 3);
+
+        Map<String, BulkInsightResult<BasicInsightResponse>> byInput = results.stream()
+                .collect(Collectors.toMap(BulkInsightResult::getInput, Function.identity()));
+        var first = byInput.get("+447700900001");
+        assertEquals("447700900001", first.getNumber());
+        assertTrue(first.isSuccessful());
+        assertEquals("447700900001", first.getResponse().getInternationalFormatNumber());
+        assertNull(first.getError());
+
+        var invalid = byInput.get("invalid");
+        assertNull(invalid.getNumber());
+        assertFalse(invalid.isSuccessful());
+        assertInstanceOf(IllegalArgumentException.class, invalid.getError());
+
+        var rejected = byInput.get("447700900010");
+        assertFalse(rejected.isSuccessful());
+        assertEquals(InsightStatus.INVALID_PARAMS, rejected.getResponse().getStatus());
+
+        var failed = byInput.get("447700900099");
+        assertEquals("Failed 447700900099", failed.getError().getMessage());
+        assertTrue(failed.toString().contains("447700900099"));
+    }
+
+    @Test
+    public void testNationalNumbersRequireCountry() {
+        var countries = new ConcurrentHashMap<String, String>();
+        BiFunction<String, String, BasicInsightResponse> recording = (number, country) -> {
+            countries.put(number, String.valueOf(country));
+            return lookup.apply(number, country);
+        };
+        var inputs = List.of("07700 900001", "+44 7700 900002");
+
+        var results = BulkInsightLookup.builder(recording).build().lookup(inputs.stream())
+                .collect(Collectors.toMap(BulkInsightResult::getInput, Function.identity()));
+        var national = results.get("07700 900001");
+        assertNull(national.getNumber());
+        assertInstanceOf(IllegalArgumentException.class, national.getError());
+        assertTrue(results.get("+44 7700 900002").isSuccessful());
+        assertEquals(Map.of("447700900002", "null"), countries);
+
+        countries.clear();
+        results = BulkInsightLookup.builder(recording).country("GB").build().lookup(inputs.stream())
+                .collect(Collectors.toMap(BulkInsightResult::getInput, Function.identity()));
+        assertEquals("07700900001", results.get("07700 900001").getNumber());
+        assertTrue(results.get("07700 900001").isSuccessful());
+        assertEquals(Map.of("07700900001", "GB", "447700900002", "GB"), countries);
+    }
+
+    @Test
+    public void testErrorsAreReportedAsFailures() {
+        var results = BulkInsightLookup.<BasicInsightResponse> builder((number, country) -> {
+            if (number.endsWith("1")) {
+                throw new AssertionError("Boom");
+            }
+            return lookup.apply(number, country);
+        }).parallelism(2).build().lookup(Stream.of("447700900001", "447700900002")).toList();
+
+        assertEquals(2, results.size());
+        var failed = results.stream().filter(result -> !result.isSuccessful()).findFirst().orElseThrow();
+        assertEquals("447700900001", failed.getNumber());
+        assertInstanceOf(VonageClientException.class, failed.getError());
+        assertInstanceOf(AssertionError.class, failed.getError().getCause());
+    }
+
+    @Test
+    public void testLargeInputWithBoundedWindow() {
+        var consumed = new AtomicInteger();
+        var seen = new HashSet<String>();
+        var executor = Executors.newCachedThreadPool();
+        try {
+            var bulk = BulkInsightLookup.builder(lookup)
+                    .parallelism(8).dedupeWindow(100).executor(executor).build();
+            bulk.lookup(IntStream.range(0, 5000).mapToObj(i -> "4477009" + String.format("%05d", i % 2000)),
+                    result -> {
+                        consumed.incrementAndGet();
+                        seen.add(result.getNumber());
+                    }
+            );
+            // Repeats are 2000 apart, which is beyond the window, so are looked up again
+            assertEquals(5000, consumed.get());
+            assertEquals(2000, seen.size());
+            assertTrue(maxInFlight.get() <= 8);
+            assertFalse(executor.isShutdown());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRateLimitAndEarlyClose() {
+        var bulk = BulkInsightLookup.builder(lookup).parallelism(2).maxRequestsPerSecond(100).build();
+        long start = System.nanoTime();
+        try (var results = bulk.lookup(IntStream.range(10, 1000).mapToObj(i -> "44770090" + i))) {
+            assertEquals(6, results.limit(6).count());
+        }
+        assertTrue(System.nanoTime() - start >= 40_000_000L);
+        assertTrue(calls.size() < 20);
+    }
+
+    @Test
+    public void testEmptyAndInvalidConfiguration() {
+        assertEquals(0, BulkInsightLookup.builder(lookup).build().lookup(Stream.empty()).count());
+        assertThrows(NullPointerException.class, () -> BulkInsightLookup.builder(null).build());
+        assertThrows(IllegalArgumentException.class, () -> BulkInsightLookup.builder(lookup).parallelism(0).build());
+        assertThrows(IllegalArgumentException.class, () -> BulkInsightLookup.builder(lookup).dedupeWindow(-1).build());
+        assertThrows(IllegalArgumentException.class, () ->
+                BulkInsightLookup.builder(lookup).maxRequestsPerSecond(-1).build()
+        );
+        assertThrows(NullPointerException.class, () -> BulkInsightLookup.builder(lookup).build().lookup(null));
+    }
+}
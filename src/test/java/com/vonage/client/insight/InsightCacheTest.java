@@ -0,0 +1,234 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.insight;
+
+import com.vonage.client.VonageClientException;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class InsightCacheTest {
+    static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+    static final String ACCOUNT = "a1b2c3d4";
+
+    final AtomicLong clock = new AtomicLong();
+    final AtomicInteger calls = new AtomicInteger();
+    final InsightCache cache = InsightCache.builder()
+            .basicTtl(Duration.ofMinutes(60)).standardTtl(Duration.ofMinutes(30))
+            .advancedTtl(Duration.ofMinutes(10)).negativeTtl(Duration.ofMinutes(5))
+            .maxSize(2).clock(clock::get).build();
+
+    <R extends BasicInsightResponse> Supplier<R> call(R response) {
+        return () -> {
+            calls.incrementAndGet();
+            return response;
+        };
+    }
+
+    static AdvancedInsightResponse advanced(int status) {
+        return AdvancedInsightResponse.fromJson("{\"status\":" + status + "}");
+    }
+
+    @Test
+    public void testHigherTierAnswersLowerTiers() {
+        var advanced = advanced(0);
+        var request = AdvancedInsightRequest.withNumber("447700900000");
+        assertSame(advanced, cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(advanced)));
+        assertSame(advanced, cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(advanced(0))));
+
+        var standard = StandardInsightRequest.withNumber("+447700900000");
+        assertSame(advanced, cache.get(ACCOUNT, standard, InsightCache.STANDARD, call(StandardInsightResponse.fromJson("{}"))));
+        var basic = BasicInsightRequest.withNumber("447700900000");
+        assertSame(advanced, cache.get(ACCOUNT, basic, InsightCache.BASIC, call(BasicInsightResponse.fromJson("{}"))));
+        assertEquals(1, calls.get());
+
+        // Advanced has expired for Advanced requests, but is still fresh for Standard and Basic
+        clock.addAndGet(15 * MINUTE);
+        assertSame(advanced, cache.get(ACCOUNT, basic, InsightCache.BASIC, call(BasicInsightResponse.fromJson("{}"))));
+        assertSame(advanced, cache.get(ACCOUNT, standard, InsightCache.STANDARD, call(StandardInsightResponse.fromJson("{}"))));
+        var refreshed = advanced(0);
+        assertSame(refreshed, cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(refreshed)));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testLowerTierDoesNotAnswerHigherTier() {
+        var basicResponse = BasicInsightResponse.fromJson("{\"status\":0}");
+        var request = BasicInsightRequest.withNumberAndCountry("07700900000", "GB");
+        cache.get(ACCOUNT, request, InsightCache.BASIC, call(basicResponse));
+        var advancedResponse = advanced(0);
+        assertSame(advancedResponse, cache.get(ACCOUNT,
+                AdvancedInsightRequest.withNumberAndCountry("07700900000", "gb"), InsightCache.ADVANCED,
+                call(advancedResponse)
+        ));
+        assertSame(basicResponse, cache.get(ACCOUNT, request, InsightCache.BASIC, call(basicResponse)));
+        assertEquals(2, calls.get());
+
+        cache.get(ACCOUNT, BasicInsightRequest.withNumber("07700900000"), InsightCache.BASIC, call(basicResponse));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testAccountsAreIsolated() {
+        var first = advanced(0);
+        var request = AdvancedInsightRequest.withNumber("447700900000");
+        assertSame(first, cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(first)));
+        var second = advanced(0);
+        assertSame(second, cache.get("e5f6a7b8", request, InsightCache.ADVANCED, call(second)));
+        assertSame(first, cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(advanced(0))));
+        assertSame(second, cache.get("e5f6a7b8", request, InsightCache.ADVANCED, call(advanced(0))));
+        assertEquals(2, calls.get());
+        assertEquals(2, cache.size());
+
+        cache.invalidate("447700900000", null);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testNegativeAndErrorCaching() {
+        var invalid = advanced(3);
+        var request = AdvancedInsightRequest.withNumber("123");
+        assertSame(invalid, cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(invalid)));
+        assertSame(invalid, cache.get(ACCOUNT, BasicInsightRequest.withNumber("123"), InsightCache.BASIC, call(null)));
+        assertEquals(1, calls.get());
+        clock.addAndGet(6 * MINUTE);
+        cache.get(ACCOUNT, request, InsightCache.ADVANCED, call(advanced(0)));
+        assertEquals(2, calls.get());
+
+        var throttled = advanced(1);
+        var other = AdvancedInsightRequest.withNumber("447700900001");
+        cache.get(ACCOUNT, other, InsightCache.ADVANCED, call(throttled));
+        cache.get(ACCOUNT, other, InsightCache.ADVANCED, call(throttled));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testBypassAndInvalidation() {
+        var async = AdvancedInsightRequest.builder("447700900000").async(true).callback("https://example.com").build();
+        var realTime = AdvancedInsightRequest.builder("447700900000").realTimeData(true).build();
+        cache.get(ACCOUNT, async, InsightCache.ADVANCED, call(advanced(0)));
+        cache.get(ACCOUNT, realTime, InsightCache.ADVANCED, call(advanced(0)));
+        assertEquals(0, cache.size());
+        assertEquals(2, calls.get());
+
+        cache.get(ACCOUNT, AdvancedInsightRequest.withNumber("447700900000"), InsightCache.ADVANCED, call(advanced(0)));
+        cache.get(ACCOUNT, StandardInsightRequest.builder("447700900000").cnam(true).build(),
+                InsightCache.STANDARD, call(StandardInsightResponse.fromJson("{\"status\":0}"))
+        );
+        assertEquals(2, cache.size());
+        cache.get(ACCOUNT, BasicInsightRequest.withNumber("447700900002"), InsightCache.BASIC, call(advanced(0)));
+        assertEquals(2, cache.size());
+        cache.invalidate("+447700900002", null);
+        assertEquals(1, cache.size());
+        clock.addAndGet(61 * MINUTE);
+        cache.purgeExpired();
+        assertEquals(0, cache.size());
+        cache.get(ACCOUNT, BasicInsightRequest.withNumber("447700900002"), InsightCache.BASIC, call(advanced(0)));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() throws Exception {
+        var release = new CountDownLatch(1);
+        var advancedResponse = advanced(0);
+        Supplier<AdvancedInsightResponse> slow = () -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            }
+            catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return advancedResponse;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            var first = executor.submit(() ->
+                    cache.get(ACCOUNT, AdvancedInsightRequest.withNumber("447700900000"), InsightCache.ADVANCED, slow)
+            );
+            while (calls.get() == 0) Thread.sleep(1);
+            var others = new java.util.ArrayList<Future<BasicInsightResponse>>();
+            for (int i = 0; i < 4; i++) {
+                others.add(executor.submit(() -> cache.get(ACCOUNT,
+                        AdvancedInsightRequest.withNumber("447700900000"), InsightCache.ADVANCED, slow
+                )));
+                others.add(executor.submit(() -> cache.get(ACCOUNT,
+                        BasicInsightRequest.withNumber("447700900000"), InsightCache.BASIC, slow
+                )));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            assertSame(advancedResponse, first.get(5, TimeUnit.SECONDS));
+            for (var other : others) {
+                assertSame(advancedResponse, other.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedHigherTierFallsBackToOwnLookup() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<AdvancedInsightResponse> failing = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            throw new VonageClientException("Insufficient credit");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            var advanced = executor.submit(() -> cache.get(ACCOUNT,
+                    AdvancedInsightRequest.withNumber("447700900000"), InsightCache.ADVANCED, failing
+            ));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            var basicResponse = BasicInsightResponse.fromJson("{\"status\":0}");
+            var basic = executor.submit(() -> cache.get(ACCOUNT,
+                    BasicInsightRequest.withNumber("447700900000"), InsightCache.BASIC, call(basicResponse)
+            ));
+            Thread.sleep(50);
+            release.countDown();
+            var ex = assertThrows(ExecutionException.class, () -> advanced.get(5, TimeUnit.SECONDS));
+            assertEquals("Insufficient credit", ex.getCause().getMessage());
+            assertSame(basicResponse, basic.get(5, TimeUnit.SECONDS));
+            assertEquals(2, calls.get());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> InsightCache.builder().maxSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> InsightCache.builder().basicTtl(Duration.ZERO).build());
+        assertThrows(NullPointerException.class, () -> InsightCache.builder().advancedTtl(null).build());
+        assertNotNull(InsightCache.builder().negativeTtl(null).build());
+    }
+}
@@ -16,7 +16,9 @@
 package com.vonage.client.insight;
 
 import com.vonage.client.AbstractClientTest;
+import com.vonage.client.HttpWrapper;
 import com.vonage.client.RestEndpoint;
+import com.vonage.client.TestUtils;
 import com.vonage.client.auth.ApiKeyHeaderAuthMethod;
 import com.vonage.client.auth.ApiKeyQueryParamsAuthMethod;
 import com.vonage.client.auth.AuthMethod;
@@ -99,6 +101,46 @@ public class InsightClientTest extends AbstractClientTest<InsightClient> {
         client = new InsightClient(wrapper);
     }
 
+    @Test
+    public void testCachedInsight() throws Exception {
+        var cache = InsightCache.builder().build();
+        client.enableCache(cache);
+        stubResponse(200, ADVANCED_RESPONSE_JSON);
+        AdvancedInsightResponse advanced = client.getAdvancedNumberInsight("447700900000");
+        stubResponse(500);
+        assertSame(advanced, client.getAdvancedNumberInsight("447700900000"));
+        assertSame(advanced, client.getStandardNumberInsight("447700900000"));
+        assertSame(advanced, client.getBasicNumberInsight("447700900000"));
+
+        var otherWrapper = new HttpWrapper(
+                new ApiKeyHeaderAuthMethod("e5f6a7b8", "secret"),
+                new ApiKeyQueryParamsAuthMethod("e5f6a7b8", "secret")
+        );
+        var otherClient = new InsightClient(otherWrapper);
+        otherClient.enableCache(cache);
+        TestUtils.stubResponse(otherWrapper, 200, ADVANCED_RESPONSE_JSON);
+        AdvancedInsightResponse otherAdvanced = otherClient.getAdvancedNumberInsight("447700900000");
+        assertNotSame(advanced, otherAdvanced);
+        assertSame(advanced, client.getAdvancedNumberInsight("447700900000"));
+
+        client.disableCache();
+        stubResponse(200, BASIC_RESPOSE_JSON);
+        assertNotSame(advanced, client.getBasicNumberInsight("447700900000"));
+        assertThrows(NullPointerException.class, () -> client.enableCache(null));
+    }
+
+    @Test
+    public void testBulkInsight() throws Exception {
+        stubResponse(200, STANDARD_RESPONSE_JSON);
+        var results = client.bulkStandardInsight().parallelism(1).build()
+                .lookup(java.util.stream.Stream.of("+44 7700 900000", "447700900000")).toList();
+        assertEquals(1, results.size());
+        assertEquals("447700900000", results.get(0).getNumber());
+        assertStandardResponse(results.get(0).getResponse());
+        assertNotNull(client.bulkBasicInsight().build());
+        assertNotNull(client.bulkAdvancedInsight().build());
+    }
+
     @Test
     public void testBasicInsightWithNumber() throws Exception {
         stubResponse(200, BASIC_RESPOSE_JSON);
@@ -156,6 +198,28 @@ public class InsightClientTest extends AbstractClientTest<InsightClient> {
         assertAsyncInsightResponse(response);
     }
 
+    @Test
+    public void testAsyncAdvancedInsightWithCorrelator() throws Exception {
+        var request = AdvancedInsightRequest.builder("447700900000").async(true).callback("https://example.com").build();
+        try (var correlator = AsyncInsightCorrelator.builder().build()) {
+            stubResponse(200, ASYNC_ADVANCED_RESPONSE_JSON);
+            var future = client.getAdvancedNumberInsightAsync(request, correlator);
+            assertFalse(future.isDone());
+            assertTrue(correlator.handleCallback(ADVANCED_RESPONSE_JSON));
+            assertAdvancedInsightResponse(future.get());
+
+            stubResponse(200, "{\"status\":1}");
+            var throttled = client.getAdvancedNumberInsightAsync(request, correlator);
+            assertEquals(InsightStatus.THROTTLED, throttled.get().getStatus());
+            assertEquals(0, correlator.getPendingCount());
+
+            assertThrows(IllegalArgumentException.class, () -> client.getAdvancedNumberInsightAsync(
+                    AdvancedInsightRequest.withNumber("447700900000"), correlator
+            ));
+            assertThrows(NullPointerException.class, () -> client.getAdvancedNumberInsightAsync(request, null));
+        }
+    }
+
     private void assertAsyncInsightResponse(AdvancedInsightResponse response) {
         assertEquals(InsightStatus.SUCCESS, response.getStatus());
         assertEquals(new BigDecimal("1.23456789"), response.getRemainingBalance());
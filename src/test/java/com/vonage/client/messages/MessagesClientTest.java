@@ -35,7 +35,10 @@ import com.vonage.client.messages.whatsapp.*;
 import com.vonage.client.users.channels.Sms;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class MessagesClientTest extends AbstractClientTest<MessagesClient> {
 	private static final String
@@ -137,6 +140,17 @@ public class MessagesClientTest extends AbstractClientTest<MessagesClient> {
 		);
 	}
 
+	@Test
+	public void testOutbox(@TempDir Path directory) throws Exception {
+		stubResponse(202, "{\"message_uuid\":\""+MESSAGE_ID+"\"}");
+		try (var outbox = client.useRegularEndpoint().outboxBuilder(directory).build()) {
+			var response = outbox.enqueue(SmsTextRequest.builder()
+					.from("447700900001").to("447700900000").text(TEXT).build()
+			).get(5, TimeUnit.SECONDS);
+			assertEquals(UUID.fromString(MESSAGE_ID), response.getMessageUuid());
+		}
+	}
+
 	@Test
 	public void testSensSmsSandboxFailure() throws Exception {
 		assertThrows(MessageResponseException.class, () -> client.useSandboxEndpoint()
@@ -196,6 +196,29 @@ public class NumbersClientTest extends AbstractClientTest<NumbersClient> {
         assertEquals(0, numbers.length);
     }
 
+    @Test
+    public void testListAllNumbers() throws Exception {
+        stubResponse(200,
+                "{\"count\":3,\"numbers\":[{\"msisdn\":\"447700900001\"},{\"msisdn\":\"447700900002\"}]}",
+                "{\"count\":3,\"numbers\":[{\"msisdn\":\"447700900003\"}]}"
+        );
+        var filter = ListNumbersFilter.builder().country("GB").size(2).build();
+        var numbers = client.listAllNumbers(filter, 1);
+        assertEquals(3, numbers.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals("44770090000" + (i + 1), numbers.get(i).getMsisdn());
+        }
+
+        var copy = filter.withPage(2, 2);
+        assertEquals(2, copy.getIndex());
+        assertEquals(2, copy.getSize());
+        assertEquals(COUNTRY, copy.getCountry());
+
+        stubResponse("{\"count\":0}");
+        assertEquals(0, client.listAllNumbers(null, 4).size());
+        assert401ResponseException(() -> client.listAllNumbers(filter, 2));
+    }
+
     @Test
     public void testSearchNumbers() throws Exception {
         var filter = SearchNumbersFilter.builder().build();
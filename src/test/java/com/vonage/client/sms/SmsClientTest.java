@@ -24,10 +24,13 @@ import com.vonage.client.sms.messages.TextMessage;
 import org.apache.commons.codec.binary.Hex;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 public class SmsClientTest extends AbstractClientTest<SmsClient> {
 
@@ -35,6 +38,19 @@ public class SmsClientTest extends AbstractClientTest<SmsClient> {
         client = new SmsClient(wrapper);
     }
 
+    @Test
+    public void testOutbox(@TempDir Path directory) throws Exception {
+        stubResponse("{\"message-count\":1,\"messages\":[{\"to\":\"447700900000\"," +
+                "\"message-id\":\"message-id-1\",\"status\":\"0\"}]}"
+        );
+        try (var outbox = client.outboxBuilder(directory).build()) {
+            var response = outbox.enqueue(new TextMessage("Nexmo", "447700900000", "Test"))
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals(1, response.getMessageCount());
+            assertEquals("message-id-1", response.getMessages().get(0).getId());
+        }
+    }
+
     @Test
     public void testSubmitMessage() throws Exception {
         stubResponse("""
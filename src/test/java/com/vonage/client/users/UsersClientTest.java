@@ -25,6 +25,9 @@ import com.vonage.client.users.channels.*;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.Executable;
+import org.apache.http.client.methods.HttpUriRequest;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 import java.net.URI;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -551,6 +554,85 @@ public class UsersClientTest extends AbstractClientTest<UsersClient> {
             assertNull(channels.getWhatsapp());
     }
 
+    @Test
+    public void testGetUserDetailsConcurrently() throws Exception {
+        String id1 = "USR-ff93b026-7371-4892-b8da-17bfc87e43a2",
+                id2 = "USR-fff5b42c-908a-412d-9d87-c2e9a7f812e7",
+                id3 = "USR-641919c2-e17f-495f-b2cf-1790dadfce38";
+        var baseUsers = List.of(new BaseUser(id1, "a"), new BaseUser(id2, "b"), new BaseUser(id3, "c"));
+
+        stubResponse(429, SAMPLE_USER, SAMPLE_USER, "{\"title\":\"Too Many Requests.\"}");
+        var result = client.getUserDetails(baseUsers, 1);
+        assertFalse(result.isSuccessful());
+        assertEquals(List.of(id1, id2), List.copyOf(result.getSuccesses().keySet()));
+        result.getSuccesses().values().forEach(UsersClientTest::assertEqualsSampleUser);
+        assertEquals(List.of(id3), List.copyOf(result.getFailures().keySet()));
+        var failure = assertInstanceOf(UsersResponseException.class, result.getFailures().get(id3));
+        assertEquals(429, failure.getStatusCode());
+
+        stubResponse(200, SAMPLE_USER);
+        assertTrue(client.getUserDetails(List.of(), 4).isSuccessful());
+        assertThrows(NullPointerException.class, () -> client.getUserDetails(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> client.getUserDetails(baseUsers, 0));
+        var invalid = client.getUserDetails(List.of(new BaseUser("invalid", null)), 2);
+        assertInstanceOf(IllegalArgumentException.class, invalid.getFailures().get("invalid"));
+    }
+
+    @Test
+    public void testUserCache() throws Exception {
+        client.enableUserCache(java.time.Duration.ofMinutes(5), 100);
+        stubResponse(200, SAMPLE_USER);
+        User cached = client.getUser(SAMPLE_USER_ID);
+        assertEqualsSampleUser(cached);
+
+        stubResponse(500);
+        User copy = client.getUser(SAMPLE_USER_ID);
+        assertNotSame(cached, copy);
+        assertEquals(cached, copy);
+        assertEquals(cached, client.getUserDetails(List.of(cached), 2).getSuccesses().get(SAMPLE_USER_ID));
+        copy.id = "USR-00000000-0000-4000-8000-000000000000";
+        assertEqualsSampleUser(client.getUser(SAMPLE_USER_ID));
+
+        stubResponse(200, SAMPLE_USER);
+        client.updateUser(SAMPLE_USER_ID, User.builder().displayName("Updated").build());
+        stubResponse(200, SAMPLE_USER);
+        User refreshed = client.getUser(SAMPLE_USER_ID);
+        assertNotSame(cached, refreshed);
+        assertEqualsSampleUser(refreshed);
+
+        stubResponse(204);
+        client.deleteUser(SAMPLE_USER_ID);
+        stubResponse(404, "{\"title\":\"Not found\"}");
+        assertThrows(UsersResponseException.class, () -> client.getUser(SAMPLE_USER_ID));
+
+        client.disableUserCache();
+        stubResponse(200, SAMPLE_USER);
+        User uncached = client.getUser(SAMPLE_USER_ID);
+        stubResponse(200, SAMPLE_USER);
+        assertNotSame(uncached, client.getUser(SAMPLE_USER_ID));
+        assertThrows(IllegalArgumentException.class, () -> client.enableUserCache(java.time.Duration.ZERO, 1));
+    }
+
+    @Test
+    public void testUserCacheIgnoresLookupInvalidatedWhilstInFlight() throws Exception {
+        client.enableUserCache(java.time.Duration.ofMinutes(5), 100);
+        var httpClient = TestUtils.stubHttpClient(200, SAMPLE_USER);
+        var response = httpClient.execute(mock(HttpUriRequest.class));
+        when(httpClient.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            client.invalidateCachedUser(SAMPLE_USER_ID);
+            return response;
+        });
+        wrapper.setHttpClient(httpClient);
+        assertEqualsSampleUser(client.getUser(SAMPLE_USER_ID));
+        stubResponse(500);
+        assertThrows(UsersResponseException.class, () -> client.getUser(SAMPLE_USER_ID));
+
+        stubResponse(200, SAMPLE_USER);
+        assertEqualsSampleUser(client.getUser(SAMPLE_USER_ID));
+        stubResponse(500);
+        assertEqualsSampleUser(client.getUser(SAMPLE_USER_ID));
+    }
+
     @Test
     public void testListUsersEndpoint() throws Exception {
         new UserEndpointTestSpec<ListUsersRequest, ListUsersResponse>() {
@@ -22,10 +22,8 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class VerifyClientSearchEndpointTest extends AbstractClientTest<VerifyClient> {
 
@@ -251,6 +249,43 @@ public class VerifyClientSearchEndpointTest extends AbstractClientTest<VerifyCli
         assertEquals(accountId+"3", requests.get(2).getAccountId());
     }
 
+    static String searchResults(int from, int to) {
+        StringJoiner json = new StringJoiner(",", "{\"verification_requests\":[", "]}");
+        for (int i = from; i < to; i++) {
+            json.add("{\"request_id\":\"request-id-" + i + "\"}");
+        }
+        return json.toString();
+    }
+
+    @Test
+    public void testSearchAll() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            ids.add("request-id-" + i);
+        }
+        ids.add("request-id-3");
+        stubResponse(200, searchResults(0, 10), searchResults(10, 20),
+                "{\"request_id\":\"\",\"status\":\"101\",\"error_text\":\"No response found\"}"
+        );
+        Set<String> found = client.searchAll(ids, 1).map(VerifyDetails::getRequestId).collect(Collectors.toSet());
+        assertEquals(20, found.size());
+        assertTrue(found.contains("request-id-19"));
+        assertFalse(found.contains("request-id-20"));
+
+        stubResponse(200, searchResults(0, 10), searchResults(10, 20));
+        assertEquals(20, client.searchAll(ids.subList(0, 20), 2).count());
+        assertEquals(0, client.searchAll(Collections.emptyList(), 1).count());
+
+        stubResponse(200, searchResults(0, 10), "{\"status\":\"1\",\"error_text\":\"Throttled\"}");
+        var ex = assertThrows(VerifyException.class, () -> client.searchAll(ids, 1).count());
+        assertEquals("1", ex.getStatus());
+        assertEquals("Throttled", ex.getErrorText());
+
+        assertThrows(NullPointerException.class, () -> client.searchAll(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> client.searchAll(Arrays.asList("a", null), 1));
+        assertThrows(IllegalArgumentException.class, () -> client.searchAll(ids, 0));
+    }
+
     @Test
     public void testNoSearchRequests() throws Exception {
         assertThrows(IllegalArgumentException.class, client::search);
@@ -0,0 +1,173 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.verify2;
+
+import com.vonage.client.HttpWrapper;
+import com.vonage.client.Jsonable;
+import com.vonage.client.auth.JWTAuthMethod;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TemplateCacheTest {
+	final Map<UUID, String> templates = new ConcurrentHashMap<>();
+	final Map<UUID, List<String>> fragments = new ConcurrentHashMap<>();
+	final AtomicInteger templateLists = new AtomicInteger(), fragmentLists = new AtomicInteger();
+	volatile RuntimeException failure;
+
+	final Verify2Client client = new Verify2Client(new HttpWrapper(new JWTAuthMethod(UUID.randomUUID().toString(), new byte[0]))) {
+		@Override
+		ListTemplatesResponse listTemplates(Integer page, Integer pageSize) {
+			templateLists.incrementAndGet();
+			if (failure != null) throw failure;
+			StringJoiner json = new StringJoiner(",", "{\"_embedded\":{\"templates\":[", "]}}");
+			templates.forEach((id, name) -> json.add(
+					"{\"template_id\":\"" + id + "\",\"name\":\"" + name + "\",\"is_default\":" + name.equals("default") + "}"
+			));
+			return Jsonable.fromJson(json.toString(), ListTemplatesResponse.class);
+		}
+
+		@Override
+		ListTemplateFragmentsResponse listTemplateFragments(UUID templateId, Integer page, Integer pageSize) {
+			fragmentLists.incrementAndGet();
+			StringJoiner json = new StringJoiner(",", "{\"_embedded\":{\"template_fragments\":[", "]}}");
+			fragments.getOrDefault(templateId, List.of()).forEach(json::add);
+			return Jsonable.fromJson(json.toString(), ListTemplateFragmentsResponse.class);
+		}
+	};
+
+	UUID addTemplate(String name, String... channelLocales) {
+		UUID id = UUID.randomUUID();
+		List<String> list = new ArrayList<>();
+		for (String channelLocale : channelLocales) {
+			String[] parts = channelLocale.split(":");
+			list.add("{\"template_fragment_id\":\"" + UUID.randomUUID() + "\",\"channel\":\"" + parts[0] +
+					"\",\"locale\":\"" + parts[1] + "\",\"text\":\"" + name + " " + channelLocale + "\"}");
+		}
+		fragments.put(id, list);
+		templates.put(id, name);
+		return id;
+	}
+
+	@Test
+	public void testIndexes() {
+		UUID defaultId = addTemplate("default", "sms:en-us", "voice:en-us", "sms:de-de"),
+				otherId = addTemplate("other", "voice:fr-fr");
+		try (var cache = TemplateCache.builder(client).refreshInterval(null).build()) {
+			assertEquals(0, cache.getLoadCount());
+			assertEquals(2, cache.getTemplates().size());
+			assertEquals("other", cache.getTemplate(otherId).getName());
+			assertEquals(defaultId, cache.getTemplate("default").getId());
+			assertEquals(defaultId, cache.getDefaultTemplate().getId());
+			assertNull(cache.getTemplate("missing"));
+			assertNull(cache.getTemplate(UUID.randomUUID()));
+
+			assertEquals(3, cache.getTemplateFragments(defaultId).size());
+			assertTrue(cache.getTemplateFragments(UUID.randomUUID()).isEmpty());
+			var fragment = cache.getTemplateFragment(defaultId, FragmentChannel.SMS, "de_DE");
+			assertEquals("default sms:de-de", fragment.getText());
+			assertSame(fragment, cache.getTemplateFragment(defaultId, fragment.getFragmentId()));
+			assertEquals("other voice:fr-fr", cache.getTemplateFragment(otherId, FragmentChannel.VOICE, "fr-FR").getText());
+			assertNull(cache.getTemplateFragment(otherId, FragmentChannel.SMS, "fr-fr"));
+			assertNull(cache.getTemplateFragment(otherId, UUID.randomUUID()));
+			assertThrows(UnsupportedOperationException.class, () -> cache.getTemplates().clear());
+
+			assertEquals(1, cache.getLoadCount());
+			assertEquals(1, templateLists.get());
+			assertEquals(2, fragmentLists.get());
+		}
+	}
+
+	@Test
+	public void testInvalidateAndRefresh() {
+		addTemplate("first", "sms:en-gb");
+		try (var cache = TemplateCache.builder(client).refreshInterval(null).build()) {
+			assertEquals(1, cache.getTemplates().size());
+			addTemplate("second");
+			assertEquals(1, cache.getTemplates().size());
+			cache.invalidate();
+			assertEquals(2, cache.getTemplates().size());
+			addTemplate("third");
+			cache.refresh();
+			assertNotNull(cache.getTemplate("third"));
+			assertEquals(3, cache.getLoadCount());
+		}
+	}
+
+	@Test
+	public void testBackgroundRefresh() throws Exception {
+		addTemplate("first");
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try (var cache = TemplateCache.builder(client).refreshInterval(Duration.ofMillis(20)).scheduler(scheduler).build()) {
+			assertEquals(1, cache.getTemplates().size());
+			failure = new IllegalStateException("Unavailable");
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (cache.getLastRefreshFailure() == null) {
+				assertTrue(System.nanoTime() < deadline);
+				Thread.sleep(5);
+			}
+			assertEquals(1, cache.getTemplates().size());
+
+			addTemplate("second");
+			failure = null;
+			while (cache.getTemplates().size() < 2) {
+				assertTrue(System.nanoTime() < deadline);
+				Thread.sleep(5);
+			}
+			assertNull(cache.getLastRefreshFailure());
+		}
+		finally {
+			assertFalse(scheduler.isShutdown());
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentLoadsCoalesced() throws Exception {
+		addTemplate("only", "sms:en-us");
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try (var cache = TemplateCache.builder(client).refreshInterval(null).build()) {
+			List<Future<Template>> futures = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				futures.add(executor.submit(() -> cache.getTemplate("only")));
+			}
+			for (var future : futures) {
+				assertEquals("only", future.get(5, TimeUnit.SECONDS).getName());
+			}
+			assertTrue(cache.getLoadCount() < 16);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(NullPointerException.class, () -> TemplateCache.builder(null).build());
+		assertThrows(IllegalArgumentException.class, () ->
+				TemplateCache.builder(client).refreshInterval(Duration.ZERO).build()
+		);
+		try (var cache = TemplateCache.builder(client).build()) {
+			assertThrows(NullPointerException.class, () -> cache.getTemplateFragment(UUID.randomUUID(), null, "en"));
+			assertThrows(NullPointerException.class, () ->
+					cache.getTemplateFragment(UUID.randomUUID(), FragmentChannel.SMS, null)
+			);
+		}
+	}
+}
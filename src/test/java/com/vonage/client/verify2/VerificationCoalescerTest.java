@@ -0,0 +1,174 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.verify2;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class VerificationCoalescerTest {
+	static final String SENDER = "a1b2c3d4";
+
+	final AtomicLong clock = new AtomicLong();
+	final AtomicInteger calls = new AtomicInteger();
+
+	VerificationCoalescer.Builder builder() {
+		return VerificationCoalescer.builder().clock(clock::get);
+	}
+
+	static VerificationRequest request(String brand, Workflow... workflows) {
+		return VerificationRequest.builder().brand(brand).workflows(List.of(workflows)).build();
+	}
+
+	VerificationResponse respond() {
+		calls.incrementAndGet();
+		return VerificationResponse.fromJson("{\"request_id\":\"" + UUID.randomUUID() + "\"}");
+	}
+
+	@Test
+	public void testNormalisedKeys() {
+		assertEquals(
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("447700900000"))),
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("+44 7700-900000")))
+		);
+		assertEquals("447700900000", VerificationCoalescer.normaliseRecipient("voice", "(44) 7700 900000"));
+		assertEquals(
+				VerificationCoalescer.key(SENDER, request("Acme", new EmailWorkflow(" Alice@Example.com"))),
+				VerificationCoalescer.key(SENDER, request("Acme", new EmailWorkflow("alice@example.com")))
+		);
+		assertNotEquals(
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("447700900000"))),
+				VerificationCoalescer.key(SENDER, request("Acme", new VoiceWorkflow("447700900000")))
+		);
+		assertNotEquals(
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("447700900000"))),
+				VerificationCoalescer.key(SENDER, request("Other", new SmsWorkflow("447700900000")))
+		);
+		assertNotEquals(
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("447700900000"))),
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("447700900001")))
+		);
+		assertNotEquals(
+				VerificationCoalescer.key(SENDER, request("Acme", new SmsWorkflow("447700900000"))),
+				VerificationCoalescer.key("e5f6a7b8", request("Acme", new SmsWorkflow("447700900000")))
+		);
+	}
+
+	@Test
+	public void testSendersAreIsolated() {
+		var coalescer = builder().build();
+		var request = request("Acme", new SmsWorkflow("447700900000"));
+		var first = coalescer.send(SENDER, request, this::respond);
+		var other = coalescer.send("e5f6a7b8", request, this::respond);
+		assertNotSame(first, other);
+		assertSame(first, coalescer.send(SENDER, request, this::respond));
+		assertSame(other, coalescer.send("e5f6a7b8", request, this::respond));
+		assertEquals(2, calls.get());
+
+		coalescer.invalidate(request);
+		coalescer.send(SENDER, request, this::respond);
+		coalescer.send("e5f6a7b8", request, this::respond);
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	public void testConcurrentRequestsShareOneCall() throws Exception {
+		var coalescer = builder().build();
+		CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<VerificationResponse>> futures = new ArrayList<>();
+			futures.add(executor.submit(() -> coalescer.send(SENDER, request("Acme", new SmsWorkflow("447700900000")), () -> {
+				started.countDown();
+				try {
+					release.await();
+				}
+				catch (InterruptedException ex) {
+					throw new IllegalStateException(ex);
+				}
+				return respond();
+			})));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			for (int i = 0; i < 7; i++) {
+				futures.add(executor.submit(() ->
+						coalescer.send(SENDER, request("Acme", new SmsWorkflow("+447700900000")), this::respond)
+				));
+			}
+			Thread.sleep(50);
+			release.countDown();
+			var first = futures.get(0).get(5, TimeUnit.SECONDS);
+			for (var future : futures) {
+				assertSame(first, future.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, calls.get());
+			assertEquals(1, coalescer.getSentCount());
+			assertEquals(7, coalescer.getCoalescedCount());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDedupeWindow() {
+		var coalescer = builder().dedupeWindow(Duration.ofSeconds(3)).build();
+		var request = request("Acme", new WhatsappWorkflow("447700900000", "447700900001"));
+		var first = coalescer.send(SENDER, request, this::respond);
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+		assertSame(first, coalescer.send(SENDER, request, this::respond));
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		var second = coalescer.send(SENDER, request, this::respond);
+		assertNotSame(first, second);
+		assertEquals(2, calls.get());
+
+		coalescer.invalidate(request);
+		assertNotSame(second, coalescer.send(SENDER, request, this::respond));
+		coalescer.invalidateAll();
+		coalescer.send(SENDER, request, this::respond);
+		assertEquals(4, calls.get());
+		assertEquals(1, coalescer.getCoalescedCount());
+	}
+
+	@Test
+	public void testZeroWindowAndFailuresNotRetained() {
+		var coalescer = builder().dedupeWindow(Duration.ZERO).build();
+		var request = request("Acme", new SmsWorkflow("447700900000"));
+		coalescer.send(SENDER, request, this::respond);
+		coalescer.send(SENDER, request, this::respond);
+		assertEquals(2, calls.get());
+
+		var windowed = builder().build();
+		assertThrows(IllegalStateException.class, () -> windowed.send(SENDER, request, () -> {
+			throw new IllegalStateException("409");
+		}));
+		windowed.send(SENDER, request, this::respond);
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(NullPointerException.class, () -> builder().dedupeWindow(null).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().dedupeWindow(Duration.ofSeconds(-1)).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().maxSize(0).build());
+		assertThrows(NullPointerException.class, () -> builder().build().invalidate(null));
+	}
+}
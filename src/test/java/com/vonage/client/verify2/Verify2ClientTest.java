@@ -159,6 +159,21 @@ public class Verify2ClientTest extends AbstractClientTest<Verify2Client> {
 		);
 	}
 
+	@Test
+	public void testVerifyUserCoalescing() throws Exception {
+		client.enableCoalescing(VerificationCoalescer.builder().build());
+		stubResponse(202, VERIFICATION_RESPONSE);
+		var first = client.sendVerification(newVerificationRequestWithAllParamsAndWorkflows());
+		stubResponse(409);
+		assertSame(first, client.sendVerification(newVerificationRequestWithAllParamsAndWorkflows()));
+
+		client.disableCoalescing();
+		assertThrows(VerifyResponseException.class, () ->
+				client.sendVerification(newVerificationRequestWithAllParamsAndWorkflows())
+		);
+		assertThrows(NullPointerException.class, () -> client.enableCoalescing(null));
+	}
+
 	@Test
 	public void testVerifyUser429() throws Exception {
 		assert429ResponseException(() -> client.sendVerification(newVerificationRequestWithAllParamsAndWorkflows()));
@@ -498,6 +513,35 @@ public class Verify2ClientTest extends AbstractClientTest<Verify2Client> {
 		.runTests();
 	}
 
+	@Test
+	public void testTemplateCache() throws Exception {
+		try (var cache = TemplateCache.builder(client).refreshInterval(null).build()) {
+			client.enableTemplateCache(cache);
+			stubResponse(200,
+					"{\"_embedded\":{\"templates\":[" + TEMPLATE_RESPONSE + "]}}",
+					"{\"_embedded\":{\"template_fragments\":[" + FRAGMENT_RESPONSE + "]}}"
+			);
+			assertEqualsSampleTemplate(client.getTemplate(TEMPLATE_ID));
+			stubResponse(500);
+			assertEquals(1, client.listTemplates().size());
+			assertEqualsSampleFragment(client.getTemplateFragment(TEMPLATE_ID, FRAGMENT_ID));
+			assertEquals(1, client.listTemplateFragments(TEMPLATE_ID).size());
+			assertEqualsSampleFragment(cache.getTemplateFragment(TEMPLATE_ID, FragmentChannel.SMS, "EN-US"));
+			assertEquals(1, cache.getLoadCount());
+
+			stubResponseAndRun(204, () -> client.deleteTemplate(TEMPLATE_ID));
+			stubResponse(200, EMPTY_HAL_RESPONSE);
+			assertTrue(client.listTemplates().isEmpty());
+			assertEquals(2, cache.getLoadCount());
+
+			client.disableTemplateCache();
+			assertThrows(IllegalArgumentException.class, () -> client.enableTemplateCache(
+					TemplateCache.builder(new Verify2Client(wrapper)).refreshInterval(null).build()
+			));
+			assertThrows(NullPointerException.class, () -> client.enableTemplateCache(null));
+		}
+	}
+
 	@Test
 	public void testDeleteTemplateSuccess() throws Exception {
 		stubResponseAndRun(204, () -> client.deleteTemplate(TEMPLATE_ID));
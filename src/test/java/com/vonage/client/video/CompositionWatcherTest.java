@@ -0,0 +1,285 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.video;
+
+import com.vonage.client.HttpWrapper;
+import com.vonage.client.Jsonable;
+import com.vonage.client.VonageClientException;
+import com.vonage.client.auth.JWTAuthMethod;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CompositionWatcherTest {
+	static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+	final Map<String, String> archiveStatuses = new ConcurrentHashMap<>(), renderStatuses = new ConcurrentHashMap<>(),
+			broadcastStatuses = new ConcurrentHashMap<>();
+	final AtomicInteger gets = new AtomicInteger(), lists = new AtomicInteger();
+	final AtomicLong clock = new AtomicLong();
+	final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	volatile RuntimeException error;
+
+	final VideoClient client = new VideoClient(new HttpWrapper(new JWTAuthMethod(UUID.randomUUID().toString(), new byte[0]))) {
+		@Override
+		public Archive getArchive(String archiveId) {
+			gets.incrementAndGet();
+			if (error != null) throw error;
+			return archive(archiveId, archiveStatuses.get(archiveId));
+		}
+
+		@Override
+		public List<Archive> listArchives(ListStreamCompositionsRequest request) {
+			lists.incrementAndGet();
+			List<Archive> result = new ArrayList<>();
+			archiveStatuses.forEach((id, status) -> result.add(archive(id, status)));
+			return result;
+		}
+
+		@Override
+		public Broadcast getBroadcast(String broadcastId) {
+			gets.incrementAndGet();
+			return Broadcast.fromJson(
+					"{\"id\":\"" + broadcastId + "\",\"status\":\"" + broadcastStatuses.get(broadcastId) + "\"}"
+			);
+		}
+
+		@Override
+		public RenderResponse getRender(String renderId) {
+			gets.incrementAndGet();
+			return Jsonable.fromJson(
+					"{\"id\":\"" + renderId + "\",\"status\":\"" + renderStatuses.get(renderId) + "\"}",
+					RenderResponse.class
+			);
+		}
+	};
+
+	static Archive archive(String id, String status) {
+		return Archive.fromJson("{\"id\":\"" + id + "\",\"status\":\"" + status + "\"}");
+	}
+
+	String addArchive(String status) {
+		String id = UUID.randomUUID().toString();
+		archiveStatuses.put(id, status);
+		return id;
+	}
+
+	CompositionWatcher.Builder builder() {
+		return CompositionWatcher.builder(client).clock(clock::get)
+				.initialInterval(Duration.ofMinutes(1)).maxInterval(Duration.ofMinutes(8))
+				.backoffMultiplier(2).timeout(Duration.ofHours(1)).scheduler(scheduler);
+	}
+
+	void advance(CompositionWatcher watcher, long nanos) {
+		clock.addAndGet(nanos);
+		watcher.poll();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void testCoalescedWaitersShareRequests() throws Exception {
+		String id = addArchive("started");
+		try (var watcher = builder().listThreshold(0).build()) {
+			var available = watcher.awaitArchive(id, ArchiveStatus.AVAILABLE);
+			var stopped = watcher.awaitArchive(id.toUpperCase(), ArchiveStatus.STOPPED, ArchiveStatus.AVAILABLE);
+			assertEquals(1, watcher.getWatchedCount());
+
+			watcher.poll();
+			assertEquals(1, gets.get());
+			assertFalse(available.isDone());
+
+			archiveStatuses.put(id, "stopped");
+			advance(watcher, MINUTE);
+			assertEquals(2, gets.get());
+			assertEquals(ArchiveStatus.STOPPED, stopped.get(1, TimeUnit.MINUTES).getStatus());
+			assertFalse(available.isDone());
+
+			// A late waiter whose target has already been observed completes without a request
+			assertTrue(watcher.awaitArchive(id, ArchiveStatus.STOPPED).isDone());
+
+			archiveStatuses.put(id, "available");
+			advance(watcher, MINUTE);
+			assertEquals(UUID.fromString(id), available.get(1, TimeUnit.MINUTES).getId());
+			assertEquals(3, watcher.getRequestCount());
+			assertEquals(0, watcher.getWatchedCount());
+		}
+	}
+
+	@Test
+	public void testAdaptiveBackoff() throws Exception {
+		String id = addArchive("started");
+		try (var watcher = builder().listThreshold(0).build()) {
+			var future = watcher.awaitArchive(id, ArchiveStatus.AVAILABLE);
+			// Polls at 0, 1, 3, 7, 15 and 23 minutes whilst unchanged
+			for (int minute = 0; minute <= 30; minute++) {
+				watcher.poll();
+				clock.addAndGet(MINUTE);
+			}
+			assertEquals(1 + 1 + 1 + 1 + 1 + 1, gets.get());
+
+			archiveStatuses.put(id, "stopped");
+			advance(watcher, 8 * MINUTE);
+			int afterChange = gets.get();
+			archiveStatuses.put(id, "available");
+			advance(watcher, MINUTE);
+			assertEquals(afterChange + 1, gets.get());
+			assertTrue(future.isDone());
+		}
+	}
+
+	@Test
+	public void testListBatching() throws Exception {
+		List<String> ids = new ArrayList<>();
+		List<CompletableFuture<Archive>> futures = new ArrayList<>();
+		try (var watcher = builder().listThreshold(5).build()) {
+			for (int i = 0; i < 200; i++) {
+				String id = addArchive("started");
+				ids.add(id);
+				futures.add(watcher.awaitArchive(id, ArchiveStatus.AVAILABLE));
+			}
+			String missing = UUID.randomUUID().toString();
+			var unlisted = watcher.awaitArchive(missing, ArchiveStatus.AVAILABLE);
+			assertEquals(201, watcher.getWatchedCount());
+
+			watcher.poll();
+			assertEquals(1, lists.get());
+			assertEquals(1, gets.get());
+
+			ids.forEach(id -> archiveStatuses.put(id, "available"));
+			advance(watcher, 2 * MINUTE);
+			assertEquals(2, lists.get());
+			for (var future : futures) {
+				assertEquals(ArchiveStatus.AVAILABLE, future.get(1, TimeUnit.MINUTES).getStatus());
+			}
+			assertFalse(unlisted.isDone());
+			assertEquals(1, watcher.getWatchedCount());
+			assertEquals(4, watcher.getRequestCount());
+		}
+	}
+
+	@Test
+	public void testFailureStatus() throws Exception {
+		String archiveId = addArchive("failed"), renderId = UUID.randomUUID().toString();
+		renderStatuses.put(renderId, "failed");
+		try (var watcher = builder().build()) {
+			var archive = watcher.awaitArchive(archiveId, ArchiveStatus.AVAILABLE);
+			var expected = watcher.awaitArchive(archiveId, ArchiveStatus.FAILED);
+			var render = watcher.awaitRender(renderId, RenderStatus.STARTED);
+			watcher.poll();
+
+			var ex = assertThrows(ExecutionException.class, () -> archive.get(1, TimeUnit.MINUTES));
+			assertInstanceOf(VonageClientException.class, ex.getCause());
+			assertTrue(ex.getCause().getMessage().contains(archiveId));
+			assertEquals(ArchiveStatus.FAILED, expected.get().getStatus());
+			assertInstanceOf(VonageClientException.class,
+					assertThrows(ExecutionException.class, render::get).getCause()
+			);
+		}
+	}
+
+	@Test
+	public void testTerminalStatusWithoutTarget() throws Exception {
+		String broadcastId = UUID.randomUUID().toString(), renderId = UUID.randomUUID().toString(),
+				stoppedArchiveId = addArchive("stopped"), uploadedArchiveId = addArchive("uploaded");
+		broadcastStatuses.put(broadcastId, "stopped");
+		renderStatuses.put(renderId, "stopped");
+		try (var watcher = builder().listThreshold(0).build()) {
+			var broadcast = watcher.awaitBroadcast(broadcastId, BroadcastStatus.STARTED);
+			var render = watcher.awaitRender(renderId, RenderStatus.STARTED);
+			var stoppedArchive = watcher.awaitArchive(stoppedArchiveId, ArchiveStatus.STARTED);
+			var pendingArchive = watcher.awaitArchive(stoppedArchiveId, ArchiveStatus.AVAILABLE);
+			var uploadedArchive = watcher.awaitArchive(uploadedArchiveId, ArchiveStatus.AVAILABLE);
+			watcher.poll();
+
+			for (var future : List.of(broadcast, render, stoppedArchive, uploadedArchive)) {
+				var ex = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.MINUTES));
+				assertInstanceOf(VonageClientException.class, ex.getCause());
+			}
+			assertTrue(broadcast.handle((b, ex) -> ex.getMessage()).get().contains(broadcastId));
+			assertFalse(pendingArchive.isDone());
+
+			archiveStatuses.put(stoppedArchiveId, "available");
+			advance(watcher, MINUTE);
+			assertEquals(ArchiveStatus.AVAILABLE, pendingArchive.get(1, TimeUnit.MINUTES).getStatus());
+			assertEquals(0, watcher.getWatchedCount());
+		}
+	}
+
+	@Test
+	public void testErrors() throws Exception {
+		String id = addArchive("started");
+		try (var watcher = builder().listThreshold(0).build()) {
+			var future = watcher.awaitArchive(id, ArchiveStatus.AVAILABLE);
+			VideoResponseException transientError = VideoResponseException.fromJson("{}");
+			transientError.setStatusCode(503);
+			error = transientError;
+			watcher.poll();
+			assertFalse(future.isDone());
+
+			VideoResponseException notFound = VideoResponseException.fromJson("{}");
+			notFound.setStatusCode(404);
+			error = notFound;
+			advance(watcher, 2 * MINUTE);
+			var ex = assertThrows(ExecutionException.class, future::get);
+			assertSame(notFound, ex.getCause());
+			assertEquals(0, watcher.getWatchedCount());
+		}
+	}
+
+	@Test
+	public void testTimeoutAndCancellation() throws Exception {
+		String id = addArchive("started");
+		try (var watcher = builder().build()) {
+			var timingOut = watcher.awaitArchive(id, ArchiveStatus.AVAILABLE);
+			var cancelled = watcher.awaitArchive(addArchive("started"), ArchiveStatus.AVAILABLE);
+			cancelled.cancel(false);
+			watcher.poll();
+			assertEquals(1, watcher.getWatchedCount());
+			assertEquals(1, gets.get());
+
+			advance(watcher, 60 * MINUTE);
+			var ex = assertThrows(ExecutionException.class, timingOut::get);
+			assertInstanceOf(TimeoutException.class, ex.getCause());
+			assertEquals(0, watcher.getWatchedCount());
+		}
+	}
+
+	@Test
+	public void testCloseAndInvalidArguments() {
+		var watcher = CompositionWatcher.builder(client).build();
+		assertThrows(IllegalArgumentException.class, () -> watcher.awaitArchive(" "));
+		assertThrows(IllegalArgumentException.class, () -> watcher.awaitBroadcast(UUID.randomUUID().toString()));
+		var future = watcher.awaitBroadcast(UUID.randomUUID().toString(), BroadcastStatus.STARTED);
+		watcher.close();
+		assertTrue(future.isCancelled());
+		assertThrows(IllegalStateException.class, () -> watcher.awaitRender("id", RenderStatus.STARTED));
+
+		assertThrows(NullPointerException.class, () -> CompositionWatcher.builder(null).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().initialInterval(Duration.ZERO).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().maxInterval(Duration.ofMillis(1)).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().timeout(null).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().backoffMultiplier(0.5).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().listThreshold(-1).build());
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.video;
+
+import com.vonage.client.HttpWrapper;
+import com.vonage.client.TestUtils;
+import com.vonage.client.auth.JWTAuthMethod;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the throughput of {@link VideoClient#generateTokens(String, TokenOptions, int)} with calling
+ * {@link VideoClient#generateToken(String, TokenOptions)} for each token. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class TokenGenerationBenchmark {
+	static final int WARMUP = 2_000, TOKENS = 10_000;
+
+	@Test
+	public void benchmarkThroughput() throws Exception {
+		var client = new VideoClient(new HttpWrapper(new JWTAuthMethod(
+				VideoClientTest.applicationId, new TestUtils().loadKey("test/keys/application_key")
+		)));
+		var options = TokenOptions.builder().role(Role.SUBSCRIBER).data("webinar").build();
+		String sessionId = VideoClientTest.sessionId;
+
+		for (int i = 0; i < WARMUP; i++) {
+			client.generateToken(sessionId, options);
+		}
+		assertEquals(WARMUP, client.generateTokens(sessionId, options, WARMUP).size());
+
+		long start = System.nanoTime();
+		for (int i = 0; i < TOKENS; i++) {
+			client.generateToken(sessionId, options);
+		}
+		long sequentialNanos = System.nanoTime() - start;
+		start = System.nanoTime();
+		assertEquals(TOKENS, client.generateTokens(sessionId, options, TOKENS).size());
+		long batchNanos = System.nanoTime() - start;
+
+		System.out.printf("Video token minting throughput: generateToken=%.0f/s, generateTokens=%.0f/s%n",
+				TOKENS * 1e9 / sequentialNanos, TOKENS * 1e9 / batchNanos
+		);
+	}
+}
@@ -19,6 +19,7 @@ import com.vonage.client.*;
 import static com.vonage.client.OrderedMap.entry;
 import static com.vonage.client.TestUtils.*;
 import com.vonage.client.auth.JWTAuthMethod;
+import com.vonage.client.common.BatchExecutor;
 import com.vonage.client.common.HttpMethod;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.*;
@@ -27,6 +28,7 @@ import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class VideoClientTest extends AbstractClientTest<VideoClient> {
@@ -625,6 +627,36 @@ public class VideoClientTest extends AbstractClientTest<VideoClient> {
 		stubResponseAndAssertThrowsVideoException(403, responseJson, () -> client.listArchives());
 	}
 
+	@Test
+	public void testListAllCompositions() throws Exception {
+		String idPrefix = "b40ef09b-3811-4726-b508-e41a0f96c68";
+		String page1 = "{\"count\":3,\"items\":[{\"id\":\"" + idPrefix + "1\"},{\"id\":\"" + idPrefix + "2\"}]}",
+				page2 = "{\"count\":3,\"items\":[{\"id\":\"" + idPrefix + "3\"}]}";
+		var request = ListStreamCompositionsRequest.builder().count(2).build();
+		Function<List<? extends StreamComposition>, List<String>> ids = items -> items.stream()
+				.map(item -> item.getId().toString()).toList();
+		var expectedIds = List.of(idPrefix + 1, idPrefix + 2, idPrefix + 3);
+
+		stubResponse(200, page1, page2);
+		assertEquals(expectedIds, ids.apply(client.listAllArchives(request, 1)));
+		stubResponse(200, page1, page2);
+		assertEquals(expectedIds, ids.apply(client.listAllBroadcasts(request, 1)));
+		stubResponse(200, page1, page2);
+		assertEquals(expectedIds, client.listAllRenders(request, 1).stream()
+				.map(render -> render.getId().toString()).toList());
+
+		stubResponse(200, "{\"count\":0,\"items\":[]}");
+		assertEquals(0, client.listAllArchives(null, 4).size());
+		stubResponse(200, "{\"count\":0}");
+		assertEquals(0, client.listAllRenders(null, 4).size());
+
+		String error = "{\"code\":403,\"message\":\"Authentication error\"}";
+		stubResponse(403, page1, error);
+		assertThrows(VideoResponseException.class, () -> client.listAllArchives(request, 1));
+		stubResponseAndAssertThrowsVideoException(403, error, () -> client.listAllBroadcasts(request, 2));
+		stubResponseAndAssertThrowsVideoException(403, error, () -> client.listAllRenders(null, 2));
+	}
+
 	@Test
 	public void testCreateArchive() throws Exception {
 		Archive request = Archive.builder(sessionId).build();
@@ -912,6 +944,95 @@ public class VideoClientTest extends AbstractClientTest<VideoClient> {
 		assertTrue((iat + 700) < exp);
 	}
 
+	@Test
+	public void testFanOut() throws Exception {
+		var executor = BatchExecutor.withParallelism(1);
+		String second = UUID.randomUUID().toString(), third = UUID.randomUUID().toString();
+		var ids = List.of(connectionId, "not-a-uuid", second, third);
+		String errorJson = "{\"code\":404,\"message\":\"Not found\"}";
+		SignalRequest signalRequest = SignalRequest.builder().data("d").type("t").build();
+
+		stubResponse(404, "", "", errorJson);
+		var result = client.signal(sessionId, ids, signalRequest, executor);
+		assertEquals(List.of(connectionId, second), List.copyOf(result.getSuccesses().keySet()));
+		assertEquals(List.of("not-a-uuid", third), List.copyOf(result.getFailures().keySet()));
+		assertInstanceOf(IllegalArgumentException.class, result.getFailures().get("not-a-uuid"));
+		assertEquals(404, assertInstanceOf(VideoResponseException.class, result.getFailures().get(third)).getStatusCode());
+		assertNull(signalRequest.connectionId);
+
+		stubResponse(204);
+		assertTrue(client.forceDisconnect(sessionId, List.of(connectionId, second), executor).isSuccessful());
+		stubResponse(204);
+		assertTrue(client.muteStream(sessionId, List.of(streamId), executor).isSuccessful());
+		stubResponse(204);
+		var dtmf = client.sendDtmf(sessionId, List.of(connectionId, second), "1p2#", executor);
+		assertEquals(2, dtmf.getSuccesses().size());
+		assertTrue(client.forceDisconnect(sessionId, List.of(), executor).isSuccessful());
+
+		assertThrows(IllegalArgumentException.class, () -> client.sendDtmf(sessionId, ids, "xyz", executor));
+		assertThrows(IllegalArgumentException.class, () -> client.signal(null, ids, signalRequest, executor));
+		assertThrows(IllegalArgumentException.class, () -> client.muteStream(null, ids, executor));
+		assertThrows(NullPointerException.class, () -> client.forceDisconnect(sessionId, null, executor));
+		assertThrows(NullPointerException.class, () -> client.forceDisconnect(sessionId, ids, null));
+	}
+
+	@Test
+	public void testGenerateTokens() {
+		var options = new ArrayList<TokenOptions>();
+		for (int i = 0; i < 50; i++) {
+			options.add(TokenOptions.builder()
+					.role(i % 2 == 0 ? Role.MODERATOR : Role.SUBSCRIBER)
+					.expiryLength(Duration.ofMinutes(i + 1)).data("participant-" + i).build()
+			);
+		}
+		options.add(null);
+		List<String> tokens = client.generateTokens(sessionId, options);
+		assertEquals(options.size(), tokens.size());
+		assertThrows(UnsupportedOperationException.class, () -> tokens.add("x"));
+		for (int i = 0; i < 50; i++) {
+			var claims = decodeTokenBody(tokens.get(i));
+			assertEquals("participant-" + i, claims.get("connection_data"));
+			assertEquals(i % 2 == 0 ? "moderator" : "subscriber", claims.get("role"));
+			assertEquals(sessionId, claims.get("session_id"));
+			assertEquals("session.connect", claims.get("scope"));
+			assertEquals(applicationId, claims.get("application_id"));
+			long exp = Long.parseLong(claims.get("exp")), iat = Long.parseLong(claims.get("iat"));
+			assertEquals((i + 1) * 60L, exp - iat);
+		}
+		var defaultClaims = decodeTokenBody(tokens.get(50));
+		assertEquals(decodeTokenBody(client.generateToken(sessionId)).keySet(), defaultClaims.keySet());
+		assertEquals("publisher", defaultClaims.get("role"));
+
+		var same = client.generateTokens(sessionId, TokenOptions.builder().role(Role.PUBLISHER).build(), 20);
+		assertEquals(20, same.size());
+		assertEquals(20, same.stream().map(t -> decodeTokenBody(t).get("jti")).distinct().count());
+		assertEquals(List.of(), client.generateTokens(sessionId, null, 0));
+
+		assertThrows(IllegalArgumentException.class, () -> client.generateTokens(null, null, 1));
+		assertThrows(IllegalArgumentException.class, () -> client.generateTokens(sessionId, null, -1));
+		assertThrows(NullPointerException.class, () -> client.generateTokens(sessionId, null));
+	}
+
+	@Test
+	public void testGenerateTokensWithSigningKey() throws Exception {
+		var signedClient = new VideoClient(new HttpWrapper(new JWTAuthMethod(
+				applicationId, new TestUtils().loadKey("test/keys/application_key")
+		)));
+		var options = TokenOptions.builder().role(Role.SUBSCRIBER).data("webinar")
+				.initialLayoutClassList(List.of("full", "focus")).build();
+		var tokens = signedClient.generateTokens(sessionId, options, 20);
+		assertEquals(20, tokens.size());
+		var single = decodeTokenBody(signedClient.generateToken(sessionId, options));
+		for (String token : tokens) {
+			assertEquals(3, token.split("\\.").length);
+			var claims = decodeTokenBody(token);
+			assertEquals(single.keySet(), claims.keySet());
+			for (String claim : List.of("role", "connection_data", "initial_layout_class_list", "session_id", "scope")) {
+				assertEquals(single.get(claim), claims.get(claim));
+			}
+		}
+	}
+
 	// ENDPOINT TESTS
 
 	@Test
@@ -0,0 +1,165 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.video;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+public class VideoSessionPoolTest {
+	static final CreateSessionRequest ROUTED = CreateSessionRequest.builder()
+			.mediaMode(MediaMode.ROUTED).archiveMode(ArchiveMode.ALWAYS).build();
+	static final CreateSessionRequest RELAYED = CreateSessionRequest.builder().mediaMode(MediaMode.RELAYED).build();
+
+	final AtomicInteger counter = new AtomicInteger();
+	final AtomicLong clock = new AtomicLong();
+	final List<String> creatorThreads = new CopyOnWriteArrayList<>();
+	volatile boolean failing;
+
+	CreateSessionResponse create(CreateSessionRequest request) {
+		creatorThreads.add(Thread.currentThread().getName());
+		if (failing) {
+			throw new IllegalStateException("Unavailable");
+		}
+		String mode = request != null && request.getMediaMode() != null ? request.getMediaMode().toString() : "default";
+		return CreateSessionResponse.fromJson(
+				"[{\"session_id\":\"" + mode + "-" + counter.incrementAndGet() + "\"}]"
+		);
+	}
+
+	VideoSessionPool.Builder builder() {
+		return VideoSessionPool.builder(this::create).clock(clock::get)
+				.maxAge(Duration.ofMinutes(10)).sweepInterval(Duration.ofHours(1));
+	}
+
+	static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "Timed out waiting for pool");
+			Thread.sleep(5);
+		}
+	}
+
+	@Test
+	public void testPrefillAndAcquire() throws Exception {
+		try (var pool = builder().size(3).configuration(ROUTED).configuration(null).build()) {
+			await(() -> pool.getDepth(ROUTED) == 3 && pool.getDepth(null) == 3);
+			assertEquals(6, pool.getTotalDepth());
+			assertEquals(6, pool.getCreatedCount());
+			assertEquals(3, pool.getSize());
+			assertEquals(0, pool.getDepth(RELAYED));
+
+			String caller = Thread.currentThread().getName();
+			creatorThreads.clear();
+			var session = pool.acquire(CreateSessionRequest.builder()
+					.mediaMode(MediaMode.ROUTED).archiveMode(ArchiveMode.ALWAYS).build()
+			);
+			assertTrue(session.getSessionId().startsWith(MediaMode.ROUTED + "-"));
+			assertTrue(pool.acquire().getSessionId().startsWith("default-"));
+			assertEquals(2, pool.getHitCount());
+			assertEquals(0, pool.getMissCount());
+			assertFalse(creatorThreads.contains(caller));
+
+			await(() -> pool.getTotalDepth() == 6);
+			assertEquals(8, pool.getCreatedCount());
+		}
+	}
+
+	@Test
+	public void testSessionsHandedOutOnce() throws Exception {
+		try (var pool = builder().size(4).configuration(RELAYED).build()) {
+			await(() -> pool.getDepth(RELAYED) == 4);
+			var ids = new java.util.HashSet<String>();
+			for (int i = 0; i < 20; i++) {
+				assertTrue(ids.add(pool.acquire(RELAYED).getSessionId()));
+			}
+			assertEquals(20, pool.getHitCount() + pool.getMissCount());
+		}
+	}
+
+	@Test
+	public void testMissCreatesOnCallingThreadThenPools() throws Exception {
+		try (var pool = builder().size(2).build()) {
+			creatorThreads.clear();
+			assertNotNull(pool.acquire(RELAYED).getSessionId());
+			assertEquals(1, pool.getMissCount());
+			assertEquals(Thread.currentThread().getName(), creatorThreads.get(0));
+			await(() -> pool.getDepth(RELAYED) == 2);
+			pool.acquire(RELAYED);
+			assertEquals(1, pool.getHitCount());
+		}
+	}
+
+	@Test
+	public void testExpiry() throws Exception {
+		try (var pool = builder().size(2).configuration(ROUTED).build()) {
+			await(() -> pool.getDepth(ROUTED) == 2);
+			clock.addAndGet(Duration.ofMinutes(10).toNanos());
+			pool.sweep();
+			assertEquals(2, pool.getExpiredCount());
+			await(() -> pool.getDepth(ROUTED) == 2);
+			assertEquals(4, pool.getCreatedCount());
+
+			clock.addAndGet(Duration.ofMinutes(11).toNanos());
+			pool.acquire(ROUTED);
+			assertEquals(4, pool.getExpiredCount());
+			assertEquals(1, pool.getMissCount());
+			assertEquals(0, pool.getHitCount());
+		}
+	}
+
+	@Test
+	public void testRefillFailureRetriedOnSweep() throws Exception {
+		failing = true;
+		try (var pool = builder().size(2).configuration(null).build()) {
+			await(() -> pool.getLastRefillFailure() != null);
+			assertEquals(0, pool.getDepth(null));
+			assertThrows(IllegalStateException.class, pool::acquire);
+			failing = false;
+			await(() -> {
+				pool.sweep();
+				return pool.getDepth(null) == 2;
+			});
+		}
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		var pool = builder().size(2).configuration(null).build();
+		await(() -> pool.getDepth(null) == 2);
+		pool.close();
+		assertEquals(0, pool.getTotalDepth());
+		int before = counter.get();
+		assertNotNull(pool.acquire());
+		assertEquals(before + 1, counter.get());
+		assertEquals(0, pool.getHitCount());
+	}
+
+	@Test
+	public void testInvalidConfiguration() {
+		assertThrows(IllegalArgumentException.class, () -> builder().size(0).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().maxAge(Duration.ZERO).build());
+		assertThrows(IllegalArgumentException.class, () -> builder().sweepInterval(Duration.ofSeconds(-1)).build());
+		assertThrows(NullPointerException.class, () -> builder().maxAge(null));
+		assertThrows(NullPointerException.class, () -> VideoSessionPool.builder((VideoClient) null));
+	}
+}
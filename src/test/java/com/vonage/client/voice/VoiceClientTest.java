@@ -104,6 +104,33 @@ public class VoiceClientTest extends AbstractClientTest<VoiceClient> {
         assertEquals(0, page.getCount());
     }
 
+    @Test
+    public void testListAllCalls() throws Exception {
+        String uuid = "93137ee3-580e-45f7-a61a-e0b5716000e";
+        stubResponse(200,
+                "{\"count\":3,\"page_size\":2,\"_embedded\":{\"calls\":[" +
+                        "{\"uuid\":\"" + uuid + "1\"},{\"uuid\":\"" + uuid + "2\"}]}}",
+                "{\"count\":3,\"page_size\":2,\"_embedded\":{\"calls\":[{\"uuid\":\"" + uuid + "3\"}]}}"
+        );
+        var filter = CallsFilter.builder().pageSize(2).build();
+        var calls = client.listAllCalls(filter, 1);
+        assertEquals(3, calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            assertEquals(uuid + (i + 1), calls.get(i).getUuid());
+        }
+
+        stubResponse(401,
+                "{\"count\":3,\"page_size\":2,\"_embedded\":{\"calls\":[" +
+                        "{\"uuid\":\"" + uuid + "1\"},{\"uuid\":\"" + uuid + "2\"}]}}",
+                "{\"title\":\"Unauthorized\"}"
+        );
+        assertThrows(VoiceResponseException.class, () -> client.listAllCalls(filter, 1));
+
+        stubResponse(200, "{\"count\":0}");
+        assertEquals(0, client.listAllCalls(null, 4).size());
+        assert401Response(() -> client.listAllCalls(filter, 2));
+    }
+
     @Test
     public void testGetCallDetails() throws Exception {
         stubResponse(200,
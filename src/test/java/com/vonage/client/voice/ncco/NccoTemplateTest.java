@@ -0,0 +1,130 @@
+/*
+ *   Copyright 2025 Vonage
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package com.vonage.client.voice.ncco;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vonage.client.VonageUnexpectedException;
+import com.vonage.client.voice.TextToSpeechLanguage;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+public class NccoTemplateTest {
+    final NccoTemplate template = NccoTemplate.compile(
+            TalkAction.builder("Hello {{name}}, connecting you to {{name}}'s agent.").build(),
+            ConnectAction.builder(PhoneEndpoint.builder("{{agent}}").build())
+                    .from("{{from}}").eventUrl("https://example.com/events?call={{callId}}").build()
+    );
+
+    static Ncco expected(String name, String agent, String from, String callId) {
+        return new Ncco(
+                TalkAction.builder("Hello " + name + ", connecting you to " + name + "'s agent.").build(),
+                ConnectAction.builder(PhoneEndpoint.builder(agent).build())
+                        .from(from).eventUrl("https://example.com/events?call=" + callId).build()
+        );
+    }
+
+    @Test
+    public void testPlaceholders() {
+        assertEquals(List.of("name", "agent", "from", "callId"), List.copyOf(template.getPlaceholders()));
+        assertEquals(0, NccoTemplate.compile(TalkAction.builder("Static").build()).getPlaceholders().size());
+    }
+
+    @Test
+    public void testRenderMatchesNccoSerialisation() {
+        String name = "Zoë \"The\" O'Brien \\ 😀\n\t\u0001", agent = "447700900001";
+        var values = Map.of("name", name, "agent", agent, "from", 447700900000L, "callId", "a&b=c");
+        String expectedJson = expected(name, agent, "447700900000", "a&b=c").toJson();
+
+        assertEquals(expectedJson, template.toJson(values));
+        assertArrayEquals(expectedJson.getBytes(StandardCharsets.UTF_8), template.render(values));
+
+        var out = new ByteArrayOutputStream();
+        int written = template.writeTo(out, values);
+        assertEquals(expectedJson, out.toString(StandardCharsets.UTF_8));
+        assertEquals(out.size(), written);
+    }
+
+    @Test
+    public void testRenderIsRepeatableAndGrowsBuffer() {
+        String longName = "x".repeat(10_000);
+        var small = Map.of("name", "A", "agent", "1", "from", "2", "callId", "3");
+        var large = Map.of("name", longName, "agent", "1", "from", "2", "callId", "3");
+        assertEquals(expected("A", "1", "2", "3").toJson(), template.toJson(small));
+        assertEquals(expected(longName, "1", "2", "3").toJson(), template.toJson(large));
+        assertEquals(expected("A", "1", "2", "3").toJson(), template.toJson(small));
+    }
+
+    @Test
+    public void testCompileFromJson() throws Exception {
+        var jsonTemplate = NccoTemplate.compile(
+                "[{\"action\":\"talk\",\"text\":\"{{greeting}}\",\"language\":\"{{lang}}\"}]"
+        );
+        String json = jsonTemplate.toJson(Map.of("greeting", "Bonjour", "lang", "fr-FR"));
+        var mapper = new ObjectMapper();
+        assertEquals(
+                mapper.readTree(new Ncco(TalkAction.builder("Bonjour").language(TextToSpeechLanguage.FRENCH).build()).toJson()),
+                mapper.readTree(json)
+        );
+    }
+
+    @Test
+    public void testLiteralBracesAreNotPlaceholders() {
+        var literal = NccoTemplate.compile(TalkAction.builder("{{not a placeholder}} {x}").build());
+        assertTrue(literal.getPlaceholders().isEmpty());
+        assertEquals(new Ncco(TalkAction.builder("{{not a placeholder}} {x}").build()).toJson(),
+                literal.toJson(Map.of())
+        );
+    }
+
+    @Test
+    public void testMissingValue() {
+        var ex = assertThrows(IllegalArgumentException.class, () ->
+                template.render(Map.of("name", "A", "agent", "1", "from", "2"))
+        );
+        assertTrue(ex.getMessage().contains("callId"));
+        assertThrows(NullPointerException.class, () -> template.render(null));
+    }
+
+    @Test
+    public void testInvalidTemplates() {
+        assertThrows(IllegalArgumentException.class, () -> NccoTemplate.compile("{\"action\":\"talk\"}"));
+        assertThrows(IllegalArgumentException.class, () -> NccoTemplate.compile("[{\"action\":"));
+        assertThrows(IllegalArgumentException.class, () -> NccoTemplate.compile("[{\"action\":{{a}}}]"));
+        assertThrows(IllegalArgumentException.class, () -> NccoTemplate.compile("[{\"{{a}}\":\"talk\"}]"));
+        assertThrows(IllegalArgumentException.class, () -> NccoTemplate.compile("[] []"));
+        assertThrows(NullPointerException.class, () -> NccoTemplate.compile((String) null));
+        assertThrows(NullPointerException.class, () -> NccoTemplate.compile((Ncco) null));
+    }
+
+    @Test
+    public void testWriteFailure() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Closed");
+            }
+        };
+        assertThrows(VonageUnexpectedException.class, () ->
+                template.writeTo(failing, Map.of("name", "A", "agent", "1", "from", "2", "callId", "3"))
+        );
+    }
+}